@@ -0,0 +1,78 @@
+package com.alianza.clientes.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.infrastructure.adapter.rest.converters.ClienteConverter;
+import com.alianza.clientes.infrastructure.adapter.rest.dto.ClienteDTO;
+import com.alianza.clientes.infrastructure.adapter.rest.dto.PageResponseDTO;
+
+/**
+ * Conversión de dominio a DTO y generación del CSV en ClienteConverter. El
+ * tamaño 10000 solo es realista para el export, pero se mide en todos para
+ * ver cómo escala cada conversión.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClienteConverterBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int pageSize;
+
+    @Param({ "short", "long" })
+    public String shape;
+
+    private List<Cliente> clientes;
+    private PageResponse<Cliente> page;
+
+    @Setup
+    public void setUp() {
+        clientes = ClienteFixtures.clientes(pageSize, shape);
+        page = PageResponse.<Cliente>builder()
+                .content(clientes)
+                .pageNumber(0)
+                .pageSize(pageSize)
+                .totalElements(pageSize * 10L)
+                .totalPages(10)
+                .first(true)
+                .last(false)
+                .empty(false)
+                .build();
+    }
+
+    @Benchmark
+    public void toDTO(Blackhole blackhole) {
+        for (Cliente cliente : clientes) {
+            blackhole.consume(ClienteConverter.toDTO(cliente));
+        }
+    }
+
+    @Benchmark
+    public PageResponseDTO<ClienteDTO> toPageResponseDTO() {
+        return ClienteConverter.toPageResponseDTO(page);
+    }
+
+    @Benchmark
+    public String generateCsvContent() {
+        return ClienteConverter.generateCsvContent(clientes);
+    }
+}
@@ -0,0 +1,71 @@
+package com.alianza.clientes.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.infrastructure.adapter.persistence.entity.ClienteEntity;
+import com.alianza.clientes.infrastructure.adapter.persistence.mapper.ClienteMapper;
+
+/**
+ * Datos deterministas para los benchmarks. La forma "short" usa nombres y
+ * correos cortos en ASCII; la forma "long" usa nombres compuestos con tildes
+ * y correos corporativos largos, como los de la carga real.
+ */
+final class ClienteFixtures {
+
+    private static final String[] NOMBRES = { "Juan", "María", "José", "Ana", "Luis", "Sofía", "Andrés", "Lucía" };
+    private static final String[] APELLIDOS = { "Pérez", "García", "Rodríguez", "Martínez", "Gómez", "López",
+            "Hernández", "Díaz" };
+
+    private ClienteFixtures() {
+    }
+
+    /**
+     * Genera clientes de la forma indicada con una semilla fija
+     * 
+     * @param count Número de clientes
+     * @param shape "short" o "long"
+     * @return Clientes de dominio
+     */
+    static List<Cliente> clientes(int count, String shape) {
+        SplittableRandom random = new SplittableRandom(42);
+        boolean longShape = "long".equals(shape);
+        List<Cliente> clientes = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String nombre = pick(random, NOMBRES) + " " + pick(random, APELLIDOS);
+            String email = "c" + i + "@mail.co";
+            if (longShape) {
+                nombre = pick(random, NOMBRES) + " " + nombre + " " + pick(random, APELLIDOS) + " de la Cruz";
+                email = nombre.toLowerCase().replace(' ', '.') + i + "@empresa-asociada-alianza.com.co";
+            }
+            LocalDate inicio = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365));
+            clientes.add(Cliente.builder()
+                    .id((long) i)
+                    .sharedKey(String.format("CLI%06d", i))
+                    .nombre(nombre)
+                    .telefono(String.format("3%09d", random.nextInt(1_000_000_000)))
+                    .email(email)
+                    .fechaInicio(inicio)
+                    .fechaFin(inicio.plusDays(30 + random.nextInt(700)))
+                    .fechaCreacion(inicio.minusDays(random.nextInt(30)))
+                    .updatedAt(LocalDateTime.of(2024, 6, 1, 12, 0).plusSeconds(i))
+                    .build());
+        }
+        return clientes;
+    }
+
+    /**
+     * Genera las entidades JPA equivalentes a {@link #clientes(int, String)}
+     */
+    static List<ClienteEntity> entities(int count, String shape) {
+        return clientes(count, shape).stream().map(ClienteMapper::mapToEntity).toList();
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
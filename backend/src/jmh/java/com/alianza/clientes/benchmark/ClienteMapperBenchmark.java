@@ -0,0 +1,74 @@
+package com.alianza.clientes.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.infrastructure.adapter.persistence.entity.ClienteEntity;
+import com.alianza.clientes.infrastructure.adapter.persistence.mapper.ClienteMapper;
+
+/**
+ * Conversión entre entidades JPA y dominio en ClienteMapper, por página
+ * completa, con los tamaños de página habituales de la API y el export.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClienteMapperBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int pageSize;
+
+    @Param({ "short", "long" })
+    public String shape;
+
+    private List<Cliente> clientes;
+    private List<ClienteEntity> entities;
+    private Page<ClienteEntity> page;
+
+    @Setup
+    public void setUp() {
+        clientes = ClienteFixtures.clientes(pageSize, shape);
+        entities = ClienteFixtures.entities(pageSize, shape);
+        page = new PageImpl<>(entities, PageRequest.of(0, pageSize), pageSize * 10L);
+    }
+
+    @Benchmark
+    public void mapToDomain(Blackhole blackhole) {
+        for (ClienteEntity entity : entities) {
+            blackhole.consume(ClienteMapper.mapToDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public void mapToEntity(Blackhole blackhole) {
+        for (Cliente cliente : clientes) {
+            blackhole.consume(ClienteMapper.mapToEntity(cliente));
+        }
+    }
+
+    @Benchmark
+    public PageResponse<Cliente> createPageResponse() {
+        return ClienteMapper.createPageResponse(page);
+    }
+}
@@ -0,0 +1,111 @@
+package com.alianza.clientes.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.infrastructure.adapter.persistence.entity.ClienteEntity;
+import com.alianza.clientes.infrastructure.adapter.persistence.mapper.CommonMapper;
+import com.alianza.clientes.infrastructure.adapter.persistence.repository.ClienteSpecification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Construcción de la consulta de /clientes/filter: el Sort de CommonMapper, la
+ * Specification de ClienteSpecification y su conversión a predicados Criteria
+ * con el CriteriaBuilder de Hibernate (sobre H2 en memoria, sin ejecutarla).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClienteQueryBuildingBenchmark {
+
+    /**
+     * Filtros típicos, cada uno con su ordenamiento habitual: solo nombre
+     * (nombre asc), rango de fechas (fechaInicio desc) o todos los campos (id
+     * asc)
+     */
+    @Param({ "nombre", "fechas", "todos" })
+    public String filterShape;
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+    private ClienteFilter filter;
+    private String sortBy;
+    private String sortDir;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(ClienteEntity.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.hbm2ddl.auto", "none")
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+        ClienteFilter.ClienteFilterBuilder builder = ClienteFilter.builder();
+        switch (filterShape) {
+            case "nombre" -> {
+                builder.nombre("Pérez");
+                sortBy = "nombre";
+                sortDir = "asc";
+            }
+            case "fechas" -> {
+                builder.fechaInicio(LocalDate.of(2024, 1, 1)).fechaFin(LocalDate.of(2024, 12, 31));
+                sortBy = "fechaInicio";
+                sortDir = "desc";
+            }
+            default -> {
+                builder.sharedKey("CLI000042").nombre("Pérez").telefono("300").email("alianza")
+                        .fechaInicio(LocalDate.of(2024, 1, 1)).fechaFin(LocalDate.of(2024, 12, 31));
+                sortBy = "id";
+                sortDir = "asc";
+            }
+        }
+        filter = builder.build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Sort createSort() {
+        return CommonMapper.createSort(sortBy, sortDir);
+    }
+
+    @Benchmark
+    public Specification<ClienteEntity> buildSpecification() {
+        return ClienteSpecification.buildSpecification(filter);
+    }
+
+    @Benchmark
+    public Predicate toPredicate() {
+        CriteriaQuery<ClienteEntity> query = criteriaBuilder.createQuery(ClienteEntity.class);
+        Root<ClienteEntity> root = query.from(ClienteEntity.class);
+        return ClienteSpecification.buildSpecification(filter).toPredicate(root, query, criteriaBuilder);
+    }
+}
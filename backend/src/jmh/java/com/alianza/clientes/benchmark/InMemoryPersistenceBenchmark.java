@@ -0,0 +1,73 @@
+package com.alianza.clientes.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alianza.clientes.application.service.ClienteService;
+import com.alianza.clientes.dataset.ClienteDatasetGenerator;
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.domain.port.api.ClienteServicePort;
+import com.alianza.clientes.infrastructure.adapter.memory.InMemoryClientePersistenceAdapter;
+
+/**
+ * Línea base sin I/O: las operaciones de lectura de ClienteService sobre
+ * InMemoryClientePersistenceAdapter con datos del generador sintético. La
+ * diferencia con la misma operación en la prueba de carga es el coste de la
+ * base de datos, la red y HTTP.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class InMemoryPersistenceBenchmark {
+
+    @Param({ "10000", "100000" })
+    public int rows;
+
+    private ClienteServicePort service;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        InMemoryClientePersistenceAdapter adapter = new InMemoryClientePersistenceAdapter();
+        ClienteDatasetGenerator generator = new ClienteDatasetGenerator(42);
+        for (long n = 1; n <= rows; n++) {
+            adapter.saveCliente(generator.generate(n));
+        }
+        service = new ClienteService(adapter, event -> {
+        });
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public Cliente findBySharedKey() {
+        return service.findBySharedKey(ClienteDatasetGenerator.sharedKey(1 + random.nextInt(rows)));
+    }
+
+    @Benchmark
+    public PageResponse<Cliente> findAllClientesPage() {
+        return service.findAllClientes(random.nextInt(rows / 20), 20, "nombre", "asc");
+    }
+
+    @Benchmark
+    public PageResponse<Cliente> findClientesByFilter() {
+        ClienteFilter filter = ClienteFilter.builder().nombre("Pérez").build();
+        return service.findClientesByFilter(filter, 0, 20, "id", "asc");
+    }
+}
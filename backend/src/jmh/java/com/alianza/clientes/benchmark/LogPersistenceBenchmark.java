@@ -0,0 +1,168 @@
+package com.alianza.clientes.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.alianza.clientes.ClientesAlianzaApplication;
+import com.alianza.clientes.dataset.ClienteDatasetGenerator;
+import com.alianza.clientes.dataset.ClienteDatasetLoader;
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+
+/**
+ * Adaptador de log (perfil {@code log}) frente al adaptador JPA sobre H2 en
+ * fichero, ambos dentro del contexto Spring completo (sin servidor web):
+ * <ul>
+ * <li>{@code startup}: arranque del contexto con {@code rows} clientes ya
+ * guardados; en el adaptador de log incluye reproducir el log y reconstruir
+ * los índices.</li>
+ * <li>{@code save}: altas concurrentes con {@link ClientePersistencePort}; el
+ * log espera al fsync de su grupo, H2 confirma cada transacción.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class LogPersistenceBenchmark {
+
+    static String[] arguments(String adapter, Path dir) {
+        List<String> args = new ArrayList<>();
+        if ("log".equals(adapter)) {
+            args.add("--spring.profiles.active=log");
+            args.add("--clientes.log.dir=" + dir);
+        } else {
+            args.add("--spring.datasource.url=jdbc:h2:file:" + dir.resolve("clientes") + ";MODE=PostgreSQL");
+            args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            args.add("--spring.datasource.username=sa");
+            args.add("--spring.datasource.password=");
+            args.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+            args.add("--spring.jpa.hibernate.ddl-auto=update");
+            args.add("--spring.jpa.show-sql=false");
+            args.add("--spring.flyway.enabled=false");
+        }
+        args.add("--clientes.metrics.ports.enabled=false");
+        return args.toArray(new String[0]);
+    }
+
+    static ConfigurableApplicationContext start(String adapter, Path dir) {
+        return new SpringApplicationBuilder(ClientesAlianzaApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(arguments(adapter, dir));
+    }
+
+    static void delete(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Stored {
+
+        @Param({ "log", "jpa" })
+        public String adapter;
+
+        @Param({ "100000" })
+        public int rows;
+
+        Path dir;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException, SQLException {
+            dir = Files.createTempDirectory("clientes-startup");
+            ClienteDatasetGenerator generator = new ClienteDatasetGenerator(42);
+            try (ConfigurableApplicationContext context = start(adapter, dir)) {
+                if ("log".equals(adapter)) {
+                    ClientePersistencePort port = context.getBean(ClientePersistencePort.class);
+                    for (long n = 1; n <= rows; n++) {
+                        port.saveCliente(generator.generate(n));
+                    }
+                } else {
+                    new ClienteDatasetLoader(context.getBean(DataSource.class)).load(generator, 1, rows);
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            delete(dir);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Running {
+
+        @Param({ "log", "jpa" })
+        public String adapter;
+
+        Path dir;
+        ConfigurableApplicationContext context;
+        ClientePersistencePort port;
+        ClienteDatasetGenerator generator;
+        final AtomicLong next = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            dir = Files.createTempDirectory("clientes-save");
+            context = start(adapter, dir);
+            port = context.getBean(ClientePersistencePort.class);
+            generator = new ClienteDatasetGenerator(42);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            context.close();
+            delete(dir);
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public Cliente startup(Stored stored) {
+        try (ConfigurableApplicationContext context = start(stored.adapter, stored.dir)) {
+            return context.getBean(ClientePersistencePort.class).findTopByOrderByIdDesc().orElseThrow();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    @Threads(8)
+    public Cliente save(Running running) {
+        return running.port.saveCliente(running.generator.generate(running.next.incrementAndGet()));
+    }
+}
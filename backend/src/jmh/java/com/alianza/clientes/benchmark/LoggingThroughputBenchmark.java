@@ -0,0 +1,137 @@
+package com.alianza.clientes.benchmark;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alianza.clientes.infrastructure.logging.CountingAsyncAppender;
+import com.alianza.clientes.infrastructure.logging.LogDropCounters;
+import com.alianza.clientes.infrastructure.logging.SamplingRule;
+import com.alianza.clientes.infrastructure.logging.SamplingTurboFilter;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+
+/**
+ * Coste del logging por petición: simula las líneas INFO que emiten
+ * ClienteRestAdapter y ClienteService en un GET /clientes, con varios hilos
+ * concurrentes, comparando la configuración síncrona por defecto ("sync") con
+ * el appender asíncrono ("async") y con el pipeline completo del perfil prod
+ * ("async-sampled"). La salida va a /dev/null a través de un FileOutputStream
+ * para conservar el coste de la llamada al sistema de una consola real.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class LoggingThroughputBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n";
+
+    @Param({ "sync", "async", "async-sampled" })
+    public String pipeline;
+
+    private LoggerContext context;
+    private Logger restLogger;
+    private Logger serviceLogger;
+    private long droppedAtStart;
+
+    @Setup(Level.Trial)
+    public void setUp() throws FileNotFoundException {
+        context = new LoggerContext();
+        context.start();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> console = new OutputStreamAppender<>();
+        console.setContext(context);
+        console.setName("CONSOLE");
+        console.setEncoder(encoder);
+        console.setOutputStream(consoleSink());
+        console.start();
+
+        Appender<ILoggingEvent> root = console;
+        if (!"sync".equals(pipeline)) {
+            CountingAsyncAppender async = new CountingAsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC_CONSOLE");
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(console);
+            async.start();
+            root = async;
+        }
+        if ("async-sampled".equals(pipeline)) {
+            SamplingTurboFilter filter = new SamplingTurboFilter();
+            filter.setContext(context);
+            filter.addRule(rule("com.alianza.clientes.infrastructure.adapter.rest"));
+            filter.addRule(rule("com.alianza.clientes.application.service"));
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+        Logger rootLogger = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(ch.qos.logback.classic.Level.INFO);
+        rootLogger.addAppender(root);
+
+        restLogger = context.getLogger("com.alianza.clientes.infrastructure.adapter.rest.ClienteRestAdapter");
+        serviceLogger = context.getLogger("com.alianza.clientes.application.service.ClienteService");
+        droppedAtStart = LogDropCounters.getTotal();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n[%s] eventos descartados: %d%n", pipeline, LogDropCounters.getTotal() - droppedAtStart);
+        context.stop();
+    }
+
+    /**
+     * Líneas de log emitidas por una petición de listado paginado
+     */
+    @Benchmark
+    public void logRequest() {
+        restLogger.info("Obteniendo clientes - página: {}, tamaño: {}, ordenado por: {} {}", 0, 10, "id", "asc");
+        serviceLogger.info("Obteniendo todos los clientes con paginación: página {}, tamaño {}", 0, 10);
+        restLogger.info("Retornando {} clientes de {} total", 10, 20L);
+    }
+
+    private static SamplingRule rule(String logger) {
+        SamplingRule rule = new SamplingRule();
+        rule.setLogger(logger);
+        rule.setLevel("INFO");
+        rule.setSampleEvery(10);
+        rule.setMaxPerSecond(200);
+        return rule;
+    }
+
+    private static OutputStream consoleSink() throws FileNotFoundException {
+        File devNull = new File("/dev/null");
+        return devNull.exists() ? new FileOutputStream(devNull) : OutputStream.nullOutputStream();
+    }
+}
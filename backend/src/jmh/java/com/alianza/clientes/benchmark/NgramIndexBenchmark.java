@@ -0,0 +1,94 @@
+package com.alianza.clientes.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alianza.clientes.dataset.ClienteDatasetGenerator;
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.infrastructure.search.NgramIndex;
+
+/**
+ * Latencia de {@link NgramIndex#candidates(ClienteFilter, int)} frente a
+ * recorrer todos los clientes con el predicado del filtro (lo que hace la base
+ * de datos con {@code LIKE '%...%'} sin índice), con datos del generador
+ * sintético. Al preparar cada tamaño se imprime la memoria estimada del
+ * índice, total y por cliente.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class NgramIndexBenchmark {
+
+    @Param({ "100000", "1000000" })
+    public int rows;
+
+    /**
+     * nombre: apellido frecuente; email: usuario poco frecuente; telefono:
+     * fragmento de cuatro dígitos
+     */
+    @Param({ "nombre", "email", "telefono" })
+    public String criterion;
+
+    private NgramIndex index;
+    private List<Cliente> clientes;
+    private ClienteFilter filter;
+    private Predicate<Cliente> predicate;
+
+    @Setup
+    public void setUp() {
+        ClienteDatasetGenerator generator = new ClienteDatasetGenerator(42);
+        clientes = new ArrayList<>(rows);
+        index = new NgramIndex();
+        for (long n = 1; n <= rows; n++) {
+            Cliente cliente = generator.generate(n);
+            cliente.setId(n);
+            clientes.add(cliente);
+            index.add(cliente);
+        }
+        filter = switch (criterion) {
+            case "nombre" -> ClienteFilter.builder().nombre("ximena zúñiga").build();
+            case "email" -> ClienteFilter.builder().email("ximena.z").build();
+            case "telefono" -> ClienteFilter.builder().telefono("45678").build();
+            default -> throw new IllegalArgumentException(criterion);
+        };
+        predicate = filter.toPredicate();
+        long bytes = index.estimatedBytes();
+        System.out.printf("%nNgramIndex %d clientes: %d MB, %d bytes/cliente%n", rows, bytes / (1024 * 1024),
+                bytes / rows);
+    }
+
+    @Benchmark
+    public Set<Long> candidates() {
+        return index.candidates(filter, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public long scan() {
+        long matches = 0;
+        for (Cliente cliente : clientes) {
+            if (predicate.test(cliente)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
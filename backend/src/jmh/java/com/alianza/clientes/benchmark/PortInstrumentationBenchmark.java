@@ -0,0 +1,78 @@
+package com.alianza.clientes.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+import com.alianza.clientes.infrastructure.metrics.InstrumentedClientePersistencePort;
+
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+/**
+ * Sobrecoste de los decoradores de métricas de los puertos. Compara una
+ * llamada a un puerto de persistencia sin I/O ("raw") con la misma llamada a
+ * través de InstrumentedClientePersistencePort registrando en un
+ * PrometheusMeterRegistry ("instrumented"), con 1 y 8 hilos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PortInstrumentationBenchmark {
+
+    @Param({ "raw", "instrumented" })
+    public String port;
+
+    private ClientePersistencePort persistence;
+
+    @Setup
+    public void setUp() {
+        Optional<Cliente> cliente = Optional.of(Cliente.builder()
+                .id(1L)
+                .sharedKey("CLI001")
+                .nombre("Juan Pérez García")
+                .telefono("3001234567")
+                .email("juan.perez@email.com")
+                .fechaInicio(LocalDate.of(2024, 1, 15))
+                .fechaFin(LocalDate.of(2024, 12, 31))
+                .fechaCreacion(LocalDate.of(2024, 1, 15))
+                .build());
+        // Puerto sin I/O: cualquier búsqueda devuelve el mismo cliente
+        ClientePersistencePort fixed = (ClientePersistencePort) Proxy.newProxyInstance(
+                ClientePersistencePort.class.getClassLoader(), new Class<?>[] { ClientePersistencePort.class },
+                (proxy, method, args) -> cliente);
+        persistence = "raw".equals(port) ? fixed
+                : new InstrumentedClientePersistencePort(fixed, new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Optional<Cliente> findBySharedKey() {
+        return persistence.findBySharedKey("CLI001");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Optional<Cliente> findBySharedKeyContended() {
+        return persistence.findBySharedKey("CLI001");
+    }
+}
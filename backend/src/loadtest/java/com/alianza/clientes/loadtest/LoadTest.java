@@ -0,0 +1,72 @@
+package com.alianza.clientes.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.alianza.clientes.ClientesAlianzaApplication;
+import com.alianza.clientes.dataset.ClienteDatasetGenerator;
+import com.alianza.clientes.dataset.ClienteDatasetLoader;
+
+/**
+ * Prueba de carga de la aplicación completa: arranca Spring Boot sobre la base
+ * de datos elegida, siembra clientes sintéticos, lanza la mezcla de operaciones con un
+ * ritmo de llegadas fijo y escribe los percentiles de latencia en formato
+ * HdrHistogram. Se ejecuta con {@code ./gradlew loadtest} (ver README).
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    /**
+     * Las propiedades de la prueba se pasan como argumentos de línea de comandos
+     * para que tengan prioridad sobre application.properties
+     */
+    private static String[] applicationArgs(LoadTestDatabase database, String[] args) {
+        List<String> applicationArgs = new ArrayList<>();
+        database.properties().forEach((name, value) -> applicationArgs.add("--" + name + "=" + value));
+        applicationArgs.add("--server.port=0");
+        applicationArgs.addAll(List.of(args));
+        return applicationArgs.toArray(new String[0]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        OperationMix mix = new OperationMix(options.getMix());
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(Math.max(4,
+                Runtime.getRuntime().availableProcessors()));
+        try (LoadTestDatabase database = new LoadTestDatabase(options);
+                ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                        ClientesAlianzaApplication.class)
+                        .profiles(options.getProfiles().split(","))
+                        .run(applicationArgs(database, args))) {
+            if (!options.isReuseData()) {
+                new ClienteDatasetLoader(context.getBean(DataSource.class))
+                        .load(new ClienteDatasetGenerator(options.getSeed()), 1, options.getSeedRows());
+            }
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+            Operation.Target target = new Operation.Target("http://localhost:" + port + contextPath,
+                    options.getSeedRows());
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(httpExecutor)
+                    .build();
+            LoadTestResult result = new OpenModelDriver(client, target, mix, options).run();
+            LoadTestReport.write(options, database.describe(), mix, result);
+        } finally {
+            httpExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.alianza.clientes.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Base de datos sobre la que arranca la aplicación durante la prueba de carga.
+ * <ul>
+ * <li>{@code h2}: H2 en memoria en modo PostgreSQL, con el esquema generado por
+ * Hibernate. No necesita nada instalado, pero no refleja los planes de
+ * PostgreSQL.</li>
+ * <li>{@code postgres}: PostgreSQL en un contenedor de Testcontainers (requiere
+ * Docker), con las migraciones de Flyway.</li>
+ * <li>URL JDBC: una base de datos existente, con las migraciones de Flyway.</li>
+ * </ul>
+ */
+final class LoadTestDatabase implements AutoCloseable {
+
+    private final Map<String, String> properties = new HashMap<>();
+    private PostgreSQLContainer<?> container;
+
+    LoadTestDatabase(LoadTestOptions options) {
+        String db = options.getDb();
+        if ("h2".equals(db)) {
+            properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+            properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+            properties.put("spring.datasource.username", "sa");
+            properties.put("spring.datasource.password", "");
+            properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+            properties.put("spring.jpa.hibernate.ddl-auto", "create");
+            properties.put("spring.flyway.enabled", "false");
+        } else if ("postgres".equals(db)) {
+            container = new PostgreSQLContainer<>("postgres:16-alpine");
+            container.start();
+            properties.put("spring.datasource.url", container.getJdbcUrl());
+            properties.put("spring.datasource.username", container.getUsername());
+            properties.put("spring.datasource.password", container.getPassword());
+        } else if (db.startsWith("jdbc:")) {
+            properties.put("spring.datasource.url", db);
+            properties.put("spring.datasource.username", options.getDbUser());
+            properties.put("spring.datasource.password", options.getDbPassword());
+        } else {
+            throw new IllegalArgumentException("loadtest.db debe ser h2, postgres o una URL JDBC: " + db);
+        }
+    }
+
+    /**
+     * Propiedades de conexión para la aplicación
+     */
+    Map<String, String> properties() {
+        return properties;
+    }
+
+    /**
+     * Descripción de la base de datos para el informe
+     */
+    String describe() {
+        return container != null ? "postgres (Testcontainers " + container.getDockerImageName() + ")"
+                : properties.get("spring.datasource.url").toString();
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.alianza.clientes.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import com.alianza.clientes.dataset.ClienteDatasetCli;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Parámetros de una ejecución de la prueba de carga. Se leen de propiedades
+ * de sistema {@code loadtest.*}, que la tarea Gradle copia de
+ * {@code -Ploadtest.*}.
+ */
+@Getter
+@Builder
+public class LoadTestOptions {
+
+    /**
+     * Base de datos: {@code h2} (embebida), {@code postgres} (contenedor
+     * Testcontainers) o una URL JDBC
+     */
+    private final String db;
+
+    private final String dbUser;
+
+    private final String dbPassword;
+
+    /**
+     * Perfiles Spring con los que se arranca la aplicación
+     */
+    private final String profiles;
+
+    /**
+     * Clientes sintéticos de la tabla (admite sufijos K y M, por ejemplo 10M)
+     */
+    private final long seedRows;
+
+    /**
+     * Si es true no se siembra: la tabla ya contiene los {@code seedRows}
+     * clientes cargados con {@code ./gradlew generateDataset}
+     */
+    private final boolean reuseData;
+
+    /**
+     * Peticiones por segundo que llegan, independientemente de lo que tarde el
+     * servidor en responder (modelo abierto)
+     */
+    private final int rate;
+
+    private final Duration warmup;
+
+    private final Duration duration;
+
+    /**
+     * Mezcla de operaciones, por ejemplo {@code get=60,list=20,filter=10,create=8,export=2}
+     */
+    private final String mix;
+
+    /**
+     * Peticiones en curso a partir de las cuales las nuevas llegadas se
+     * descartan y se cuentan como rechazadas
+     */
+    private final int maxInFlight;
+
+    private final long seed;
+
+    private final Path outputDir;
+
+    /**
+     * Lee los parámetros de las propiedades de sistema
+     * 
+     * @return Parámetros con los valores por defecto aplicados
+     */
+    public static LoadTestOptions fromSystemProperties() {
+        return LoadTestOptions.builder()
+                .db(property("db", "h2"))
+                .dbUser(property("db.user", "postgres"))
+                .dbPassword(property("db.password", "admin"))
+                .profiles(property("profiles", "prod"))
+                .seedRows(ClienteDatasetCli.parseRows(property("seed-rows", "10000")))
+                .reuseData(Boolean.parseBoolean(property("reuse-data", "false")))
+                .rate(Integer.parseInt(property("rate", "200")))
+                .warmup(Duration.ofSeconds(Long.parseLong(property("warmup", "10"))))
+                .duration(Duration.ofSeconds(Long.parseLong(property("duration", "60"))))
+                .mix(property("mix", "get=60,list=20,filter=10,create=8,export=2"))
+                .maxInFlight(Integer.parseInt(property("max-in-flight", "2000")))
+                .seed(Long.parseLong(property("seed", "42")))
+                .outputDir(Path.of(property("output-dir", "build/reports/loadtest")))
+                .build();
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
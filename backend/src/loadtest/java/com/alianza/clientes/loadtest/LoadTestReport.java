@@ -0,0 +1,97 @@
+package com.alianza.clientes.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+/**
+ * Informe de la prueba de carga. Además del resumen por consola escribe, en
+ * {@code loadtest.output-dir}:
+ * <ul>
+ * <li>{@code <operación>.hgrm} y {@code total.hgrm}: distribución de
+ * percentiles de HdrHistogram en milisegundos, comparable entre ejecuciones
+ * con el HdrHistogram plotter</li>
+ * <li>{@code results.hlog}: los histogramas completos en formato log de
+ * HdrHistogram, etiquetados por operación</li>
+ * <li>{@code summary.txt}: el mismo resumen de la consola</li>
+ * </ul>
+ */
+final class LoadTestReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private LoadTestReport() {
+    }
+
+    static void write(LoadTestOptions options, String database, OperationMix mix, LoadTestResult result)
+            throws IOException {
+        Path dir = options.getOutputDir();
+        Files.createDirectories(dir);
+        String summary = summary(options, database, mix, result);
+        System.out.print(summary);
+        Files.writeString(dir.resolve("summary.txt"), summary, StandardCharsets.UTF_8);
+
+        result.getHistograms().forEach((operation, histogram) -> writePercentiles(dir.resolve(operation.key()
+                + ".hgrm"), histogram));
+        writePercentiles(dir.resolve("total.hgrm"), result.total());
+
+        try (PrintStream log = new PrintStream(Files.newOutputStream(dir.resolve("results.hlog")), true,
+                StandardCharsets.UTF_8)) {
+            HistogramLogWriter writer = new HistogramLogWriter(log);
+            writer.outputComment("clientes-alianza loadtest rate=" + options.getRate() + " mix=" + mix);
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            result.getHistograms().forEach((operation, histogram) -> {
+                histogram.setTag(operation.key());
+                writer.outputIntervalHistogram(histogram);
+            });
+        }
+        System.out.println("Histogramas en " + dir.toAbsolutePath());
+    }
+
+    private static String summary(LoadTestOptions options, String database, OperationMix mix,
+            LoadTestResult result) {
+        double seconds = result.getDuration().toMillis() / 1000.0;
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "Base de datos: %s, %d clientes%s%n", database,
+                options.getSeedRows(), options.isReuseData() ? " (existentes)" : " sembrados"));
+        text.append(String.format(Locale.ROOT, "Llegadas: %d req/s durante %ds (calentamiento %ds), mezcla %s%n%n",
+                options.getRate(), options.getDuration().toSeconds(), options.getWarmup().toSeconds(), mix));
+        text.append(String.format(Locale.ROOT, "%-8s %8s %7s %9s %9s %9s %9s %9s %9s%n", "op", "count", "errors",
+                "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        result.getHistograms().forEach((operation, histogram) -> line(text, operation.key(), histogram,
+                result.getErrors().get(operation), seconds));
+        line(text, "total", result.total(), result.getErrors().values().stream().mapToLong(Long::longValue).sum(),
+                seconds);
+        text.append(String.format(Locale.ROOT, "%nRechazadas por max-in-flight: %d, sin terminar: %d%n",
+                result.getRejected(), result.getUnfinished()));
+        return text.toString();
+    }
+
+    private static void line(StringBuilder text, String name, Histogram histogram, long errors, double seconds) {
+        text.append(String.format(Locale.ROOT, "%-8s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+                histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / NANOS_PER_MILLI));
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    private static void writePercentiles(Path file, Histogram histogram) {
+        try (OutputStream out = Files.newOutputStream(file);
+                PrintStream print = new PrintStream(out, true, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(print, NANOS_PER_MILLI);
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo escribir " + file, e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.alianza.clientes.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resultado del periodo medido de una prueba de carga. Las latencias están en
+ * nanosegundos.
+ */
+@Getter
+@RequiredArgsConstructor
+final class LoadTestResult {
+
+    private final Duration duration;
+
+    private final Map<Operation, Histogram> histograms;
+
+    private final Map<Operation, Long> errors;
+
+    /**
+     * Llegadas descartadas por superar {@code loadtest.max-in-flight}
+     */
+    private final long rejected;
+
+    /**
+     * Peticiones que no terminaron antes del tiempo de drenado
+     */
+    private final long unfinished;
+
+    /**
+     * Histograma de todas las operaciones juntas
+     */
+    Histogram total() {
+        Histogram total = new Histogram(3);
+        histograms.values().forEach(total::add);
+        return total;
+    }
+}
@@ -0,0 +1,102 @@
+package com.alianza.clientes.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Generador de carga de modelo abierto: las peticiones se lanzan a intervalos
+ * fijos ({@code 1 / rate}) sin esperar a que terminen las anteriores, como
+ * llegan los usuarios reales. La latencia se mide desde el instante en que la
+ * petición debía salir, no desde que salió, para que un servidor lento no
+ * oculte su propia cola (omisión coordinada).
+ */
+final class OpenModelDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final HttpClient client;
+    private final Operation.Target target;
+    private final OperationMix mix;
+    private final LoadTestOptions options;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    OpenModelDriver(HttpClient client, Operation.Target target, OperationMix mix, LoadTestOptions options) {
+        this.client = client;
+        this.target = target;
+        this.mix = mix;
+        this.options = options;
+        for (Operation operation : mix.operations()) {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Ejecuta el calentamiento y la medición
+     * 
+     * @return Histogramas y contadores del periodo medido
+     */
+    LoadTestResult run() {
+        SplittableRandom random = new SplittableRandom(options.getSeed());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.getRate();
+        long start = System.nanoTime();
+        long measureStart = start + options.getWarmup().toNanos();
+        long end = measureStart + options.getDuration().toNanos();
+        for (long n = 0;; n++) {
+            long intended = start + n * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = mix.next(random);
+            boolean measured = intended >= measureStart;
+            if (inFlight.get() >= options.getMaxInFlight()) {
+                if (measured) {
+                    rejected.increment();
+                }
+                continue;
+            }
+            inFlight.incrementAndGet();
+            client.sendAsync(operation.build(target, random, REQUEST_TIMEOUT), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (measured) {
+                            recorders.get(operation).recordValue(System.nanoTime() - intended);
+                            if (error != null || response.statusCode() >= 400) {
+                                errors.get(operation).increment();
+                            }
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> {
+            histograms.put(operation, recorder.getIntervalHistogram());
+            errorCounts.put(operation, errors.get(operation).sum());
+        });
+        return new LoadTestResult(options.getDuration(), histograms, errorCounts, rejected.sum(), inFlight.get());
+    }
+}
@@ -0,0 +1,134 @@
+package com.alianza.clientes.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.alianza.clientes.dataset.ClienteDatasetGenerator;
+
+/**
+ * Operaciones que puede generar la prueba de carga
+ */
+enum Operation {
+
+    GET("get") {
+        @Override
+        HttpRequest.Builder request(Target target, SplittableRandom random) {
+            return HttpRequest.newBuilder(target.uri("/clientes/" + ClienteDatasetGenerator.sharedKey(
+                    1 + random.nextLong(target.seedRows()))));
+        }
+    },
+
+    LIST("list") {
+        @Override
+        HttpRequest.Builder request(Target target, SplittableRandom random) {
+            int pages = (int) Math.max(1, Math.min(Integer.MAX_VALUE, target.seedRows() / PAGE_SIZE));
+            return HttpRequest.newBuilder(target.uri("/clientes?page=" + random.nextInt(pages)
+                    + "&size=" + PAGE_SIZE + "&sortBy=nombre&sortDir=asc"));
+        }
+    },
+
+    FILTER("filter") {
+        @Override
+        HttpRequest.Builder request(Target target, SplittableRandom random) {
+            List<String> apellidos = ClienteDatasetGenerator.APELLIDOS;
+            String nombre = apellidos.get(random.nextInt(apellidos.size()));
+            return HttpRequest.newBuilder(target.uri("/clientes/filter"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"nombre\":\"" + nombre + "\",\"fechaInicio\":\""
+                            + LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365)) + "\"}"));
+        }
+    },
+
+    CREATE("create") {
+        @Override
+        HttpRequest.Builder request(Target target, SplittableRandom random) {
+            long n = target.nextCreate();
+            LocalDate inicio = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365));
+            String body = "{\"sharedKey\":\"LT" + target.runId() + "-" + n + "\",\"nombre\":\"Carga " + n
+                    + "\",\"telefono\":\"" + String.format("3%09d", n % 1_000_000_000)
+                    + "\",\"email\":\"carga" + n + "@loadtest.co\",\"fechaInicio\":\"" + inicio
+                    + "\",\"fechaFin\":\"" + inicio.plusDays(365) + "\"}";
+            return HttpRequest.newBuilder(target.uri("/clientes"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+    },
+
+    EXPORT("export") {
+        @Override
+        HttpRequest.Builder request(Target target, SplittableRandom random) {
+            return HttpRequest.newBuilder(target.uri("/clientes/export/csv"));
+        }
+    };
+
+    private static final int PAGE_SIZE = 20;
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    /**
+     * Construye la petición de la operación
+     */
+    abstract HttpRequest.Builder request(Target target, SplittableRandom random);
+
+    HttpRequest build(Target target, SplittableRandom random, Duration timeout) {
+        return request(target, random).timeout(timeout).build();
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Operación desconocida en loadtest.mix: " + key);
+    }
+
+    /**
+     * Aplicación bajo prueba
+     */
+    static final class Target {
+
+        private final String baseUrl;
+        private final long seedRows;
+        private final AtomicLong creates = new AtomicLong();
+        private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        Target(String baseUrl, long seedRows) {
+            this.baseUrl = baseUrl;
+            this.seedRows = seedRows;
+        }
+
+        URI uri(String path) {
+            return URI.create(baseUrl + path);
+        }
+
+        long seedRows() {
+            return seedRows;
+        }
+
+        /**
+         * Identificador de la ejecución, para que los shared keys creados no
+         * choquen con los de ejecuciones anteriores sobre la misma base de datos
+         */
+        String runId() {
+            return runId;
+        }
+
+        long nextCreate() {
+            return creates.incrementAndGet();
+        }
+    }
+}
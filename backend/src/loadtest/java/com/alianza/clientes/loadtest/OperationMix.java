@@ -0,0 +1,72 @@
+package com.alianza.clientes.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Mezcla ponderada de operaciones, por ejemplo
+ * {@code get=60,list=20,filter=10,create=8,export=2}
+ */
+final class OperationMix {
+
+    private final Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    private final Operation[] operations;
+    private final int[] cumulative;
+    private final int total;
+
+    OperationMix(String spec) {
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Formato de loadtest.mix inválido: " + spec);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Peso negativo en loadtest.mix: " + part);
+            }
+            if (weight > 0) {
+                weights.put(Operation.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix no tiene ninguna operación: " + spec);
+        }
+        List<Operation> ordered = new ArrayList<>(weights.keySet());
+        operations = ordered.toArray(new Operation[0]);
+        cumulative = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += weights.get(operations[i]);
+            cumulative[i] = sum;
+        }
+        total = sum;
+    }
+
+    /**
+     * Elige la siguiente operación según los pesos
+     */
+    Operation next(SplittableRandom random) {
+        int value = random.nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (value < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    Operation[] operations() {
+        return operations.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        weights.forEach((operation, weight) -> text.append(text.isEmpty() ? "" : ",")
+                .append(operation.key()).append('=').append(weight));
+        return text.toString();
+    }
+}
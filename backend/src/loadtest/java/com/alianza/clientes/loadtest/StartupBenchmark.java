@@ -0,0 +1,262 @@
+package com.alianza.clientes.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.alianza.clientes.ClientesAlianzaApplication;
+
+/**
+ * Arranque rápido de la aplicación. Con {@code train} genera el archivo AppCDS
+ * ({@code -XX:ArchiveClassesAtExit}) arrancando la variante AOT y lanzando las
+ * primeras peticiones; con {@code measure} arranca cada variante en un proceso
+ * nuevo y mide el tiempo desde la creación del proceso hasta la primera
+ * respuesta 200 de {@code GET /clientes}. Se ejecuta con
+ * {@code ./gradlew fastStartTrain} y {@code ./gradlew startupBenchmark} (ver
+ * README).
+ */
+public final class StartupBenchmark {
+
+    private static final String ARCHIVE = "app.jsa";
+
+    private final StartupBenchmarkOptions options;
+    private final Map<String, String> databaseProperties;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private StartupBenchmark(StartupBenchmarkOptions options, Map<String, String> databaseProperties) {
+        this.options = options;
+        this.databaseProperties = databaseProperties;
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupBenchmarkOptions options = StartupBenchmarkOptions.fromSystemProperties();
+        String command = args.length > 0 ? args[0] : "measure";
+        try (LoadTestDatabase database = "h2".equals(options.getDb()) ? null
+                : new LoadTestDatabase(LoadTestOptions.builder()
+                        .db(options.getDb())
+                        .dbUser(options.getDbUser())
+                        .dbPassword(options.getDbPassword())
+                        .build())) {
+            StartupBenchmark benchmark = new StartupBenchmark(options,
+                    database != null ? database.properties() : h2Properties());
+            switch (command) {
+                case "train" -> benchmark.train();
+                case "measure" -> benchmark.measure();
+                default -> throw new IllegalArgumentException("Se esperaba train o measure: " + command);
+            }
+        }
+    }
+
+    /**
+     * H2 en memoria dentro de cada proceso. Las migraciones de Flyway usan
+     * PL/pgSQL, así que Flyway arranca con una ubicación vacía e Hibernate crea
+     * el esquema. No se desactiva Flyway: en las variantes AOT esa condición
+     * queda fijada en el build y todas deben hacer el mismo trabajo.
+     */
+    private static Map<String, String> h2Properties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:startup;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.flyway.locations", "classpath:db/startup-benchmark-empty");
+        return properties;
+    }
+
+    private void train() throws Exception {
+        Path archive = options.getDistDir().resolve(ARCHIVE);
+        Files.deleteIfExists(archive);
+        List<String> jvmArgs = List.of("-XX:ArchiveClassesAtExit=" + archive);
+        Files.createDirectories(options.getOutputDir());
+        int port = freePort();
+        Process process = start("aot", jvmArgs, options.getOutputDir().resolve("train.log"), port);
+        try {
+            String url = firstResponse(process, port);
+            for (int i = 0; i < options.getTrainRequests(); i++) {
+                get(url + "?page=" + (i % 5) + "&size=" + (10 + i % 3 * 10));
+            }
+        } finally {
+            // Con SIGTERM la JVM termina con normalidad y vuelca el archivo
+            process.destroy();
+            process.waitFor(options.getTimeout().toSeconds(), TimeUnit.SECONDS);
+        }
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("No se generó " + archive + " (ver " + options.getOutputDir()
+                    .resolve("train.log") + ")");
+        }
+        System.out.printf("Archivo CDS: %s (%d MB)%n", archive, Files.size(archive) >> 20);
+    }
+
+    private void measure() throws Exception {
+        Files.createDirectories(options.getOutputDir().resolve("logs"));
+        Map<String, long[]> results = new LinkedHashMap<>();
+        for (String mode : options.getModes()) {
+            if ("aot-cds".equals(mode) && !Files.exists(options.getDistDir().resolve(ARCHIVE))) {
+                System.out.println("aot-cds omitido: falta " + options.getDistDir().resolve(ARCHIVE)
+                        + " (./gradlew fastStartTrain)");
+                continue;
+            }
+            long[] millis = new long[options.getRuns()];
+            for (int run = 0; run < millis.length; run++) {
+                Path log = options.getOutputDir().resolve("logs").resolve(mode + "-" + run + ".log");
+                List<String> jvmArgs = "aot-cds".equals(mode)
+                        ? List.of("-XX:SharedArchiveFile=" + options.getDistDir().resolve(ARCHIVE))
+                        : List.of();
+                int port = freePort();
+                long startedAt = System.nanoTime();
+                Process process = start(mode, jvmArgs, log, port);
+                try {
+                    firstResponse(process, port);
+                    millis[run] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                } finally {
+                    process.destroy();
+                    process.waitFor(options.getTimeout().toSeconds(), TimeUnit.SECONDS);
+                }
+                System.out.printf("%-9s #%d %6d ms%n", mode, run + 1, millis[run]);
+            }
+            results.put(mode, millis);
+        }
+        String summary = summary(results);
+        System.out.print(summary);
+        Files.writeString(options.getOutputDir().resolve("summary.txt"), summary, StandardCharsets.UTF_8);
+    }
+
+    private String summary(Map<String, long[]> results) {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format(Locale.ROOT, "Tiempo hasta la primera respuesta de GET %s/clientes "
+                + "(perfiles %s, base de datos %s, %d arranques)%n", options.getContextPath(),
+                options.getProfiles(), options.getDb(), options.getRuns()));
+        summary.append(String.format(Locale.ROOT, "%-9s %9s %9s %9s%n", "variante", "min", "mediana", "max"));
+        results.forEach((mode, millis) -> {
+            long[] sorted = millis.clone();
+            Arrays.sort(sorted);
+            summary.append(String.format(Locale.ROOT, "%-9s %6d ms %6d ms %6d ms%n", mode, sorted[0],
+                    sorted[sorted.length / 2], sorted[sorted.length - 1]));
+        });
+        return summary.toString();
+    }
+
+    /**
+     * Arranca la variante en un proceso nuevo con la JVM actual. Todas las
+     * variantes comparten la configuración; solo cambian el empaquetado, el uso
+     * del código AOT y el archivo CDS. El classpath se escribe jar a jar y en
+     * orden para que coincida entre el entrenamiento y las mediciones, como
+     * exige AppCDS.
+     */
+    private Process start(String mode, List<String> extraJvmArgs, Path log, int port) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(extraJvmArgs);
+        command.addAll(split(options.getJvmArgs()));
+        command.add("-cp");
+        if ("jar".equals(mode)) {
+            command.add(options.getBootJar() + File.pathSeparator + driverJar());
+            command.add("org.springframework.boot.loader.launch.JarLauncher");
+        } else {
+            command.add(explodedClasspath());
+            if (mode.startsWith("aot")) {
+                command.add("-Dspring.aot.enabled=true");
+            }
+            command.add(ClientesAlianzaApplication.class.getName());
+        }
+        command.add("--spring.profiles.active=" + options.getProfiles());
+        command.add("--server.port=" + port);
+        databaseProperties.forEach((name, value) -> command.add("--" + name + "=" + value));
+        command.addAll(split(options.getArgs()));
+
+        // Directorio de trabajo propio: los perfiles pueden escribir en ./data
+        Path workDir = options.getOutputDir().resolve("work");
+        Files.createDirectories(workDir);
+        return new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    private String explodedClasspath() throws IOException {
+        List<String> entries = new ArrayList<>();
+        try (Stream<Path> app = Files.list(options.getDistDir().resolve("app"));
+                Stream<Path> lib = Files.list(options.getDistDir().resolve("lib"))) {
+            app.sorted().forEach(jar -> entries.add(jar.toString()));
+            lib.sorted().forEach(jar -> entries.add(jar.toString()));
+        }
+        entries.add(driverJar());
+        return String.join(File.pathSeparator, entries);
+    }
+
+    /**
+     * Jar del driver H2, que no forma parte de las dependencias de la
+     * aplicación; se añade siempre para que el classpath no dependa de la base
+     * de datos elegida
+     */
+    private static String driverJar() {
+        try {
+            return Path.of(Class.forName("org.h2.Driver").getProtectionDomain().getCodeSource().getLocation()
+                    .toURI()).toString();
+        } catch (Exception e) {
+            throw new IllegalStateException("No se encontró el jar de H2", e);
+        }
+    }
+
+    /**
+     * Espera la primera respuesta 200 de GET /clientes
+     *
+     * @return URL de GET /clientes del proceso
+     */
+    private String firstResponse(Process process, int port) throws InterruptedException {
+        String url = "http://localhost:" + port + options.getContextPath() + "/clientes";
+        long deadline = System.nanoTime() + options.getTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("La aplicación terminó con código " + process.exitValue()
+                        + " antes de responder");
+            }
+            if (get(url) == 200) {
+                return url;
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("Sin respuesta de " + url + " en " + options.getTimeout());
+    }
+
+    private int get(String url) throws InterruptedException {
+        try {
+            return client.send(HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(10)).build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static List<String> split(String value) {
+        return value.isBlank() ? List.of() : List.of(value.trim().split("\\s+"));
+    }
+}
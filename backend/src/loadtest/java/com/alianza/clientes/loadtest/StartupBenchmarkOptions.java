@@ -0,0 +1,107 @@
+package com.alianza.clientes.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Parámetros del entrenamiento CDS y del benchmark de arranque. Se leen de
+ * propiedades de sistema {@code startup.*}, que las tareas Gradle copian de
+ * {@code -Pstartup.*}.
+ */
+@Getter
+@Builder
+public class StartupBenchmarkOptions {
+
+    /**
+     * Base de datos: {@code h2} (en memoria en cada proceso), {@code postgres}
+     * (contenedor Testcontainers) o una URL JDBC
+     */
+    private final String db;
+
+    private final String dbUser;
+
+    private final String dbPassword;
+
+    /**
+     * Perfiles Spring; deben ser los mismos con los que se generó el código AOT
+     * ({@code -PfastStart.profiles})
+     */
+    private final String profiles;
+
+    /**
+     * Variantes medidas: {@code jar}, {@code exploded}, {@code aot} y
+     * {@code aot-cds}
+     */
+    private final List<String> modes;
+
+    /**
+     * Arranques medidos por variante
+     */
+    private final int runs;
+
+    /**
+     * Peticiones adicionales del arranque de entrenamiento tras la primera
+     * respuesta, para que el archivo CDS incluya las clases del camino de la
+     * petición
+     */
+    private final int trainRequests;
+
+    private final Duration timeout;
+
+    private final String contextPath;
+
+    /**
+     * Opciones de JVM añadidas a cada proceso, separadas por espacios
+     */
+    private final String jvmArgs;
+
+    /**
+     * Argumentos de la aplicación añadidos a cada proceso, separados por espacios
+     */
+    private final String args;
+
+    /**
+     * build/fast-start: app/, lib/ y app.jsa
+     */
+    private final Path distDir;
+
+    /**
+     * Jar ejecutable de bootJar, para la variante {@code jar}
+     */
+    private final Path bootJar;
+
+    private final Path outputDir;
+
+    /**
+     * Lee los parámetros de las propiedades de sistema
+     *
+     * @return Parámetros con los valores por defecto aplicados
+     */
+    public static StartupBenchmarkOptions fromSystemProperties() {
+        return StartupBenchmarkOptions.builder()
+                .db(property("db", "h2"))
+                .dbUser(property("db.user", "postgres"))
+                .dbPassword(property("db.password", "admin"))
+                .profiles(property("profiles", "prod"))
+                .modes(Arrays.asList(property("modes", "jar,exploded,aot,aot-cds").split(",")))
+                .runs(Integer.parseInt(property("runs", "5")))
+                .trainRequests(Integer.parseInt(property("train-requests", "50")))
+                .timeout(Duration.ofSeconds(Long.parseLong(property("timeout", "120"))))
+                .contextPath(property("context-path", "/alianza"))
+                .jvmArgs(property("jvm-args", ""))
+                .args(property("args", ""))
+                .distDir(Path.of(property("dist-dir", "build/fast-start")))
+                .bootJar(Path.of(property("boot-jar", "build/libs/backend-0.0.1-SNAPSHOT.jar")))
+                .outputDir(Path.of(property("output-dir", "build/reports/startup")))
+                .build();
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("startup." + name, defaultValue);
+    }
+}
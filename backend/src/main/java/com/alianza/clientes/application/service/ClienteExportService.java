@@ -0,0 +1,210 @@
+package com.alianza.clientes.application.service;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ExportState;
+import com.alianza.clientes.domain.model.ExportStatus;
+import com.alianza.clientes.domain.port.api.ClienteExportServicePort;
+import com.alianza.clientes.domain.port.spi.ClienteExportStoragePort;
+import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Implementación del puerto de entrada ClienteExportServicePort: genera el CSV
+ * de todos los clientes en segundo plano, en el fichero que proporciona
+ * {@link ClienteExportStoragePort}.
+ * <p>
+ * Los clientes se leen por lotes de {@code pageSize} en orden de id
+ * ({@link ClientePersistencePort#findClientesAfterId}), así que cada lote es
+ * una consulta corta que no retiene una conexión durante toda la exportación,
+ * y se escriben en un fichero parcial que se publica al terminar: un fichero
+ * descargable siempre está completo. Las exportaciones se ejecutan de una en
+ * una y una petición que llega con otra en curso recibe esa. Los ficheros se
+ * borran pasado {@code retention} desde que terminan, y al arrancar se borran
+ * los que quedaron de una ejecución anterior.
+ */
+@Slf4j
+public class ClienteExportService implements ClienteExportServicePort {
+
+    private static final Duration MAX_CLEANUP_INTERVAL = Duration.ofMinutes(1);
+
+    private final ClientePersistencePort clientePersistencePort;
+    private final ClienteExportStoragePort clienteExportStoragePort;
+    private final String header;
+    private final Function<Cliente, String> rowFormatter;
+    private final int pageSize;
+    private final Duration retention;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+    private Job running;
+
+    /**
+     * @param clientePersistencePort   Puerto de persistencia
+     * @param clienteExportStoragePort Almacenamiento de los ficheros exportados
+     * @param header                   Primera línea del fichero
+     * @param rowFormatter             Línea del fichero de cada cliente, con su salto de línea
+     * @param pageSize                 Clientes leídos por consulta
+     * @param retention                Tiempo que se conserva una exportación terminada
+     */
+    public ClienteExportService(ClientePersistencePort clientePersistencePort,
+            ClienteExportStoragePort clienteExportStoragePort, String header, Function<Cliente, String> rowFormatter,
+            int pageSize, Duration retention) {
+        this.clientePersistencePort = clientePersistencePort;
+        this.clienteExportStoragePort = clienteExportStoragePort;
+        this.header = header;
+        this.rowFormatter = rowFormatter;
+        this.pageSize = pageSize;
+        this.retention = retention;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "clientes-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Prepara el almacenamiento, borrando los ficheros de ejecuciones
+     * anteriores, y programa la limpieza de las exportaciones expiradas
+     */
+    public void start() {
+        clienteExportStoragePort.initialize();
+        long cleanupMs = Math.min(retention.toMillis(), MAX_CLEANUP_INTERVAL.toMillis());
+        executor.scheduleWithFixedDelay(this::removeExpired, cleanupMs, cleanupMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Detiene las exportaciones en curso
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized ExportStatus startExport() {
+        if (running != null && running.state == ExportState.RUNNING) {
+            log.info("Exportación {} ya en curso", running.exportId);
+            return running.toStatus();
+        }
+        Job job = new Job(UUID.randomUUID().toString());
+        jobs.put(job.exportId, job);
+        running = job;
+        executor.execute(() -> run(job));
+        log.info("Exportación {} iniciada", job.exportId);
+        return job.toStatus();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<ExportStatus> findExport(String exportId) {
+        return Optional.ofNullable(jobs.get(exportId)).map(Job::toStatus);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Path> findExportFile(String exportId) {
+        return Optional.ofNullable(jobs.get(exportId))
+                .filter(job -> job.state == ExportState.COMPLETED)
+                .map(job -> clienteExportStoragePort.location(job.exportId));
+    }
+
+    private void run(Job job) {
+        try {
+            job.total = clientePersistencePort.countClientes();
+            try (Writer writer = clienteExportStoragePort.open(job.exportId)) {
+                writer.write(header);
+                long lastId = 0;
+                List<Cliente> page;
+                do {
+                    page = clientePersistencePort.findClientesAfterId(lastId, pageSize);
+                    for (Cliente cliente : page) {
+                        writer.write(rowFormatter.apply(cliente));
+                    }
+                    if (!page.isEmpty()) {
+                        lastId = page.get(page.size() - 1).getId();
+                    }
+                    job.exported += page.size();
+                } while (page.size() == pageSize);
+            }
+            job.bytes = clienteExportStoragePort.publish(job.exportId);
+            job.complete(ExportState.COMPLETED, null);
+            log.info("Exportación {} terminada: {} clientes, {} bytes", job.exportId, job.exported, job.bytes);
+        } catch (IOException | RuntimeException e) {
+            log.error("Error en la exportación {}", job.exportId, e);
+            clienteExportStoragePort.delete(job.exportId);
+            job.complete(ExportState.FAILED, e.getMessage());
+        }
+    }
+
+    private void removeExpired() {
+        LocalDateTime expiry = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            if (job.completedAt == null || !job.completedAt.isBefore(expiry)) {
+                return false;
+            }
+            clienteExportStoragePort.delete(job.exportId);
+            log.debug("Exportación {} expirada", job.exportId);
+            return true;
+        });
+    }
+
+    /**
+     * Progreso de una exportación. Lo escribe solo el hilo de exportación
+     */
+    private static final class Job {
+
+        private final String exportId;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile ExportState state = ExportState.RUNNING;
+        private volatile long total;
+        private volatile long exported;
+        private volatile long bytes;
+        private volatile String error;
+        private volatile LocalDateTime completedAt;
+
+        Job(String exportId) {
+            this.exportId = exportId;
+        }
+
+        void complete(ExportState finalState, String failure) {
+            error = failure;
+            completedAt = LocalDateTime.now();
+            state = finalState;
+        }
+
+        ExportStatus toStatus() {
+            return ExportStatus.builder()
+                    .exportId(exportId)
+                    .state(state)
+                    .total(total)
+                    .exported(exported)
+                    .bytes(bytes)
+                    .error(error)
+                    .createdAt(createdAt)
+                    .completedAt(completedAt)
+                    .build();
+        }
+    }
+}
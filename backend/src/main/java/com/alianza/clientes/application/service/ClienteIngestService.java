@@ -0,0 +1,389 @@
+package com.alianza.clientes.application.service;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteEvent;
+import com.alianza.clientes.domain.model.ClienteEventType;
+import com.alianza.clientes.domain.model.ClienteIngest;
+import com.alianza.clientes.domain.model.IngestState;
+import com.alianza.clientes.domain.model.IngestStatus;
+import com.alianza.clientes.domain.port.api.ClienteIngestServicePort;
+import com.alianza.clientes.domain.port.spi.ClienteEventPublisherPort;
+import com.alianza.clientes.domain.port.spi.ClienteIngestJournalPort;
+import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+
+import io.micrometer.common.util.StringUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementación del puerto de entrada ClienteIngestServicePort: ingesta
+ * asíncrona con escritura diferida por lotes.
+ * <p>
+ * Un lote se valida, sus sharedKey se reservan en un conjunto en memoria con
+ * todas las claves conocidas (rechazando duplicados sin consultar la base de
+ * datos), se registra en el {@link ClienteIngestJournalPort} y se confirma con
+ * un identificador de seguimiento. Un hilo guarda los clientes aceptados con
+ * {@link ClientePersistencePort#saveClientes(List)} en lotes de hasta
+ * {@code batchSize} clientes o cada {@code maxDelay}, lo que ocurra antes; si
+ * un lote falla, sus clientes se reintentan uno a uno para aislar el que
+ * falla, y la clave del que falla se libera si no existe en la base de datos. Al arrancar se reprocesan los lotes pendientes del registro, dando por
+ * guardados los clientes cuyo sharedKey ya está en la base de datos.
+ * <p>
+ * El conjunto de claves se carga del feed de cambios y se actualiza
+ * periódicamente con las altas hechas por otras vías; una alta síncrona con la
+ * misma clave entre medias hace fallar ese cliente, que se informa en el
+ * estado del lote.
+ */
+@Slf4j
+public class ClienteIngestService implements ClienteIngestServicePort {
+
+    private static final int KEY_SCAN_BATCH = 5000;
+    private static final int MAX_ERRORS = 100;
+
+    private final ClientePersistencePort clientePersistencePort;
+    private final ClienteIngestJournalPort clienteIngestJournalPort;
+    private final ClienteEventPublisherPort clienteEventPublisherPort;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final int maxPerRequest;
+    private final Duration statusRetention;
+    private final Duration keyRefreshInterval;
+
+    private final Set<String> keys = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<Item> queue = new LinkedBlockingQueue<>();
+    private final Map<String, Tracker> trackers = new ConcurrentHashMap<>();
+    private final Thread flusher;
+    private volatile boolean running;
+
+    private long keysChangeSeq;
+    private long keysLastId;
+    private long nextKeyRefresh;
+
+    /**
+     * @param clientePersistencePort    Puerto de persistencia
+     * @param clienteIngestJournalPort  Registro de escritura anticipada
+     * @param clienteEventPublisherPort Destino de los eventos de alta
+     * @param batchSize                 Máximo de clientes por transacción
+     * @param maxDelay                  Espera máxima de un cliente aceptado antes de guardarse
+     * @param maxPerRequest             Máximo de clientes por lote aceptado
+     * @param statusRetention           Tiempo que se conserva el estado de un lote procesado
+     * @param keyRefreshInterval        Intervalo de actualización de las claves conocidas
+     */
+    public ClienteIngestService(ClientePersistencePort clientePersistencePort,
+            ClienteIngestJournalPort clienteIngestJournalPort, ClienteEventPublisherPort clienteEventPublisherPort,
+            int batchSize, Duration maxDelay, int maxPerRequest, Duration statusRetention,
+            Duration keyRefreshInterval) {
+        this.clientePersistencePort = clientePersistencePort;
+        this.clienteIngestJournalPort = clienteIngestJournalPort;
+        this.clienteEventPublisherPort = clienteEventPublisherPort;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.maxPerRequest = maxPerRequest;
+        this.statusRetention = statusRetention;
+        this.keyRefreshInterval = keyRefreshInterval;
+        this.flusher = new Thread(this::flushLoop, "clientes-ingest-flush");
+        this.flusher.setDaemon(true);
+    }
+
+    /**
+     * Carga las claves conocidas, vuelve a encolar los lotes pendientes del
+     * registro y arranca el hilo de escritura
+     */
+    public void start() {
+        refreshKeys();
+        nextKeyRefresh = System.nanoTime() + keyRefreshInterval.toNanos();
+        for (ClienteIngest ingest : clienteIngestJournalPort.pending()) {
+            Tracker tracker = new Tracker(ingest.getTrackingId(), ingest.getClientes().size(),
+                    ingest.getAcceptedAt());
+            trackers.put(tracker.trackingId, tracker);
+            int enqueued = 0;
+            for (Cliente cliente : ingest.getClientes()) {
+                if (keys.add(cliente.getSharedKey())) {
+                    queue.add(new Item(tracker, cliente));
+                    enqueued++;
+                } else {
+                    // Guardado antes del reinicio, pero sin llegar a marcar el lote
+                    tracker.persisted(1);
+                }
+            }
+            log.info("Lote de ingesta {} recuperado: {} clientes pendientes", tracker.trackingId, enqueued);
+            completeIfDone(tracker);
+        }
+        running = true;
+        flusher.start();
+    }
+
+    /**
+     * Detiene el hilo de escritura tras guardar lo que ya está en la cola
+     */
+    public void stop() {
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IngestStatus submit(List<Cliente> clientes) {
+        if (clientes == null || clientes.isEmpty()) {
+            throw new IllegalArgumentException("El lote de ingesta no contiene clientes");
+        }
+        if (clientes.size() > maxPerRequest) {
+            throw new IllegalArgumentException(
+                    "El lote de ingesta admite como máximo " + maxPerRequest + " clientes: " + clientes.size());
+        }
+        for (Cliente cliente : clientes) {
+            if (StringUtils.isBlank(cliente.getSharedKey())) {
+                throw new IllegalArgumentException("La ingesta requiere el sharedKey de cada cliente");
+            }
+        }
+        List<String> reserved = new ArrayList<>(clientes.size());
+        for (Cliente cliente : clientes) {
+            if (!keys.add(cliente.getSharedKey())) {
+                reserved.forEach(keys::remove);
+                log.error("Error en la ingesta: sharedKey {} ya existe", cliente.getSharedKey());
+                throw new IllegalArgumentException("Ya existe un cliente con el sharedKey: " + cliente.getSharedKey());
+            }
+            reserved.add(cliente.getSharedKey());
+            cliente.setId(null);
+            cliente.setFechaCreacion(LocalDate.now());
+        }
+        ClienteIngest ingest = ClienteIngest.builder()
+                .trackingId(UUID.randomUUID().toString())
+                .clientes(List.copyOf(clientes))
+                .acceptedAt(LocalDateTime.now())
+                .build();
+        try {
+            clienteIngestJournalPort.append(ingest);
+        } catch (RuntimeException e) {
+            reserved.forEach(keys::remove);
+            throw e;
+        }
+        Tracker tracker = new Tracker(ingest.getTrackingId(), clientes.size(), ingest.getAcceptedAt());
+        trackers.put(tracker.trackingId, tracker);
+        for (Cliente cliente : ingest.getClientes()) {
+            queue.add(new Item(tracker, cliente));
+        }
+        log.info("Lote de ingesta {} aceptado con {} clientes", tracker.trackingId, clientes.size());
+        return tracker.toStatus();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<IngestStatus> findStatus(String trackingId) {
+        return Optional.ofNullable(trackers.get(trackingId)).map(Tracker::toStatus);
+    }
+
+    private void flushLoop() {
+        List<Item> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Item first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    long deadline = System.nanoTime() + maxDelay.toNanos();
+                    while (batch.size() < batchSize) {
+                        Item next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                    flush(batch);
+                    batch.clear();
+                }
+                housekeeping();
+            } catch (InterruptedException e) {
+                // stop(): se vacía la cola sin esperar a completar lotes
+                queue.drainTo(batch);
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+                return;
+            } catch (RuntimeException e) {
+                log.error("Error en el hilo de escritura de la ingesta", e);
+            }
+        }
+    }
+
+    private void flush(List<Item> batch) {
+        List<Cliente> clientes = batch.stream().map(Item::cliente).toList();
+        try {
+            List<Cliente> saved = clientePersistencePort.saveClientes(clientes);
+            for (int i = 0; i < batch.size(); i++) {
+                persisted(batch.get(i), saved.get(i));
+            }
+            log.debug("Ingesta: {} clientes guardados en un lote", saved.size());
+        } catch (RuntimeException batchFailure) {
+            log.warn("Falló el lote de ingesta de {} clientes; se reintentan uno a uno", batch.size(),
+                    batchFailure);
+            for (Item item : batch) {
+                try {
+                    persisted(item, clientePersistencePort.saveCliente(item.cliente()));
+                } catch (RuntimeException e) {
+                    log.error("Error en la ingesta del cliente {}", item.cliente().getSharedKey(), e);
+                    item.tracker().failed(item.cliente().getSharedKey() + ": " + e.getMessage());
+                    release(item.cliente().getSharedKey());
+                    completeIfDone(item.tracker());
+                }
+            }
+        }
+    }
+
+    /**
+     * Libera la clave de un cliente que no se pudo guardar para que se pueda
+     * volver a enviar, salvo que exista de verdad en la base de datos (una
+     * alta síncrona con la misma clave entre medias). Si no se puede
+     * comprobar, se libera: la restricción única sigue rechazando el duplicado
+     */
+    private void release(String sharedKey) {
+        boolean exists;
+        try {
+            exists = clientePersistencePort.existsBySharedKey(sharedKey);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo comprobar el sharedKey {}; se libera", sharedKey, e);
+            exists = false;
+        }
+        if (!exists) {
+            keys.remove(sharedKey);
+        }
+    }
+
+    private void persisted(Item item, Cliente saved) {
+        try {
+            clienteEventPublisherPort.publish(ClienteEvent.builder()
+                    .type(ClienteEventType.CREATED)
+                    .cliente(saved)
+                    .build());
+        } catch (RuntimeException e) {
+            log.error("Error al publicar evento CREATED del cliente {}", saved.getSharedKey(), e);
+        }
+        item.tracker().persisted(1);
+        completeIfDone(item.tracker());
+    }
+
+    private void completeIfDone(Tracker tracker) {
+        if (tracker.isDone() && tracker.markCompleted()) {
+            clienteIngestJournalPort.markCompleted(tracker.trackingId);
+            log.info("Lote de ingesta {} procesado: {}", tracker.trackingId, tracker.toStatus().getState());
+        }
+    }
+
+    private void housekeeping() {
+        if (System.nanoTime() - nextKeyRefresh >= 0) {
+            refreshKeys();
+            nextKeyRefresh = System.nanoTime() + keyRefreshInterval.toNanos();
+        }
+        LocalDateTime expiry = LocalDateTime.now().minus(statusRetention);
+        trackers.values().removeIf(tracker -> tracker.completedBefore(expiry));
+    }
+
+    /**
+     * Añade al conjunto las claves de los clientes guardados desde la última
+     * lectura del feed de cambios
+     */
+    private void refreshKeys() {
+        List<Cliente> changes;
+        do {
+            changes = clientePersistencePort.findChangesSince(keysChangeSeq, keysLastId, KEY_SCAN_BATCH);
+            for (Cliente cliente : changes) {
+                keys.add(cliente.getSharedKey());
+            }
+            if (!changes.isEmpty()) {
+                Cliente last = changes.get(changes.size() - 1);
+                keysChangeSeq = last.getChangeSeq();
+                keysLastId = last.getId();
+            }
+        } while (changes.size() == KEY_SCAN_BATCH);
+    }
+
+    /**
+     * Cliente aceptado pendiente de guardar
+     */
+    private record Item(Tracker tracker, Cliente cliente) {
+    }
+
+    /**
+     * Progreso de un lote
+     */
+    private static final class Tracker {
+
+        private final String trackingId;
+        private final int total;
+        private final LocalDateTime acceptedAt;
+        private final List<String> errors = new ArrayList<>();
+        private int persisted;
+        private int failed;
+        private LocalDateTime completedAt;
+
+        Tracker(String trackingId, int total, LocalDateTime acceptedAt) {
+            this.trackingId = trackingId;
+            this.total = total;
+            this.acceptedAt = acceptedAt;
+        }
+
+        synchronized void persisted(int count) {
+            persisted += count;
+        }
+
+        synchronized void failed(String error) {
+            failed++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        synchronized boolean isDone() {
+            return persisted + failed >= total;
+        }
+
+        synchronized boolean markCompleted() {
+            if (completedAt != null) {
+                return false;
+            }
+            completedAt = LocalDateTime.now();
+            return true;
+        }
+
+        synchronized boolean completedBefore(LocalDateTime instant) {
+            return completedAt != null && completedAt.isBefore(instant);
+        }
+
+        synchronized IngestStatus toStatus() {
+            IngestState state = completedAt == null ? IngestState.ACCEPTED
+                    : failed == 0 ? IngestState.COMPLETED : IngestState.COMPLETED_WITH_ERRORS;
+            return IngestStatus.builder()
+                    .trackingId(trackingId)
+                    .state(state)
+                    .total(total)
+                    .persisted(persisted)
+                    .failed(failed)
+                    .errors(List.copyOf(errors))
+                    .acceptedAt(acceptedAt)
+                    .completedAt(completedAt)
+                    .build();
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.alianza.clientes.application.service;
 
+import com.alianza.clientes.domain.model.ChangeFeedResponse;
+import com.alianza.clientes.domain.model.ChangeToken;
 import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteEvent;
+import com.alianza.clientes.domain.model.ClienteEventType;
+import com.alianza.clientes.domain.model.ClienteField;
 import com.alianza.clientes.domain.model.ClienteFilter;
 import com.alianza.clientes.domain.model.PageResponse;
 import com.alianza.clientes.domain.port.api.ClienteServicePort;
+import com.alianza.clientes.domain.port.spi.ClienteEventPublisherPort;
 import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
 
 import io.micrometer.common.util.StringUtils;
@@ -11,8 +17,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementación del puerto de entrada ClienteServicePort que orquesta las
@@ -23,8 +34,20 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ClienteService implements ClienteServicePort {
 
+    /**
+     * Número máximo de cambios que se entregan en un lote del feed
+     */
+    public static final int MAX_CHANGES_LIMIT = 1000;
+
+    /**
+     * Número máximo de claves distintas de una búsqueda por varios sharedKeys
+     */
+    public static final int MAX_LOOKUP_KEYS = 1000;
+
     private final ClientePersistencePort clientePersistencePort;
 
+    private final ClienteEventPublisherPort clienteEventPublisherPort;
+
     /**
      * Genera una nueva sharedKey para un cliente.
      * 
@@ -40,6 +63,21 @@ public class ClienteService implements ClienteServicePort {
         return "CLI" + idSharedKey;
     }
 
+    /**
+     * Publica el evento de un cliente guardado. Un fallo al publicar no revierte
+     * el guardado, que ya fue confirmado por el puerto de persistencia.
+     * 
+     * @param type    Tipo de evento
+     * @param cliente Cliente guardado
+     */
+    private void publishEvent(ClienteEventType type, Cliente cliente) {
+        try {
+            clienteEventPublisherPort.publish(ClienteEvent.builder().type(type).cliente(cliente).build());
+        } catch (RuntimeException e) {
+            log.error("Error al publicar evento {} del cliente {}", type, cliente.getSharedKey(), e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -52,9 +90,11 @@ public class ClienteService implements ClienteServicePort {
             log.error("Error al guardar cliente: sharedKey {} ya existe", cliente.getSharedKey());
             throw new IllegalArgumentException("Ya existe un cliente con el sharedKey: " + cliente.getSharedKey());
         }
+        ClienteEventType eventType = cliente.getId() == null ? ClienteEventType.CREATED : ClienteEventType.UPDATED;
         cliente.setFechaCreacion(LocalDate.now());
         Cliente savedCliente = clientePersistencePort.saveCliente(cliente);
         log.info("Cliente guardado exitosamente con ID: {}", savedCliente.getId());
+        publishEvent(eventType, savedCliente);
         return savedCliente;
     }
 
@@ -71,6 +111,31 @@ public class ClienteService implements ClienteServicePort {
                 });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findBySharedKeys(List<String> sharedKeys) {
+        Set<String> distinct = new LinkedHashSet<>(sharedKeys);
+        if (distinct.isEmpty() || distinct.size() > MAX_LOOKUP_KEYS) {
+            throw new IllegalArgumentException(
+                    "La búsqueda debe incluir entre 1 y " + MAX_LOOKUP_KEYS + " shared keys: " + distinct.size());
+        }
+        log.info("Buscando {} clientes por sharedKey", distinct.size());
+        Map<String, Cliente> found = new HashMap<>();
+        for (Cliente cliente : clientePersistencePort.findBySharedKeys(distinct)) {
+            found.put(cliente.getSharedKey(), cliente);
+        }
+        List<Cliente> ordered = new ArrayList<>(found.size());
+        for (String sharedKey : distinct) {
+            Cliente cliente = found.get(sharedKey);
+            if (cliente != null) {
+                ordered.add(cliente);
+            }
+        }
+        return ordered;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -90,6 +155,27 @@ public class ClienteService implements ClienteServicePort {
         return clientePersistencePort.findClientesByFilter(filter, page, size, sortBy, sortDir);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields) {
+        log.info("Obteniendo todos los clientes con paginación: página {}, tamaño {}, campos {}", page, size,
+                fields);
+        return clientePersistencePort.findAllClientes(page, size, sortBy, sortDir, fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir, Set<ClienteField> fields) {
+        log.info("Buscando clientes por filtros: {}, campos {}", filter, fields);
+        return clientePersistencePort.findClientesByFilter(filter, page, size, sortBy, sortDir, fields);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -100,4 +186,28 @@ public class ClienteService implements ClienteServicePort {
         log.info("Se exportarán {} clientes a CSV", clientes.size());
         return clientes;
     }
-}
\ No newline at end of file
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ChangeFeedResponse<Cliente> findChangesSince(String token, int limit) {
+        if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new IllegalArgumentException(
+                    "El límite de cambios debe estar entre 1 y " + MAX_CHANGES_LIMIT + ": " + limit);
+        }
+        ChangeToken since = ChangeToken.decode(token);
+        log.debug("Buscando cambios de clientes desde {}", since);
+        // Se pide un registro adicional para saber si quedan cambios sin consultar otra vez
+        List<Cliente> changes = clientePersistencePort.findChangesSince(since.getChangeSeq(), since.getId(),
+                limit + 1);
+        boolean hasMore = changes.size() > limit;
+        List<Cliente> content = hasMore ? changes.subList(0, limit) : changes;
+        ChangeToken next = content.isEmpty() ? since : ChangeToken.after(content.get(content.size() - 1));
+        return ChangeFeedResponse.<Cliente>builder()
+                .content(content)
+                .nextToken(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.alianza.clientes.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Clase de dominio que representa un lote del feed de cambios.
+ * Esta clase es independiente de frameworks y tecnologías específicas.
+ *
+ * @param <T> Tipo de contenido del lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponse<T> {
+
+    /**
+     * Registros modificados, ordenados por instante de modificación e id
+     */
+    private List<T> content;
+
+    /**
+     * Token a enviar en la siguiente consulta para continuar tras este lote
+     */
+    private String nextToken;
+
+    /**
+     * Indica si existen más cambios pendientes después de este lote
+     */
+    private boolean hasMore;
+}
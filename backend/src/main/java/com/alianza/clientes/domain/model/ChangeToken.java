@@ -0,0 +1,90 @@
+package com.alianza.clientes.domain.model;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Posición dentro del feed de cambios de clientes.
+ * Identifica el último registro entregado mediante el par (changeSeq, id), que
+ * define un orden total y monótono sobre las modificaciones. Se expone a los
+ * consumidores como un token opaco que deben devolver tal cual en la siguiente
+ * sincronización.
+ */
+@Data
+@AllArgsConstructor
+public class ChangeToken {
+
+    /**
+     * Posición inicial del feed: anterior a cualquier modificación registrada
+     */
+    public static final ChangeToken INITIAL = new ChangeToken(0L, 0L);
+
+    private static final byte VERSION = 2;
+    private static final int TOKEN_BYTES = 1 + Long.BYTES * 2;
+
+    /**
+     * Los tokens de la primera versión (updatedAt, id), sin byte de versión,
+     * podían haber saltado cambios: se reinicia el feed desde el principio
+     */
+    private static final int LEGACY_TOKEN_BYTES = Long.BYTES * 2;
+
+    /**
+     * Posición de cambio del último registro entregado
+     */
+    private Long changeSeq;
+
+    /**
+     * Identificador del último registro entregado, desempata registros con la misma posición
+     */
+    private Long id;
+
+    /**
+     * Crea el token que apunta justo después del cliente indicado
+     *
+     * @param cliente Último cliente entregado
+     * @return Token posicionado en el cliente
+     */
+    public static ChangeToken after(Cliente cliente) {
+        return new ChangeToken(cliente.getChangeSeq(), cliente.getId());
+    }
+
+    /**
+     * Decodifica un token opaco recibido de un consumidor
+     *
+     * @param token Token opaco; si es nulo o vacío se devuelve la posición inicial
+     * @return Posición decodificada
+     * @throws IllegalArgumentException si el token no es válido
+     */
+    public static ChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return INITIAL;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Token de cambios inválido: " + token);
+        }
+        if (bytes.length == LEGACY_TOKEN_BYTES) {
+            return INITIAL;
+        }
+        if (bytes.length != TOKEN_BYTES || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Token de cambios inválido: " + token);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, TOKEN_BYTES - 1);
+        return new ChangeToken(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Codifica la posición como token opaco (Base64 URL-safe)
+     *
+     * @return Token opaco
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_BYTES).put(VERSION).putLong(changeSeq).putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
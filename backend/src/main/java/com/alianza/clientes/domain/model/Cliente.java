@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * Entidad de dominio que representa un cliente en el sistema.
@@ -57,4 +58,15 @@ public class Cliente {
      * Fecha de creación del registro del cliente
      */
     private LocalDate fechaCreacion;
+
+    /**
+     * Instante de la última modificación del registro del cliente
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * Posición de la última modificación en el feed de cambios. La asigna el
+     * adaptador de persistencia y solo sirve para ordenar el feed
+     */
+    private Long changeSeq;
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.alianza.clientes.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Evento de dominio emitido cuando un cliente es creado o modificado.
+ * Esta clase es independiente de frameworks y tecnologías específicas.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteEvent {
+
+    /**
+     * Tipo de evento
+     */
+    private ClienteEventType type;
+
+    /**
+     * Estado del cliente después de guardarlo
+     */
+    private Cliente cliente;
+}
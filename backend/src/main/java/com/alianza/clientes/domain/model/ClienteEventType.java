@@ -0,0 +1,17 @@
+package com.alianza.clientes.domain.model;
+
+/**
+ * Tipos de eventos emitidos al guardar un cliente.
+ */
+public enum ClienteEventType {
+
+    /**
+     * Se registró un cliente nuevo
+     */
+    CREATED,
+
+    /**
+     * Se modificó un cliente existente
+     */
+    UPDATED
+}
@@ -0,0 +1,107 @@
+package com.alianza.clientes.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Campos de un cliente que se pueden pedir con {@code fields=} en los listados
+ * y filtros. Es la lista blanca: el nombre público de cada campo coincide con
+ * la propiedad de Cliente y de ClienteDTO, y ningún otro nombre llega a la
+ * consulta.
+ */
+public enum ClienteField {
+
+    ID("id", Cliente::getId, (cliente, value) -> cliente.setId((Long) value)),
+    SHARED_KEY("sharedKey", Cliente::getSharedKey, (cliente, value) -> cliente.setSharedKey((String) value)),
+    NOMBRE("nombre", Cliente::getNombre, (cliente, value) -> cliente.setNombre((String) value)),
+    TELEFONO("telefono", Cliente::getTelefono, (cliente, value) -> cliente.setTelefono((String) value)),
+    EMAIL("email", Cliente::getEmail, (cliente, value) -> cliente.setEmail((String) value)),
+    FECHA_INICIO("fechaInicio", Cliente::getFechaInicio,
+            (cliente, value) -> cliente.setFechaInicio((LocalDate) value)),
+    FECHA_FIN("fechaFin", Cliente::getFechaFin, (cliente, value) -> cliente.setFechaFin((LocalDate) value)),
+    FECHA_CREACION("fechaCreacion", Cliente::getFechaCreacion,
+            (cliente, value) -> cliente.setFechaCreacion((LocalDate) value)),
+    UPDATED_AT("updatedAt", Cliente::getUpdatedAt,
+            (cliente, value) -> cliente.setUpdatedAt((LocalDateTime) value));
+
+    /**
+     * Todos los campos; es lo que devuelven los listados sin {@code fields=}
+     */
+    public static final Set<ClienteField> ALL = Collections.unmodifiableSet(EnumSet.allOf(ClienteField.class));
+
+    private final String property;
+    private final Function<Cliente, Object> getter;
+    private final BiConsumer<Cliente, Object> setter;
+
+    ClienteField(String property, Function<Cliente, Object> getter, BiConsumer<Cliente, Object> setter) {
+        this.property = property;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * @return Nombre del campo en la API y de la propiedad en el modelo
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * @return Valor del campo en el cliente
+     */
+    public Object get(Cliente cliente) {
+        return getter.apply(cliente);
+    }
+
+    /**
+     * Asigna el valor del campo en el cliente
+     */
+    public void set(Cliente cliente, Object value) {
+        setter.accept(cliente, value);
+    }
+
+    /**
+     * Interpreta el parámetro {@code fields}: nombres separados por comas, sin
+     * distinguir mayúsculas. Sin parámetro se devuelven todos los campos.
+     *
+     * @param fields Lista separada por comas, o null
+     * @return Campos pedidos, en el orden de la enumeración
+     * @throws IllegalArgumentException si algún nombre no está en la lista blanca
+     */
+    public static Set<ClienteField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<ClienteField> selected = EnumSet.noneOf(ClienteField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(values())
+                    .filter(field -> field.property.equalsIgnoreCase(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Campo no permitido: " + trimmed
+                            + ". Campos permitidos: " + Arrays.stream(values()).map(ClienteField::getProperty)
+                                    .collect(Collectors.joining(", ")))));
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("El parámetro fields no contiene ningún campo");
+        }
+        return Collections.unmodifiableSet(selected);
+    }
+
+    /**
+     * @return true si los campos son un subconjunto estricto de todos los campos
+     */
+    public static boolean isProjection(Set<ClienteField> fields) {
+        return fields != null && !fields.containsAll(ALL);
+    }
+}
@@ -6,13 +6,17 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 /**
  * Clase de dominio que representa los criterios de filtrado para búsqueda de clientes.
  * Esta clase es independiente de frameworks y tecnologías específicas.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ClienteFilter {
@@ -37,6 +41,21 @@ public class ClienteFilter {
      */
     private String email;
     
+    /**
+     * Comparación del nombre; null es CONTAINS
+     */
+    private MatchMode nombreMatch;
+
+    /**
+     * Comparación del teléfono; null es CONTAINS
+     */
+    private MatchMode telefonoMatch;
+
+    /**
+     * Comparación del email; null es CONTAINS
+     */
+    private MatchMode emailMatch;
+
     /**
      * Fecha de inicio para filtrar clientes
      */
@@ -46,4 +65,205 @@ public class ClienteFilter {
      * Fecha de fin para filtrar clientes
      */
     private LocalDate fechaFin;
-}
\ No newline at end of file
+
+    /**
+     * Inicio de la ventana de vigencia: el contrato debe seguir vigente en
+     * algún día desde esta fecha; null deja la ventana abierta por abajo
+     */
+    private LocalDate vigenteDesde;
+
+    /**
+     * Fin de la ventana de vigencia: el contrato debe haber empezado en algún
+     * día hasta esta fecha; null deja la ventana abierta por arriba
+     */
+    private LocalDate vigenteHasta;
+
+    /**
+     * Ids a los que se restringe la búsqueda, o null para no restringirla. Lo
+     * usan los índices de búsqueda para convertir un filtro por contenido en
+     * una lectura por id; no se expone en la API
+     */
+    private Set<Long> ids;
+
+    /**
+     * Con ids: acepta también los clientes cuyo changeSeq es mayor que este
+     * valor aunque no estén en ids. Un índice de búsqueda lo fija en la última
+     * posición del feed de cambios que leyó, para no perder lo escrito después;
+     * no se expone en la API
+     */
+    private Long changedAfter;
+
+    /**
+     * Construye un predicado en memoria con la misma semántica que la consulta
+     * JPA de ClienteSpecification: shared key exacto; nombre y email sin
+     * distinguir mayúsculas y teléfono distinguiéndolas, cada uno igual, con
+     * prefijo o contenido según su MatchMode; fechaInicio y fechaFin como cotas
+     * inclusivas; vigenteDesde y vigenteHasta como solapamiento de
+     * [fechaInicio, fechaFin] con la ventana, extremos inclusivos, sin aceptar
+     * contratos con fechaFin anterior a fechaInicio; ids, si no es null, como pertenencia, o changeSeq mayor que
+     * changedAfter si este tampoco es null. Con prefijo o contenido,
+     * como en SQL LIKE, {@code %} y {@code _} en los textos actúan como
+     * comodines.
+     * 
+     * @return Predicado que acepta los clientes que cumplen todos los criterios
+     */
+    public Predicate<Cliente> toPredicate() {
+        Predicate<Cliente> predicate = cliente -> true;
+        if (ids != null) {
+            Set<Long> values = ids;
+            Long after = changedAfter;
+            predicate = predicate.and(cliente -> values.contains(cliente.getId())
+                    || after != null && cliente.getChangeSeq() != null && cliente.getChangeSeq() > after);
+        }
+        if (hasText(sharedKey)) {
+            String value = sharedKey;
+            predicate = predicate.and(cliente -> value.equals(cliente.getSharedKey()));
+        }
+        if (hasText(nombre)) {
+            Predicate<String> matches = matchIgnoreCase(nombre, MatchMode.orDefault(nombreMatch));
+            predicate = predicate.and(cliente -> cliente.getNombre() != null && matches.test(cliente.getNombre()));
+        }
+        if (hasText(telefono)) {
+            Predicate<String> matches = match(telefono, MatchMode.orDefault(telefonoMatch));
+            predicate = predicate.and(cliente -> cliente.getTelefono() != null
+                    && matches.test(cliente.getTelefono()));
+        }
+        if (hasText(email)) {
+            Predicate<String> matches = matchIgnoreCase(email, MatchMode.orDefault(emailMatch));
+            predicate = predicate.and(cliente -> cliente.getEmail() != null && matches.test(cliente.getEmail()));
+        }
+        if (fechaInicio != null) {
+            LocalDate value = fechaInicio;
+            predicate = predicate.and(cliente -> cliente.getFechaInicio() != null
+                    && !cliente.getFechaInicio().isBefore(value));
+        }
+        if (fechaFin != null) {
+            LocalDate value = fechaFin;
+            predicate = predicate.and(cliente -> cliente.getFechaFin() != null
+                    && !cliente.getFechaFin().isAfter(value));
+        }
+        if (vigenteDesde != null || vigenteHasta != null) {
+            LocalDate desde = vigenteDesde;
+            LocalDate hasta = vigenteHasta;
+            predicate = predicate.and(cliente -> vigenteEntre(cliente, desde, hasta));
+        }
+        return predicate;
+    }
+
+    /**
+     * Equivalente a {@code vigencia && daterange(desde, hasta, '[]')}, con la
+     * vigencia NULL si las fechas faltan o están invertidas
+     */
+    private static boolean vigenteEntre(Cliente cliente, LocalDate desde, LocalDate hasta) {
+        LocalDate inicio = cliente.getFechaInicio();
+        LocalDate fin = cliente.getFechaFin();
+        return inicio != null && fin != null && !fin.isBefore(inicio)
+                && (hasta == null || !inicio.isAfter(hasta))
+                && (desde == null || !fin.isBefore(desde));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * Equivalente a {@code lower(value) = lower(text)},
+     * {@code lower(value) LIKE 'lower(text)%'} o
+     * {@code lower(value) LIKE '%lower(text)%'}
+     */
+    private static Predicate<String> matchIgnoreCase(String text, MatchMode mode) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        return switch (mode) {
+            case EXACT -> value -> value.equalsIgnoreCase(lower);
+            case PREFIX -> {
+                if (hasWildcards(lower)) {
+                    Predicate<String> prefix = likePrefix(lower);
+                    yield value -> prefix.test(value.toLowerCase(Locale.ROOT));
+                }
+                yield value -> value.regionMatches(true, 0, lower, 0, lower.length());
+            }
+            case CONTAINS -> likeContainsIgnoreCase(lower);
+        };
+    }
+
+    /**
+     * Equivalente a {@code value = text}, {@code value LIKE 'text%'} o
+     * {@code value LIKE '%text%'}
+     */
+    private static Predicate<String> match(String text, MatchMode mode) {
+        return switch (mode) {
+            case EXACT -> text::equals;
+            case PREFIX -> likePrefix(text);
+            case CONTAINS -> likeContains(text);
+        };
+    }
+
+    private static boolean hasWildcards(String text) {
+        return text.indexOf('%') >= 0 || text.indexOf('_') >= 0;
+    }
+
+    /**
+     * Equivalente a {@code lower(value) LIKE '%lower(fragment)%'}. Sin comodines
+     * compara sin crear copias en minúsculas de cada valor.
+     */
+    private static Predicate<String> likeContainsIgnoreCase(String fragment) {
+        String lower = fragment.toLowerCase(Locale.ROOT);
+        if (!hasWildcards(lower)) {
+            int length = lower.length();
+            char firstLower = lower.charAt(0);
+            char firstUpper = Character.toUpperCase(firstLower);
+            return value -> {
+                for (int i = 0, last = value.length() - length; i <= last; i++) {
+                    char c = value.charAt(i);
+                    if ((c == firstLower || c == firstUpper) && value.regionMatches(true, i, lower, 0, length)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+        Predicate<String> contains = likeContains(lower);
+        return value -> contains.test(value.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Equivalente a {@code LIKE '%fragment%'}
+     */
+    private static Predicate<String> likeContains(String fragment) {
+        if (!hasWildcards(fragment)) {
+            return value -> value.contains(fragment);
+        }
+        Pattern pattern = likePattern(fragment);
+        return value -> pattern.matcher(value).find();
+    }
+
+    /**
+     * Equivalente a {@code LIKE 'fragment%'}
+     */
+    private static Predicate<String> likePrefix(String fragment) {
+        if (!hasWildcards(fragment)) {
+            return value -> value.startsWith(fragment);
+        }
+        Pattern pattern = likePattern(fragment);
+        return value -> pattern.matcher(value).lookingAt();
+    }
+
+    /**
+     * Expresión regular de un patrón LIKE sin anclar: los literales se citan,
+     * {@code %} es cualquier secuencia y {@code _} cualquier carácter
+     */
+    private static Pattern likePattern(String fragment) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : fragment.toCharArray()) {
+            if (c == '%' || c == '_') {
+                regex.append(Pattern.quote(literal.toString())).append(c == '%' ? ".*" : ".");
+                literal.setLength(0);
+            } else {
+                literal.append(c);
+            }
+        }
+        regex.append(Pattern.quote(literal.toString()));
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+}
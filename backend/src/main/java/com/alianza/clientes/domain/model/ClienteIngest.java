@@ -0,0 +1,35 @@
+package com.alianza.clientes.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Lote de clientes aceptado por la ingesta asíncrona, pendiente de guardarse.
+ * Esta clase es independiente de frameworks y tecnologías específicas.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteIngest {
+
+    /**
+     * Identificador de seguimiento del lote
+     */
+    private String trackingId;
+
+    /**
+     * Clientes a crear
+     */
+    private List<Cliente> clientes;
+
+    /**
+     * Instante en que se aceptó el lote
+     */
+    private LocalDateTime acceptedAt;
+}
@@ -0,0 +1,22 @@
+package com.alianza.clientes.domain.model;
+
+/**
+ * Estados de una exportación de clientes en segundo plano.
+ */
+public enum ExportState {
+
+    /**
+     * El fichero se está generando
+     */
+    RUNNING,
+
+    /**
+     * El fichero está completo y se puede descargar
+     */
+    COMPLETED,
+
+    /**
+     * La exportación falló y no hay fichero
+     */
+    FAILED
+}
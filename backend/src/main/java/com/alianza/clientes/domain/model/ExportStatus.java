@@ -0,0 +1,59 @@
+package com.alianza.clientes.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado de una exportación de clientes en segundo plano.
+ * Esta clase es independiente de frameworks y tecnologías específicas.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportStatus {
+
+    /**
+     * Identificador de la exportación
+     */
+    private String exportId;
+
+    /**
+     * Estado de la exportación
+     */
+    private ExportState state;
+
+    /**
+     * Clientes registrados al iniciar la exportación
+     */
+    private long total;
+
+    /**
+     * Clientes escritos en el fichero
+     */
+    private long exported;
+
+    /**
+     * Tamaño del fichero terminado, en bytes
+     */
+    private long bytes;
+
+    /**
+     * Motivo del fallo, si la exportación falló
+     */
+    private String error;
+
+    /**
+     * Instante en que se inició la exportación
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * Instante en que terminó la exportación
+     */
+    private LocalDateTime completedAt;
+}
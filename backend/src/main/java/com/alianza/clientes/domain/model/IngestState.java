@@ -0,0 +1,22 @@
+package com.alianza.clientes.domain.model;
+
+/**
+ * Estados de un lote de la ingesta asíncrona.
+ */
+public enum IngestState {
+
+    /**
+     * Aceptado y en disco; quedan clientes por guardar
+     */
+    ACCEPTED,
+
+    /**
+     * Todos los clientes del lote se guardaron
+     */
+    COMPLETED,
+
+    /**
+     * Se procesaron todos los clientes, pero alguno no se pudo guardar
+     */
+    COMPLETED_WITH_ERRORS
+}
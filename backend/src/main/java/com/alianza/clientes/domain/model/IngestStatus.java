@@ -0,0 +1,60 @@
+package com.alianza.clientes.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Estado de un lote de la ingesta asíncrona.
+ * Esta clase es independiente de frameworks y tecnologías específicas.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestStatus {
+
+    /**
+     * Identificador de seguimiento del lote
+     */
+    private String trackingId;
+
+    /**
+     * Estado del lote
+     */
+    private IngestState state;
+
+    /**
+     * Clientes del lote
+     */
+    private int total;
+
+    /**
+     * Clientes guardados
+     */
+    private int persisted;
+
+    /**
+     * Clientes que no se pudieron guardar
+     */
+    private int failed;
+
+    /**
+     * Motivos de los fallos, por shared key
+     */
+    private List<String> errors;
+
+    /**
+     * Instante en que se aceptó el lote
+     */
+    private LocalDateTime acceptedAt;
+
+    /**
+     * Instante en que se procesó el último cliente del lote
+     */
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,51 @@
+package com.alianza.clientes.domain.model;
+
+import java.util.Locale;
+
+/**
+ * Forma de comparar un filtro de texto con el campo del cliente.
+ */
+public enum MatchMode {
+
+    /**
+     * El campo es igual al texto
+     */
+    EXACT,
+
+    /**
+     * El campo empieza por el texto; con el índice adecuado es un recorrido
+     * por rango del índice
+     */
+    PREFIX,
+
+    /**
+     * El campo contiene el texto; es el modo por defecto
+     */
+    CONTAINS;
+
+    /**
+     * @return El modo indicado, o CONTAINS si es null
+     */
+    public static MatchMode orDefault(MatchMode mode) {
+        return mode != null ? mode : CONTAINS;
+    }
+
+    /**
+     * Interpreta el modo recibido en la API, sin distinguir mayúsculas
+     *
+     * @param value exact, prefix o contains; null o vacío es null
+     * @return Modo, o null si no se indicó
+     * @throws IllegalArgumentException si el valor no es un modo
+     */
+    public static MatchMode parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Modo de comparación no válido: " + value
+                    + ". Valores permitidos: exact, prefix, contains");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.alianza.clientes.domain.port.api;
+
+import com.alianza.clientes.domain.model.ChangeFeedResponse;
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.PageResponse;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Puerto de entrada (API) con las lecturas de {@link ClienteServicePort} en
+ * forma asíncrona, para que los adaptadores primarios no bloqueen un hilo
+ * propio mientras esperan a la base de datos. Cada método tiene la misma
+ * semántica que su equivalente síncrono; las excepciones que este lanzaría
+ * completan el futuro de forma excepcional.
+ */
+public interface ClienteAsyncServicePort {
+
+    /**
+     * Busca un cliente por su sharedKey
+     *
+     * @param sharedKey La clave compartida única del cliente
+     * @return Futuro con el cliente encontrado; falla con
+     *         IllegalArgumentException si no existe
+     */
+    CompletableFuture<Cliente> findBySharedKey(String sharedKey);
+
+    /**
+     * Busca los clientes de varios sharedKeys con una sola consulta
+     *
+     * @param sharedKeys Claves compartidas a buscar; los repetidos se ignoran
+     * @return Futuro con los clientes encontrados, en el orden de la primera
+     *         aparición de su clave
+     */
+    CompletableFuture<List<Cliente>> findBySharedKeys(List<String> sharedKeys);
+
+    /**
+     * Obtiene todos los clientes con paginación
+     *
+     * @param page Número de página (0-indexed)
+     * @param size Tamaño de la página
+     * @param sortBy Campo por el cual ordenar
+     * @param sortDir Dirección de ordenamiento (asc o desc)
+     * @return Futuro con la respuesta paginada
+     */
+    CompletableFuture<PageResponse<Cliente>> findAllClientes(int page, int size, String sortBy, String sortDir);
+
+    /**
+     * Obtiene todos los clientes con paginación, con solo los campos indicados
+     *
+     * @param page Número de página (0-indexed)
+     * @param size Tamaño de la página
+     * @param sortBy Campo por el cual ordenar
+     * @param sortDir Dirección de ordenamiento (asc o desc)
+     * @param fields Campos a leer; los demás pueden quedar a null
+     * @return Futuro con la respuesta paginada
+     */
+    CompletableFuture<PageResponse<Cliente>> findAllClientes(int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields);
+
+    /**
+     * Busca clientes aplicando filtros con paginación
+     *
+     * @param filter Filtros a aplicar
+     * @param page Número de página (0-indexed)
+     * @param size Tamaño de la página
+     * @param sortBy Campo por el cual ordenar
+     * @param sortDir Dirección de ordenamiento (asc o desc)
+     * @return Futuro con la respuesta paginada de los clientes filtrados
+     */
+    CompletableFuture<PageResponse<Cliente>> findClientesByFilter(ClienteFilter filter, int page, int size,
+            String sortBy, String sortDir);
+
+    /**
+     * Busca clientes aplicando filtros con paginación, con solo los campos indicados
+     *
+     * @param filter Filtros a aplicar
+     * @param page Número de página (0-indexed)
+     * @param size Tamaño de la página
+     * @param sortBy Campo por el cual ordenar
+     * @param sortDir Dirección de ordenamiento (asc o desc)
+     * @param fields Campos a leer; los demás pueden quedar a null
+     * @return Futuro con la respuesta paginada de los clientes filtrados
+     */
+    CompletableFuture<PageResponse<Cliente>> findClientesByFilter(ClienteFilter filter, int page, int size,
+            String sortBy, String sortDir, Set<ClienteField> fields);
+
+    /**
+     * Exporta todos los clientes para generar un CSV
+     *
+     * @return Futuro con la lista de todos los clientes
+     */
+    CompletableFuture<List<Cliente>> exportClientesToCsv();
+
+    /**
+     * Obtiene los clientes creados o modificados después del token indicado
+     *
+     * @param token Token opaco devuelto por la consulta anterior (nulo para empezar desde el inicio)
+     * @param limit Número máximo de clientes a retornar
+     * @return Futuro con el lote de cambios; falla con IllegalArgumentException
+     *         si el token o el límite no son válidos
+     */
+    CompletableFuture<ChangeFeedResponse<Cliente>> findChangesSince(String token, int limit);
+}
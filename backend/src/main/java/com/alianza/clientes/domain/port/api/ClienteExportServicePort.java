@@ -0,0 +1,39 @@
+package com.alianza.clientes.domain.port.api;
+
+import com.alianza.clientes.domain.model.ExportStatus;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Puerto de entrada (API) de las exportaciones de clientes en segundo plano:
+ * el fichero se genera en disco local y se descarga cuando está completo.
+ * Este puerto es implementado por la capa de aplicación y utilizado por los adaptadores primarios (controladores).
+ */
+public interface ClienteExportServicePort {
+
+    /**
+     * Inicia una exportación de todos los clientes. Si ya hay una en curso,
+     * retorna esa en lugar de iniciar otra
+     * 
+     * @return Estado de la exportación, con su identificador
+     */
+    ExportStatus startExport();
+
+    /**
+     * Consulta el estado de una exportación
+     * 
+     * @param exportId Identificador retornado al iniciarla
+     * @return Estado de la exportación, o vacío si no existe o ya expiró
+     */
+    Optional<ExportStatus> findExport(String exportId);
+
+    /**
+     * Obtiene el fichero de una exportación terminada
+     * 
+     * @param exportId Identificador de la exportación
+     * @return Ruta del fichero, o vacío si la exportación no existe o no ha
+     *         terminado correctamente
+     */
+    Optional<Path> findExportFile(String exportId);
+}
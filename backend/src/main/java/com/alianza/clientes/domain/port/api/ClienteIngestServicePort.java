@@ -0,0 +1,34 @@
+package com.alianza.clientes.domain.port.api;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.IngestStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de entrada (API) de la ingesta asíncrona de clientes: las altas se
+ * aceptan en cuanto quedan en disco y se guardan después por lotes.
+ * Este puerto es implementado por la capa de aplicación y utilizado por los adaptadores primarios (controladores).
+ */
+public interface ClienteIngestServicePort {
+
+    /**
+     * Acepta un lote de clientes nuevos para guardarlos de forma asíncrona
+     * 
+     * @param clientes Clientes a crear, todos con sharedKey
+     * @return Estado inicial del lote, con su identificador de seguimiento
+     * @throws IllegalArgumentException si el lote está vacío, es demasiado
+     *                                  grande, algún cliente no tiene sharedKey
+     *                                  o algún sharedKey ya existe o se repite
+     */
+    IngestStatus submit(List<Cliente> clientes);
+
+    /**
+     * Consulta el estado de un lote
+     * 
+     * @param trackingId Identificador de seguimiento retornado al aceptarlo
+     * @return Estado del lote, o vacío si no existe o ya expiró
+     */
+    Optional<IngestStatus> findStatus(String trackingId);
+}
@@ -1,10 +1,13 @@
 package com.alianza.clientes.domain.port.api;
 
+import com.alianza.clientes.domain.model.ChangeFeedResponse;
 import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
 import com.alianza.clientes.domain.model.ClienteFilter;
 import com.alianza.clientes.domain.model.PageResponse;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Puerto de entrada (API) que define las operaciones disponibles para la gestión de clientes.
@@ -30,6 +33,16 @@ public interface ClienteServicePort {
      */
     Cliente findBySharedKey(String sharedKey);
 
+    /**
+     * Busca los clientes de varios sharedKeys con una sola consulta
+     * 
+     * @param sharedKeys Claves compartidas a buscar; los repetidos se ignoran
+     * @return Clientes encontrados, en el orden de la primera aparición de su
+     *         clave; las claves sin cliente no aparecen
+     * @throws IllegalArgumentException si no hay claves o hay más de las admitidas
+     */
+    List<Cliente> findBySharedKeys(List<String> sharedKeys);
+
     /**
      * Obtiene todos los clientes con paginación
      * 
@@ -53,10 +66,46 @@ public interface ClienteServicePort {
      */
     PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy, String sortDir);
 
+    /**
+     * Obtiene todos los clientes con paginación, con solo los campos indicados
+     * 
+     * @param page Número de página (0-indexed)
+     * @param size Tamaño de la página
+     * @param sortBy Campo por el cual ordenar
+     * @param sortDir Dirección de ordenamiento (asc o desc)
+     * @param fields Campos a leer; los demás pueden quedar a null
+     * @return Respuesta paginada con los clientes
+     */
+    PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir, Set<ClienteField> fields);
+
+    /**
+     * Busca clientes aplicando filtros con paginación, con solo los campos indicados
+     * 
+     * @param filter Filtros a aplicar
+     * @param page Número de página (0-indexed)
+     * @param size Tamaño de la página
+     * @param sortBy Campo por el cual ordenar
+     * @param sortDir Dirección de ordenamiento (asc o desc)
+     * @param fields Campos a leer; los demás pueden quedar a null
+     * @return Respuesta paginada con los clientes filtrados
+     */
+    PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields);
+
     /**
      * Exporta todos los clientes para generar un CSV
      * 
      * @return Lista de todos los clientes
      */
     List<Cliente> exportClientesToCsv();
+
+    /**
+     * Obtiene los clientes creados o modificados después del token indicado
+     * 
+     * @param token Token opaco devuelto por la consulta anterior (nulo para empezar desde el inicio)
+     * @param limit Número máximo de clientes a retornar
+     * @return Lote de cambios con el token para continuar la sincronización
+     * @throws IllegalArgumentException si el token o el límite no son válidos
+     */
+    ChangeFeedResponse<Cliente> findChangesSince(String token, int limit);
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.alianza.clientes.domain.port.spi;
+
+import com.alianza.clientes.domain.model.ClienteEvent;
+
+/**
+ * Puerto de salida (SPI) para publicar eventos de clientes a los interesados
+ * (suscriptores en tiempo real, vistas derivadas, etc.).
+ * Este puerto es implementado por los adaptadores secundarios y utilizado por
+ * la capa de aplicación.
+ */
+public interface ClienteEventPublisherPort {
+
+    /**
+     * Publica un evento de cliente. La implementación no debe bloquear al
+     * llamador esperando a los consumidores.
+     * 
+     * @param event Evento a publicar
+     */
+    void publish(ClienteEvent event);
+}
@@ -0,0 +1,52 @@
+package com.alianza.clientes.domain.port.spi;
+
+import java.io.Writer;
+import java.nio.file.Path;
+
+/**
+ * Puerto de salida (SPI) del almacenamiento de los ficheros de las
+ * exportaciones en segundo plano: cada exportación se escribe en un fichero
+ * parcial que solo pasa a ser descargable, completo, al publicarlo.
+ * Este puerto es implementado por los adaptadores secundarios y utilizado por
+ * la capa de aplicación.
+ */
+public interface ClienteExportStoragePort {
+
+    /**
+     * Prepara el almacenamiento y borra los ficheros que quedaron de una
+     * ejecución anterior
+     */
+    void initialize();
+
+    /**
+     * Abre el fichero parcial de una exportación
+     * 
+     * @param exportId Identificador de la exportación
+     * @return Escritor del fichero parcial; el llamador lo cierra
+     */
+    Writer open(String exportId);
+
+    /**
+     * Publica el fichero parcial de una exportación, ya cerrado, como
+     * fichero completo
+     * 
+     * @param exportId Identificador de la exportación
+     * @return Tamaño del fichero en bytes
+     */
+    long publish(String exportId);
+
+    /**
+     * Borra los ficheros de una exportación, parcial o completo, si existen
+     * 
+     * @param exportId Identificador de la exportación
+     */
+    void delete(String exportId);
+
+    /**
+     * Ubicación del fichero completo de una exportación publicada
+     * 
+     * @param exportId Identificador de la exportación
+     * @return Ruta del fichero
+     */
+    Path location(String exportId);
+}
@@ -0,0 +1,36 @@
+package com.alianza.clientes.domain.port.spi;
+
+import com.alianza.clientes.domain.model.ClienteIngest;
+
+import java.util.List;
+
+/**
+ * Puerto de salida (SPI) del registro de escritura anticipada de la ingesta
+ * asíncrona: un lote solo se confirma al cliente cuando está en este registro,
+ * y los lotes no completados se vuelven a procesar tras un reinicio.
+ * Este puerto es implementado por los adaptadores secundarios y utilizado por
+ * la capa de aplicación.
+ */
+public interface ClienteIngestJournalPort {
+
+    /**
+     * Registra un lote aceptado; retorna cuando está en disco
+     * 
+     * @param ingest Lote aceptado
+     */
+    void append(ClienteIngest ingest);
+
+    /**
+     * Marca un lote como procesado, para no volver a procesarlo
+     * 
+     * @param trackingId Identificador de seguimiento del lote
+     */
+    void markCompleted(String trackingId);
+
+    /**
+     * Lotes registrados y no marcados como procesados, en orden de llegada
+     * 
+     * @return Lotes pendientes
+     */
+    List<ClienteIngest> pending();
+}
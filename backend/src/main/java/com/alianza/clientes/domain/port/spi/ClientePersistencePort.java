@@ -1,11 +1,14 @@
 package com.alianza.clientes.domain.port.spi;
 
 import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
 import com.alianza.clientes.domain.model.ClienteFilter;
 import com.alianza.clientes.domain.model.PageResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Puerto de salida (SPI) que define las operaciones de persistencia para
@@ -23,6 +26,15 @@ public interface ClientePersistencePort {
      */
     Cliente saveCliente(Cliente cliente);
 
+    /**
+     * Guarda varios clientes en una sola transacción: o se guardan todos o
+     * ninguno
+     * 
+     * @param clientes Los clientes a guardar
+     * @return Los clientes guardados con su ID asignado, en el mismo orden
+     */
+    List<Cliente> saveClientes(List<Cliente> clientes);
+
     /**
      * Busca un cliente por su sharedKey
      * 
@@ -31,6 +43,15 @@ public interface ClientePersistencePort {
      */
     Optional<Cliente> findBySharedKey(String sharedKey);
 
+    /**
+     * Busca los clientes de varios sharedKeys en una sola consulta
+     * 
+     * @param sharedKeys Claves compartidas a buscar, sin repetidos
+     * @return Clientes encontrados, en cualquier orden; las claves sin cliente
+     *         no aparecen
+     */
+    List<Cliente> findBySharedKeys(Collection<String> sharedKeys);
+
     /**
      * Verifica si existe un cliente con el sharedKey proporcionado
      * 
@@ -62,6 +83,36 @@ public interface ClientePersistencePort {
      */
     PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy, String sortDir);
 
+    /**
+     * Obtiene una página de clientes leyendo solo los campos indicados. Los
+     * campos no pedidos quedan a null; un adaptador puede devolverlos igualmente
+     * si leerlos no le cuesta nada.
+     * 
+     * @param page    Número de página (0-indexed)
+     * @param size    Tamaño de la página
+     * @param sortBy  Campo por el cual ordenar
+     * @param sortDir Dirección de ordenamiento (asc o desc)
+     * @param fields  Campos a leer
+     * @return Respuesta paginada con los clientes
+     */
+    PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields);
+
+    /**
+     * Busca clientes aplicando filtros con paginación y leyendo solo los campos
+     * indicados (ver {@link #findAllClientes(int, int, String, String, Set)})
+     * 
+     * @param filter  Filtros a aplicar
+     * @param page    Número de página (0-indexed)
+     * @param size    Tamaño de la página
+     * @param sortBy  Campo por el cual ordenar
+     * @param sortDir Dirección de ordenamiento (asc o desc)
+     * @param fields  Campos a leer
+     * @return Respuesta paginada con los clientes filtrados
+     */
+    PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields);
+
     /**
      * Obtiene todos los clientes
      * 
@@ -75,4 +126,35 @@ public interface ClientePersistencePort {
      * @return Cliente con el mayor ID si existe.
      */
     Optional<Cliente> findTopByOrderByIdDesc();
-}
\ No newline at end of file
+
+    /**
+     * Obtiene los clientes modificados después de la posición (changeSeq, id)
+     * indicada, ordenados por posición de cambio e id (paginación por keyset).
+     * Una escritura que todavía no es visible nunca puede quedar por detrás de
+     * un cliente ya devuelto: el adaptador retiene los clientes posteriores
+     * hasta que lo sea.
+     * 
+     * @param changeSeq Posición de cambio del último cliente ya entregado
+     * @param id        Id del último cliente ya entregado
+     * @param limit     Número máximo de clientes a retornar
+     * @return Lista de clientes modificados después de la posición
+     */
+    List<Cliente> findChangesSince(long changeSeq, Long id, int limit);
+
+    /**
+     * Obtiene los clientes con id mayor que el indicado, ordenados por id
+     * (paginación por keyset, sin OFFSET)
+     * 
+     * @param id    Id del último cliente ya entregado, o 0 para empezar
+     * @param limit Número máximo de clientes a retornar
+     * @return Lista de clientes ordenada por id
+     */
+    List<Cliente> findClientesAfterId(Long id, int limit);
+
+    /**
+     * Cuenta los clientes registrados
+     * 
+     * @return Número de clientes
+     */
+    long countClientes();
+}
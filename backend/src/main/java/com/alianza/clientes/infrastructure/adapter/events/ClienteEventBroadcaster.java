@@ -0,0 +1,236 @@
+package com.alianza.clientes.infrastructure.adapter.events;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.alianza.clientes.domain.model.ClienteEvent;
+import com.alianza.clientes.domain.port.spi.ClienteEventPublisherPort;
+import com.alianza.clientes.infrastructure.adapter.rest.converters.ClienteConverter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adaptador que implementa ClienteEventPublisherPort repartiendo los eventos de
+ * clientes a los suscriptores conectados por Server-Sent Events.
+ * <p>
+ * Una conexión inactiva solo ocupa su SseEmitter (la petición queda en modo
+ * asíncrono, sin hilo asociado). Cada suscriptor tiene un buffer acotado: la
+ * publicación nunca bloquea y, si el buffer de un suscriptor se llena porque
+ * no consume a tiempo, la conexión se cierra y el cliente debe reconectar y
+ * recargar su vista. Unos pocos hilos de despacho vacían los buffers.
+ */
+@Slf4j
+@Component
+public class ClienteEventBroadcaster implements ClienteEventPublisherPort {
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Supplier<SseEmitter> emitters;
+
+    @Autowired
+    public ClienteEventBroadcaster(
+            @Value("${clientes.events.buffer-size:256}") int bufferSize,
+            @Value("${clientes.events.max-subscribers:10000}") int maxSubscribers,
+            @Value("${clientes.events.timeout-ms:1800000}") long timeoutMs,
+            @Value("${clientes.events.heartbeat-interval-ms:30000}") long heartbeatIntervalMs,
+            @Value("${clientes.events.dispatcher-threads:4}") int dispatcherThreads) {
+        this(bufferSize, maxSubscribers, heartbeatIntervalMs, dispatcherThreads, () -> new SseEmitter(timeoutMs));
+    }
+
+    ClienteEventBroadcaster(int bufferSize, int maxSubscribers, long heartbeatIntervalMs, int dispatcherThreads,
+            Supplier<SseEmitter> emitters) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.emitters = emitters;
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, daemonThreads("clientes-sse-dispatch"));
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("clientes-sse-heartbeat"));
+        this.heartbeatScheduler.scheduleAtFixedRate(() -> enqueueToAll(HEARTBEAT),
+                heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Registra un nuevo suscriptor
+     * 
+     * @return Emisor SSE de la conexión, o vacío si se alcanzó el máximo de suscriptores
+     */
+    public Optional<SseEmitter> subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            log.warn("Suscripción SSE rechazada: se alcanzó el máximo de {} suscriptores", maxSubscribers);
+            return Optional.empty();
+        }
+        long id = subscriberIds.incrementAndGet();
+        SseEmitter emitter = emitters.get();
+        Subscriber subscriber = new Subscriber(id, emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(id));
+        emitter.onTimeout(() -> subscribers.remove(id));
+        emitter.onError(e -> subscribers.remove(id));
+        subscribers.put(id, subscriber);
+        log.debug("Suscriptor SSE {} registrado ({} activos)", id, subscribers.size());
+        return Optional.of(emitter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(ClienteEvent event) {
+        if (!subscribers.isEmpty()) {
+            // El id se asigna una sola vez: todos los suscriptores ven el mismo id para el mismo evento
+            enqueueToAll(new Delivery(eventIds.incrementAndGet(), event));
+        }
+    }
+
+    /**
+     * @return Número de suscriptores conectados
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * @return Número de suscriptores desconectados por no consumir a tiempo
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    private void enqueueToAll(Object item) {
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.queue.offer(item)) {
+                scheduleDrain(subscriber);
+            } else {
+                evict(subscriber, "buffer lleno");
+            }
+        }
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Object item;
+            while ((item = subscriber.queue.poll()) != null) {
+                send(subscriber, item);
+            }
+        } catch (IOException | IllegalStateException e) {
+            evict(subscriber, "conexión cerrada");
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // Un evento encolado justo después del último poll quedaría sin despacho
+        if (!subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, Object item) throws IOException {
+        if (item == HEARTBEAT) {
+            subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            return;
+        }
+        Delivery delivery = (Delivery) item;
+        subscriber.emitter.send(SseEmitter.event()
+                .id(Long.toString(delivery.id))
+                .name(delivery.event.getType().name().toLowerCase())
+                .data(ClienteConverter.toDTO(delivery.event.getCliente()), MediaType.APPLICATION_JSON));
+    }
+
+    private void evict(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber.id) != null) {
+            evictions.incrementAndGet();
+            subscriber.queue.clear();
+            log.debug("Suscriptor SSE {} desconectado: {}", subscriber.id, reason);
+            try {
+                subscriber.emitter.complete();
+            } catch (RuntimeException e) {
+                log.trace("Error al cerrar suscriptor SSE {}", subscriber.id, e);
+            }
+        }
+    }
+
+    /**
+     * Cierra las conexiones abiertas y detiene los hilos de despacho
+     */
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicLong counter = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Evento publicado junto con el id SSE que se le asignó al publicarlo
+     */
+    private static final class Delivery {
+        private final long id;
+        private final ClienteEvent event;
+
+        private Delivery(long id, ClienteEvent event) {
+            this.id = id;
+            this.event = event;
+        }
+    }
+
+    /**
+     * Suscriptor conectado con su buffer de eventos pendientes
+     */
+    private static final class Subscriber {
+        private final long id;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(long id, SseEmitter emitter, BlockingQueue<Object> queue) {
+            this.id = id;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
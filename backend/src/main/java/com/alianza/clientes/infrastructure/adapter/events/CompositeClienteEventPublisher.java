@@ -0,0 +1,36 @@
+package com.alianza.clientes.infrastructure.adapter.events;
+
+import java.util.List;
+
+import com.alianza.clientes.domain.model.ClienteEvent;
+import com.alianza.clientes.domain.port.spi.ClienteEventPublisherPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publicador que reparte cada evento entre todos los adaptadores registrados.
+ * El fallo de un adaptador se registra y no impide la entrega a los demás.
+ */
+@Slf4j
+public class CompositeClienteEventPublisher implements ClienteEventPublisherPort {
+
+    private final List<ClienteEventPublisherPort> publishers;
+
+    public CompositeClienteEventPublisher(List<ClienteEventPublisherPort> publishers) {
+        this.publishers = List.copyOf(publishers);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(ClienteEvent event) {
+        for (ClienteEventPublisherPort publisher : publishers) {
+            try {
+                publisher.publish(event);
+            } catch (RuntimeException e) {
+                log.error("Error al publicar evento {} en {}", event.getType(), publisher.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.alianza.clientes.infrastructure.adapter.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteEvent;
+import com.alianza.clientes.domain.model.ClienteEventType;
+import com.alianza.clientes.domain.port.spi.ClienteEventPublisherPort;
+import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+import com.alianza.clientes.infrastructure.adapter.rest.constants.RestConstants;
+import com.alianza.clientes.infrastructure.adapter.rest.converters.ClienteConverter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adaptador que implementa ClienteEventPublisherPort manteniendo en disco el
+ * CSV de exportación de todos los clientes, para servir
+ * {@code GET /clientes/export/csv} sin consultar la base de datos.
+ * <p>
+ * Cada alta añade su línea al final del fichero vigente. Una modificación no
+ * se puede aplicar en el sitio, así que solo marca el fichero como
+ * desactualizado: cada {@code rebuild-interval-ms}, si hubo modificaciones o el
+ * fichero tiene más de {@code max-age-ms} (para recoger cambios hechos por
+ * otras instancias), se genera una nueva versión leyendo la tabla por lotes en
+ * orden de id y se sustituye a la anterior. Las altas que llegan durante la
+ * reconstrucción y que la lectura no llegó a ver se añaden a la versión nueva.
+ * <p>
+ * Cada versión es un fichero distinto; la anterior se conserva hasta la
+ * siguiente reconstrucción para que las descargas en curso la terminen. Solo
+ * se sirve la longitud ya escrita por completo ({@link Snapshot#length()}),
+ * así que una descarga nunca incluye una línea a medias.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "clientes.export.snapshot.enabled", havingValue = "true")
+public class ClienteCsvSnapshot implements ClienteEventPublisherPort {
+
+    private static final String PREFIX = "clientes-";
+    private static final String EXTENSION = ".csv";
+    private static final int WRITE_BUFFER = 64 * 1024;
+
+    private final ClientePersistencePort clientePersistencePort;
+    private final Path directory;
+    private final int pageSize;
+    private final long rebuildIntervalMs;
+    private final long maxAgeMs;
+    private final ScheduledExecutorService scheduler;
+    private final Object rebuildLock = new Object();
+
+    private FileChannel channel;
+    private Snapshot current;
+    private Path previous;
+    private long generation;
+    private long builtAt;
+    private boolean stale;
+    private List<Cliente> createdDuringRebuild;
+
+    public ClienteCsvSnapshot(ClientePersistencePort clientePersistencePort,
+            @Value("${clientes.export.snapshot.dir:./data/snapshot}") String directory,
+            @Value("${clientes.export.page-size:5000}") int pageSize,
+            @Value("${clientes.export.snapshot.rebuild-interval-ms:300000}") long rebuildIntervalMs,
+            @Value("${clientes.export.snapshot.max-age-ms:3600000}") long maxAgeMs) {
+        this.clientePersistencePort = clientePersistencePort;
+        this.directory = Path.of(directory);
+        this.pageSize = pageSize;
+        this.rebuildIntervalMs = rebuildIntervalMs;
+        this.maxAgeMs = maxAgeMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "clientes-csv-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Borra las versiones de una ejecución anterior y programa la primera
+     * generación y las reconstrucciones periódicas
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+        synchronized (this) {
+            createdDuringRebuild = new ArrayList<>();
+        }
+        scheduler.execute(this::rebuildQuietly);
+        scheduler.scheduleWithFixedDelay(this::rebuildIfNeeded, rebuildIntervalMs, rebuildIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Detiene las reconstrucciones y cierra el fichero vigente
+     */
+    @PreDestroy
+    public synchronized void stop() throws IOException {
+        scheduler.shutdownNow();
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * @return Versión vigente del CSV, o vacío mientras se genera la primera
+     */
+    public synchronized Optional<Snapshot> current() {
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void publish(ClienteEvent event) {
+        if (event.getType() != ClienteEventType.CREATED) {
+            stale = true;
+            return;
+        }
+        if (createdDuringRebuild != null) {
+            createdDuringRebuild.add(event.getCliente());
+        }
+        if (channel != null) {
+            try {
+                append(event.getCliente());
+            } catch (IOException e) {
+                log.error("Error al añadir el cliente {} al CSV; se regenerará", event.getCliente().getSharedKey(), e);
+                stale = true;
+            }
+        }
+    }
+
+    /**
+     * Genera una versión nueva del CSV desde la base de datos y la publica
+     */
+    public void rebuild() throws IOException {
+        synchronized (rebuildLock) {
+            doRebuild();
+        }
+    }
+
+    private void doRebuild() throws IOException {
+        synchronized (this) {
+            createdDuringRebuild = new ArrayList<>();
+            stale = false;
+        }
+        long startedAt = System.nanoTime();
+        Path file;
+        synchronized (this) {
+            file = directory.resolve(PREFIX + (generation + 1) + EXTENSION);
+        }
+        BitSet written = new BitSet();
+        long lastId = 0;
+        long rows = 0;
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), WRITE_BUFFER)) {
+            writer.write(RestConstants.HEADERS_CSV_CLIENT);
+            List<Cliente> page;
+            do {
+                page = clientePersistencePort.findClientesAfterId(lastId, pageSize);
+                for (Cliente cliente : page) {
+                    writer.write(ClienteConverter.toCsvRow(cliente));
+                    if (cliente.getId() <= Integer.MAX_VALUE) {
+                        written.set(cliente.getId().intValue());
+                    }
+                }
+                if (!page.isEmpty()) {
+                    lastId = page.get(page.size() - 1).getId();
+                }
+                rows += page.size();
+            } while (page.size() == pageSize);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            synchronized (this) {
+                createdDuringRebuild = null;
+                stale = true;
+            }
+            throw e;
+        }
+
+        Path obsolete;
+        synchronized (this) {
+            FileChannel next = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            FileChannel replaced = channel;
+            Path replacedFile = current != null ? current.file() : null;
+            channel = next;
+            generation++;
+            current = new Snapshot(file, next.size(), generation);
+            for (Cliente cliente : createdDuringRebuild) {
+                long id = cliente.getId();
+                boolean seen = id <= Integer.MAX_VALUE ? written.get((int) id) : id <= lastId;
+                if (!seen) {
+                    append(cliente);
+                    rows++;
+                }
+            }
+            createdDuringRebuild = null;
+            builtAt = System.nanoTime();
+            obsolete = previous;
+            previous = replacedFile;
+            if (replaced != null) {
+                replaced.close();
+            }
+        }
+        if (obsolete != null) {
+            Files.deleteIfExists(obsolete);
+        }
+        log.info("CSV de exportación regenerado: {} clientes, {} bytes en {} ms", rows, current().get().length(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private void rebuildIfNeeded() {
+        boolean needed;
+        synchronized (this) {
+            needed = stale || current == null
+                    || System.nanoTime() - builtAt >= TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+        }
+        if (needed) {
+            rebuildQuietly();
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (IOException | RuntimeException e) {
+            log.error("Error al regenerar el CSV de exportación", e);
+        }
+    }
+
+    /**
+     * Escribe la línea completa del cliente y solo entonces amplía la longitud
+     * servida. Requiere el monitor
+     */
+    private void append(Cliente cliente) throws IOException {
+        ByteBuffer row = ByteBuffer.wrap(ClienteConverter.toCsvRow(cliente).getBytes(StandardCharsets.UTF_8));
+        while (row.hasRemaining()) {
+            channel.write(row);
+        }
+        current = new Snapshot(current.file(), current.length() + row.capacity(), current.generation());
+    }
+
+    /**
+     * Versión del CSV que se puede servir: los primeros {@code length} bytes de
+     * {@code file} son líneas completas
+     */
+    public record Snapshot(Path file, long length, long generation) {
+    }
+}
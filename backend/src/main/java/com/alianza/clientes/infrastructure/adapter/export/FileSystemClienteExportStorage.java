@@ -0,0 +1,112 @@
+package com.alianza.clientes.infrastructure.adapter.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import com.alianza.clientes.domain.port.spi.ClienteExportStoragePort;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adaptador que implementa ClienteExportStoragePort en un directorio local:
+ * cada exportación se escribe en {@code <id>.csv.part} y se renombra de forma
+ * atómica a {@code <id>.csv} al publicarla, así que un fichero descargable
+ * siempre está completo.
+ */
+@Slf4j
+public class FileSystemClienteExportStorage implements ClienteExportStoragePort {
+
+    private static final String EXTENSION = ".csv";
+    private static final String PARTIAL_EXTENSION = ".csv.part";
+    private static final int WRITE_BUFFER = 64 * 1024;
+
+    private final Path directory;
+
+    /**
+     * @param directory Directorio de los ficheros exportados
+     */
+    public FileSystemClienteExportStorage(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initialize() {
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION + "*")) {
+                for (Path file : files) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo preparar el directorio de exportaciones " + directory, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Writer open(String exportId) {
+        try {
+            return new BufferedWriter(new OutputStreamWriter(
+                    Files.newOutputStream(file(exportId, PARTIAL_EXTENSION)), StandardCharsets.UTF_8), WRITE_BUFFER);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear el fichero de la exportación " + exportId, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long publish(String exportId) {
+        Path target = file(exportId, EXTENSION);
+        try {
+            Files.move(file(exportId, PARTIAL_EXTENSION), target, StandardCopyOption.ATOMIC_MOVE);
+            return Files.size(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo publicar el fichero de la exportación " + exportId, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(String exportId) {
+        deleteQuietly(file(exportId, PARTIAL_EXTENSION));
+        deleteQuietly(file(exportId, EXTENSION));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Path location(String exportId) {
+        return file(exportId, EXTENSION);
+    }
+
+    private Path file(String exportId, String extension) {
+        return directory.resolve(exportId + extension);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("No se pudo borrar {}", file, e);
+        }
+    }
+}
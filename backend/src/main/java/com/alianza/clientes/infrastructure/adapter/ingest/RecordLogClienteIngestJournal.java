@@ -0,0 +1,199 @@
+package com.alianza.clientes.infrastructure.adapter.ingest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteIngest;
+import com.alianza.clientes.domain.port.spi.ClienteIngestJournalPort;
+import com.alianza.clientes.infrastructure.storage.ClienteRecordCodec;
+import com.alianza.clientes.infrastructure.storage.RecordLog;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adaptador que implementa ClienteIngestJournalPort sobre un
+ * {@link RecordLog}: cada lote aceptado es un registro con sus clientes, y
+ * cada lote procesado un registro con su identificador. {@link #append}
+ * espera al fsync del grupo, de modo que las peticiones concurrentes comparten
+ * el coste de la sincronización.
+ * <p>
+ * Los segmentos completos se eliminan, del más antiguo al más reciente,
+ * cuando ya no contienen lotes pendientes; como las marcas de procesado
+ * siempre son posteriores a su lote, un segmento eliminado nunca deja un lote
+ * procesado sin su marca.
+ */
+@Slf4j
+public class RecordLogClienteIngestJournal implements ClienteIngestJournalPort, AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "ingest";
+    private static final byte ACCEPTED = 1;
+    private static final byte COMPLETED = 2;
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+    private final RecordLog recordLog;
+    private final Map<String, ClienteIngest> recovered = new LinkedHashMap<>();
+    /**
+     * Segmento de cada lote pendiente y lotes pendientes por segmento
+     */
+    private final Map<String, Long> segmentByTrackingId = new HashMap<>();
+    private final Map<Long, Integer> pendingBySegment = new HashMap<>();
+
+    /**
+     * @param directory    Directorio de los segmentos
+     * @param segmentSize  Tamaño de cada segmento en bytes
+     * @param syncInterval Intervalo máximo entre fsync con datos pendientes
+     */
+    public RecordLogClienteIngestJournal(Path directory, int segmentSize, Duration syncInterval) {
+        try {
+            this.recordLog = RecordLog.open(directory, SEGMENT_PREFIX, segmentSize, syncInterval, (segmentId,
+                    payload) -> replay(segmentId, payload));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el registro de ingesta en " + directory, e);
+        }
+        log.info("Registro de ingesta abierto en {}: {} lotes pendientes", directory, recovered.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void append(ClienteIngest ingest) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + 96 * ingest.getClientes().size());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(ACCEPTED);
+            out.writeUTF(ingest.getTrackingId());
+            out.writeLong(ChronoUnit.MICROS.between(EPOCH, ingest.getAcceptedAt()));
+            out.writeInt(ingest.getClientes().size());
+            for (Cliente cliente : ingest.getClientes()) {
+                ClienteRecordCodec.write(out, cliente);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long lsn;
+        synchronized (this) {
+            lsn = recordLog.append(bytes.toByteArray());
+            track(ingest.getTrackingId(), RecordLog.segmentOf(lsn));
+        }
+        try {
+            recordLog.awaitDurable(lsn);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo sincronizar el registro de ingesta", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * No espera al fsync: si la marca se pierde en una caída, el lote se
+     * reprocesa y sus clientes, ya guardados, se reconocen por su sharedKey.
+     */
+    @Override
+    public void markCompleted(String trackingId) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(48);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(COMPLETED);
+            out.writeUTF(trackingId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<Long> removable;
+        synchronized (this) {
+            recordLog.append(bytes.toByteArray());
+            Long segmentId = segmentByTrackingId.remove(trackingId);
+            if (segmentId != null) {
+                pendingBySegment.merge(segmentId, -1, Integer::sum);
+            }
+            removable = removableSegments();
+        }
+        for (long segmentId : removable) {
+            try {
+                recordLog.deleteSegment(segmentId);
+            } catch (IOException e) {
+                log.warn("No se pudo eliminar el segmento {} del registro de ingesta", segmentId, e);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized List<ClienteIngest> pending() {
+        List<ClienteIngest> pending = new ArrayList<>(recovered.values());
+        recovered.clear();
+        return pending;
+    }
+
+    /**
+     * Sincroniza lo pendiente y cierra el registro
+     */
+    @Override
+    public void close() throws IOException {
+        recordLog.close();
+    }
+
+    private void replay(long segmentId, ByteBuffer payload) {
+        try (DataInputStream in = ClienteRecordCodec.input(payload)) {
+            byte type = in.readByte();
+            String trackingId = in.readUTF();
+            if (type == ACCEPTED) {
+                LocalDateTime acceptedAt = EPOCH.plus(in.readLong(), ChronoUnit.MICROS);
+                int count = in.readInt();
+                List<Cliente> clientes = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    clientes.add(ClienteRecordCodec.read(in));
+                }
+                recovered.put(trackingId, ClienteIngest.builder()
+                        .trackingId(trackingId)
+                        .clientes(clientes)
+                        .acceptedAt(acceptedAt)
+                        .build());
+                track(trackingId, segmentId);
+            } else if (type == COMPLETED) {
+                recovered.remove(trackingId);
+                Long accepted = segmentByTrackingId.remove(trackingId);
+                if (accepted != null) {
+                    pendingBySegment.merge(accepted, -1, Integer::sum);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Registro de ingesta ilegible", e);
+        }
+    }
+
+    private void track(String trackingId, long segmentId) {
+        segmentByTrackingId.put(trackingId, segmentId);
+        pendingBySegment.merge(segmentId, 1, Integer::sum);
+    }
+
+    /**
+     * Prefijo de segmentos completos sin lotes pendientes
+     */
+    private List<Long> removableSegments() {
+        List<Long> removable = new ArrayList<>();
+        for (long segmentId : recordLog.sealedSegments()) {
+            if (pendingBySegment.getOrDefault(segmentId, 0) > 0) {
+                break;
+            }
+            pendingBySegment.remove(segmentId);
+            removable.add(segmentId);
+        }
+        return removable;
+    }
+}
@@ -0,0 +1,372 @@
+package com.alianza.clientes.infrastructure.adapter.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+import com.alianza.clientes.infrastructure.adapter.memory.InMemoryClientePersistenceAdapter;
+import com.alianza.clientes.infrastructure.storage.ClienteRecordCodec;
+import com.alianza.clientes.infrastructure.storage.RecordLog;
+import com.alianza.clientes.infrastructure.config.HexagonalConfig;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adaptador de persistencia sin base de datos para instalaciones edge (perfil
+ * {@code log}): cada cliente guardado se escribe completo al final de un
+ * {@link RecordLog} en ficheros mapeados en memoria, y las consultas se
+ * resuelven con los índices de {@link InMemoryClientePersistenceAdapter}.
+ * <p>
+ * Al arrancar se reproduce el log en orden para reconstruir los índices; la
+ * última versión de cada cliente gana. El registro se escribe dentro del lock
+ * de escritura del almacén, antes de que el cliente sea visible, y
+ * {@link #saveCliente(Cliente)} retorna cuando el fsync del grupo lo cubre
+ * (con {@code clientes.log.fsync=interval} no espera, y una caída puede perder
+ * el último intervalo).
+ * <p>
+ * Compactación en segundo plano: cuando la fracción de registros vigentes de
+ * un segmento completo baja del umbral, sus registros vigentes se copian al
+ * final del log y el segmento se elimina.
+ */
+@Slf4j
+@Component
+@Qualifier(HexagonalConfig.ADAPTER)
+@Profile("log")
+public class LogClientePersistenceAdapter implements ClientePersistencePort {
+
+    private static final String SEGMENT_PREFIX = "clientes";
+    private static final int COMPACTION_BATCH = 1000;
+
+    private final InMemoryClientePersistenceAdapter store;
+    private final RecordLog recordLog;
+    private final boolean waitForSync;
+    private final double compactionThreshold;
+    private final ScheduledExecutorService compactor;
+
+    /**
+     * Segmento con la versión vigente de cada cliente, por id
+     */
+    private final Map<Long, Long> segmentById = new HashMap<>();
+    /**
+     * Registros totales y vigentes de cada segmento
+     */
+    private final Map<Long, int[]> segmentStats = new HashMap<>();
+    private final ReentrantLock writes = new ReentrantLock();
+    private long lastLsn;
+
+    public LogClientePersistenceAdapter(
+            @Value("${clientes.log.dir:./data/clientes-log}") String directory,
+            @Value("${clientes.log.segment-size:64MB}") DataSize segmentSize,
+            @Value("${clientes.log.fsync:group}") String fsync,
+            @Value("${clientes.log.sync-interval-ms:2}") long syncIntervalMs,
+            @Value("${clientes.log.compaction.interval-ms:60000}") long compactionIntervalMs,
+            @Value("${clientes.log.compaction.threshold:0.5}") double compactionThreshold) {
+        if (!"group".equals(fsync) && !"interval".equals(fsync)) {
+            throw new IllegalArgumentException("clientes.log.fsync debe ser group o interval: " + fsync);
+        }
+        this.waitForSync = "group".equals(fsync);
+        this.compactionThreshold = compactionThreshold;
+        this.store = new InMemoryClientePersistenceAdapter(this::journal);
+        long start = System.nanoTime();
+        try {
+            this.recordLog = RecordLog.open(Path.of(directory), SEGMENT_PREFIX, Math.toIntExact(segmentSize.toBytes()),
+                    Duration.ofMillis(syncIntervalMs), (segmentId, payload) -> {
+                        Cliente cliente = ClienteRecordCodec.decode(payload);
+                        track(cliente.getId(), segmentId);
+                        store.restore(cliente);
+                    });
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el log de clientes en " + directory, e);
+        }
+        log.info("Log de clientes abierto en {}: {} clientes en {} ms", directory, store.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "clientes-log-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.compactor.scheduleWithFixedDelay(this::compactQuietly, compactionIntervalMs, compactionIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cliente saveCliente(Cliente cliente) {
+        Cliente saved;
+        long lsn;
+        writes.lock();
+        try {
+            saved = store.saveCliente(cliente);
+            lsn = lastLsn;
+        } finally {
+            writes.unlock();
+        }
+        awaitDurable(lsn);
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Todo el lote se cubre con un único fsync.
+     */
+    @Override
+    public List<Cliente> saveClientes(List<Cliente> clientes) {
+        List<Cliente> saved;
+        long lsn;
+        writes.lock();
+        try {
+            saved = store.saveClientes(clientes);
+            lsn = lastLsn;
+        } finally {
+            writes.unlock();
+        }
+        awaitDurable(lsn);
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Cliente> findBySharedKey(String sharedKey) {
+        return store.findBySharedKey(sharedKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findBySharedKeys(Collection<String> sharedKeys) {
+        return store.findBySharedKeys(sharedKeys);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsBySharedKey(String sharedKey) {
+        return store.existsBySharedKey(sharedKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir) {
+        return store.findAllClientes(page, size, sortBy, sortDir);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields) {
+        return store.findAllClientes(page, size, sortBy, sortDir, fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir) {
+        return store.findClientesByFilter(filter, page, size, sortBy, sortDir);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir, Set<ClienteField> fields) {
+        return store.findClientesByFilter(filter, page, size, sortBy, sortDir, fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findAllClientes() {
+        return store.findAllClientes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Cliente> findTopByOrderByIdDesc() {
+        return store.findTopByOrderByIdDesc();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findChangesSince(long changeSeq, Long id, int limit) {
+        return store.findChangesSince(changeSeq, id, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findClientesAfterId(Long id, int limit) {
+        return store.findClientesAfterId(id, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countClientes() {
+        return store.countClientes();
+    }
+
+    /**
+     * Compacta los segmentos completos cuya fracción de registros vigentes es
+     * menor o igual al umbral
+     * 
+     * @return Número de segmentos eliminados
+     */
+    public int compact() throws IOException {
+        int compacted = 0;
+        for (long segmentId : recordLog.sealedSegments()) {
+            int[] stats;
+            writes.lock();
+            try {
+                stats = segmentStats.getOrDefault(segmentId, new int[2]).clone();
+            } finally {
+                writes.unlock();
+            }
+            if (stats[0] > 0 && (double) stats[1] / stats[0] > compactionThreshold) {
+                continue;
+            }
+            copyForward(segmentId);
+            recordLog.deleteSegment(segmentId);
+            writes.lock();
+            try {
+                segmentStats.remove(segmentId);
+            } finally {
+                writes.unlock();
+            }
+            compacted++;
+        }
+        if (compacted > 0) {
+            log.info("Compactación del log de clientes: {} segmentos eliminados", compacted);
+        }
+        return compacted;
+    }
+
+    /**
+     * Número de clientes almacenados
+     */
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * Detiene la compactación y sincroniza lo pendiente
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        compactor.shutdownNow();
+        recordLog.close();
+    }
+
+    /**
+     * Copia al final del log los registros vigentes de un segmento, por lotes
+     * para no bloquear las escrituras durante toda la copia, y espera a que
+     * estén en disco antes de que el segmento se pueda eliminar
+     */
+    private void copyForward(long segmentId) throws IOException {
+        List<Long> ids;
+        writes.lock();
+        try {
+            ids = segmentById.entrySet().stream()
+                    .filter(entry -> entry.getValue() == segmentId)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            writes.unlock();
+        }
+        long lsn = 0;
+        for (int from = 0; from < ids.size(); from += COMPACTION_BATCH) {
+            writes.lock();
+            try {
+                for (Long id : ids.subList(from, Math.min(ids.size(), from + COMPACTION_BATCH))) {
+                    // Si se guardó una versión más reciente mientras tanto, ya no está en este segmento
+                    if (segmentById.get(id) == segmentId) {
+                        store.findById(id).ifPresent(this::journal);
+                    }
+                }
+                lsn = lastLsn;
+            } finally {
+                writes.unlock();
+            }
+        }
+        recordLog.awaitDurable(lsn);
+    }
+
+    private void awaitDurable(long lsn) {
+        if (waitForSync) {
+            try {
+                recordLog.awaitDurable(lsn);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo sincronizar el log de clientes", e);
+            }
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Error en la compactación del log de clientes", e);
+        }
+    }
+
+    /**
+     * Escribe un cliente en el log; se invoca con el lock de escrituras tomado
+     */
+    private void journal(Cliente cliente) {
+        lastLsn = recordLog.append(ClienteRecordCodec.encode(cliente));
+        track(cliente.getId(), RecordLog.segmentOf(lastLsn));
+    }
+
+    private void track(Long id, long segmentId) {
+        Long previous = segmentById.put(id, segmentId);
+        if (previous != null) {
+            segmentStats.get(previous)[1]--;
+        }
+        int[] stats = segmentStats.computeIfAbsent(segmentId, key -> new int[2]);
+        stats[0]++;
+        stats[1]++;
+    }
+}
@@ -0,0 +1,19 @@
+package com.alianza.clientes.infrastructure.adapter.memory;
+
+import com.alianza.clientes.domain.model.Cliente;
+
+/**
+ * Receptor de los clientes guardados en {@link InMemoryClientePersistenceAdapter},
+ * invocado dentro del lock de escritura con el id y el instante de modificación
+ * ya asignados. Permite añadir durabilidad al almacén en memoria.
+ */
+@FunctionalInterface
+public interface ClienteJournal {
+
+    /**
+     * Registra un cliente antes de que sea visible en los índices
+     * 
+     * @param cliente Copia del cliente guardado
+     */
+    void append(Cliente cliente);
+}
@@ -0,0 +1,465 @@
+package com.alianza.clientes.infrastructure.adapter.memory;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+import com.alianza.clientes.infrastructure.config.HexagonalConfig;
+
+/**
+ * Adaptador de persistencia en memoria, sin I/O, para despliegues de demo o
+ * edge (perfil {@code memory}) y como línea base en benchmarks.
+ * <p>
+ * Índices:
+ * <ul>
+ * <li>Hash concurrente por sharedKey: las búsquedas y comprobaciones por
+ * sharedKey no toman ningún lock.</li>
+ * <li>Índice ordenado por id y uno por cada campo ordenable (desempate por id),
+ * recorridos en orden para paginar sin ordenar en cada consulta.</li>
+ * <li>Índice ordenado por (changeSeq, id) para el feed de cambios. La posición
+ * de cambio es el instante de modificación en microsegundos, estrictamente
+ * creciente, y cada escritura es visible en cuanto se indexa, así que el
+ * feed no tiene que retener nada.</li>
+ * </ul>
+ * Las escrituras se serializan con el lock de escritura y las lecturas de
+ * páginas toman el de lectura, de modo que una página nunca ve un cliente a
+ * medio actualizar entre índices. Los filtros usan
+ * {@link ClienteFilter#toPredicate()}, con la misma semántica que la consulta
+ * JPA, y la metadata de página sigue a la de Spring Data. Los clientes se
+ * copian al guardar y al leer, así que nadie comparte instancias con el
+ * almacén.
+ * <p>
+ * Un {@link ClienteJournal} opcional recibe cada cliente guardado dentro del
+ * lock de escritura, antes de indexarlo, para que otro adaptador pueda
+ * persistirlo en el mismo orden en que se asignan ids e instantes.
+ */
+@Component
+@Qualifier(HexagonalConfig.ADAPTER)
+@Profile("memory")
+public class InMemoryClientePersistenceAdapter implements ClientePersistencePort {
+
+    private static final Map<String, Function<Cliente, Comparable<?>>> SORT_FIELDS = Map.of(
+            "id", Cliente::getId,
+            "sharedKey", Cliente::getSharedKey,
+            "nombre", Cliente::getNombre,
+            "telefono", Cliente::getTelefono,
+            "email", Cliente::getEmail,
+            "fechaInicio", Cliente::getFechaInicio,
+            "fechaFin", Cliente::getFechaFin,
+            "fechaCreacion", Cliente::getFechaCreacion,
+            "updatedAt", Cliente::getUpdatedAt);
+
+    private static final Comparator<Cliente> BY_CHANGE = Comparator
+            .comparing(Cliente::getChangeSeq)
+            .thenComparing(Cliente::getId);
+
+    private final Map<String, Cliente> bySharedKey = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Cliente> byId = new ConcurrentSkipListMap<>();
+    private final Map<String, NavigableSet<Cliente>> sortIndexes = new ConcurrentHashMap<>();
+    private final NavigableSet<Cliente> byChange = new ConcurrentSkipListSet<>(BY_CHANGE);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final ClienteJournal journal;
+
+    private long lastId;
+    private LocalDateTime lastUpdatedAt = LocalDateTime.MIN;
+
+    public InMemoryClientePersistenceAdapter() {
+        this(cliente -> {
+        });
+    }
+
+    /**
+     * @param journal Receptor de cada cliente guardado, antes de indexarlo; si
+     *                lanza una excepción el cliente no se guarda
+     */
+    public InMemoryClientePersistenceAdapter(ClienteJournal journal) {
+        this.journal = journal;
+        SORT_FIELDS.forEach((field, getter) -> {
+            if (!"id".equals(field)) {
+                sortIndexes.put(field, new ConcurrentSkipListSet<>(comparator(getter)));
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cliente saveCliente(Cliente cliente) {
+        lock.writeLock().lock();
+        try {
+            return save(cliente);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> saveClientes(List<Cliente> clientes) {
+        lock.writeLock().lock();
+        try {
+            // Se validan todos antes de guardar ninguno, para que el lote sea atómico
+            Set<String> batchKeys = new HashSet<>();
+            for (Cliente cliente : clientes) {
+                Cliente owner = bySharedKey.get(cliente.getSharedKey());
+                if (!batchKeys.add(cliente.getSharedKey())
+                        || owner != null && !owner.getId().equals(cliente.getId())) {
+                    throw new DataIntegrityViolationException(
+                            "Ya existe un cliente con el sharedKey: " + cliente.getSharedKey());
+                }
+            }
+            List<Cliente> saved = new ArrayList<>(clientes.size());
+            for (Cliente cliente : clientes) {
+                saved.add(save(cliente));
+            }
+            return saved;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Guarda un cliente; se invoca con el lock de escritura tomado
+     */
+    private Cliente save(Cliente cliente) {
+        Cliente previous = cliente.getId() != null ? byId.get(cliente.getId()) : null;
+        Cliente owner = bySharedKey.get(cliente.getSharedKey());
+        if (owner != null && !owner.getId().equals(cliente.getId())) {
+            throw new DataIntegrityViolationException(
+                    "Ya existe un cliente con el sharedKey: " + cliente.getSharedKey());
+        }
+        Cliente stored = copy(cliente);
+        stored.setId(cliente.getId() != null ? cliente.getId() : lastId + 1);
+        lastId = Math.max(lastId, stored.getId());
+        stored.setUpdatedAt(nextUpdatedAt());
+        stored.setChangeSeq(changeSeq(stored.getUpdatedAt()));
+        journal.append(copy(stored));
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(stored);
+        return copy(stored);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Cliente> findBySharedKey(String sharedKey) {
+        return Optional.ofNullable(bySharedKey.get(sharedKey)).map(InMemoryClientePersistenceAdapter::copy);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Se resuelve con el índice hash por shared key, una búsqueda por clave.
+     */
+    @Override
+    public List<Cliente> findBySharedKeys(Collection<String> sharedKeys) {
+        List<Cliente> found = new ArrayList<>(sharedKeys.size());
+        for (String sharedKey : sharedKeys) {
+            Cliente cliente = bySharedKey.get(sharedKey);
+            if (cliente != null) {
+                found.add(copy(cliente));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsBySharedKey(String sharedKey) {
+        return bySharedKey.containsKey(sharedKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir) {
+        return findPage(null, page, size, sortBy, sortDir);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir) {
+        return findPage(filter.toPredicate(), page, size, sortBy, sortDir);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Los clientes ya están en memoria: se devuelven completos, porque
+     * descartar campos no ahorra ninguna lectura.
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields) {
+        return findAllClientes(page, size, sortBy, sortDir);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Como en {@link #findAllClientes(int, int, String, String, Set)}, los
+     * clientes se devuelven completos.
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir, Set<ClienteField> fields) {
+        return findClientesByFilter(filter, page, size, sortBy, sortDir);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findAllClientes() {
+        lock.readLock().lock();
+        try {
+            return byId.values().stream().map(InMemoryClientePersistenceAdapter::copy).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Cliente> findTopByOrderByIdDesc() {
+        return Optional.ofNullable(byId.lastEntry()).map(entry -> copy(entry.getValue()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findChangesSince(long changeSeq, Long id, int limit) {
+        Cliente position = Cliente.builder().changeSeq(changeSeq).id(id).build();
+        lock.readLock().lock();
+        try {
+            return byChange.tailSet(position, false).stream()
+                    .limit(limit)
+                    .map(InMemoryClientePersistenceAdapter::copy)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findClientesAfterId(Long id, int limit) {
+        return byId.tailMap(id, false).values().stream()
+                .limit(limit)
+                .map(InMemoryClientePersistenceAdapter::copy)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countClientes() {
+        return byId.size();
+    }
+
+    /**
+     * Indexa un cliente ya persistido (con id e instante de modificación),
+     * sustituyendo su versión anterior, sin pasar por el journal. Se usa para
+     * reconstruir el almacén al arrancar
+     * 
+     * @param cliente Cliente a restaurar
+     */
+    public void restore(Cliente cliente) {
+        lock.writeLock().lock();
+        try {
+            Cliente previous = byId.get(cliente.getId());
+            if (previous != null) {
+                unindex(previous);
+            }
+            Cliente stored = copy(cliente);
+            stored.setChangeSeq(changeSeq(stored.getUpdatedAt()));
+            lastId = Math.max(lastId, stored.getId());
+            if (stored.getUpdatedAt().isAfter(lastUpdatedAt)) {
+                lastUpdatedAt = stored.getUpdatedAt();
+            }
+            index(stored);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca un cliente por su id
+     * 
+     * @param id Id del cliente
+     * @return Copia del cliente, si existe
+     */
+    public Optional<Cliente> findById(Long id) {
+        return Optional.ofNullable(byId.get(id)).map(InMemoryClientePersistenceAdapter::copy);
+    }
+
+    /**
+     * Número de clientes almacenados
+     */
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Recorre el índice del campo de ordenamiento aplicando el predicado, o sin
+     * filtrar si es null
+     */
+    private PageResponse<Cliente> findPage(Predicate<Cliente> predicate, int page, int size, String sortBy,
+            String sortDir) {
+        if (page < 0) {
+            throw new IllegalArgumentException("El número de página no puede ser negativo: " + page);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor que cero: " + size);
+        }
+        boolean ascending = "asc".equalsIgnoreCase(sortDir);
+        long offset = (long) page * size;
+        List<Cliente> content = new ArrayList<>(Math.min(size, 1024));
+        long total = 0;
+        lock.readLock().lock();
+        try {
+            Iterator<Cliente> iterator = sorted(sortBy, ascending);
+            if (predicate == null) {
+                // Sin filtro el total es el tamaño del almacén y basta con recorrer hasta la página
+                total = byId.size();
+                for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+                    iterator.next();
+                }
+                while (content.size() < size && iterator.hasNext()) {
+                    content.add(copy(iterator.next()));
+                }
+            }
+            while (predicate != null && iterator.hasNext()) {
+                Cliente cliente = iterator.next();
+                if (predicate.test(cliente)) {
+                    if (total >= offset && content.size() < size) {
+                        content.add(copy(cliente));
+                    }
+                    total++;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        int totalPages = (int) ((total + size - 1) / size);
+        return PageResponse.<Cliente>builder()
+                .content(content)
+                .pageNumber(page)
+                .pageSize(size)
+                .totalElements(total)
+                .totalPages(totalPages)
+                .first(page == 0)
+                .last(page + 1 >= totalPages)
+                .empty(content.isEmpty())
+                .build();
+    }
+
+    private Iterator<Cliente> sorted(String sortBy, boolean ascending) {
+        if ("id".equals(sortBy)) {
+            return ascending ? byId.values().iterator() : byId.descendingMap().values().iterator();
+        }
+        NavigableSet<Cliente> index = sortIndexes.get(sortBy);
+        if (index == null) {
+            throw new IllegalArgumentException("Campo de ordenamiento no válido: " + sortBy);
+        }
+        return ascending ? index.iterator() : index.descendingIterator();
+    }
+
+    private void index(Cliente cliente) {
+        byId.put(cliente.getId(), cliente);
+        bySharedKey.put(cliente.getSharedKey(), cliente);
+        sortIndexes.values().forEach(index -> index.add(cliente));
+        byChange.add(cliente);
+    }
+
+    private void unindex(Cliente cliente) {
+        bySharedKey.remove(cliente.getSharedKey(), cliente);
+        sortIndexes.values().forEach(index -> index.remove(cliente));
+        byChange.remove(cliente);
+    }
+
+    /**
+     * Instante de modificación estrictamente creciente, con la precisión en
+     * microsegundos de la columna updated_at, para que el feed de cambios no
+     * pierda clientes guardados en el mismo instante
+     */
+    private LocalDateTime nextUpdatedAt() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        lastUpdatedAt = now.isAfter(lastUpdatedAt) ? now : lastUpdatedAt.plus(1, ChronoUnit.MICROS);
+        return lastUpdatedAt;
+    }
+
+    /**
+     * Posición de cambio de un instante de modificación: microsegundos desde la
+     * época, de modo que se conserva al restaurar el almacén
+     */
+    private static long changeSeq(LocalDateTime updatedAt) {
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updatedAt);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Comparator<Cliente> comparator(Function<Cliente, Comparable<?>> getter) {
+        Comparator<Cliente> byField = Comparator.comparing(cliente -> (Comparable) getter.apply(cliente),
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        return byField.thenComparing(Cliente::getId);
+    }
+
+    private static Cliente copy(Cliente cliente) {
+        return Cliente.builder()
+                .id(cliente.getId())
+                .sharedKey(cliente.getSharedKey())
+                .nombre(cliente.getNombre())
+                .telefono(cliente.getTelefono())
+                .email(cliente.getEmail())
+                .fechaInicio(cliente.getFechaInicio())
+                .fechaFin(cliente.getFechaFin())
+                .fechaCreacion(cliente.getFechaCreacion())
+                .updatedAt(cliente.getUpdatedAt())
+                .changeSeq(cliente.getChangeSeq())
+                .build();
+    }
+}
@@ -1,14 +1,20 @@
 package com.alianza.clientes.infrastructure.adapter.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
 import com.alianza.clientes.domain.model.ClienteFilter;
 import com.alianza.clientes.domain.model.PageResponse;
 import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
@@ -17,14 +23,19 @@ import com.alianza.clientes.infrastructure.adapter.persistence.mapper.ClienteMap
 import com.alianza.clientes.infrastructure.adapter.persistence.mapper.CommonMapper;
 import com.alianza.clientes.infrastructure.adapter.persistence.repository.ClienteJpaRepository;
 import com.alianza.clientes.infrastructure.adapter.persistence.repository.ClienteSpecification;
+import com.alianza.clientes.infrastructure.config.HexagonalConfig;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * Adaptador de persistencia que implementa el puerto ClientePersistencePort.
  * Actúa como un puente entre el dominio y la infraestructura de persistencia.
+ * Es el adaptador por defecto; el perfil {@code memory} lo sustituye por
+ * InMemoryClientePersistenceAdapter.
  */
 @Component
+@Qualifier(HexagonalConfig.ADAPTER)
+@Profile("!memory & !log")
 @RequiredArgsConstructor
 public class ClientePersistenceAdapter implements ClientePersistencePort {
 
@@ -38,6 +49,17 @@ public class ClientePersistenceAdapter implements ClientePersistencePort {
         return ClienteMapper.mapToDomain(clienteRepository.save(ClienteMapper.mapToEntity(cliente)));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> saveClientes(List<Cliente> clientes) {
+        // saveAll es transaccional: un único commit para todo el lote
+        return clienteRepository.saveAll(clientes.stream().map(ClienteMapper::mapToEntity).toList()).stream()
+                .map(ClienteMapper::mapToDomain)
+                .collect(Collectors.toList());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -47,6 +69,19 @@ public class ClientePersistenceAdapter implements ClientePersistencePort {
                 .map(ClienteMapper::mapToDomain);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findBySharedKeys(Collection<String> sharedKeys) {
+        if (sharedKeys.isEmpty()) {
+            return List.of();
+        }
+        return clienteRepository.findBySharedKeyIn(sharedKeys.toArray(new String[0])).stream()
+                .map(ClienteMapper::mapToDomain)
+                .toList();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -75,6 +110,41 @@ public class ClientePersistenceAdapter implements ClientePersistencePort {
         return ClienteMapper.createPageResponse(clientePage);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * La consulta selecciona solo las columnas de los campos pedidos y no
+     * instancia entidades; si se piden todos se usa la consulta habitual.
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields) {
+        if (!ClienteField.isProjection(fields)) {
+            return findAllClientes(page, size, sortBy, sortDir);
+        }
+        return ClienteMapper.createPageResponse(clienteRepository.findAllProjected(null,
+                PageRequest.of(page, size, CommonMapper.createSort(sortBy, sortDir)),
+                ClienteMapper.toAttributes(fields)), fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Como {@link #findAllClientes(int, int, String, String, Set)}, con el
+     * filtro aplicado.
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir, Set<ClienteField> fields) {
+        if (!ClienteField.isProjection(fields)) {
+            return findClientesByFilter(filter, page, size, sortBy, sortDir);
+        }
+        return ClienteMapper.createPageResponse(clienteRepository.findAllProjected(
+                ClienteSpecification.buildSpecification(filter),
+                PageRequest.of(page, size, CommonMapper.createSort(sortBy, sortDir)),
+                ClienteMapper.toAttributes(fields)), fields);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -93,4 +163,32 @@ public class ClientePersistenceAdapter implements ClientePersistencePort {
         return clienteRepository.findTopByOrderByIdDesc().map(ClienteMapper::mapToDomain);
     }
 
-}
\ No newline at end of file
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findChangesSince(long changeSeq, Long id, int limit) {
+        return clienteRepository.findChangesSince(changeSeq, id, PageRequest.of(0, limit)).stream()
+                .map(ClienteMapper::mapToDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findClientesAfterId(Long id, int limit) {
+        return clienteRepository.findByIdGreaterThan(id, PageRequest.of(0, limit, Sort.by("id"))).stream()
+                .map(ClienteMapper::mapToDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countClientes() {
+        return clienteRepository.count();
+    }
+
+}
@@ -9,8 +9,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * Entidad JPA que representa un cliente en la base de datos.
@@ -76,6 +80,25 @@ public class ClienteEntity {
      */
     private LocalDate fechaCreacion;
 
+    /**
+     * Instante de la última modificación del registro. Lo asigna el trigger de
+     * la base de datos y se relee tras cada escritura
+     */
+    @Generated(event = { EventType.INSERT, EventType.UPDATE })
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Posición de la última modificación en el feed de cambios: el id de la
+     * transacción que escribió el registro. La asigna el trigger de la base de
+     * datos (V8__change_feed_by_transaction.sql) y se relee tras cada escritura
+     */
+    @Generated(event = { EventType.INSERT, EventType.UPDATE })
+    @ColumnDefault("0")
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
     /**
      * Método que se ejecuta antes de persistir la entidad
      * para establecer la fecha de creación si no está definida
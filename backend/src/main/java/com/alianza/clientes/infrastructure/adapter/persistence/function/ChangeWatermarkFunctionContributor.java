@@ -0,0 +1,44 @@
+package com.alianza.clientes.infrastructure.adapter.persistence.function;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registra la función HQL/Criteria {@code change_watermark()}: la posición de
+ * cambio a partir de la cual el feed de cambios todavía no puede entregar
+ * clientes, porque alguna transacción con esa posición o una mayor puede
+ * seguir en curso.
+ * <p>
+ * En PostgreSQL la posición de cambio es el id de la transacción que escribió
+ * la fila (V8__change_feed_by_transaction.sql) y la función se traduce a
+ * {@code txid_snapshot_xmin(txid_current_snapshot())}, el id de la transacción
+ * más antigua en curso: las anteriores ya han terminado y las que empiecen
+ * después tendrán ids mayores. En el resto de bases de datos (H2 en las
+ * pruebas) no hay retención: se traduce al mayor valor posible.
+ * <p>
+ * Se registra en META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ */
+public class ChangeWatermarkFunctionContributor implements FunctionContributor {
+
+    public static final String CHANGE_WATERMARK = "change_watermark";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Long> longType = functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.LONG);
+        String pattern = functionContributions.getDialect() instanceof PostgreSQLDialect
+                ? "txid_snapshot_xmin(txid_current_snapshot())"
+                : String.valueOf(Long.MAX_VALUE);
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(CHANGE_WATERMARK, pattern)
+                .setExactArgumentCount(0)
+                .setInvariantType(longType)
+                .register();
+    }
+}
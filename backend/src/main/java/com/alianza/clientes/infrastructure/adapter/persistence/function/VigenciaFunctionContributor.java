@@ -0,0 +1,92 @@
+package com.alianza.clientes.infrastructure.adapter.persistence.function;
+
+import java.util.List;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionArgumentTypeResolvers;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registra la función HQL/Criteria
+ * {@code vigencia_solapa(fechaInicio, fechaFin, desde, hasta)}: true si el
+ * contrato [fechaInicio, fechaFin] comparte al menos un día con [desde, hasta],
+ * ambos extremos inclusivos. Un contrato con fechaFin anterior a fechaInicio
+ * no solapa con nada.
+ * <p>
+ * En PostgreSQL se traduce a {@code alias.vigencia && daterange(desde, hasta, '[]')}
+ * sobre la columna generada {@code vigencia} de V6__vigencia_daterange.sql, de
+ * modo que usa su índice GiST; los dos primeros argumentos solo aportan el
+ * alias de la tabla. En el resto de bases de datos (H2 en las pruebas) se
+ * traduce a las comparaciones equivalentes sobre fecha_inicio y fecha_fin.
+ * <p>
+ * Se registra en META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ */
+public class VigenciaFunctionContributor implements FunctionContributor {
+
+    public static final String VIGENCIA_SOLAPA = "vigencia_solapa";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+        if (functionContributions.getDialect() instanceof PostgreSQLDialect) {
+            functionContributions.getFunctionRegistry().register(VIGENCIA_SOLAPA,
+                    new DaterangeOverlapFunction(booleanType));
+        } else {
+            functionContributions.getFunctionRegistry()
+                    .patternDescriptorBuilder(VIGENCIA_SOLAPA, "(?1<=?2 and ?1<=?4 and ?2>=?3)")
+                    .setExactArgumentCount(4)
+                    .setInvariantType(booleanType)
+                    .register();
+        }
+    }
+
+    /**
+     * {@code alias.vigencia && daterange(desde, hasta, '[]')}, con el alias de
+     * la columna del primer argumento
+     */
+    private static final class DaterangeOverlapFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+        private DaterangeOverlapFunction(BasicType<Boolean> booleanType) {
+            super(VIGENCIA_SOLAPA, StandardArgumentsValidators.exactly(4),
+                    StandardFunctionReturnTypeResolvers.invariant(booleanType),
+                    StandardFunctionArgumentTypeResolvers.NULL);
+        }
+
+        @Override
+        public void render(SqlAppender sqlAppender, List<? extends SqlAstNode> arguments,
+                SqlAstTranslator<?> walker) {
+            ColumnReference fechaInicio = arguments.get(0) instanceof Expression expression
+                    ? expression.getColumnReference()
+                    : null;
+            if (fechaInicio == null) {
+                throw new IllegalArgumentException(VIGENCIA_SOLAPA + " espera la columna fecha_inicio como primer "
+                        + "argumento");
+            }
+            sqlAppender.append("(");
+            if (fechaInicio.getQualifier() != null) {
+                sqlAppender.append(fechaInicio.getQualifier());
+                sqlAppender.append(".");
+            }
+            sqlAppender.append("vigencia && daterange(cast(");
+            arguments.get(2).accept(walker);
+            sqlAppender.append(" as date),cast(");
+            arguments.get(3).accept(walker);
+            sqlAppender.append(" as date),'[]'))");
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.alianza.clientes.infrastructure.adapter.persistence.mapper;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 
 import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
 import com.alianza.clientes.domain.model.PageResponse;
 import com.alianza.clientes.infrastructure.adapter.persistence.entity.ClienteEntity;
 
+import jakarta.persistence.Tuple;
+
 public final class ClienteMapper {
 
     private ClienteMapper() {
@@ -37,6 +41,57 @@ public final class ClienteMapper {
                 .build();
     }
 
+    /**
+     * Crea una respuesta paginada a partir de una página de tuplas proyectadas
+     * 
+     * @param tuplePage Página de tuplas con un elemento por campo
+     * @param fields    Campos seleccionados; el alias de cada elemento es el
+     *                  nombre de la propiedad
+     * @return PageResponse con clientes que solo tienen esos campos
+     */
+    public static PageResponse<Cliente> createPageResponse(Page<Tuple> tuplePage, Set<ClienteField> fields) {
+        List<Cliente> clientes = tuplePage.getContent().stream()
+                .map(tuple -> mapToDomain(tuple, fields))
+                .collect(Collectors.toList());
+
+        return PageResponse.<Cliente>builder()
+                .content(clientes)
+                .pageNumber(tuplePage.getNumber())
+                .pageSize(tuplePage.getSize())
+                .totalElements(tuplePage.getTotalElements())
+                .totalPages(tuplePage.getTotalPages())
+                .last(tuplePage.isLast())
+                .first(tuplePage.isFirst())
+                .empty(tuplePage.isEmpty())
+                .build();
+    }
+
+    /**
+     * Lista de atributos de ClienteEntity a seleccionar para los campos pedidos
+     * 
+     * @param fields Campos pedidos
+     * @return Nombres de los atributos, en el orden de la enumeración
+     */
+    public static List<String> toAttributes(Set<ClienteField> fields) {
+        return fields.stream().map(ClienteField::getProperty).toList();
+    }
+
+    /**
+     * Convierte una tupla proyectada a un objeto de dominio Cliente con solo
+     * los campos seleccionados
+     * 
+     * @param tuple  Tupla con un elemento por campo
+     * @param fields Campos seleccionados
+     * @return Objeto de dominio; los demás campos quedan a null
+     */
+    public static Cliente mapToDomain(Tuple tuple, Set<ClienteField> fields) {
+        Cliente cliente = new Cliente();
+        for (ClienteField field : fields) {
+            field.set(cliente, tuple.get(field.getProperty()));
+        }
+        return cliente;
+    }
+
     /**
      * Convierte un objeto de dominio Cliente a una entidad JPA ClienteEntity
      * 
@@ -53,6 +108,8 @@ public final class ClienteMapper {
                 .fechaInicio(domain.getFechaInicio())
                 .fechaFin(domain.getFechaFin())
                 .fechaCreacion(domain.getFechaCreacion())
+                .updatedAt(domain.getUpdatedAt())
+                .changeSeq(domain.getChangeSeq())
                 .build();
     }
 
@@ -72,6 +129,8 @@ public final class ClienteMapper {
                 .fechaInicio(entity.getFechaInicio())
                 .fechaFin(entity.getFechaFin())
                 .fechaCreacion(entity.getFechaCreacion())
+                .updatedAt(entity.getUpdatedAt())
+                .changeSeq(entity.getChangeSeq())
                 .build();
     }
 
@@ -1,21 +1,27 @@
 package com.alianza.clientes.infrastructure.adapter.persistence.repository;
 
 import com.alianza.clientes.infrastructure.adapter.persistence.entity.ClienteEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Repositorio JPA para la entidad ClienteEntity.
- * Extiende JpaRepository para operaciones CRUD básicas y
+ * Extiende JpaRepository para operaciones CRUD básicas,
  * JpaSpecificationExecutor
- * para consultas dinámicas con especificaciones.
+ * para consultas dinámicas con especificaciones y ClienteProjectionRepository
+ * para las consultas que solo leen algunas columnas.
  */
 @Repository
 public interface ClienteJpaRepository
-        extends JpaRepository<ClienteEntity, Long>, JpaSpecificationExecutor<ClienteEntity> {
+        extends JpaRepository<ClienteEntity, Long>, JpaSpecificationExecutor<ClienteEntity>,
+        ClienteProjectionRepository {
 
     /**
      * Busca un cliente por su sharedKey
@@ -25,6 +31,18 @@ public interface ClienteJpaRepository
      */
     Optional<ClienteEntity> findBySharedKey(String sharedKey);
 
+    /**
+     * Busca los clientes de varios sharedKeys. Las claves se envían como un
+     * único parámetro de tipo array, de modo que la sentencia es la misma para
+     * cualquier número de claves y el plan preparado se reutiliza (un
+     * {@code IN (...)} genera una sentencia distinta por cada tamaño).
+     * 
+     * @param sharedKeys Claves compartidas a buscar
+     * @return Clientes encontrados, en cualquier orden
+     */
+    @Query(value = "SELECT * FROM clientes WHERE shared_key = ANY(:sharedKeys)", nativeQuery = true)
+    List<ClienteEntity> findBySharedKeyIn(@Param("sharedKeys") String[] sharedKeys);
+
     /**
      * Verifica si existe un cliente con el sharedKey proporcionado
      * 
@@ -40,4 +58,33 @@ public interface ClienteJpaRepository
      */
     Optional<ClienteEntity> findTopByOrderByIdDesc();
 
+    /**
+     * Busca los clientes modificados después de la posición (changeSeq, id),
+     * solo de transacciones anteriores a la más antigua en curso
+     * ({@code change_watermark()}, ver ChangeWatermarkFunctionContributor).
+     * La primera comparación acota el recorrido del índice
+     * idx_clientes_change_seq_id como un rango, sin OFFSET; la segunda
+     * desempata por id dentro de la posición de cambio del token.
+     * 
+     * @param changeSeq Posición de cambio del último cliente entregado
+     * @param id        Id del último cliente entregado
+     * @param pageable  Tamaño del lote
+     * @return Lista de clientes ordenada por (change_seq, id)
+     */
+    @Query("select c from ClienteEntity c where c.changeSeq >= :changeSeq "
+            + "and (c.changeSeq > :changeSeq or c.id > :id) "
+            + "and c.changeSeq < change_watermark() order by c.changeSeq, c.id")
+    List<ClienteEntity> findChangesSince(@Param("changeSeq") long changeSeq, @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * Busca los clientes con id mayor que el indicado, en orden de id. Recorre
+     * la clave primaria como un rango, sin OFFSET.
+     * 
+     * @param id       Id del último cliente entregado
+     * @param pageable Tamaño del lote, ordenado por id
+     * @return Lista de clientes ordenada por id
+     */
+    List<ClienteEntity> findByIdGreaterThan(Long id, Pageable pageable);
+
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.alianza.clientes.infrastructure.adapter.persistence.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.alianza.clientes.infrastructure.adapter.persistence.entity.ClienteEntity;
+
+import jakarta.persistence.Tuple;
+
+/**
+ * Fragmento de ClienteJpaRepository para las consultas paginadas que solo
+ * leen algunas columnas de {@code clientes}.
+ */
+public interface ClienteProjectionRepository {
+
+    /**
+     * Busca una página de clientes seleccionando solo los atributos indicados.
+     * Cada fila es una tupla con un elemento por atributo, con el nombre del
+     * atributo como alias; no se crea ninguna ClienteEntity ni se registra nada
+     * en el contexto de persistencia.
+     *
+     * @param specification Filtro a aplicar, o null para todos los clientes
+     * @param pageable      Página y ordenamiento
+     * @param attributes    Atributos de ClienteEntity a seleccionar
+     * @return Página de tuplas con el total de elementos
+     */
+    Page<Tuple> findAllProjected(Specification<ClienteEntity> specification, Pageable pageable,
+            List<String> attributes);
+}
@@ -0,0 +1,78 @@
+package com.alianza.clientes.infrastructure.adapter.persistence.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.alianza.clientes.infrastructure.adapter.persistence.entity.ClienteEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Implementación de ClienteProjectionRepository con Criteria API. Hace lo
+ * mismo que {@code findAll(Specification, Pageable)} (una consulta para la
+ * página y un count solo cuando hace falta) pero con la lista de columnas
+ * reducida a los atributos pedidos.
+ */
+public class ClienteProjectionRepositoryImpl implements ClienteProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<Tuple> findAllProjected(Specification<ClienteEntity> specification, Pageable pageable,
+            List<String> attributes) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<ClienteEntity> root = query.from(ClienteEntity.class);
+        List<Selection<?>> selections = attributes.stream()
+                .<Selection<?>>map(attribute -> root.get(attribute).alias(attribute))
+                .toList();
+        query.multiselect(selections);
+        Predicate predicate = toPredicate(specification, root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable,
+                () -> count(specification));
+    }
+
+    private long count(Specification<ClienteEntity> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<ClienteEntity> root = query.from(ClienteEntity.class);
+        query.select(criteriaBuilder.count(root));
+        Predicate predicate = toPredicate(specification, root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate toPredicate(Specification<ClienteEntity> specification, Root<ClienteEntity> root,
+            CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        return specification != null ? specification.toPredicate(root, query, criteriaBuilder) : null;
+    }
+}
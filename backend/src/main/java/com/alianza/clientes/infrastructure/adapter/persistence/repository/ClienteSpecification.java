@@ -1,5 +1,6 @@
 package com.alianza.clientes.infrastructure.adapter.persistence.repository;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -7,8 +8,12 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
 import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.MatchMode;
 import com.alianza.clientes.infrastructure.adapter.persistence.entity.ClienteEntity;
+import com.alianza.clientes.infrastructure.adapter.persistence.function.VigenciaFunctionContributor;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 
 /**
@@ -18,6 +23,13 @@ import jakarta.persistence.criteria.Predicate;
  */
 public final class ClienteSpecification {
 
+    /**
+     * Cotas de la ventana de vigencia cuando el filtro deja un extremo abierto;
+     * ambas caben en el tipo date de PostgreSQL
+     */
+    private static final LocalDate VIGENCIA_MIN = LocalDate.of(1, 1, 1);
+    private static final LocalDate VIGENCIA_MAX = LocalDate.of(9999, 12, 31);
+
     private ClienteSpecification() {
     }
 
@@ -30,23 +42,32 @@ public final class ClienteSpecification {
     public static Specification<ClienteEntity> buildSpecification(ClienteFilter filter) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
+            if (filter.getIds() != null) {
+                Predicate ids = filter.getIds().isEmpty()
+                        ? criteriaBuilder.disjunction()
+                        : root.get("id").in(filter.getIds());
+                // Lo escrito después de la posición del índice se lee por idx_clientes_change_seq_id
+                predicates.add(filter.getChangedAfter() == null ? ids
+                        : criteriaBuilder.or(ids,
+                                criteriaBuilder.greaterThan(root.get("changeSeq"), filter.getChangedAfter())));
+            }
             if (StringUtils.hasText(filter.getSharedKey())) {
                 predicates.add(criteriaBuilder.equal(root.get("sharedKey"), filter.getSharedKey()));
             }
             if (StringUtils.hasText(filter.getNombre())) {
-                predicates.add(criteriaBuilder.like(
+                predicates.add(match(criteriaBuilder,
                         criteriaBuilder.lower(root.get("nombre")),
-                        "%" + filter.getNombre().toLowerCase() + "%"));
+                        filter.getNombre().toLowerCase(), filter.getNombreMatch()));
             }
             if (StringUtils.hasText(filter.getTelefono())) {
-                predicates.add(criteriaBuilder.like(
+                predicates.add(match(criteriaBuilder,
                         root.get("telefono"),
-                        "%" + filter.getTelefono() + "%"));
+                        filter.getTelefono(), filter.getTelefonoMatch()));
             }
             if (StringUtils.hasText(filter.getEmail())) {
-                predicates.add(criteriaBuilder.like(
+                predicates.add(match(criteriaBuilder,
                         criteriaBuilder.lower(root.get("email")),
-                        "%" + filter.getEmail().toLowerCase() + "%"));
+                        filter.getEmail().toLowerCase(), filter.getEmailMatch()));
             }
             if (filter.getFechaInicio() != null) {
                 predicates.add(criteriaBuilder.greaterThanOrEqualTo(
@@ -56,7 +77,40 @@ public final class ClienteSpecification {
                 predicates.add(criteriaBuilder.lessThanOrEqualTo(
                         root.get("fechaFin"), filter.getFechaFin()));
             }
+            if (filter.getVigenteDesde() != null || filter.getVigenteHasta() != null) {
+                predicates.add(vigenteEntre(criteriaBuilder, root.get("fechaInicio"), root.get("fechaFin"),
+                        filter.getVigenteDesde(), filter.getVigenteHasta()));
+            }
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Compara un campo de texto según el modo: igualdad, {@code LIKE 'valor%'}
+     * o {@code LIKE '%valor%'}. Igualdad y prefijo pueden resolverse con los
+     * índices {@code text_pattern_ops} de V5__text_pattern_indexes.sql; el
+     * contenido recorre la tabla (o los candidatos del índice de trigramas).
+     */
+    private static Predicate match(CriteriaBuilder criteriaBuilder, Expression<String> field, String value,
+            MatchMode mode) {
+        return switch (MatchMode.orDefault(mode)) {
+            case EXACT -> criteriaBuilder.equal(field, value);
+            case PREFIX -> criteriaBuilder.like(field, value + "%");
+            case CONTAINS -> criteriaBuilder.like(field, "%" + value + "%");
+        };
+    }
+
+    /**
+     * Contratos cuya vigencia [fechaInicio, fechaFin] solapa con [desde, hasta];
+     * un extremo null queda abierto. En PostgreSQL es
+     * {@code vigencia && daterange(desde, hasta, '[]')} sobre el índice GiST de
+     * V6__vigencia_daterange.sql (ver VigenciaFunctionContributor).
+     */
+    private static Predicate vigenteEntre(CriteriaBuilder criteriaBuilder, Expression<LocalDate> fechaInicio,
+            Expression<LocalDate> fechaFin, LocalDate desde, LocalDate hasta) {
+        return criteriaBuilder.isTrue(criteriaBuilder.function(VigenciaFunctionContributor.VIGENCIA_SOLAPA,
+                Boolean.class, fechaInicio, fechaFin,
+                criteriaBuilder.literal(desde != null ? desde : VIGENCIA_MIN),
+                criteriaBuilder.literal(hasta != null ? hasta : VIGENCIA_MAX)));
+    }
+}
@@ -0,0 +1,48 @@
+package com.alianza.clientes.infrastructure.adapter.rest;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.alianza.clientes.infrastructure.adapter.events.ClienteEventBroadcaster;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adaptador REST que expone los eventos de clientes como Server-Sent Events
+ */
+@RestController
+@RequestMapping("/clientes")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Gestión de Clientes", description = "API para la gestión completa de clientes")
+public class ClienteEventStreamRestAdapter {
+
+        private final ClienteEventBroadcaster clienteEventBroadcaster;
+
+        /**
+         * Suscribe al cliente HTTP a los eventos de creación y modificación de clientes
+         */
+        @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        @Operation(summary = "Suscribirse a eventos de clientes", description = "Abre un flujo Server-Sent Events que emite un evento 'created' o 'updated' con los datos del cliente cada vez que se guarda uno. Las conexiones que no consumen a tiempo se cierran y deben reconectar.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Flujo de eventos abierto"),
+                        @ApiResponse(responseCode = "503", description = "Se alcanzó el máximo de suscriptores")
+        })
+        public ResponseEntity<SseEmitter> streamClienteEvents() {
+                return clienteEventBroadcaster.subscribe()
+                                .map(ResponseEntity::ok)
+                                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+        }
+}
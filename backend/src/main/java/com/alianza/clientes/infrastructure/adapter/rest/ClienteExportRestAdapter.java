@@ -0,0 +1,110 @@
+package com.alianza.clientes.infrastructure.adapter.rest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.alianza.clientes.domain.model.ExportStatus;
+import com.alianza.clientes.domain.port.api.ClienteExportServicePort;
+import com.alianza.clientes.infrastructure.adapter.rest.constants.RestConstants;
+import com.alianza.clientes.infrastructure.adapter.rest.converters.ClienteConverter;
+import com.alianza.clientes.infrastructure.adapter.rest.dto.ExportStatusDTO;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adaptador REST de las exportaciones de clientes en segundo plano
+ */
+@RestController
+@RequestMapping("/clientes/export")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "clientes.export.jobs.enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Gestión de Clientes", description = "API para la gestión completa de clientes")
+public class ClienteExportRestAdapter {
+
+        private static final String CSV_CONTENT_TYPE = "text/csv;charset=UTF-8";
+
+        private final ClienteExportServicePort clienteExportServicePort;
+
+        /**
+         * Inicia una exportación de clientes a CSV en segundo plano
+         */
+        @PostMapping
+        @Operation(summary = "Iniciar exportación a CSV", description = "Genera el CSV de todos los clientes en segundo plano y responde 202 con la URL de su estado. Si ya hay una exportación en curso, responde con esa.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "202", description = "Exportación iniciada o en curso")
+        })
+        public ResponseEntity<ExportStatusDTO> startExport() {
+                ExportStatus status = clienteExportServicePort.startExport();
+                return ResponseEntity.accepted()
+                                .location(URI.create("/clientes/export/" + status.getExportId()))
+                                .body(ClienteConverter.toExportStatusDTO(status));
+        }
+
+        /**
+         * Consulta el progreso de una exportación
+         */
+        @GetMapping("/{exportId}")
+        @Operation(summary = "Consultar exportación", description = "Devuelve el progreso de la exportación y, cuando termina, la URL de descarga del fichero.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Estado de la exportación"),
+                        @ApiResponse(responseCode = "404", description = "Exportación desconocida o expirada")
+        })
+        public ResponseEntity<ExportStatusDTO> getExport(@PathVariable String exportId) {
+                return clienteExportServicePort.findExport(exportId)
+                                .map(ClienteConverter::toExportStatusDTO)
+                                .map(ResponseEntity::ok)
+                                .orElseGet(() -> ResponseEntity.notFound().build());
+        }
+
+        /**
+         * Descarga el fichero de una exportación terminada
+         */
+        @GetMapping("/{exportId}/download")
+        @Operation(summary = "Descargar exportación", description = "Descarga el CSV de una exportación terminada. Admite la cabecera Range (un rango de bytes) para reanudar descargas interrumpidas.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Fichero completo"),
+                        @ApiResponse(responseCode = "206", description = "Rango solicitado del fichero"),
+                        @ApiResponse(responseCode = "404", description = "Exportación desconocida o expirada"),
+                        @ApiResponse(responseCode = "409", description = "La exportación no ha terminado o falló"),
+                        @ApiResponse(responseCode = "416", description = "Rango fuera del fichero")
+        })
+        public void downloadExport(@PathVariable String exportId, HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+                Optional<ExportStatus> status = clienteExportServicePort.findExport(exportId);
+                if (status.isEmpty()) {
+                        response.sendError(HttpStatus.NOT_FOUND.value());
+                        return;
+                }
+                Optional<Path> file = clienteExportServicePort.findExportFile(exportId);
+                if (file.isEmpty()) {
+                        response.sendError(HttpStatus.CONFLICT.value(),
+                                        "La exportación está en estado " + status.get().getState());
+                        return;
+                }
+                log.info("Descargando exportación {} (Range: {})", exportId, request.getHeader("Range"));
+                FileRangeTransfer.send(file.get(), Files.size(file.get()), "\"" + exportId + "\"",
+                                CSV_CONTENT_TYPE, RestConstants.FILENAME_CSV, request, response);
+        }
+}
@@ -0,0 +1,78 @@
+package com.alianza.clientes.infrastructure.adapter.rest;
+
+import java.net.URI;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.alianza.clientes.domain.model.IngestStatus;
+import com.alianza.clientes.domain.port.api.ClienteIngestServicePort;
+import com.alianza.clientes.infrastructure.adapter.rest.converters.ClienteConverter;
+import com.alianza.clientes.infrastructure.adapter.rest.dto.ClienteIngestRequestDTO;
+import com.alianza.clientes.infrastructure.adapter.rest.dto.IngestStatusDTO;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adaptador REST de la ingesta asíncrona de clientes. Solo se registra con
+ * {@code clientes.ingest.enabled=true}
+ */
+@RestController
+@RequestMapping("/clientes/ingest")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "clientes.ingest.enabled", havingValue = "true")
+@Tag(name = "Gestión de Clientes", description = "API para la gestión completa de clientes")
+public class ClienteIngestRestAdapter {
+
+        private final ClienteIngestServicePort clienteIngestServicePort;
+
+        /**
+         * Acepta un lote de clientes nuevos y los guarda en segundo plano
+         */
+        @PostMapping
+        @Operation(summary = "Ingestar clientes", description = "Registra el lote en el journal de ingesta y responde 202 en cuanto es durable. Los clientes se guardan en segundo plano agrupados en lotes; el estado se consulta en la URL de la cabecera Location.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "202", description = "Lote aceptado"),
+                        @ApiResponse(responseCode = "400", description = "Lote vacío, demasiado grande, sin shared key o con shared keys repetidos")
+        })
+        public ResponseEntity<IngestStatusDTO> ingestClientes(@Valid @RequestBody ClienteIngestRequestDTO request) {
+                log.info("Ingesta de {} clientes", request.getClientes().size());
+                IngestStatus status = clienteIngestServicePort.submit(request.getClientes().stream()
+                                .map(ClienteConverter::toDomain)
+                                .toList());
+                return ResponseEntity.accepted()
+                                .location(URI.create("/clientes/ingest/" + status.getTrackingId()))
+                                .body(ClienteConverter.toIngestStatusDTO(status));
+        }
+
+        /**
+         * Consulta el estado de un lote de ingesta
+         */
+        @GetMapping("/{trackingId}")
+        @Operation(summary = "Consultar estado de ingesta", description = "Devuelve cuántos clientes del lote se han guardado o han fallado. Los lotes terminados se conservan durante clientes.ingest.status-retention-ms.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Estado del lote"),
+                        @ApiResponse(responseCode = "404", description = "Lote desconocido o expirado")
+        })
+        public ResponseEntity<IngestStatusDTO> getIngestStatus(@PathVariable String trackingId) {
+                return clienteIngestServicePort.findStatus(trackingId)
+                                .map(ClienteConverter::toIngestStatusDTO)
+                                .map(ResponseEntity::ok)
+                                .orElseGet(() -> ResponseEntity.notFound().build());
+        }
+}
@@ -1,8 +1,13 @@
 package com.alianza.clientes.infrastructure.adapter.rest;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -15,15 +20,21 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
 import com.alianza.clientes.domain.model.ClienteFilter;
-import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.domain.port.api.ClienteAsyncServicePort;
 import com.alianza.clientes.domain.port.api.ClienteServicePort;
+import com.alianza.clientes.infrastructure.adapter.export.ClienteCsvSnapshot;
 import com.alianza.clientes.infrastructure.adapter.rest.constants.RestConstants;
 import com.alianza.clientes.infrastructure.adapter.rest.converters.ClienteConverter;
+import com.alianza.clientes.infrastructure.adapter.rest.dto.ChangeFeedResponseDTO;
 import com.alianza.clientes.infrastructure.adapter.rest.dto.ClienteDTO;
 import com.alianza.clientes.infrastructure.adapter.rest.dto.ClienteFilterDTO;
+import com.alianza.clientes.infrastructure.adapter.rest.dto.ClienteLookupRequestDTO;
+import com.alianza.clientes.infrastructure.adapter.rest.dto.ClienteLookupResponseDTO;
 import com.alianza.clientes.infrastructure.adapter.rest.dto.PageResponseDTO;
 import com.alianza.clientes.infrastructure.adapter.rest.exception.ErrorResponse;
 
@@ -34,6 +45,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,7 +54,9 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Adaptador REST para la gestión de clientes
  * Expone los endpoints de la API REST y maneja la conversión entre DTOs y
- * objetos de dominio
+ * objetos de dominio. Las lecturas se resuelven con ClienteAsyncServicePort y
+ * devuelven un DeferredResult: el hilo del contenedor queda libre mientras la
+ * consulta se ejecuta en el pool de su tipo de carga.
  */
 @RestController
 @RequestMapping("/clientes")
@@ -51,7 +66,11 @@ import lombok.extern.slf4j.Slf4j;
 @Tag(name = "Gestión de Clientes", description = "API para la gestión completa de clientes")
 public class ClienteRestAdapter {
 
+        private static final String FIELDS_DESCRIPTION = "Campos a devolver separados por comas (id, sharedKey, nombre, telefono, email, fechaInicio, fechaFin, fechaCreacion, updatedAt). Sin el parámetro se devuelven todos; solo se leen de la base de datos los campos pedidos.";
+
         private final ClienteServicePort clienteServicePort;
+        private final ClienteAsyncServicePort clienteAsyncServicePort;
+        private final ObjectProvider<ClienteCsvSnapshot> clienteCsvSnapshot;
 
         /**
          * Crea un nuevo cliente
@@ -79,22 +98,54 @@ public class ClienteRestAdapter {
         @GetMapping
         @Operation(summary = "Obtener todos los clientes", description = "Retorna una lista paginada de todos los clientes registrados en el sistema")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Lista de clientes obtenida exitosamente", content = @Content(schema = @Schema(implementation = PageResponseDTO.class)))
+                        @ApiResponse(responseCode = "200", description = "Lista de clientes obtenida exitosamente", content = @Content(schema = @Schema(implementation = PageResponseDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Campo no permitido en fields", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                        @ApiResponse(responseCode = "503", description = "Demasiadas lecturas en espera o tiempo agotado", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
         })
-        public ResponseEntity<PageResponseDTO<ClienteDTO>> getAllClientes(
+        public DeferredResult<ResponseEntity<PageResponseDTO<?>>> getAllClientes(
                         @Parameter(description = "Número de página (base 0)", example = "0") @RequestParam(defaultValue = "0") int page,
                         @Parameter(description = "Tamaño de página", example = "10") @RequestParam(defaultValue = "10") int size,
                         @Parameter(description = "Campo por el cual ordenar", example = "id") @RequestParam(defaultValue = "id") String sortBy,
-                        @Parameter(description = "Dirección de ordenamiento", example = "asc") @RequestParam(defaultValue = "asc") String sortDir) {
+                        @Parameter(description = "Dirección de ordenamiento", example = "asc") @RequestParam(defaultValue = "asc") String sortDir,
+                        @Parameter(description = FIELDS_DESCRIPTION, example = "sharedKey,nombre") @RequestParam(required = false) String fields) {
                 log.info("Obteniendo clientes - página: {}, tamaño: {}, ordenado por: {} {}", page, size, sortBy,
                                 sortDir);
 
-                PageResponse<Cliente> pageResponse = clienteServicePort.findAllClientes(page, size, sortBy, sortDir);
-                PageResponseDTO<ClienteDTO> response = ClienteConverter.toPageResponseDTO(pageResponse);
+                CompletableFuture<? extends PageResponseDTO<?>> response;
+                if (fields == null) {
+                        response = clienteAsyncServicePort.findAllClientes(page, size, sortBy, sortDir)
+                                        .thenApply(ClienteConverter::toPageResponseDTO);
+                } else {
+                        Set<ClienteField> selected = ClienteField.parse(fields);
+                        response = clienteAsyncServicePort.findAllClientes(page, size, sortBy, sortDir, selected)
+                                        .thenApply(pageResponse -> ClienteConverter.toPageResponseDTO(pageResponse,
+                                                        selected));
+                }
 
-                log.info("Retornando {} clientes de {} total", response.getContent().size(),
-                                response.getTotalElements());
-                return ResponseEntity.ok(response);
+                return deferred(response.thenApply(body -> {
+                        log.info("Retornando {} clientes de {} total", body.getContent().size(),
+                                        body.getTotalElements());
+                        return ResponseEntity.ok(body);
+                }));
+        }
+
+        /**
+         * Obtiene los clientes creados o modificados después de un token de sincronización
+         */
+        @GetMapping("/changes")
+        @Operation(summary = "Obtener cambios de clientes", description = "Retorna los clientes creados o modificados después del token indicado, ordenados por instante de modificación. Omitir 'since' para sincronizar desde el inicio y enviar 'nextToken' en la siguiente consulta para continuar.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Lote de cambios obtenido exitosamente", content = @Content(schema = @Schema(implementation = ChangeFeedResponseDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Token o límite inválido", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                        @ApiResponse(responseCode = "503", description = "Demasiadas lecturas en espera o tiempo agotado", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+        })
+        public DeferredResult<ResponseEntity<ChangeFeedResponseDTO<ClienteDTO>>> getClienteChanges(
+                        @Parameter(description = "Token devuelto por la consulta anterior (nextToken)") @RequestParam(required = false) String since,
+                        @Parameter(description = "Número máximo de cambios a retornar", example = "100") @RequestParam(defaultValue = "100") int limit) {
+                log.debug("Obteniendo cambios de clientes desde token: {}, límite: {}", since, limit);
+
+                return deferred(clienteAsyncServicePort.findChangesSince(since, limit)
+                                .thenApply(changes -> ResponseEntity.ok(ClienteConverter.toChangeFeedResponseDTO(changes))));
         }
 
         /**
@@ -104,20 +155,46 @@ public class ClienteRestAdapter {
         @Operation(summary = "Obtener cliente por shared key", description = "Busca y retorna un cliente específico utilizando su shared key único")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Cliente encontrado exitosamente", content = @Content(schema = @Schema(implementation = ClienteDTO.class))),
-                        @ApiResponse(responseCode = "404", description = "Cliente no encontrado con el shared key proporcionado", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+                        @ApiResponse(responseCode = "404", description = "Cliente no encontrado con el shared key proporcionado", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                        @ApiResponse(responseCode = "503", description = "Demasiadas lecturas en espera o tiempo agotado", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
         })
-        public ResponseEntity<ClienteDTO> getClienteBySharedKey(
+        public DeferredResult<ResponseEntity<ClienteDTO>> getClienteBySharedKey(
                         @Parameter(description = "Shared key único del cliente", required = true, example = "jdoe123") @PathVariable String sharedKey) {
                 log.info("Buscando cliente con shared key: {}", sharedKey);
 
-                try {
-                        Cliente cliente = clienteServicePort.findBySharedKey(sharedKey);
-                        log.info("Cliente encontrado: {}", cliente.getId());
-                        return ResponseEntity.ok(ClienteConverter.toDTO(cliente));
-                } catch (IllegalArgumentException e) {
-                        log.warn("Cliente no encontrado con shared key: {}", sharedKey);
-                        return ResponseEntity.notFound().build();
-                }
+                return deferred(clienteAsyncServicePort.findBySharedKey(sharedKey).handle((cliente, error) -> {
+                        if (error == null) {
+                                log.info("Cliente encontrado: {}", cliente.getId());
+                                return ResponseEntity.ok(ClienteConverter.toDTO(cliente));
+                        }
+                        if (unwrap(error) instanceof IllegalArgumentException) {
+                                log.warn("Cliente no encontrado con shared key: {}", sharedKey);
+                                return ResponseEntity.notFound().build();
+                        }
+                        throw new CompletionException(unwrap(error));
+                }));
+        }
+
+        /**
+         * Obtiene varios clientes por sus shared keys
+         */
+        @PostMapping("/lookup")
+        @Operation(summary = "Obtener varios clientes por shared key", description = "Busca hasta 1000 shared keys con una sola consulta y retorna los clientes encontrados junto con las claves sin cliente")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Búsqueda realizada exitosamente", content = @Content(schema = @Schema(implementation = ClienteLookupResponseDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Sin shared keys, con claves vacías o con más de las admitidas", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                        @ApiResponse(responseCode = "503", description = "Demasiadas lecturas en espera o tiempo agotado", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+        })
+        public DeferredResult<ResponseEntity<ClienteLookupResponseDTO>> lookupClientes(
+                        @Parameter(description = "Shared keys a buscar", required = true) @Valid @RequestBody ClienteLookupRequestDTO lookupDTO) {
+                log.info("Buscando {} clientes por shared key", lookupDTO.getSharedKeys().size());
+                return deferred(clienteAsyncServicePort.findBySharedKeys(lookupDTO.getSharedKeys()).thenApply(clientes -> {
+                        ClienteLookupResponseDTO response = ClienteConverter
+                                        .toLookupResponseDTO(lookupDTO.getSharedKeys(), clientes);
+                        log.info("Encontrados {} clientes, {} shared keys sin cliente", response.getClientes().size(),
+                                        response.getMissing().size());
+                        return ResponseEntity.ok(response);
+                }));
         }
 
         /**
@@ -127,32 +204,62 @@ public class ClienteRestAdapter {
         @Operation(summary = "Filtrar clientes", description = "Filtra clientes según criterios específicos como nombre, email, teléfono o rango de fechas")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Clientes filtrados exitosamente", content = @Content(schema = @Schema(implementation = ClienteDTO.class))),
-                        @ApiResponse(responseCode = "400", description = "Criterios de filtro inválidos", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+                        @ApiResponse(responseCode = "400", description = "Criterios de filtro inválidos o campo no permitido en fields", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                        @ApiResponse(responseCode = "503", description = "Demasiadas lecturas en espera o tiempo agotado", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
         })
-        public ResponseEntity<PageResponseDTO<ClienteDTO>> filterClientes(
-                        @Parameter(description = "Criterios de filtrado", required = true) @Valid @RequestBody ClienteFilterDTO filterDTO) {
+        public DeferredResult<ResponseEntity<PageResponseDTO<?>>> filterClientes(
+                        @Parameter(description = "Criterios de filtrado", required = true) @Valid @RequestBody ClienteFilterDTO filterDTO,
+                        @Parameter(description = FIELDS_DESCRIPTION, example = "sharedKey,nombre") @RequestParam(required = false) String fields) {
                 log.info("Filtrando clientes con criterios: {}", filterDTO);
                 ClienteFilter filter = ClienteConverter.toFilter(filterDTO);
-                PageResponse<Cliente> clientes = clienteServicePort
-                                .findClientesByFilter(filter, 0, Integer.MAX_VALUE, "id", "asc");
-                PageResponseDTO<ClienteDTO> response = ClienteConverter.toPageResponseDTO(clientes);
-                log.info("Encontrados {} clientes que cumplen los criterios", response.getContent().size());
-                return ResponseEntity.ok(response);
+                CompletableFuture<? extends PageResponseDTO<?>> response;
+                if (fields == null) {
+                        response = clienteAsyncServicePort
+                                        .findClientesByFilter(filter, 0, Integer.MAX_VALUE, "id", "asc")
+                                        .thenApply(ClienteConverter::toPageResponseDTO);
+                } else {
+                        Set<ClienteField> selected = ClienteField.parse(fields);
+                        response = clienteAsyncServicePort
+                                        .findClientesByFilter(filter, 0, Integer.MAX_VALUE, "id", "asc", selected)
+                                        .thenApply(clientes -> ClienteConverter.toPageResponseDTO(clientes, selected));
+                }
+                return deferred(response.thenApply(body -> {
+                        log.info("Encontrados {} clientes que cumplen los criterios", body.getContent().size());
+                        return ResponseEntity.ok(body);
+                }));
         }
 
         /**
          * Exporta clientes a CSV
          */
         @GetMapping("/export/csv")
-        @Operation(summary = "Exportar clientes a CSV", description = "Genera y descarga un archivo CSV con todos los clientes registrados en el sistema")
+        @Operation(summary = "Exportar clientes a CSV", description = "Genera y descarga un archivo CSV con todos los clientes registrados en el sistema. Con clientes.export.snapshot.enabled=true se sirve el CSV mantenido en disco, que admite la cabecera Range.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Archivo CSV generado y descargado exitosamente", content = @Content(mediaType = "application/octet-stream")),
-                        @ApiResponse(responseCode = "500", description = "Error interno del servidor al generar el CSV", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+                        @ApiResponse(responseCode = "500", description = "Error interno del servidor al generar el CSV", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                        @ApiResponse(responseCode = "503", description = "Demasiadas lecturas en espera o tiempo agotado", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
         })
-        public ResponseEntity<byte[]> exportClientesToCsv() {
+        public DeferredResult<ResponseEntity<byte[]>> exportClientesToCsv(HttpServletRequest request,
+                        HttpServletResponse response)
+                        throws IOException {
+                Optional<ClienteCsvSnapshot.Snapshot> snapshot = Optional
+                                .ofNullable(clienteCsvSnapshot.getIfAvailable())
+                                .flatMap(ClienteCsvSnapshot::current);
+                if (snapshot.isPresent()) {
+                        ClienteCsvSnapshot.Snapshot csv = snapshot.get();
+                        log.info("Exportando clientes a CSV desde el fichero en disco ({} bytes)", csv.length());
+                        FileRangeTransfer.send(csv.file(), csv.length(),
+                                        "\"csv-" + csv.generation() + "-" + csv.length() + "\"",
+                                        MediaType.APPLICATION_OCTET_STREAM_VALUE, RestConstants.FILENAME_CSV, request,
+                                        response);
+                        return null;
+                }
                 log.info("Exportando clientes a CSV");
-                try {
-                        List<Cliente> clientes = clienteServicePort.exportClientesToCsv();
+                return deferred(clienteAsyncServicePort.exportClientesToCsv().handle((clientes, error) -> {
+                        if (error != null) {
+                                log.error("Error al exportar clientes a CSV", unwrap(error));
+                                return ResponseEntity.internalServerError().build();
+                        }
                         String csvContent = ClienteConverter.generateCsvContent(clientes);
                         byte[] csvData = csvContent.getBytes(StandardCharsets.UTF_8);
                         HttpHeaders headers = new HttpHeaders();
@@ -162,10 +269,27 @@ public class ClienteRestAdapter {
                         return ResponseEntity.ok()
                                         .headers(headers)
                                         .body(csvData);
-                } catch (Exception e) {
-                        log.error("Error al exportar clientes a CSV", e);
-                        return ResponseEntity.internalServerError().build();
-                }
+                }));
+        }
+
+        /**
+         * Resultado diferido que se completa con el futuro: con su respuesta o,
+         * si falla, con su excepción, que resuelve GlobalExceptionHandler
+         */
+        private static <T> DeferredResult<T> deferred(CompletableFuture<? extends T> future) {
+                DeferredResult<T> result = new DeferredResult<>();
+                future.whenComplete((value, error) -> {
+                        if (error != null) {
+                                result.setErrorResult(unwrap(error));
+                        } else {
+                                result.setResult(value);
+                        }
+                });
+                return result;
+        }
+
+        private static Throwable unwrap(Throwable error) {
+                return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
         }
 
 }
\ No newline at end of file
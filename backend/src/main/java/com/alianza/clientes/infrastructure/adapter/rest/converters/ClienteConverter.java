@@ -1,14 +1,29 @@
 package com.alianza.clientes.infrastructure.adapter.rest.converters;
 
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.alianza.clientes.domain.model.ChangeFeedResponse;
 import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
 import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.ExportState;
+import com.alianza.clientes.domain.model.ExportStatus;
+import com.alianza.clientes.domain.model.IngestStatus;
+import com.alianza.clientes.domain.model.MatchMode;
 import com.alianza.clientes.domain.model.PageResponse;
 import com.alianza.clientes.infrastructure.adapter.rest.constants.RestConstants;
+import com.alianza.clientes.infrastructure.adapter.rest.dto.ChangeFeedResponseDTO;
 import com.alianza.clientes.infrastructure.adapter.rest.dto.ClienteDTO;
 import com.alianza.clientes.infrastructure.adapter.rest.dto.ClienteFilterDTO;
+import com.alianza.clientes.infrastructure.adapter.rest.dto.ClienteLookupResponseDTO;
+import com.alianza.clientes.infrastructure.adapter.rest.dto.ExportStatusDTO;
+import com.alianza.clientes.infrastructure.adapter.rest.dto.IngestStatusDTO;
 import com.alianza.clientes.infrastructure.adapter.rest.dto.PageResponseDTO;
 
 /**
@@ -21,19 +36,40 @@ public class ClienteConverter {
     }
 
     /**
-     * Convierte un DTO de filtro a un objeto de dominio de filtro
+     * Convierte un DTO de filtro a un objeto de dominio de filtro. Los textos se
+     * recortan: los espacios que arrastra el formulario no son parte del criterio
      * 
      * @param dto DTO de filtro a convertir
      * @return Objeto de dominio de filtro
+     * @throws IllegalArgumentException si un modo de comparación no es válido o
+     *                                  la ventana de vigencia no es coherente
      */
     public static ClienteFilter toFilter(ClienteFilterDTO dto) {
+        LocalDate vigenteDesde = dto.getVigenteDesde();
+        LocalDate vigenteHasta = dto.getVigenteHasta();
+        if (dto.getVigenteEn() != null) {
+            if (vigenteDesde != null || vigenteHasta != null) {
+                throw new IllegalArgumentException(
+                        "vigenteEn no se puede combinar con vigenteDesde ni vigenteHasta");
+            }
+            vigenteDesde = dto.getVigenteEn();
+            vigenteHasta = dto.getVigenteEn();
+        }
+        if (vigenteDesde != null && vigenteHasta != null && vigenteHasta.isBefore(vigenteDesde)) {
+            throw new IllegalArgumentException("vigenteHasta no puede ser anterior a vigenteDesde");
+        }
         return ClienteFilter.builder()
-                .sharedKey(dto.getSharedKey())
-                .nombre(dto.getNombre())
-                .telefono(dto.getTelefono())
-                .email(dto.getEmail())
+                .sharedKey(trim(dto.getSharedKey()))
+                .nombre(trim(dto.getNombre()))
+                .telefono(trim(dto.getTelefono()))
+                .email(trim(dto.getEmail()))
+                .nombreMatch(MatchMode.parse(dto.getNombreMatch()))
+                .telefonoMatch(MatchMode.parse(dto.getTelefonoMatch()))
+                .emailMatch(MatchMode.parse(dto.getEmailMatch()))
                 .fechaInicio(dto.getFechaInicio())
                 .fechaFin(dto.getFechaFin())
+                .vigenteDesde(vigenteDesde)
+                .vigenteHasta(vigenteHasta)
                 .build();
     }
 
@@ -72,6 +108,42 @@ public class ClienteConverter {
                 .fechaInicio(domain.getFechaInicio())
                 .fechaFin(domain.getFechaFin())
                 .fechaCreacion(domain.getFechaCreacion())
+                .updatedAt(domain.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Convierte el resultado de una búsqueda por varios shared keys a su DTO
+     * 
+     * @param sharedKeys Claves pedidas
+     * @param clientes   Clientes encontrados
+     * @return DTO con los clientes encontrados y las claves sin cliente, sin
+     *         repetidos
+     */
+    public static ClienteLookupResponseDTO toLookupResponseDTO(List<String> sharedKeys, List<Cliente> clientes) {
+        Set<String> missing = new LinkedHashSet<>(sharedKeys);
+        clientes.forEach(cliente -> missing.remove(cliente.getSharedKey()));
+        return ClienteLookupResponseDTO.builder()
+                .clientes(clientes.stream().map(ClienteConverter::toDTO).toList())
+                .missing(List.copyOf(missing))
+                .build();
+    }
+
+    /**
+     * Convierte un lote del feed de cambios de dominio a su DTO
+     * 
+     * @param changeFeed Lote de cambios de dominio
+     * @return DTO del lote de cambios
+     */
+    public static ChangeFeedResponseDTO<ClienteDTO> toChangeFeedResponseDTO(ChangeFeedResponse<Cliente> changeFeed) {
+        List<ClienteDTO> clienteDTOs = changeFeed.getContent().stream()
+                .map(ClienteConverter::toDTO)
+                .collect(Collectors.toList());
+
+        return ChangeFeedResponseDTO.<ClienteDTO>builder()
+                .content(clienteDTOs)
+                .nextToken(changeFeed.getNextToken())
+                .hasMore(changeFeed.isHasMore())
                 .build();
     }
 
@@ -98,6 +170,42 @@ public class ClienteConverter {
                 .build();
     }
 
+    /**
+     * Convierte una respuesta paginada de dominio a un DTO de respuesta
+     * paginada con solo los campos pedidos. Cada cliente se serializa como un
+     * objeto con esos campos, en el orden de ClienteField; los demás no
+     * aparecen en el JSON.
+     * 
+     * @param pageResponse Respuesta paginada de dominio
+     * @param fields       Campos a incluir
+     * @return DTO de respuesta paginada
+     */
+    public static PageResponseDTO<Map<String, Object>> toPageResponseDTO(PageResponse<Cliente> pageResponse,
+            Set<ClienteField> fields) {
+        List<Map<String, Object>> clientes = pageResponse.getContent().stream()
+                .map(cliente -> toFieldMap(cliente, fields))
+                .collect(Collectors.toList());
+
+        return PageResponseDTO.<Map<String, Object>>builder()
+                .content(clientes)
+                .pageNumber(pageResponse.getPageNumber())
+                .pageSize(pageResponse.getPageSize())
+                .totalElements(pageResponse.getTotalElements())
+                .totalPages(pageResponse.getTotalPages())
+                .first(pageResponse.isFirst())
+                .last(pageResponse.isLast())
+                .empty(pageResponse.isEmpty())
+                .build();
+    }
+
+    private static Map<String, Object> toFieldMap(Cliente cliente, Set<ClienteField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (ClienteField field : fields) {
+            values.put(field.getProperty(), field.get(cliente));
+        }
+        return values;
+    }
+
     /**
      * Genera el contenido CSV a partir de una lista de clientes
      * 
@@ -109,16 +217,73 @@ public class ClienteConverter {
         // Encabezados
         csv.append(RestConstants.HEADERS_CSV_CLIENT);
         // Datos
-        clientes.forEach(cliente -> {
-            csv.append(cliente.getSharedKey()).append(",")
-                    .append(cliente.getNombre()).append(",")
-                    .append(cliente.getTelefono()).append(",")
-                    .append(cliente.getEmail()).append(",")
-                    .append(cliente.getFechaInicio()).append(",")
-                    .append(cliente.getFechaFin()).append(",")
-                    .append(cliente.getFechaCreacion()).append("\n");
-        });
+        clientes.forEach(cliente -> appendCsvRow(csv, cliente));
         return csv.toString();
     }
 
+    /**
+     * Genera la línea CSV de un cliente, con el mismo formato que
+     * generateCsvContent
+     * 
+     * @param cliente Cliente a convertir
+     * @return Línea CSV terminada en salto de línea
+     */
+    public static String toCsvRow(Cliente cliente) {
+        return appendCsvRow(new StringBuilder(128), cliente).toString();
+    }
+
+    private static StringBuilder appendCsvRow(StringBuilder csv, Cliente cliente) {
+        return csv.append(cliente.getSharedKey()).append(",")
+                .append(cliente.getNombre()).append(",")
+                .append(cliente.getTelefono()).append(",")
+                .append(cliente.getEmail()).append(",")
+                .append(cliente.getFechaInicio()).append(",")
+                .append(cliente.getFechaFin()).append(",")
+                .append(cliente.getFechaCreacion()).append("\n");
+    }
+
+    /**
+     * Convierte el estado de un lote de ingesta a DTO
+     * 
+     * @param status Estado de dominio
+     * @return DTO del estado
+     */
+    public static IngestStatusDTO toIngestStatusDTO(IngestStatus status) {
+        return IngestStatusDTO.builder()
+                .trackingId(status.getTrackingId())
+                .state(status.getState().name())
+                .total(status.getTotal())
+                .persisted(status.getPersisted())
+                .failed(status.getFailed())
+                .errors(status.getErrors())
+                .acceptedAt(status.getAcceptedAt())
+                .completedAt(status.getCompletedAt())
+                .build();
+    }
+
+    /**
+     * Convierte el estado de una exportación a DTO
+     * 
+     * @param status Estado de dominio
+     * @return DTO del estado, con la URL de descarga si el fichero está listo
+     */
+    public static ExportStatusDTO toExportStatusDTO(ExportStatus status) {
+        return ExportStatusDTO.builder()
+                .exportId(status.getExportId())
+                .state(status.getState().name())
+                .total(status.getTotal())
+                .exported(status.getExported())
+                .bytes(status.getBytes())
+                .error(status.getError())
+                .downloadUrl(status.getState() == ExportState.COMPLETED
+                        ? "/clientes/export/" + status.getExportId() + "/download"
+                        : null)
+                .createdAt(status.getCreatedAt())
+                .completedAt(status.getCompletedAt())
+                .build();
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : null;
+    }
 }
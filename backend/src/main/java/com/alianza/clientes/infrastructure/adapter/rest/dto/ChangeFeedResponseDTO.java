@@ -0,0 +1,41 @@
+package com.alianza.clientes.infrastructure.adapter.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) para transferir lotes del feed de cambios
+ * entre la API REST y la capa de aplicación.
+ *
+ * @param <T> Tipo de contenido del lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Lote de clientes creados o modificados después de un token de sincronización")
+public class ChangeFeedResponseDTO<T> {
+
+    /**
+     * Registros modificados
+     */
+    @Schema(description = "Clientes modificados, ordenados por instante de modificación")
+    private List<T> content;
+
+    /**
+     * Token para continuar la sincronización
+     */
+    @Schema(description = "Token opaco a enviar como parámetro 'since' en la siguiente consulta", example = "AAYOqYc1QAAAAAAAAAAAFA")
+    private String nextToken;
+
+    /**
+     * Indica si existen más cambios pendientes
+     */
+    @Schema(description = "Indica si hay más cambios pendientes después de este lote", example = "false")
+    private boolean hasMore;
+}
@@ -1,6 +1,7 @@
 package com.alianza.clientes.infrastructure.adapter.rest.dto;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
@@ -77,4 +78,10 @@ public class ClienteDTO {
      */
     @Schema(description = "Fecha de creación del registro", example = "2024-01-01", type = "string", format = "date", accessMode = Schema.AccessMode.READ_ONLY)
     private LocalDate fechaCreacion;
+
+    /**
+     * Instante de la última modificación del registro del cliente
+     */
+    @Schema(description = "Instante de la última modificación del registro", example = "2024-01-01T10:15:30.123456", type = "string", format = "date-time", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -28,7 +28,7 @@ public class ClienteFilterDTO {
     /**
      * Nombre para filtrar clientes
      */
-    @Schema(description = "Filtrar por nombre (búsqueda parcial)", example = "Juan")
+    @Schema(description = "Filtrar por nombre (búsqueda parcial salvo que nombreMatch indique otra cosa)", example = "Juan")
     private String nombre;
 
     /**
@@ -43,6 +43,24 @@ public class ClienteFilterDTO {
     @Schema(description = "Filtrar por correo electrónico", example = "juan@email.com")
     private String email;
 
+    /**
+     * Comparación del nombre
+     */
+    @Schema(description = "Comparación del nombre: exact, prefix o contains (por defecto)", example = "prefix", allowableValues = { "exact", "prefix", "contains" })
+    private String nombreMatch;
+
+    /**
+     * Comparación del teléfono
+     */
+    @Schema(description = "Comparación del teléfono: exact, prefix o contains (por defecto)", example = "prefix", allowableValues = { "exact", "prefix", "contains" })
+    private String telefonoMatch;
+
+    /**
+     * Comparación del email
+     */
+    @Schema(description = "Comparación del email: exact, prefix o contains (por defecto)", example = "exact", allowableValues = { "exact", "prefix", "contains" })
+    private String emailMatch;
+
     /**
      * Fecha de inicio para filtrar clientes
      */
@@ -54,4 +72,22 @@ public class ClienteFilterDTO {
      */
     @Schema(description = "Filtrar por fecha de fin hasta", example = "2024-12-31", type = "string", format = "date")
     private LocalDate fechaFin;
-}
\ No newline at end of file
+
+    /**
+     * Inicio de la ventana de vigencia
+     */
+    @Schema(description = "Contratos vigentes en algún día de la ventana [vigenteDesde, vigenteHasta]; sin vigenteHasta la ventana queda abierta", example = "2024-03-01", type = "string", format = "date")
+    private LocalDate vigenteDesde;
+
+    /**
+     * Fin de la ventana de vigencia
+     */
+    @Schema(description = "Fin inclusivo de la ventana de vigencia; sin vigenteDesde la ventana queda abierta", example = "2024-03-31", type = "string", format = "date")
+    private LocalDate vigenteHasta;
+
+    /**
+     * Fecha en la que el contrato debe estar vigente
+     */
+    @Schema(description = "Contratos vigentes en esta fecha; no se combina con vigenteDesde ni vigenteHasta", example = "2024-06-15", type = "string", format = "date")
+    private LocalDate vigenteEn;
+}
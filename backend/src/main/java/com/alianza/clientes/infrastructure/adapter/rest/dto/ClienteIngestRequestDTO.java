@@ -0,0 +1,30 @@
+package com.alianza.clientes.infrastructure.adapter.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) con el lote de clientes enviado a la ingesta
+ * asíncrona.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Lote de clientes nuevos para la ingesta asíncrona")
+public class ClienteIngestRequestDTO {
+
+    /**
+     * Clientes a crear
+     */
+    @NotEmpty(message = "El lote debe contener al menos un cliente")
+    @Schema(description = "Clientes a crear; cada uno debe incluir su shared key", required = true)
+    private List<@Valid ClienteDTO> clientes;
+}
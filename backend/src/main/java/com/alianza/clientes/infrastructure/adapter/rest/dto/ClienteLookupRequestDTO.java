@@ -0,0 +1,30 @@
+package com.alianza.clientes.infrastructure.adapter.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) con las claves de una búsqueda de varios
+ * clientes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Shared keys de los clientes a buscar")
+public class ClienteLookupRequestDTO {
+
+    /**
+     * Claves compartidas a buscar
+     */
+    @NotEmpty(message = "La búsqueda debe incluir al menos un shared key")
+    @Schema(description = "Shared keys a buscar (hasta 1000 distintas)", example = "[\"CLI001\", \"CLI002\"]", required = true)
+    private List<@NotBlank(message = "Los shared keys no pueden estar vacíos") String> sharedKeys;
+}
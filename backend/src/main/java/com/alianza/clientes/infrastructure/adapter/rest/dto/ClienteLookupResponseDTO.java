@@ -0,0 +1,33 @@
+package com.alianza.clientes.infrastructure.adapter.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) con el resultado de una búsqueda de varios
+ * clientes por shared key.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Clientes encontrados y shared keys sin cliente")
+public class ClienteLookupResponseDTO {
+
+    /**
+     * Clientes encontrados
+     */
+    @Schema(description = "Clientes encontrados, en el orden de las claves pedidas")
+    private List<ClienteDTO> clientes;
+
+    /**
+     * Claves sin cliente
+     */
+    @Schema(description = "Shared keys pedidos que no corresponden a ningún cliente", example = "[\"CLI999\"]")
+    private List<String> missing;
+}
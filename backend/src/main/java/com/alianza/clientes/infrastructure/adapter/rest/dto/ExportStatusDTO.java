@@ -0,0 +1,75 @@
+package com.alianza.clientes.infrastructure.adapter.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO (Data Transfer Object) con el estado de una exportación de clientes en
+ * segundo plano.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estado de una exportación de clientes")
+public class ExportStatusDTO {
+
+    /**
+     * Identificador de la exportación
+     */
+    @Schema(description = "Identificador de la exportación", example = "3c1f0d2a-7b5e-4e0a-9f61-2d8c4b7a9e15")
+    private String exportId;
+
+    /**
+     * Estado de la exportación
+     */
+    @Schema(description = "RUNNING, COMPLETED o FAILED", example = "RUNNING")
+    private String state;
+
+    /**
+     * Clientes registrados al iniciar la exportación
+     */
+    @Schema(description = "Clientes registrados al iniciar la exportación", example = "100000")
+    private long total;
+
+    /**
+     * Clientes escritos en el fichero
+     */
+    @Schema(description = "Clientes escritos en el fichero", example = "45000")
+    private long exported;
+
+    /**
+     * Tamaño del fichero terminado
+     */
+    @Schema(description = "Tamaño del fichero terminado, en bytes", example = "0")
+    private long bytes;
+
+    /**
+     * Motivo del fallo
+     */
+    @Schema(description = "Motivo del fallo, si la exportación falló")
+    private String error;
+
+    /**
+     * URL de descarga
+     */
+    @Schema(description = "URL de descarga, presente cuando el fichero está listo")
+    private String downloadUrl;
+
+    /**
+     * Instante en que se inició la exportación
+     */
+    @Schema(description = "Instante en que se inició la exportación")
+    private LocalDateTime createdAt;
+
+    /**
+     * Instante en que terminó la exportación
+     */
+    @Schema(description = "Instante en que terminó la exportación")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,70 @@
+package com.alianza.clientes.infrastructure.adapter.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) con el estado de un lote de la ingesta
+ * asíncrona.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estado de un lote de la ingesta asíncrona")
+public class IngestStatusDTO {
+
+    /**
+     * Identificador de seguimiento del lote
+     */
+    @Schema(description = "Identificador de seguimiento del lote", example = "9b2f6c1e-4f7d-4d8e-9a51-0c3d2b7e8f10")
+    private String trackingId;
+
+    /**
+     * Estado del lote
+     */
+    @Schema(description = "ACCEPTED, COMPLETED o COMPLETED_WITH_ERRORS", example = "ACCEPTED")
+    private String state;
+
+    /**
+     * Clientes del lote
+     */
+    @Schema(description = "Clientes del lote", example = "500")
+    private int total;
+
+    /**
+     * Clientes guardados
+     */
+    @Schema(description = "Clientes guardados", example = "0")
+    private int persisted;
+
+    /**
+     * Clientes que no se pudieron guardar
+     */
+    @Schema(description = "Clientes que no se pudieron guardar", example = "0")
+    private int failed;
+
+    /**
+     * Motivos de los fallos
+     */
+    @Schema(description = "Motivo de cada fallo, precedido del shared key")
+    private List<String> errors;
+
+    /**
+     * Instante en que se aceptó el lote
+     */
+    @Schema(description = "Instante en que se aceptó el lote")
+    private LocalDateTime acceptedAt;
+
+    /**
+     * Instante en que se procesó el último cliente del lote
+     */
+    @Schema(description = "Instante en que se procesó el último cliente del lote")
+    private LocalDateTime completedAt;
+}
@@ -7,10 +7,12 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Manejador global de excepciones para la API REST.
@@ -71,6 +73,28 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Maneja las lecturas asíncronas que no se pudieron atender: el pool de su
+     * tipo de carga tenía la cola llena o no terminaron a tiempo
+     * 
+     * @param ex Excepción de rechazo o de tiempo agotado
+     * @return Respuesta de error con código 503
+     */
+    @ExceptionHandler({ RejectedExecutionException.class, AsyncRequestTimeoutException.class })
+    public ResponseEntity<ErrorResponse> handleOverload(Exception ex) {
+        log.warn("Lectura asíncrona no atendida: {}", ex.getClass().getSimpleName());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("El servicio está saturado; reintente más tarde")
+                .path("/clientes")
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Maneja excepciones generales no capturadas
      * 
@@ -0,0 +1,169 @@
+package com.alianza.clientes.infrastructure.async;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.alianza.clientes.domain.model.ChangeFeedResponse;
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.domain.port.api.ClienteAsyncServicePort;
+import com.alianza.clientes.domain.port.api.ClienteServicePort;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementación de ClienteAsyncServicePort que ejecuta cada lectura del
+ * ClienteServicePort en un pool propio de su tipo de carga:
+ * <ul>
+ * <li>lookup: findBySharedKey y findBySharedKeys, cortas y muy frecuentes</li>
+ * <li>search: listados, filtros y feed de cambios</li>
+ * <li>export: exportClientesToCsv, que lee la tabla completa</li>
+ * </ul>
+ * Así una ráfaga de exportaciones o de filtros lentos solo agota su pool y no
+ * retrasa las búsquedas por clave. Cuando la cola de un pool está llena el
+ * futuro falla con RejectedExecutionException.
+ * <p>
+ * Si el hilo que llama tiene una transacción activa, la lectura se ejecuta en
+ * ese mismo hilo: en otro no vería lo escrito en ella.
+ */
+@Slf4j
+public class ExecutorClienteAsyncServicePort implements ClienteAsyncServicePort {
+
+    private final ClienteServicePort delegate;
+    private final ExecutorService lookup;
+    private final ExecutorService search;
+    private final ExecutorService export;
+    private final TaskDecorator taskDecorator;
+
+    /**
+     * @param delegate      Puerto de entrada síncrono
+     * @param lookup        Pool de las búsquedas por clave
+     * @param search        Pool de los listados, filtros y feed de cambios
+     * @param export        Pool de las exportaciones
+     * @param taskDecorator Decorador de cada tarea, para trasladar al pool el
+     *                      contexto del hilo que la envía
+     */
+    public ExecutorClienteAsyncServicePort(ClienteServicePort delegate, ExecutorService lookup,
+            ExecutorService search, ExecutorService export, TaskDecorator taskDecorator) {
+        this.delegate = delegate;
+        this.lookup = lookup;
+        this.search = search;
+        this.export = export;
+        this.taskDecorator = taskDecorator;
+    }
+
+    /**
+     * Cierra los pools; las tareas ya aceptadas terminan
+     */
+    public void stop() throws InterruptedException {
+        for (ExecutorService executor : List.of(lookup, search, export)) {
+            executor.shutdown();
+        }
+        for (ExecutorService executor : List.of(lookup, search, export)) {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("El pool asíncrono de clientes no terminó a tiempo; se interrumpen sus tareas");
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Cliente> findBySharedKey(String sharedKey) {
+        return submit(lookup, () -> delegate.findBySharedKey(sharedKey));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<Cliente>> findBySharedKeys(List<String> sharedKeys) {
+        return submit(lookup, () -> delegate.findBySharedKeys(sharedKeys));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<PageResponse<Cliente>> findAllClientes(int page, int size, String sortBy,
+            String sortDir) {
+        return submit(search, () -> delegate.findAllClientes(page, size, sortBy, sortDir));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<PageResponse<Cliente>> findAllClientes(int page, int size, String sortBy,
+            String sortDir, Set<ClienteField> fields) {
+        return submit(search, () -> delegate.findAllClientes(page, size, sortBy, sortDir, fields));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<PageResponse<Cliente>> findClientesByFilter(ClienteFilter filter, int page, int size,
+            String sortBy, String sortDir) {
+        return submit(search, () -> delegate.findClientesByFilter(filter, page, size, sortBy, sortDir));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<PageResponse<Cliente>> findClientesByFilter(ClienteFilter filter, int page, int size,
+            String sortBy, String sortDir, Set<ClienteField> fields) {
+        return submit(search, () -> delegate.findClientesByFilter(filter, page, size, sortBy, sortDir, fields));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<Cliente>> exportClientesToCsv() {
+        return submit(export, delegate::exportClientesToCsv);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ChangeFeedResponse<Cliente>> findChangesSince(String token, int limit) {
+        return submit(search, () -> delegate.findChangesSince(token, limit));
+    }
+
+    private <T> CompletableFuture<T> submit(ExecutorService executor, Supplier<T> read) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            try {
+                return CompletableFuture.completedFuture(read.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(taskDecorator.decorate(() -> {
+                try {
+                    future.complete(read.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            }));
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+}
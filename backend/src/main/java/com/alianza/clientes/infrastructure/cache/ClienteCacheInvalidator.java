@@ -0,0 +1,28 @@
+package com.alianza.clientes.infrastructure.cache;
+
+import java.util.Collection;
+
+/**
+ * Estado en memoria derivado de los clientes (cachés, índices) que debe
+ * descartarse cuando otra instancia los modifica. Lo invoca el bus de
+ * invalidación (PgNotifyInvalidationListener) desde su propio hilo; las
+ * escrituras hechas por esta misma instancia no llegan por él, porque el
+ * decorador ya las aplicó al escribir.
+ */
+public interface ClienteCacheInvalidator {
+
+    /**
+     * Clientes creados o modificados en otra transacción, ya confirmada
+     *
+     * @param created  Shared keys de clientes nuevos
+     * @param modified Shared keys de clientes modificados, cuya versión
+     *                 anterior no se conoce
+     */
+    void invalidate(Collection<String> created, Collection<String> modified);
+
+    /**
+     * Puede haberse perdido cualquier cambio (por ejemplo, tras una
+     * desconexión más larga que la retención del outbox)
+     */
+    void invalidateAll();
+}
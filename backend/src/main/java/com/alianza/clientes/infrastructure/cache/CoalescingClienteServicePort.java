@@ -0,0 +1,175 @@
+package com.alianza.clientes.infrastructure.cache;
+
+import java.util.List;
+import java.util.Set;
+
+import com.alianza.clientes.domain.model.ChangeFeedResponse;
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.domain.port.api.ClienteServicePort;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Decorador de ClienteServicePort que une las lecturas idénticas concurrentes
+ * de {@code findBySharedKey}, {@code findAllClientes} y
+ * {@code findClientesByFilter} en una sola llamada (ver {@link SingleFlight}):
+ * en un pico en el que muchas peticiones piden el mismo cliente o la misma
+ * página a la vez, solo una ocupa una conexión y las demás comparten su
+ * resultado. Los resultados compartidos son las mismas instancias para todas
+ * las peticiones unidas, que solo deben leerlos.
+ * <p>
+ * Cada {@link #saveCliente(Cliente)} desliga las lecturas en curso, de modo
+ * que una lectura que empieza después de una escritura nunca recibe el
+ * resultado de una consulta anterior a ella.
+ */
+public class CoalescingClienteServicePort implements ClienteServicePort, MeterBinder {
+
+    private final ClienteServicePort delegate;
+    private final SingleFlight<Object> flights = new SingleFlight<>();
+
+    private Counter findBySharedKeyShared;
+    private Counter findAllClientesShared;
+    private Counter findClientesByFilterShared;
+
+    /**
+     * @param delegate Puerto de entrada decorado
+     */
+    public CoalescingClienteServicePort(ClienteServicePort delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cliente saveCliente(Cliente cliente) {
+        try {
+            return delegate.saveCliente(cliente);
+        } finally {
+            flights.forget();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cliente findBySharedKey(String sharedKey) {
+        return flights.execute(new SharedKeyRead(sharedKey), () -> delegate.findBySharedKey(sharedKey),
+                () -> increment(findBySharedKeyShared));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findBySharedKeys(List<String> sharedKeys) {
+        return delegate.findBySharedKeys(sharedKeys);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir) {
+        return flights.execute(new PageRead(null, page, size, sortBy, sortDir, ClienteField.ALL),
+                () -> delegate.findAllClientes(page, size, sortBy, sortDir),
+                () -> increment(findAllClientesShared));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir) {
+        return flights.execute(new PageRead(filter.toBuilder().build(), page, size, sortBy, sortDir,
+                ClienteField.ALL),
+                () -> delegate.findClientesByFilter(filter, page, size, sortBy, sortDir),
+                () -> increment(findClientesByFilterShared));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields) {
+        return flights.execute(new PageRead(null, page, size, sortBy, sortDir, fields),
+                () -> delegate.findAllClientes(page, size, sortBy, sortDir, fields),
+                () -> increment(findAllClientesShared));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir, Set<ClienteField> fields) {
+        return flights.execute(new PageRead(filter.toBuilder().build(), page, size, sortBy, sortDir, fields),
+                () -> delegate.findClientesByFilter(filter, page, size, sortBy, sortDir, fields),
+                () -> increment(findClientesByFilterShared));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> exportClientesToCsv() {
+        return delegate.exportClientesToCsv();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ChangeFeedResponse<Cliente> findChangesSince(String token, int limit) {
+        return delegate.findChangesSince(token, limit);
+    }
+
+    /**
+     * Publica {@code clientes.coalescing.shared} por método (lecturas resueltas
+     * con el resultado de otra llamada en curso) y
+     * {@code clientes.coalescing.inflight}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        findBySharedKeyShared = sharedCounter(registry, "findBySharedKey");
+        findAllClientesShared = sharedCounter(registry, "findAllClientes");
+        findClientesByFilterShared = sharedCounter(registry, "findClientesByFilter");
+        Gauge.builder("clientes.coalescing.inflight", flights, SingleFlight::inFlight)
+                .description("Lecturas distintas en curso que admiten unirse")
+                .register(registry);
+    }
+
+    private static Counter sharedCounter(MeterRegistry registry, String method) {
+        return Counter.builder("clientes.coalescing.shared")
+                .description("Lecturas que compartieron el resultado de una llamada idéntica en curso")
+                .tag("method", method)
+                .register(registry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private record SharedKeyRead(String sharedKey) {
+    }
+
+    /**
+     * Página de clientes, filtrada si {@code filter} no es null. El filtro es
+     * una copia, para que la clave no cambie si quien llama modifica el suyo.
+     * Las lecturas con campos distintos no se unen
+     */
+    private record PageRead(ClienteFilter filter, int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields) {
+    }
+}
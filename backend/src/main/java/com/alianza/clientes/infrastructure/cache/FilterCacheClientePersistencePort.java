@@ -0,0 +1,514 @@
+package com.alianza.clientes.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.MatchMode;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Decorador de ClientePersistencePort que guarda en memoria las páginas (con
+ * sus totales) de {@link #findClientesByFilter}, de modo que repetir un mismo
+ * filtro no repite la consulta ni el count.
+ * <p>
+ * La clave es el filtro normalizado (campos vacíos descartados; nombre y email
+ * en minúsculas, porque se comparan sin distinguir mayúsculas) junto con la
+ * página, el tamaño y el ordenamiento. Las entradas ocupan como mucho
+ * {@code maxBytes} estimados, con expulsión de la menos usada, y caducan a los
+ * {@code ttlMs} para recoger los cambios hechos por otras instancias.
+ * <p>
+ * Cada {@link #saveCliente(Cliente)} invalida solo las entradas cuyo filtro
+ * acepta el cliente guardado, o su versión anterior si es una modificación:
+ * las demás no pueden cambiar por esa escritura. Las escrituras de otras
+ * instancias llegan por {@link ClienteCacheInvalidator}.
+ */
+public class FilterCacheClientePersistencePort
+        implements ClientePersistencePort, ClienteCacheInvalidator, MeterBinder {
+
+    /**
+     * Estimación de un Cliente sin sus textos: cabecera, campos, fechas y la
+     * referencia en la lista de la página
+     */
+    private static final long CLIENTE_BYTES = 200;
+    private static final long ENTRY_BYTES = 300;
+
+    /**
+     * Versión anterior desconocida: la escritura vacía la caché
+     */
+    private static final Cliente UNKNOWN = new Cliente();
+
+    private final ClientePersistencePort delegate;
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+    private long writes;
+    private int pendingWrites;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter invalidations;
+
+    /**
+     * @param delegate Puerto de persistencia decorado
+     * @param maxBytes Memoria estimada máxima de las páginas guardadas
+     * @param ttlMs    Vida máxima de una página guardada
+     */
+    public FilterCacheClientePersistencePort(ClientePersistencePort delegate, long maxBytes, long ttlMs) {
+        this(delegate, maxBytes, ttlMs, System::nanoTime);
+    }
+
+    FilterCacheClientePersistencePort(ClientePersistencePort delegate, long maxBytes, long ttlMs,
+            LongSupplier clock) {
+        this.delegate = delegate;
+        this.maxBytes = maxBytes;
+        this.ttlNanos = ttlMs * 1_000_000L;
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir) {
+        return findClientesByFilter(filter, page, size, sortBy, sortDir, ClienteField.ALL);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Los campos forman parte de la clave: una página proyectada no sirve a
+     * una petición que pide otros campos.
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir, Set<ClienteField> fields) {
+        if (filter.getIds() != null) {
+            return query(filter, page, size, sortBy, sortDir, fields);
+        }
+        ClienteFilter normalized = normalize(filter);
+        Key key = new Key(normalized, page, size, sortBy, sortDir.toLowerCase(Locale.ROOT), fields);
+        long writesBefore;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && clock.getAsLong() - entry.createdAt() < ttlNanos) {
+                increment(hits);
+                return copy(entry.page());
+            }
+            if (entry != null) {
+                remove(key);
+            }
+            writesBefore = writes;
+        }
+        increment(misses);
+        PageResponse<Cliente> result = query(filter, page, size, sortBy, sortDir, fields);
+        Entry entry = new Entry(normalized.toPredicate(), copy(result), estimate(result), clock.getAsLong());
+        synchronized (this) {
+            // Una escritura durante la consulta pudo dejar el resultado desfasado
+            if (writes == writesBefore && pendingWrites == 0 && entry.bytes() <= maxBytes) {
+                Entry previous = entries.put(key, entry);
+                bytes += entry.bytes() - (previous != null ? previous.bytes() : 0);
+                evict();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cliente saveCliente(Cliente cliente) {
+        boolean empty = beginWrite();
+        Cliente saved = null;
+        Cliente previous = null;
+        try {
+            previous = empty ? null : previousVersion(cliente);
+            saved = delegate.saveCliente(cliente);
+        } finally {
+            endWrite(saved != null ? List.of(saved) : List.of(), Collections.singletonList(previous));
+        }
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> saveClientes(List<Cliente> clientes) {
+        boolean empty = beginWrite();
+        List<Cliente> saved = List.of();
+        List<Cliente> previous = new ArrayList<>(clientes.size());
+        try {
+            for (Cliente cliente : clientes) {
+                previous.add(empty ? null : previousVersion(cliente));
+            }
+            saved = delegate.saveClientes(clientes);
+        } finally {
+            endWrite(saved, previous);
+        }
+        return saved;
+    }
+
+    /**
+     * Marca el inicio de una escritura: hasta que termine, ninguna consulta
+     * guarda su resultado, porque pudo leer los datos de antes o de después
+     *
+     * @return true si no hay páginas guardadas que invalidar
+     */
+    private synchronized boolean beginWrite() {
+        writes++;
+        pendingWrites++;
+        return entries.isEmpty();
+    }
+
+    /**
+     * Versión guardada de un cliente que se va a modificar, necesaria para
+     * invalidar los filtros de los que sale. Si no se encuentra (por ejemplo,
+     * cambia su shared key) no se sabe qué filtros lo contenían.
+     */
+    private Cliente previousVersion(Cliente cliente) {
+        if (cliente.getId() == null) {
+            return null;
+        }
+        return delegate.findBySharedKey(cliente.getSharedKey())
+                .filter(previous -> previous.getId().equals(cliente.getId()))
+                .orElse(UNKNOWN);
+    }
+
+    /**
+     * Descarta las páginas cuyo filtro acepta un cliente guardado o su versión
+     * anterior
+     */
+    private synchronized void endWrite(List<Cliente> saved, List<Cliente> previous) {
+        pendingWrites--;
+        if (saved.isEmpty()) {
+            return;
+        }
+        boolean unknown = previous.stream().anyMatch(cliente -> cliente == UNKNOWN);
+        for (Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator(); it.hasNext();) {
+            Entry entry = it.next().getValue();
+            if (unknown || matchesAny(entry.matches(), saved) || matchesAny(entry.matches(), previous)) {
+                bytes -= entry.bytes();
+                it.remove();
+                increment(invalidations);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Con solo altas se descartan las páginas cuyo filtro acepta la versión
+     * actual de los clientes nuevos, leída del adaptador. Una modificación no
+     * dice de qué filtros salió el cliente, así que, como una escritura local
+     * sin versión anterior conocida, vacía la caché. En ambos casos las
+     * consultas en curso no guardan su resultado.
+     */
+    @Override
+    public void invalidate(Collection<String> created, Collection<String> modified) {
+        if (!modified.isEmpty()) {
+            invalidateAll();
+            return;
+        }
+        synchronized (this) {
+            writes++;
+            if (created.isEmpty() || entries.isEmpty()) {
+                return;
+            }
+        }
+        List<Cliente> current;
+        try {
+            current = delegate.findBySharedKeys(created);
+        } catch (RuntimeException e) {
+            invalidateAll();
+            throw e;
+        }
+        synchronized (this) {
+            for (Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator(); it.hasNext();) {
+                Entry entry = it.next().getValue();
+                if (matchesAny(entry.matches(), current)) {
+                    bytes -= entry.bytes();
+                    it.remove();
+                    increment(invalidations);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void invalidateAll() {
+        writes++;
+        for (int i = entries.size(); i > 0; i--) {
+            increment(invalidations);
+        }
+        entries.clear();
+        bytes = 0;
+    }
+
+    private static boolean matchesAny(Predicate<Cliente> matches, List<Cliente> clientes) {
+        for (Cliente cliente : clientes) {
+            if (cliente != null && matches.test(cliente)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Cliente> findBySharedKey(String sharedKey) {
+        return delegate.findBySharedKey(sharedKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findBySharedKeys(Collection<String> sharedKeys) {
+        return delegate.findBySharedKeys(sharedKeys);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsBySharedKey(String sharedKey) {
+        return delegate.existsBySharedKey(sharedKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir) {
+        return delegate.findAllClientes(page, size, sortBy, sortDir);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields) {
+        return delegate.findAllClientes(page, size, sortBy, sortDir, fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findAllClientes() {
+        return delegate.findAllClientes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Cliente> findTopByOrderByIdDesc() {
+        return delegate.findTopByOrderByIdDesc();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findChangesSince(long changeSeq, Long id, int limit) {
+        return delegate.findChangesSince(changeSeq, id, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findClientesAfterId(Long id, int limit) {
+        return delegate.findClientesAfterId(id, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countClientes() {
+        return delegate.countClientes();
+    }
+
+    /**
+     * Publica {@code clientes.cache.filter.bytes}, {@code .entries},
+     * {@code .hits}, {@code .misses} e {@code .invalidations}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("clientes.cache.filter.bytes", this, FilterCacheClientePersistencePort::estimatedBytes)
+                .description("Memoria estimada de las páginas de filtros guardadas")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("clientes.cache.filter.entries", this, FilterCacheClientePersistencePort::size)
+                .description("Páginas de filtros guardadas")
+                .register(registry);
+        hits = Counter.builder("clientes.cache.filter.hits")
+                .description("Filtros respondidos desde la caché")
+                .register(registry);
+        misses = Counter.builder("clientes.cache.filter.misses")
+                .description("Filtros enviados al adaptador")
+                .register(registry);
+        invalidations = Counter.builder("clientes.cache.filter.invalidations")
+                .description("Páginas de filtros descartadas por una escritura")
+                .register(registry);
+    }
+
+    /**
+     * Memoria estimada de las páginas guardadas
+     */
+    public synchronized long estimatedBytes() {
+        return bytes;
+    }
+
+    /**
+     * Número de páginas guardadas
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Filtro con la misma semántica y una sola representación: los textos
+     * vacíos no filtran, nombre y email no distinguen mayúsculas y el modo de
+     * comparación por defecto es CONTAINS
+     */
+    static ClienteFilter normalize(ClienteFilter filter) {
+        return ClienteFilter.builder()
+                .sharedKey(textOrNull(filter.getSharedKey()))
+                .nombre(lowerOrNull(filter.getNombre()))
+                .telefono(textOrNull(filter.getTelefono()))
+                .email(lowerOrNull(filter.getEmail()))
+                .nombreMatch(matchOrNull(filter.getNombre(), filter.getNombreMatch()))
+                .telefonoMatch(matchOrNull(filter.getTelefono(), filter.getTelefonoMatch()))
+                .emailMatch(matchOrNull(filter.getEmail(), filter.getEmailMatch()))
+                .fechaInicio(filter.getFechaInicio())
+                .fechaFin(filter.getFechaFin())
+                .vigenteDesde(filter.getVigenteDesde())
+                .vigenteHasta(filter.getVigenteHasta())
+                .build();
+    }
+
+    private static String textOrNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static String lowerOrNull(String value) {
+        return value == null || value.isBlank() ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static MatchMode matchOrNull(String value, MatchMode mode) {
+        return value == null || value.isBlank() ? null : MatchMode.orDefault(mode);
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().getValue().bytes();
+            eldest.remove();
+        }
+    }
+
+    private PageResponse<Cliente> query(ClienteFilter filter, int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields) {
+        return ClienteField.isProjection(fields)
+                ? delegate.findClientesByFilter(filter, page, size, sortBy, sortDir, fields)
+                : delegate.findClientesByFilter(filter, page, size, sortBy, sortDir);
+    }
+
+    private void remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.bytes();
+        }
+    }
+
+    private static long estimate(PageResponse<Cliente> page) {
+        long total = ENTRY_BYTES;
+        for (Cliente cliente : page.getContent()) {
+            total += CLIENTE_BYTES + length(cliente.getSharedKey()) + length(cliente.getNombre())
+                    + length(cliente.getTelefono()) + length(cliente.getEmail());
+        }
+        return total;
+    }
+
+    private static long length(String value) {
+        return value != null ? 2L * value.length() : 0;
+    }
+
+    /**
+     * Las páginas guardadas no se comparten con quien llama, que puede
+     * modificar los clientes recibidos
+     */
+    private static PageResponse<Cliente> copy(PageResponse<Cliente> page) {
+        return PageResponse.<Cliente>builder()
+                .content(page.getContent().stream().map(FilterCacheClientePersistencePort::copy).toList())
+                .pageNumber(page.getPageNumber())
+                .pageSize(page.getPageSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .first(page.isFirst())
+                .last(page.isLast())
+                .empty(page.isEmpty())
+                .build();
+    }
+
+    private static Cliente copy(Cliente cliente) {
+        return Cliente.builder()
+                .id(cliente.getId())
+                .sharedKey(cliente.getSharedKey())
+                .nombre(cliente.getNombre())
+                .telefono(cliente.getTelefono())
+                .email(cliente.getEmail())
+                .fechaInicio(cliente.getFechaInicio())
+                .fechaFin(cliente.getFechaFin())
+                .fechaCreacion(cliente.getFechaCreacion())
+                .updatedAt(cliente.getUpdatedAt())
+                .changeSeq(cliente.getChangeSeq())
+                .build();
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private record Key(ClienteFilter filter, int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields) {
+    }
+
+    private record Entry(Predicate<Cliente> matches, PageResponse<Cliente> page, long bytes, long createdAt) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.alianza.clientes.infrastructure.cache;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Identidad de esta instancia en el bus de invalidación. Marca las conexiones
+ * del pool ({@link HikariDataSource}) con el parámetro de sesión
+ * {@value #SETTING}, que el trigger de V10__invalidation_origin.sql guarda como
+ * origen de cada registro del outbox. Con él, {@link PgNotifyInvalidationListener}
+ * reconoce las escrituras propias, que los decoradores ya aplicaron al
+ * escribir, y no las vuelve a entregar.
+ */
+public class InvalidationOrigin implements BeanPostProcessor {
+
+    static final String SETTING = "clientes.node_id";
+
+    private static final String OPTIONS = "options";
+
+    private final String nodeId;
+
+    /**
+     * @param nodeId Identificador único de esta instancia
+     */
+    public InvalidationOrigin(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * @return Identificador de esta instancia
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Añade {@code -c clientes.node_id=<id>} a las opciones de arranque de las
+     * conexiones del pool, conservando las que ya tuviera configuradas
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            String options = dataSource.getDataSourceProperties().getProperty(OPTIONS);
+            String tag = "-c " + SETTING + "=" + nodeId;
+            dataSource.addDataSourceProperty(OPTIONS,
+                    options == null || options.isBlank() ? tag : options + " " + tag);
+        }
+        return bean;
+    }
+}
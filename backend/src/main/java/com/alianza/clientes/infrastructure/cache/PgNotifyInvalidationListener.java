@@ -0,0 +1,396 @@
+package com.alianza.clientes.infrastructure.cache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bus de invalidación entre réplicas sobre PostgreSQL. Cada sentencia que da
+ * de alta o modifica clientes deja un registro por cliente en el outbox
+ * {@code cliente_invalidations}, o uno solo de tipo {@code ALL} si afecta a
+ * muchos o vacía la tabla, y un único NOTIFY en el canal
+ * {@code clientes_invalidation} con el rango de ids escrito. Todo ocurre desde
+ * los triggers de V11__invalidation_per_statement.sql y en la misma
+ * transacción que la escritura. Este listener escucha el canal con una
+ * conexión propia, fuera del pool, lee del outbox los rangos anunciados y
+ * entrega los shared keys a los {@link ClienteCacheInvalidator} suscritos. Descarta los registros cuyo origen es esta misma instancia
+ * ({@link InvalidationOrigin}): sus decoradores ya los aplicaron al escribir.
+ * <p>
+ * Si la conexión se pierde, reconecta, vuelve a escuchar y relee el outbox
+ * desde la última posición vista. La relectura empieza
+ * {@value #CATCH_UP_OVERLAP} ids antes, por si una transacción que tomó un id
+ * menor confirmó después (invalidar dos veces no tiene efecto). Si la
+ * desconexión dura más que la retención del outbox, los registros pueden
+ * haberse purgado y los suscriptores se invalidan por completo.
+ */
+@Slf4j
+public class PgNotifyInvalidationListener implements MeterBinder {
+
+    static final String CHANNEL = "clientes_invalidation";
+    static final int CATCH_UP_OVERLAP = 1000;
+
+    private static final int READ_BATCH = 1000;
+    private static final int POLL_TIMEOUT_MS = 1000;
+    private static final long PURGE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final long retentionMs;
+    private final long reconnectDelayMs;
+    private final String nodeId;
+    private final List<ClienteCacheInvalidator> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile Connection connection;
+    private Thread thread;
+
+    /**
+     * Último id del outbox entregado; -1 hasta la primera conexión
+     */
+    private long lastSeenId = -1;
+    private long disconnectedAt;
+    private long lastPurge;
+
+    private Counter received;
+    private Counter caughtUp;
+
+    /**
+     * @param url              URL JDBC de la base de datos
+     * @param username         Usuario
+     * @param password         Contraseña
+     * @param retentionMs      Antigüedad a partir de la cual se purgan los registros del outbox
+     * @param reconnectDelayMs Espera entre intentos de reconexión
+     * @param nodeId           Identificador de esta instancia, cuyos registros se descartan; null los
+     *                         entrega todos
+     */
+    public PgNotifyInvalidationListener(String url, String username, String password, long retentionMs,
+            long reconnectDelayMs, String nodeId) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.retentionMs = retentionMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * Añade un suscriptor a las invalidaciones
+     */
+    public void subscribe(ClienteCacheInvalidator subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Empieza a escuchar en segundo plano
+     */
+    public synchronized void start() {
+        running = true;
+        thread = new Thread(this::listenLoop, "clientes-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Deja de escuchar y cierra la conexión
+     */
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            closeQuietly(connection);
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * @return true si hay una conexión escuchando el canal
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection listening = DriverManager.getConnection(url, username, password)) {
+                connection = listening;
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                catchUp(listening);
+                connected = true;
+                log.info("Escuchando invalidaciones de clientes en el canal {}", CHANNEL);
+                PGConnection pgConnection = listening.unwrap(PGConnection.class);
+                while (running) {
+                    deliver(listening, pgConnection.getNotifications(POLL_TIMEOUT_MS));
+                    purgeIfDue(listening);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    log.warn("Conexión de invalidaciones perdida; reintento en {} ms: {}", reconnectDelayMs,
+                            e.getMessage());
+                }
+            } finally {
+                if (connected) {
+                    disconnectedAt = System.nanoTime();
+                }
+                connected = false;
+                connection = null;
+            }
+            sleepBeforeReconnect();
+        }
+    }
+
+    /**
+     * Relee el outbox desde la última posición vista. En la primera conexión
+     * no hay nada que recuperar: solo se toma la posición actual
+     */
+    private void catchUp(Connection listening) throws SQLException {
+        if (lastSeenId < 0) {
+            try (Statement statement = listening.createStatement();
+                    ResultSet resultSet = statement.executeQuery(
+                            "SELECT COALESCE(MAX(id), 0) FROM cliente_invalidations")) {
+                resultSet.next();
+                lastSeenId = resultSet.getLong(1);
+            }
+            return;
+        }
+        if (System.nanoTime() - disconnectedAt >= TimeUnit.MILLISECONDS.toNanos(retentionMs)) {
+            log.warn("Desconectado más que la retención del outbox; se invalidan todas las cachés");
+            invalidateAll();
+        }
+        increment(caughtUp, read(listening, Math.max(0, lastSeenId - CATCH_UP_OVERLAP), Long.MAX_VALUE));
+    }
+
+    /**
+     * Lee del outbox los rangos anunciados. Los avisos de una misma espera se
+     * leen con una sola consulta sobre el rango que los cubre; si incluye
+     * registros de otras transacciones, ya confirmados o aún invisibles, se
+     * entregan de nuevo o llegarán con su propio aviso. Los avisos de esta
+     * instancia no se leen ni mueven la última posición vista: solo la
+     * mueven los registros leídos, para que el margen de la relectura
+     * ({@value #CATCH_UP_OVERLAP} ids) cuente desde ellos
+     */
+    private void deliver(Connection listening, PGNotification[] notifications) throws SQLException {
+        if (notifications == null || notifications.length == 0) {
+            return;
+        }
+        long first = Long.MAX_VALUE;
+        long last = -1;
+        for (PGNotification notification : notifications) {
+            Announcement announcement = Announcement.parse(notification.getParameter());
+            if (announcement == null) {
+                log.warn("Aviso de invalidación no reconocido: {}", notification.getParameter());
+            } else if (!isOwn(announcement.origin())) {
+                first = Math.min(first, announcement.firstId());
+                last = Math.max(last, announcement.lastId());
+            }
+        }
+        if (last >= 0) {
+            increment(received, read(listening, first - 1, last));
+        }
+    }
+
+    /**
+     * Entrega por lotes los registros del outbox con id en (after, upTo]
+     *
+     * @return Registros leídos
+     */
+    private int read(Connection listening, long after, long upTo) throws SQLException {
+        int total = 0;
+        int read;
+        do {
+            List<Invalidation> batch = new ArrayList<>();
+            try (PreparedStatement statement = listening.prepareStatement("SELECT id, operation, origin, "
+                    + "shared_key FROM cliente_invalidations WHERE id > ? AND id <= ? ORDER BY id LIMIT "
+                    + READ_BATCH)) {
+                statement.setLong(1, after);
+                statement.setLong(2, upTo);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        batch.add(new Invalidation(resultSet.getLong(1), resultSet.getString(2),
+                                resultSet.getString(3), resultSet.getString(4)));
+                    }
+                }
+            }
+            read = batch.size();
+            if (read > 0) {
+                after = batch.get(read - 1).id();
+                total += read;
+                apply(batch);
+            }
+        } while (read == READ_BATCH);
+        return total;
+    }
+
+    private void apply(List<Invalidation> batch) {
+        Set<String> created = new LinkedHashSet<>();
+        Set<String> modified = new LinkedHashSet<>();
+        boolean all = false;
+        for (Invalidation invalidation : batch) {
+            lastSeenId = Math.max(lastSeenId, invalidation.id());
+            if (isOwn(invalidation.origin())) {
+                continue;
+            }
+            if (invalidation.all()) {
+                all = true;
+            } else {
+                (invalidation.created() ? created : modified).add(invalidation.sharedKey());
+            }
+        }
+        if (all) {
+            invalidateAll();
+            return;
+        }
+        created.removeAll(modified);
+        if (created.isEmpty() && modified.isEmpty()) {
+            return;
+        }
+        for (ClienteCacheInvalidator subscriber : subscribers) {
+            try {
+                subscriber.invalidate(created, modified);
+            } catch (RuntimeException e) {
+                log.warn("Error al invalidar {}", subscriber.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private boolean isOwn(String origin) {
+        return nodeId != null && nodeId.equals(origin);
+    }
+
+    private void invalidateAll() {
+        for (ClienteCacheInvalidator subscriber : subscribers) {
+            try {
+                subscriber.invalidateAll();
+            } catch (RuntimeException e) {
+                log.warn("Error al invalidar {}", subscriber.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * Borra los registros del outbox más antiguos que la retención. Lo hace
+     * cada réplica; los borrados concurrentes no se estorban
+     */
+    private void purgeIfDue(Connection listening) throws SQLException {
+        long now = System.nanoTime();
+        if (now - lastPurge < PURGE_INTERVAL_NANOS) {
+            return;
+        }
+        lastPurge = now;
+        try (PreparedStatement statement = listening.prepareStatement(
+                "DELETE FROM cliente_invalidations WHERE created_at < clock_timestamp() - ? * INTERVAL '1 millisecond'")) {
+            statement.setLong(1, retentionMs);
+            int purged = statement.executeUpdate();
+            if (purged > 0) {
+                log.debug("Purgados {} registros del outbox de invalidaciones", purged);
+            }
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                // La conexión ya no sirve; el hilo de escucha termina igualmente
+            }
+        }
+    }
+
+    private static void increment(Counter counter, int amount) {
+        if (counter != null && amount > 0) {
+            counter.increment(amount);
+        }
+    }
+
+    /**
+     * Publica {@code clientes.invalidation.received},
+     * {@code clientes.invalidation.caught-up} y
+     * {@code clientes.invalidation.connected}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        received = Counter.builder("clientes.invalidation.received")
+                .description("Invalidaciones leídas del outbox al recibir un NOTIFY")
+                .register(registry);
+        caughtUp = Counter.builder("clientes.invalidation.caught-up")
+                .description("Invalidaciones recuperadas del outbox al reconectar")
+                .register(registry);
+        Gauge.builder("clientes.invalidation.connected", this, listener -> listener.isConnected() ? 1 : 0)
+                .description("1 si la conexión de invalidaciones está escuchando")
+                .register(registry);
+    }
+
+    /**
+     * Registro del outbox
+     */
+    record Invalidation(long id, String operation, String origin, String sharedKey) {
+
+        boolean created() {
+            return "INSERT".equals(operation);
+        }
+
+        /**
+         * Sentencia que afectó a demasiados clientes para enumerarlos, o TRUNCATE
+         */
+        boolean all() {
+            return "ALL".equals(operation);
+        }
+    }
+
+    /**
+     * Aviso de una sentencia: rango de ids que escribió en el outbox
+     */
+    record Announcement(long firstId, long lastId, String origin) {
+
+        /**
+         * @param payload primer_id:último_id:origen, con el origen vacío si no se conoce
+         * @return Aviso, o null si la carga no tiene ese formato
+         */
+        static Announcement parse(String payload) {
+            String[] parts = payload != null ? payload.split(":", 3) : new String[0];
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                return new Announcement(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                        parts[2].isEmpty() ? null : parts[2]);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.alianza.clientes.infrastructure.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Ejecución única de llamadas idénticas concurrentes: mientras una llamada con
+ * una clave está en curso, las que llegan con la misma clave esperan su
+ * resultado (o su excepción) en lugar de repetirla. Al terminar la llamada la
+ * clave se libera, así que no guarda resultados: no es una caché.
+ *
+ * @param <K> Tipo de la clave de la llamada
+ */
+public class SingleFlight<K> {
+
+    private final ConcurrentMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Ejecuta la llamada o se une a la que ya está en curso con la misma clave
+     *
+     * @param key      Clave de la llamada
+     * @param call     Llamada a ejecutar si no hay otra en curso
+     * @param onShared Se invoca cuando el resultado se toma de otra llamada
+     * @return Resultado de la llamada
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(K key, Supplier<V> call, Runnable onShared) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            onShared.run();
+            try {
+                return (V) existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+        }
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Hace que las llamadas que lleguen a partir de ahora no se unan a las que
+     * ya están en curso, por ejemplo tras una escritura que estas pudieron no
+     * ver
+     */
+    public void forget() {
+        inFlight.clear();
+    }
+
+    /**
+     * Número de claves con una llamada en curso
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,86 @@
+package com.alianza.clientes.infrastructure.config;
+
+import com.alianza.clientes.domain.port.api.ClienteServicePort;
+import com.alianza.clientes.infrastructure.async.ExecutorClienteAsyncServicePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Configuración de las lecturas asíncronas de clientes: un pool de hilos por
+ * tipo de carga (lookup, search y export), cada uno con su tamaño y su cola
+ * acotada. Los hilos de los tres pools compiten por las conexiones del pool
+ * de base de datos, así que su suma debe dimensionarse con él.
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Puerto de entrada asíncrono sobre el puerto de entrada síncrono. Si hay
+     * un TaskDecorator (por ejemplo, el del diagnóstico SQL), se aplica a cada
+     * tarea antes de enviarla a su pool.
+     *
+     * @param clienteServicePort  Puerto de entrada síncrono
+     * @param taskDecorator       Decorador de las tareas, si existe
+     * @param meterRegistry       Registro de métricas, si existe
+     * @param lookupThreads       Hilos del pool de búsquedas por clave
+     * @param lookupQueueCapacity Tareas en espera admitidas por el pool de búsquedas por clave
+     * @param searchThreads       Hilos del pool de listados y filtros
+     * @param searchQueueCapacity Tareas en espera admitidas por el pool de listados y filtros
+     * @param exportThreads       Hilos del pool de exportaciones
+     * @param exportQueueCapacity Tareas en espera admitidas por el pool de exportaciones
+     * @return Implementación del puerto de entrada asíncrono
+     */
+    @Bean(destroyMethod = "stop")
+    public ExecutorClienteAsyncServicePort clienteAsyncServicePort(ClienteServicePort clienteServicePort,
+            ObjectProvider<TaskDecorator> taskDecorator,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${clientes.async.lookup.threads:8}") int lookupThreads,
+            @Value("${clientes.async.lookup.queue-capacity:1000}") int lookupQueueCapacity,
+            @Value("${clientes.async.search.threads:4}") int searchThreads,
+            @Value("${clientes.async.search.queue-capacity:200}") int searchQueueCapacity,
+            @Value("${clientes.async.export.threads:1}") int exportThreads,
+            @Value("${clientes.async.export.queue-capacity:4}") int exportQueueCapacity) {
+        ExecutorService lookup = executor("lookup", lookupThreads, lookupQueueCapacity, meterRegistry);
+        ExecutorService search = executor("search", searchThreads, searchQueueCapacity, meterRegistry);
+        ExecutorService export = executor("export", exportThreads, exportQueueCapacity, meterRegistry);
+        return new ExecutorClienteAsyncServicePort(clienteServicePort, lookup, search, export,
+                taskDecorator.getIfAvailable(() -> task -> task));
+    }
+
+    /**
+     * Pool de tamaño fijo con cola acotada que rechaza las tareas cuando está
+     * llena, publicado en las métricas {@code executor.*} con
+     * {@code name=clientes-<carga>}
+     */
+    private static ExecutorService executor(String workload, int threads, int queueCapacity,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads("clientes-" + workload),
+                new ThreadPoolExecutor.AbortPolicy());
+        meterRegistry.ifAvailable(registry -> new ExecutorServiceMetrics(executor, "clientes-" + workload,
+                Tags.empty()).bindTo(registry));
+        return executor;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicLong counter = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.alianza.clientes.infrastructure.config;
+
+import com.alianza.clientes.application.service.ClienteExportService;
+import com.alianza.clientes.domain.port.spi.ClienteExportStoragePort;
+import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+import com.alianza.clientes.infrastructure.adapter.export.FileSystemClienteExportStorage;
+import com.alianza.clientes.infrastructure.adapter.rest.constants.RestConstants;
+import com.alianza.clientes.infrastructure.adapter.rest.converters.ClienteConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuración de las exportaciones de clientes en segundo plano
+ * ({@code POST /clientes/export}), activas salvo con
+ * {@code clientes.export.jobs.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "clientes.export.jobs.enabled", havingValue = "true", matchIfMissing = true)
+public class ExportConfig {
+
+    /**
+     * Almacenamiento de los ficheros exportados en un directorio local
+     * 
+     * @param directory Directorio de los ficheros exportados
+     * @return Adaptador de almacenamiento
+     */
+    @Bean
+    public ClienteExportStoragePort clienteExportStoragePort(
+            @Value("${clientes.export.dir:./data/exports}") String directory) {
+        return new FileSystemClienteExportStorage(Path.of(directory));
+    }
+
+    /**
+     * Servicio de exportación que implementa el puerto de entrada
+     * ClienteExportServicePort
+     * 
+     * @param clientePersistencePort   Puerto de persistencia decorado
+     * @param clienteExportStoragePort Almacenamiento de los ficheros exportados
+     * @param pageSize                 Clientes leídos por consulta
+     * @param retentionMs              Tiempo que se conserva una exportación terminada
+     * @return Servicio de exportación
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ClienteExportService clienteExportServicePort(ClientePersistencePort clientePersistencePort,
+            ClienteExportStoragePort clienteExportStoragePort,
+            @Value("${clientes.export.page-size:5000}") int pageSize,
+            @Value("${clientes.export.retention-ms:3600000}") long retentionMs) {
+        return new ClienteExportService(clientePersistencePort, clienteExportStoragePort,
+                RestConstants.HEADERS_CSV_CLIENT, ClienteConverter::toCsvRow, pageSize,
+                Duration.ofMillis(retentionMs));
+    }
+}
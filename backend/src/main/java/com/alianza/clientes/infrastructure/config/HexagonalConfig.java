@@ -2,9 +2,25 @@ package com.alianza.clientes.infrastructure.config;
 
 import com.alianza.clientes.application.service.ClienteService;
 import com.alianza.clientes.domain.port.api.ClienteServicePort;
+import com.alianza.clientes.domain.port.spi.ClienteEventPublisherPort;
 import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+import com.alianza.clientes.infrastructure.adapter.events.CompositeClienteEventPublisher;
+import com.alianza.clientes.infrastructure.cache.CoalescingClienteServicePort;
+import com.alianza.clientes.infrastructure.cache.FilterCacheClientePersistencePort;
+import com.alianza.clientes.infrastructure.cache.PgNotifyInvalidationListener;
+import com.alianza.clientes.infrastructure.metrics.InstrumentedClientePersistencePort;
+import com.alianza.clientes.infrastructure.metrics.InstrumentedClienteServicePort;
+import com.alianza.clientes.infrastructure.search.NgramSearchClientePersistencePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
 
 /**
  * Configuración de Spring para la arquitectura hexagonal.
@@ -14,13 +30,120 @@ import org.springframework.context.annotation.Configuration;
 public class HexagonalConfig {
 
     /**
-     * Configura el servicio de aplicación que implementa el puerto de entrada
+     * Calificador del adaptador de persistencia activo, sin decorar
+     */
+    public static final String ADAPTER = "clientePersistenceAdapter";
+
+    /**
+     * Índice de trigramas sobre el adaptador, instrumentado si las métricas de
+     * puertos están habilitadas. Su actualización periódica arranca y se
+     * detiene con el contexto. Si existe el bus de invalidación entre
+     * réplicas, se suscribe a él.
+     * 
+     * @param clientePersistencePort Puerto de persistencia implementado por el adaptador
+     * @param meterRegistry          Registro de métricas, si existe
+     * @param invalidationListener   Bus de invalidación entre réplicas, si existe
+     * @param portMetricsEnabled     Indica si se instrumentan los puertos
+     * @param maxCandidates          Máximo de candidatos del índice por consulta
+     * @param refreshIntervalMs      Intervalo de actualización del índice con los cambios externos
+     * @return Decorador con el índice de trigramas
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "clientes.search.ngram.enabled", havingValue = "true")
+    public NgramSearchClientePersistencePort ngramSearchClientePersistencePort(
+            @Qualifier(ADAPTER) ClientePersistencePort clientePersistencePort,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<PgNotifyInvalidationListener> invalidationListener,
+            @Value("${clientes.metrics.ports.enabled:true}") boolean portMetricsEnabled,
+            @Value("${clientes.search.ngram.max-candidates:5000}") int maxCandidates,
+            @Value("${clientes.search.ngram.refresh-interval-ms:5000}") long refreshIntervalMs) {
+        NgramSearchClientePersistencePort search = new NgramSearchClientePersistencePort(
+                instrumented(clientePersistencePort, meterRegistry, portMetricsEnabled), maxCandidates,
+                refreshIntervalMs);
+        meterRegistry.ifAvailable(search::bindTo);
+        invalidationListener.ifAvailable(listener -> listener.subscribe(search));
+        return search;
+    }
+
+    /**
+     * Puerto de persistencia decorado que usan todos los servicios de
+     * aplicación, de modo que cualquier escritura, también la de la ingesta,
+     * pasa por el índice de trigramas y la caché de filtros. Es el adaptador,
+     * instrumentado si las métricas de puertos están habilitadas y hay un
+     * MeterRegistry, o el índice de trigramas si está habilitado; con la
+     * caché de filtros habilitada se envuelve por fuera de todos con
+     * FilterCacheClientePersistencePort, que se suscribe al bus de
+     * invalidación entre réplicas si existe.
      * 
      * @param clientePersistencePort Puerto de persistencia implementado por el adaptador
+     * @param ngramSearch            Índice de trigramas, si está habilitado
+     * @param meterRegistry          Registro de métricas, si existe
+     * @param invalidationListener   Bus de invalidación entre réplicas, si existe
+     * @param portMetricsEnabled     Indica si se instrumentan los puertos
+     * @param filterCacheEnabled     Indica si se guardan las páginas de los filtros
+     * @param filterCacheMaxBytes    Memoria estimada máxima de la caché de filtros
+     * @param filterCacheTtlMs       Vida máxima de una página de la caché de filtros
+     * @return Puerto de persistencia decorado
+     */
+    @Bean
+    @Primary
+    public ClientePersistencePort decoratedClientePersistencePort(
+            @Qualifier(ADAPTER) ClientePersistencePort clientePersistencePort,
+            ObjectProvider<NgramSearchClientePersistencePort> ngramSearch,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<PgNotifyInvalidationListener> invalidationListener,
+            @Value("${clientes.metrics.ports.enabled:true}") boolean portMetricsEnabled,
+            @Value("${clientes.cache.filter.enabled:false}") boolean filterCacheEnabled,
+            @Value("${clientes.cache.filter.max-bytes:33554432}") long filterCacheMaxBytes,
+            @Value("${clientes.cache.filter.ttl-ms:30000}") long filterCacheTtlMs) {
+        NgramSearchClientePersistencePort search = ngramSearch.getIfAvailable();
+        ClientePersistencePort persistence = search != null ? search
+                : instrumented(clientePersistencePort, meterRegistry, portMetricsEnabled);
+        if (filterCacheEnabled) {
+            FilterCacheClientePersistencePort cache = new FilterCacheClientePersistencePort(persistence,
+                    filterCacheMaxBytes, filterCacheTtlMs);
+            meterRegistry.ifAvailable(cache::bindTo);
+            invalidationListener.ifAvailable(listener -> listener.subscribe(cache));
+            persistence = cache;
+        }
+        return persistence;
+    }
+
+    /**
+     * Configura el servicio de aplicación que implementa el puerto de entrada.
+     * Si las métricas de puertos están habilitadas y hay un MeterRegistry, el
+     * servicio se envuelve con un decorador instrumentado. Con la unión de
+     * lecturas habilitada, el servicio se envuelve con CoalescingClienteServicePort.
+     * 
+     * @param clientePersistencePort Puerto de persistencia decorado
+     * @param clienteEventPublishers Adaptadores que reciben los eventos de clientes
+     * @param meterRegistry          Registro de métricas, si existe
+     * @param portMetricsEnabled     Indica si se instrumentan los puertos
+     * @param coalescingEnabled      Indica si se unen las lecturas idénticas concurrentes
      * @return Implementación del puerto de entrada
      */
     @Bean
-    public ClienteServicePort clienteServicePort(ClientePersistencePort clientePersistencePort) {
-        return new ClienteService(clientePersistencePort);
+    public ClienteServicePort clienteServicePort(ClientePersistencePort clientePersistencePort,
+            List<ClienteEventPublisherPort> clienteEventPublishers,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${clientes.metrics.ports.enabled:true}") boolean portMetricsEnabled,
+            @Value("${clientes.coalescing.enabled:true}") boolean coalescingEnabled) {
+        MeterRegistry registry = portMetricsEnabled ? meterRegistry.getIfAvailable() : null;
+        ClienteServicePort service = new ClienteService(clientePersistencePort,
+                new CompositeClienteEventPublisher(clienteEventPublishers));
+        if (coalescingEnabled) {
+            CoalescingClienteServicePort coalescing = new CoalescingClienteServicePort(service);
+            meterRegistry.ifAvailable(coalescing::bindTo);
+            service = coalescing;
+        }
+        return registry != null ? new InstrumentedClienteServicePort(service, registry) : service;
+    }
+
+    private static ClientePersistencePort instrumented(ClientePersistencePort clientePersistencePort,
+            ObjectProvider<MeterRegistry> meterRegistry, boolean portMetricsEnabled) {
+        MeterRegistry registry = portMetricsEnabled ? meterRegistry.getIfAvailable() : null;
+        return registry != null
+                ? new InstrumentedClientePersistencePort(clientePersistencePort, registry)
+                : clientePersistencePort;
     }
-}
\ No newline at end of file
+}
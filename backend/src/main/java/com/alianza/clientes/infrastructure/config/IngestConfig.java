@@ -0,0 +1,71 @@
+package com.alianza.clientes.infrastructure.config;
+
+import com.alianza.clientes.application.service.ClienteIngestService;
+import com.alianza.clientes.domain.port.spi.ClienteEventPublisherPort;
+import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+import com.alianza.clientes.infrastructure.adapter.events.CompositeClienteEventPublisher;
+import com.alianza.clientes.infrastructure.adapter.ingest.RecordLogClienteIngestJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuración de la ingesta asíncrona de clientes, activa con
+ * {@code clientes.ingest.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "clientes.ingest.enabled", havingValue = "true")
+public class IngestConfig {
+
+    /**
+     * Registro de escritura anticipada de los lotes aceptados
+     * 
+     * @param directory      Directorio del registro
+     * @param segmentSize    Tamaño de cada segmento
+     * @param syncIntervalMs Intervalo máximo entre fsync con datos pendientes
+     * @return Adaptador del registro
+     */
+    @Bean(destroyMethod = "close")
+    public RecordLogClienteIngestJournal clienteIngestJournal(
+            @Value("${clientes.ingest.dir:./data/ingest-wal}") String directory,
+            @Value("${clientes.ingest.segment-size:64MB}") DataSize segmentSize,
+            @Value("${clientes.ingest.sync-interval-ms:2}") long syncIntervalMs) {
+        return new RecordLogClienteIngestJournal(Path.of(directory), Math.toIntExact(segmentSize.toBytes()),
+                Duration.ofMillis(syncIntervalMs));
+    }
+
+    /**
+     * Servicio de ingesta que implementa el puerto de entrada
+     * ClienteIngestServicePort
+     * 
+     * @param clientePersistencePort Puerto de persistencia decorado
+     * @param clienteIngestJournal   Registro de escritura anticipada
+     * @param clienteEventPublishers Adaptadores que reciben los eventos de clientes
+     * @param batchSize              Máximo de clientes por transacción
+     * @param maxDelayMs             Espera máxima de un cliente aceptado antes de guardarse
+     * @param maxPerRequest          Máximo de clientes por lote aceptado
+     * @param statusRetentionMs      Tiempo que se conserva el estado de un lote procesado
+     * @param keyRefreshIntervalMs   Intervalo de actualización de las claves conocidas
+     * @return Servicio de ingesta
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ClienteIngestService clienteIngestServicePort(ClientePersistencePort clientePersistencePort,
+            RecordLogClienteIngestJournal clienteIngestJournal,
+            List<ClienteEventPublisherPort> clienteEventPublishers,
+            @Value("${clientes.ingest.batch-size:500}") int batchSize,
+            @Value("${clientes.ingest.max-delay-ms:200}") long maxDelayMs,
+            @Value("${clientes.ingest.max-per-request:10000}") int maxPerRequest,
+            @Value("${clientes.ingest.status-retention-ms:3600000}") long statusRetentionMs,
+            @Value("${clientes.ingest.key-refresh-interval-ms:5000}") long keyRefreshIntervalMs) {
+        return new ClienteIngestService(clientePersistencePort, clienteIngestJournal,
+                new CompositeClienteEventPublisher(clienteEventPublishers), batchSize,
+                Duration.ofMillis(maxDelayMs), maxPerRequest, Duration.ofMillis(statusRetentionMs),
+                Duration.ofMillis(keyRefreshIntervalMs));
+    }
+}
@@ -0,0 +1,60 @@
+package com.alianza.clientes.infrastructure.config;
+
+import com.alianza.clientes.infrastructure.cache.InvalidationOrigin;
+import com.alianza.clientes.infrastructure.cache.PgNotifyInvalidationListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+/**
+ * Configuración del bus de invalidación entre réplicas. Solo tiene sentido
+ * con varias instancias sobre la misma base PostgreSQL: las cachés en memoria
+ * de HexagonalConfig se suscriben al listener para descartar lo que escriben
+ * las demás.
+ */
+@Configuration
+@ConditionalOnProperty(name = "clientes.cache.invalidation.enabled", havingValue = "true")
+public class InvalidationConfig {
+
+    /**
+     * Identidad de esta instancia en el bus, con la que se marcan las
+     * conexiones del pool. Es estático porque postprocesa el DataSource
+     *
+     * @return Origen de las escrituras de esta instancia
+     */
+    @Bean
+    public static InvalidationOrigin invalidationOrigin() {
+        return new InvalidationOrigin(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Listener de invalidaciones con una conexión propia a la base de datos
+     * del datasource, fuera del pool
+     *
+     * @param dataSourceProperties Propiedades del datasource
+     * @param invalidationOrigin   Identidad de esta instancia
+     * @param meterRegistry        Registro de métricas, si existe
+     * @param retentionMs          Antigüedad a partir de la cual se purgan los registros del outbox
+     * @param reconnectDelayMs     Espera entre intentos de reconexión
+     * @return Listener de invalidaciones
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public PgNotifyInvalidationListener pgNotifyInvalidationListener(DataSourceProperties dataSourceProperties,
+            InvalidationOrigin invalidationOrigin,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${clientes.cache.invalidation.retention-ms:86400000}") long retentionMs,
+            @Value("${clientes.cache.invalidation.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+        PgNotifyInvalidationListener listener = new PgNotifyInvalidationListener(
+                dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword(), retentionMs, reconnectDelayMs,
+                invalidationOrigin.getNodeId());
+        meterRegistry.ifAvailable(listener::bindTo);
+        return listener;
+    }
+}
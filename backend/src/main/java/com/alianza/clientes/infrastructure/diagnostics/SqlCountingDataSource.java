@@ -0,0 +1,122 @@
+package com.alianza.clientes.infrastructure.diagnostics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource que envuelve las conexiones, sentencias y ResultSet del
+ * DataSource real para contar, en los {@link SqlStatistics} de la petición en
+ * curso, las sentencias ejecutadas, las filas leídas y el tiempo en la base de
+ * datos. Fuera de una petición las llamadas se delegan sin contar.
+ * <p>
+ * Cada llamada a {@code execute*} cuenta como una sentencia, incluido
+ * {@code executeBatch}, que es un único viaje a la base de datos. Las filas de
+ * {@code getGeneratedKeys} no se cuentan.
+ */
+public class SqlCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement",
+            "prepareCall");
+
+    public SqlCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, super.getConnection(), SqlCountingDataSource::onConnectionCall);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, super.getConnection(username, password),
+                SqlCountingDataSource::onConnectionCall);
+    }
+
+    private static Object onConnectionCall(Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        if (STATEMENT_FACTORIES.contains(method.getName())) {
+            return proxy(method.getReturnType(), result, SqlCountingDataSource::onStatementCall);
+        }
+        return result;
+    }
+
+    private static Object onStatementCall(Object target, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        SqlStatistics statistics = SqlStatistics.current();
+        if (statistics != null && name.startsWith("execute")) {
+            long start = System.nanoTime();
+            try {
+                return wrapResultSet(invoke(target, method, args));
+            } finally {
+                statistics.statementExecuted(System.nanoTime() - start);
+            }
+        }
+        Object result = invoke(target, method, args);
+        return "getResultSet".equals(name) ? wrapResultSet(result) : result;
+    }
+
+    private static Object onResultSetCall(Object target, Method method, Object[] args) throws Throwable {
+        SqlStatistics statistics = SqlStatistics.current();
+        if (statistics == null || !"next".equals(method.getName())) {
+            return invoke(target, method, args);
+        }
+        long start = System.nanoTime();
+        Object hasRow = invoke(target, method, args);
+        if (Boolean.TRUE.equals(hasRow)) {
+            statistics.rowFetched(System.nanoTime() - start);
+        } else {
+            statistics.fetchTime(System.nanoTime() - start);
+        }
+        return hasRow;
+    }
+
+    private static Object wrapResultSet(Object result) {
+        if (result instanceof ResultSet resultSet) {
+            return proxy(ResultSet.class, resultSet, SqlCountingDataSource::onResultSetCall);
+        }
+        return result;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, Interceptor interceptor) {
+        if (target == null || !Statement.class.isAssignableFrom(type) && type != Connection.class
+                && type != ResultSet.class) {
+            return (T) target;
+        }
+        InvocationHandler handler = (proxy, method, args) -> "equals".equals(method.getName())
+                && method.getParameterCount() == 1 ? proxy == args[0] : interceptor.intercept(target, method, args);
+        return (T) Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(), new Class<?>[] { type },
+                handler);
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+        Object intercept(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,42 @@
+package com.alianza.clientes.infrastructure.diagnostics;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Modo de diagnóstico SQL ({@code clientes.diagnostics.sql.enabled=true}):
+ * envuelve el DataSource para contar sentencias, filas y tiempo de base de
+ * datos por petición y exponerlos en las cabeceras {@code X-Sql-Statements},
+ * {@code X-Sql-Rows} y {@code X-Sql-Time-Ms}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "clientes.diagnostics.sql.enabled", havingValue = "true")
+public class SqlDiagnosticsConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlCountingDataSource)) {
+                    return new SqlCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Traslada los contadores de la petición a las tareas de los pools
+     * asíncronos (ver AsyncConfig)
+     */
+    @Bean
+    public TaskDecorator sqlStatisticsTaskDecorator() {
+        return SqlStatistics::propagate;
+    }
+}
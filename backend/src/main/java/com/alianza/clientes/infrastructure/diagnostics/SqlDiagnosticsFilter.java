@@ -0,0 +1,60 @@
+package com.alianza.clientes.infrastructure.diagnostics;
+
+import java.io.IOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Abre los {@link SqlStatistics} de cada petición HTTP. Las cabeceras las
+ * escribe {@link SqlDiagnosticsResponseAdvice} antes de serializar el cuerpo;
+ * este filtro solo las escribe si la respuesta aún no se ha confirmado, por
+ * ejemplo en respuestas sin cuerpo.
+ * <p>
+ * En las peticiones asíncronas los contadores se guardan como atributo de la
+ * petición y se recuperan en el despacho que escribe la respuesta; las
+ * cabeceras se escriben entonces y no al salir del primer despacho.
+ */
+@Component
+@ConditionalOnProperty(name = "clientes.diagnostics.sql.enabled", havingValue = "true")
+public class SqlDiagnosticsFilter extends OncePerRequestFilter {
+
+    private static final String STATISTICS_ATTRIBUTE = SqlStatistics.class.getName();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatistics statistics = (SqlStatistics) request.getAttribute(STATISTICS_ATTRIBUTE);
+        if (statistics == null) {
+            statistics = SqlStatistics.begin();
+            request.setAttribute(STATISTICS_ATTRIBUTE, statistics);
+        } else {
+            SqlStatistics.resume(statistics);
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (!request.isAsyncStarted() && !response.isCommitted()) {
+                statistics.writeHeaders(response::setHeader);
+            }
+            SqlStatistics.end();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.alianza.clientes.infrastructure.diagnostics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Añade las cabeceras {@code X-Sql-*} a las respuestas con cuerpo, justo antes
+ * de escribirlo, cuando ya se han ejecutado las consultas de la petición.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "clientes.diagnostics.sql.enabled", havingValue = "true")
+public class SqlDiagnosticsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        SqlStatistics statistics = SqlStatistics.current();
+        if (statistics != null) {
+            statistics.writeHeaders(response.getHeaders()::set);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,136 @@
+package com.alianza.clientes.infrastructure.diagnostics;
+
+import java.util.Locale;
+import java.util.function.BiConsumer;
+
+/**
+ * Contadores de las sentencias SQL ejecutadas durante una petición HTTP.
+ * En cada momento solo los actualiza un hilo: el que atiende la petición o,
+ * en las peticiones asíncronas, la tarea a la que se trasladan con
+ * {@link #propagate(Runnable)} mientras la petición espera su resultado; por
+ * eso no necesitan sincronización.
+ */
+public final class SqlStatistics {
+
+    /**
+     * Cabecera con el número de sentencias (viajes a la base de datos)
+     */
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+
+    /**
+     * Cabecera con el número de filas leídas de los ResultSet
+     */
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+
+    /**
+     * Cabecera con el tiempo total en la base de datos, en milisegundos
+     */
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long rows;
+    private long nanos;
+
+    /**
+     * Inicia el conteo de la petición en curso en el hilo actual
+     * 
+     * @return Contadores de la petición
+     */
+    public static SqlStatistics begin() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Continúa en el hilo actual el conteo de una petición ya iniciada, por
+     * ejemplo al volver de su procesamiento asíncrono
+     * 
+     * @param statistics Contadores de la petición
+     */
+    public static void resume(SqlStatistics statistics) {
+        CURRENT.set(statistics);
+    }
+
+    /**
+     * Traslada los contadores del hilo actual a una tarea que se ejecutará en
+     * otro hilo, de modo que sus sentencias cuenten en la misma petición
+     * 
+     * @param task Tarea
+     * @return La tarea, o la misma si el hilo actual no atiende una petición
+     */
+    public static Runnable propagate(Runnable task) {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics == null) {
+            return task;
+        }
+        return () -> {
+            SqlStatistics previous = CURRENT.get();
+            CURRENT.set(statistics);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * Obtiene los contadores de la petición en curso
+     * 
+     * @return Contadores o null si el hilo no atiende una petición
+     */
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Termina el conteo del hilo actual
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void statementExecuted(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    void rowFetched(long elapsedNanos) {
+        rows++;
+        nanos += elapsedNanos;
+    }
+
+    void fetchTime(long elapsedNanos) {
+        nanos += elapsedNanos;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Escribe los contadores como cabeceras de respuesta
+     * 
+     * @param header Función que asigna una cabecera
+     */
+    public void writeHeaders(BiConsumer<String, String> header) {
+        header.accept(STATEMENTS_HEADER, Long.toString(statements));
+        header.accept(ROWS_HEADER, Long.toString(rows));
+        header.accept(TIME_HEADER, String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+}
@@ -0,0 +1,253 @@
+package com.alianza.clientes.infrastructure.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.alianza.clientes.infrastructure.adapter.rest.exception.ErrorResponse;
+import com.alianza.clientes.infrastructure.idempotency.IdempotencyStore.Reservation;
+import com.alianza.clientes.infrastructure.idempotency.IdempotencyStore.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Soporte de la cabecera {@code Idempotency-Key} en los POST de alta.
+ * <p>
+ * La primera petición con una clave se procesa normalmente y su respuesta se
+ * guarda en un {@link IdempotencyStore}; un reintento con la misma clave y el
+ * mismo cuerpo recibe esa respuesta, con la cabecera
+ * {@code Idempotent-Replayed: true}, sin llegar al controlador ni a la base de
+ * datos. La misma clave con otro cuerpo se rechaza con 422 y un reintento que
+ * llega mientras la original sigue en curso, con 409. Las respuestas 5xx no se
+ * guardan, para que el reintento vuelva a intentarlo. Si el almacén está lleno
+ * de peticiones en curso, la nueva se rechaza con 503. Las peticiones sin
+ * cabecera no se ven afectadas.
+ * <p>
+ * El almacén es local a cada instancia: detrás de un balanceador sin afinidad
+ * un reintento atendido por otra instancia se procesa de nuevo.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "clientes.idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyFilter extends OncePerRequestFilter implements MeterBinder {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final List<String> paths;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong replays = new AtomicLong();
+
+    /**
+     * @param paths      Rutas de los POST que admiten la cabecera
+     * @param maxEntries Máximo de claves conservadas
+     * @param ttlMs      Tiempo que se conserva cada clave
+     */
+    public IdempotencyFilter(ObjectMapper objectMapper,
+            @Value("${clientes.idempotency.paths:/clientes,/clientes/ingest}") List<String> paths,
+            @Value("${clientes.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${clientes.idempotency.ttl-ms:86400000}") long ttlMs) {
+        this.objectMapper = objectMapper;
+        this.paths = List.copyOf(paths);
+        this.store = new IdempotencyStore(maxEntries, Duration.ofMillis(ttlMs));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !paths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    "La cabecera Idempotency-Key debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres");
+            return;
+        }
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = request.getRequestURI() + " " + idempotencyKey;
+        Reservation reservation = store.reserve(key, sha256(cachedRequest.body));
+        switch (reservation.outcome()) {
+            case REPLAY -> {
+                replays.incrementAndGet();
+                log.debug("Respuesta reproducida para Idempotency-Key {}", idempotencyKey);
+                replay(reservation.response(), response);
+            }
+            case IN_PROGRESS -> writeError(request, response, HttpStatus.CONFLICT,
+                    "Ya hay una petición en curso con la misma Idempotency-Key");
+            case MISMATCH -> writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "La Idempotency-Key ya se usó con un cuerpo distinto");
+            case FULL -> writeError(request, response, HttpStatus.SERVICE_UNAVAILABLE,
+                    "Demasiadas peticiones con Idempotency-Key en curso, reintente más tarde");
+            case RESERVED -> process(key, cachedRequest, response, chain);
+        }
+    }
+
+    private void process(String key, CachedBodyRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            chain.doFilter(request, cachedResponse);
+            if (cachedResponse.getStatus() < 500) {
+                store.complete(key, new StoredResponse(cachedResponse.getStatus(), cachedResponse.getContentType(),
+                        cachedResponse.getHeader(HttpHeaders.LOCATION), cachedResponse.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(key);
+            }
+            cachedResponse.copyBodyToResponse();
+        }
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+            String message) throws IOException {
+        log.warn("Petición con Idempotency-Key rechazada: {}", message);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(request.getRequestURI().substring(request.getContextPath().length()))
+                .build());
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("clientes.idempotency.entries", store, IdempotencyStore::size)
+                .description("Claves de idempotencia conservadas")
+                .register(registry);
+        FunctionCounter.builder("clientes.idempotency.replays", replays, AtomicLong::get)
+                .description("Peticiones respondidas con una respuesta guardada")
+                .register(registry);
+    }
+
+    /**
+     * Petición con el cuerpo ya leído, para calcular su huella antes de
+     * pasarla al controlador
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // El cuerpo ya está en memoria: todo está disponible desde el inicio
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.alianza.clientes.infrastructure.idempotency;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Almacén acotado de respuestas por clave de idempotencia.
+ * <p>
+ * Cada clave se reserva al empezar a procesar su petición y guarda la
+ * respuesta al terminar. Las entradas caducan a los {@code ttl} de su reserva:
+ * como todas viven lo mismo, el orden de inserción es también el de caducidad
+ * y la limpieza recorre solo la cabeza del mapa.
+ * <p>
+ * Al llegar a {@code maxEntries} se descarta la entrada completada más
+ * antigua. Las reservas en curso nunca se descartan, porque un reintento
+ * concurrente se procesaría dos veces; si todas lo están, la nueva reserva se
+ * rechaza con {@link Outcome#FULL}.
+ */
+public final class IdempotencyStore {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * @param maxEntries Máximo de claves conservadas
+     * @param ttl        Tiempo que se conserva cada clave
+     */
+    public IdempotencyStore(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, System::nanoTime);
+    }
+
+    IdempotencyStore(int maxEntries, Duration ttl, LongSupplier clock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries debe ser positivo: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Reserva una clave o devuelve lo que ya hay guardado para ella
+     * 
+     * @param key         Clave de idempotencia, incluido el endpoint
+     * @param fingerprint Huella del cuerpo de la petición
+     * @return Resultado de la reserva
+     */
+    public synchronized Reservation reserve(String key, byte[] fingerprint) {
+        long now = clock.getAsLong();
+        purgeExpired(now);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (entries.size() >= maxEntries && !evictOldestCompleted()) {
+                return Reservation.FULL;
+            }
+            entries.put(key, new Entry(fingerprint, now + ttlNanos));
+            return Reservation.RESERVED;
+        }
+        if (!Arrays.equals(entry.fingerprint, fingerprint)) {
+            return Reservation.MISMATCH;
+        }
+        return entry.response == null ? Reservation.IN_PROGRESS : Reservation.replay(entry.response);
+    }
+
+    /**
+     * Guarda la respuesta de una clave reservada. Si la reserva ya se
+     * descartó, la respuesta no se guarda
+     */
+    public synchronized void complete(String key, StoredResponse response) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.response = response;
+        }
+    }
+
+    /**
+     * Libera una clave reservada sin respuesta, para que un reintento vuelva a
+     * procesarse
+     */
+    public synchronized void release(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.response == null) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * @return Claves conservadas, incluidas las reservadas en curso
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void purgeExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext() && iterator.next().expiresAt - now <= 0) {
+            iterator.remove();
+        }
+    }
+
+    private boolean evictOldestCompleted() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().response != null) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Respuesta guardada para reproducirla en los reintentos
+     */
+    public record StoredResponse(int status, String contentType, String location, byte[] body) {
+    }
+
+    /**
+     * Resultado de {@link IdempotencyStore#reserve}
+     */
+    public record Reservation(Outcome outcome, StoredResponse response) {
+
+        static final Reservation RESERVED = new Reservation(Outcome.RESERVED, null);
+        static final Reservation IN_PROGRESS = new Reservation(Outcome.IN_PROGRESS, null);
+        static final Reservation MISMATCH = new Reservation(Outcome.MISMATCH, null);
+        static final Reservation FULL = new Reservation(Outcome.FULL, null);
+
+        static Reservation replay(StoredResponse response) {
+            return new Reservation(Outcome.REPLAY, response);
+        }
+    }
+
+    /**
+     * Resultados posibles de una reserva
+     */
+    public enum Outcome {
+        /** Clave nueva: la petición debe procesarse */
+        RESERVED,
+        /** Otra petición con la misma clave se está procesando */
+        IN_PROGRESS,
+        /** La clave se usó con un cuerpo distinto */
+        MISMATCH,
+        /** La clave ya tiene respuesta guardada */
+        REPLAY,
+        /** El almacén está lleno de reservas en curso */
+        FULL
+    }
+
+    private static final class Entry {
+
+        private final byte[] fingerprint;
+        private final long expiresAt;
+        private StoredResponse response;
+
+        Entry(byte[] fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
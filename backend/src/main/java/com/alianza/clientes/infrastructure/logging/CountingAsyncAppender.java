@@ -0,0 +1,43 @@
+package com.alianza.clientes.infrastructure.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Appender asíncrono de Logback que contabiliza los eventos que descarta.
+ * <p>
+ * Los hilos de petición solo encolan el evento en un buffer circular acotado y
+ * un único hilo de fondo escribe en el appender destino. Con {@code neverBlock}
+ * activo, un evento que encuentra la cola llena se descarta en lugar de
+ * bloquear al hilo de petición; con el umbral de descarte de Logback, los
+ * eventos TRACE/DEBUG/INFO se descartan cuando la cola supera el 80% de ocupación.
+ * Ambos casos se registran en {@link LogDropCounters}.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            LogDropCounters.queueFull();
+        }
+        return discardable;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void append(ILoggingEvent event) {
+        // AsyncAppenderBase descarta en silencio cuando neverBlock está activo y la
+        // cola está llena; se detecta antes de delegar para poder contarlo
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            LogDropCounters.queueFull();
+            return;
+        }
+        super.append(event);
+    }
+}
@@ -0,0 +1,58 @@
+package com.alianza.clientes.infrastructure.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de eventos de log descartados por el pipeline de logging de
+ * producción. Son estáticos porque Logback instancia sus componentes antes que
+ * el contexto de Spring.
+ */
+public final class LogDropCounters {
+
+    private static final LongAdder SAMPLED = new LongAdder();
+    private static final LongAdder RATE_LIMITED = new LongAdder();
+    private static final LongAdder QUEUE_FULL = new LongAdder();
+
+    private LogDropCounters() {
+    }
+
+    static void sampled() {
+        SAMPLED.increment();
+    }
+
+    static void rateLimited() {
+        RATE_LIMITED.increment();
+    }
+
+    static void queueFull() {
+        QUEUE_FULL.increment();
+    }
+
+    /**
+     * @return Eventos descartados por muestreo
+     */
+    public static long getSampled() {
+        return SAMPLED.sum();
+    }
+
+    /**
+     * @return Eventos descartados por superar el límite por segundo de su logger
+     */
+    public static long getRateLimited() {
+        return RATE_LIMITED.sum();
+    }
+
+    /**
+     * @return Eventos descartados porque la cola del appender asíncrono estaba llena
+     */
+    public static long getQueueFull() {
+        return QUEUE_FULL.sum();
+    }
+
+    /**
+     * @return Total de eventos descartados
+     */
+    public static long getTotal() {
+        return getSampled() + getRateLimited() + getQueueFull();
+    }
+}
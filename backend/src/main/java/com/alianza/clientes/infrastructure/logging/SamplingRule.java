@@ -0,0 +1,87 @@
+package com.alianza.clientes.infrastructure.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import ch.qos.logback.classic.Level;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Regla de muestreo y límite de tasa para los loggers cuyo nombre empieza por
+ * {@code logger}. Solo afecta a los eventos de nivel {@code level} o inferior,
+ * de modo que WARN y ERROR se conservan siempre con la configuración por defecto.
+ * <p>
+ * Se configura desde logback-spring.xml dentro de {@link SamplingTurboFilter}.
+ */
+public class SamplingRule {
+
+    /**
+     * Prefijo del nombre de logger al que aplica la regla
+     */
+    @Getter
+    @Setter
+    private String logger;
+
+    /**
+     * Nivel máximo afectado por la regla
+     */
+    @Getter
+    private Level level = Level.INFO;
+
+    /**
+     * Conserva uno de cada {@code sampleEvery} eventos (1 conserva todos)
+     */
+    @Getter
+    @Setter
+    private int sampleEvery = 1;
+
+    /**
+     * Máximo de eventos conservados por segundo (0 sin límite)
+     */
+    @Getter
+    @Setter
+    private int maxPerSecond;
+
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicLong acceptedInWindow = new AtomicLong();
+
+    /**
+     * Establece el nivel máximo afectado a partir de su nombre (INFO por defecto)
+     *
+     * @param level Nombre del nivel
+     */
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    boolean appliesTo(String loggerName, Level eventLevel) {
+        return eventLevel.toInt() <= level.toInt() && loggerName.startsWith(logger);
+    }
+
+    /**
+     * Decide si el evento se conserva, actualizando los contadores de descarte
+     *
+     * @param nowMillis Instante actual en milisegundos
+     * @return true si el evento debe registrarse
+     */
+    boolean accept(long nowMillis) {
+        if (sampleEvery > 1 && sampleCounter.getAndIncrement() % sampleEvery != 0) {
+            LogDropCounters.sampled();
+            return false;
+        }
+        if (maxPerSecond > 0 && !acquire(nowMillis / 1000)) {
+            LogDropCounters.rateLimited();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean acquire(long second) {
+        long current = window.get();
+        if (second != current && window.compareAndSet(current, second)) {
+            acceptedInWindow.set(0);
+        }
+        return acceptedInWindow.incrementAndGet() <= maxPerSecond;
+    }
+}
@@ -0,0 +1,70 @@
+package com.alianza.clientes.infrastructure.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * TurboFilter de Logback que aplica muestreo y límites de tasa por logger a los
+ * logs de alto volumen de las peticiones. Al ser un TurboFilter, el evento se
+ * descarta antes de construirse (sin formatear el mensaje ni capturar el
+ * contexto), que es donde está la mayor parte del coste por petición.
+ * <p>
+ * Ejemplo de configuración:
+ * 
+ * <pre>
+ * &lt;turboFilter class="com.alianza.clientes.infrastructure.logging.SamplingTurboFilter"&gt;
+ *   &lt;rule&gt;
+ *     &lt;logger&gt;com.alianza.clientes.infrastructure.adapter.rest&lt;/logger&gt;
+ *     &lt;level&gt;INFO&lt;/level&gt;
+ *     &lt;sampleEvery&gt;10&lt;/sampleEvery&gt;
+ *     &lt;maxPerSecond&gt;100&lt;/maxPerSecond&gt;
+ *   &lt;/rule&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final List<SamplingRule> rules = new ArrayList<>();
+    private final LongSupplier clock;
+
+    public SamplingTurboFilter() {
+        this(System::currentTimeMillis);
+    }
+
+    SamplingTurboFilter(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public void addRule(SamplingRule rule) {
+        rules.add(rule);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        if (level == null || !isStarted()) {
+            return FilterReply.NEUTRAL;
+        }
+        // Sin el nivel habilitado el evento se descartaría igualmente; no debe consumir cuota
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        for (SamplingRule rule : rules) {
+            if (rule.appliesTo(logger.getName(), level)) {
+                return rule.accept(clock.getAsLong()) ? FilterReply.NEUTRAL : FilterReply.DENY;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
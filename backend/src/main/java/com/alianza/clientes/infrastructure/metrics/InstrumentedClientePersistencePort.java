@@ -0,0 +1,169 @@
+package com.alianza.clientes.infrastructure.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+import com.alianza.clientes.infrastructure.metrics.PortMetrics.MethodMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decorador de ClientePersistencePort que registra latencia, errores y
+ * llamadas en curso de cada método del adaptador de persistencia.
+ */
+public class InstrumentedClientePersistencePort implements ClientePersistencePort {
+
+    private final ClientePersistencePort delegate;
+    private final MethodMetrics saveCliente;
+    private final MethodMetrics saveClientes;
+    private final MethodMetrics findBySharedKey;
+    private final MethodMetrics findBySharedKeys;
+    private final MethodMetrics existsBySharedKey;
+    private final MethodMetrics findAllClientesPaged;
+    private final MethodMetrics findClientesByFilter;
+    private final MethodMetrics findAllClientes;
+    private final MethodMetrics findTopByOrderByIdDesc;
+    private final MethodMetrics findChangesSince;
+    private final MethodMetrics findClientesAfterId;
+    private final MethodMetrics countClientes;
+
+    public InstrumentedClientePersistencePort(ClientePersistencePort delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        PortMetrics metrics = new PortMetrics(registry, "ClientePersistencePort");
+        this.saveCliente = metrics.method("saveCliente");
+        this.saveClientes = metrics.method("saveClientes");
+        this.findBySharedKey = metrics.method("findBySharedKey");
+        this.findBySharedKeys = metrics.method("findBySharedKeys");
+        this.existsBySharedKey = metrics.method("existsBySharedKey");
+        this.findAllClientesPaged = metrics.method("findAllClientesPaged");
+        this.findClientesByFilter = metrics.method("findClientesByFilter");
+        this.findAllClientes = metrics.method("findAllClientes");
+        this.findTopByOrderByIdDesc = metrics.method("findTopByOrderByIdDesc");
+        this.findChangesSince = metrics.method("findChangesSince");
+        this.findClientesAfterId = metrics.method("findClientesAfterId");
+        this.countClientes = metrics.method("countClientes");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cliente saveCliente(Cliente cliente) {
+        return saveCliente.record(() -> delegate.saveCliente(cliente));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> saveClientes(List<Cliente> clientes) {
+        return saveClientes.record(() -> delegate.saveClientes(clientes));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Cliente> findBySharedKey(String sharedKey) {
+        return findBySharedKey.record(() -> delegate.findBySharedKey(sharedKey));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findBySharedKeys(Collection<String> sharedKeys) {
+        return findBySharedKeys.record(() -> delegate.findBySharedKeys(sharedKeys));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsBySharedKey(String sharedKey) {
+        return existsBySharedKey.record(() -> delegate.existsBySharedKey(sharedKey));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir) {
+        return findAllClientesPaged.record(() -> delegate.findAllClientes(page, size, sortBy, sortDir));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir) {
+        return findClientesByFilter.record(() -> delegate.findClientesByFilter(filter, page, size, sortBy, sortDir));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields) {
+        return findAllClientesPaged.record(() -> delegate.findAllClientes(page, size, sortBy, sortDir, fields));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir, Set<ClienteField> fields) {
+        return findClientesByFilter.record(
+                () -> delegate.findClientesByFilter(filter, page, size, sortBy, sortDir, fields));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findAllClientes() {
+        return findAllClientes.record(delegate::findAllClientes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Cliente> findTopByOrderByIdDesc() {
+        return findTopByOrderByIdDesc.record(delegate::findTopByOrderByIdDesc);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findChangesSince(long changeSeq, Long id, int limit) {
+        return findChangesSince.record(() -> delegate.findChangesSince(changeSeq, id, limit));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findClientesAfterId(Long id, int limit) {
+        return findClientesAfterId.record(() -> delegate.findClientesAfterId(id, limit));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countClientes() {
+        return countClientes.record(delegate::countClientes);
+    }
+}
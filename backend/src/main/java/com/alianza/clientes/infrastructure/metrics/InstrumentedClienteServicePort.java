@@ -0,0 +1,119 @@
+package com.alianza.clientes.infrastructure.metrics;
+
+import java.util.List;
+import java.util.Set;
+
+import com.alianza.clientes.domain.model.ChangeFeedResponse;
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.domain.port.api.ClienteServicePort;
+import com.alianza.clientes.infrastructure.metrics.PortMetrics.MethodMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decorador de ClienteServicePort que registra latencia, errores y llamadas en
+ * curso de cada caso de uso. Junto con InstrumentedClientePersistencePort
+ * permite separar el tiempo de la capa de aplicación del de persistencia.
+ */
+public class InstrumentedClienteServicePort implements ClienteServicePort {
+
+    private final ClienteServicePort delegate;
+    private final MethodMetrics saveCliente;
+    private final MethodMetrics findBySharedKey;
+    private final MethodMetrics findBySharedKeys;
+    private final MethodMetrics findAllClientes;
+    private final MethodMetrics findClientesByFilter;
+    private final MethodMetrics exportClientesToCsv;
+    private final MethodMetrics findChangesSince;
+
+    public InstrumentedClienteServicePort(ClienteServicePort delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        PortMetrics metrics = new PortMetrics(registry, "ClienteServicePort");
+        this.saveCliente = metrics.method("saveCliente");
+        this.findBySharedKey = metrics.method("findBySharedKey");
+        this.findBySharedKeys = metrics.method("findBySharedKeys");
+        this.findAllClientes = metrics.method("findAllClientes");
+        this.findClientesByFilter = metrics.method("findClientesByFilter");
+        this.exportClientesToCsv = metrics.method("exportClientesToCsv");
+        this.findChangesSince = metrics.method("findChangesSince");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cliente saveCliente(Cliente cliente) {
+        return saveCliente.record(() -> delegate.saveCliente(cliente));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cliente findBySharedKey(String sharedKey) {
+        return findBySharedKey.record(() -> delegate.findBySharedKey(sharedKey));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findBySharedKeys(List<String> sharedKeys) {
+        return findBySharedKeys.record(() -> delegate.findBySharedKeys(sharedKeys));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir) {
+        return findAllClientes.record(() -> delegate.findAllClientes(page, size, sortBy, sortDir));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir) {
+        return findClientesByFilter.record(() -> delegate.findClientesByFilter(filter, page, size, sortBy, sortDir));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields) {
+        return findAllClientes.record(() -> delegate.findAllClientes(page, size, sortBy, sortDir, fields));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir, Set<ClienteField> fields) {
+        return findClientesByFilter.record(
+                () -> delegate.findClientesByFilter(filter, page, size, sortBy, sortDir, fields));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> exportClientesToCsv() {
+        return exportClientesToCsv.record(delegate::exportClientesToCsv);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ChangeFeedResponse<Cliente> findChangesSince(String token, int limit) {
+        return findChangesSince.record(() -> delegate.findChangesSince(token, limit));
+    }
+}
@@ -0,0 +1,36 @@
+package com.alianza.clientes.infrastructure.metrics;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.stereotype.Component;
+
+import com.alianza.clientes.infrastructure.logging.LogDropCounters;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Expone como métrica {@code logging.events.dropped} los eventos de log
+ * descartados por el pipeline asíncrono del perfil prod, por motivo.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        register(registry, "sampled", LogDropCounters::getSampled);
+        register(registry, "rate_limited", LogDropCounters::getRateLimited);
+        register(registry, "queue_full", LogDropCounters::getQueueFull);
+    }
+
+    private static void register(MeterRegistry registry, String reason, LongSupplier count) {
+        FunctionCounter.builder("logging.events.dropped", count, LongSupplier::getAsLong)
+                .description("Eventos de log descartados por el pipeline de logging")
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
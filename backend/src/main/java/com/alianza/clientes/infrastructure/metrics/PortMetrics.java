@@ -0,0 +1,105 @@
+package com.alianza.clientes.infrastructure.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Métricas de las llamadas a un puerto de la arquitectura hexagonal.
+ * Para cada método registra:
+ * <ul>
+ * <li>{@code clientes.port.calls}: histograma de latencia; los percentiles p50/p99/p999 se
+ * obtienen en Prometheus con {@code histogram_quantile}, lo que permite agregarlos entre
+ * instancias y evita el coste de calcularlos en cada llamada</li>
+ * <li>{@code clientes.port.errors}: llamadas terminadas con excepción, por tipo</li>
+ * <li>{@code clientes.port.inflight}: llamadas en curso</li>
+ * </ul>
+ * Los medidores de cada método se crean una sola vez, de modo que el camino
+ * feliz de una llamada no realiza búsquedas en el registro.
+ */
+public class PortMetrics {
+
+    static final String CALLS = "clientes.port.calls";
+    static final String ERRORS = "clientes.port.errors";
+    static final String IN_FLIGHT = "clientes.port.inflight";
+
+    private final MeterRegistry registry;
+    private final String port;
+
+    public PortMetrics(MeterRegistry registry, String port) {
+        this.registry = registry;
+        this.port = port;
+    }
+
+    /**
+     * Crea los medidores de un método del puerto
+     * 
+     * @param method Nombre del método
+     * @return Medidores del método
+     */
+    public MethodMetrics method(String method) {
+        return new MethodMetrics(method);
+    }
+
+    /**
+     * Medidores de un método del puerto
+     */
+    public final class MethodMetrics {
+
+        private final String method;
+        private final Timer timer;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Map<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+        private MethodMetrics(String method) {
+            this.method = method;
+            this.timer = Timer.builder(CALLS)
+                    .description("Latencia de las llamadas al puerto")
+                    .tags("port", port, "method", method)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100_000))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(registry);
+            Gauge.builder(IN_FLIGHT, inFlight, AtomicInteger::get)
+                    .description("Llamadas al puerto en curso")
+                    .tags("port", port, "method", method)
+                    .register(registry);
+        }
+
+        /**
+         * Ejecuta la llamada registrando su latencia, errores y concurrencia
+         * 
+         * @param <T>  Tipo del resultado
+         * @param call Llamada al puerto decorado
+         * @return Resultado de la llamada
+         */
+        public <T> T record(Supplier<T> call) {
+            inFlight.incrementAndGet();
+            long start = System.nanoTime();
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                errorCounter(e.getClass()).increment();
+                throw e;
+            } finally {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private Counter errorCounter(Class<?> exceptionType) {
+            return errors.computeIfAbsent(exceptionType, type -> Counter.builder(ERRORS)
+                    .description("Llamadas al puerto terminadas con excepción")
+                    .tags("port", port, "method", method, "exception", type.getSimpleName())
+                    .register(registry));
+        }
+    }
+}
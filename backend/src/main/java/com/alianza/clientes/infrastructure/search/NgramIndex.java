@@ -0,0 +1,273 @@
+package com.alianza.clientes.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteFilter;
+
+/**
+ * Índice invertido de trigramas sobre nombre, email y teléfono para acotar los
+ * filtros por contenido.
+ * <p>
+ * Cada campo tiene su propio índice: trigrama → lista ordenada de ids (int[]
+ * creciente). Un fragmento de búsqueda solo puede aparecer en un valor que
+ * contenga todos sus trigramas, así que la intersección de sus listas es un
+ * superconjunto de los clientes que cumplen el filtro; quien consulta debe
+ * seguir aplicando el filtro a esos candidatos. Nombre y email se indexan en
+ * minúsculas, como la comparación {@code lower(...) LIKE} de la consulta JPA.
+ * <p>
+ * Las actualizaciones solo añaden trigramas: los del valor anterior de un
+ * cliente se quedan en el índice, lo que únicamente añade candidatos falsos
+ * que el filtro descarta. {@link #clear()} permite reconstruirlo.
+ */
+public class NgramIndex {
+
+    private static final int N = 3;
+
+    /**
+     * Campos indexados
+     */
+    enum Field {
+        NOMBRE(Cliente::getNombre, ClienteFilter::getNombre, true),
+        EMAIL(Cliente::getEmail, ClienteFilter::getEmail, true),
+        TELEFONO(Cliente::getTelefono, ClienteFilter::getTelefono, false);
+
+        private final Function<Cliente, String> value;
+        private final Function<ClienteFilter, String> criterion;
+        private final boolean ignoreCase;
+
+        Field(Function<Cliente, String> value, Function<ClienteFilter, String> criterion, boolean ignoreCase) {
+            this.value = value;
+            this.criterion = criterion;
+            this.ignoreCase = ignoreCase;
+        }
+
+        String normalize(String text) {
+            return ignoreCase ? text.toLowerCase(Locale.ROOT) : text;
+        }
+    }
+
+    private final Map<Field, Map<Long, Postings>> postings = new EnumMap<>(Field.class);
+    private final BitSet indexed = new BitSet();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean complete = true;
+
+    public NgramIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Indexa (o reindexa) los campos de un cliente
+     * 
+     * @param cliente Cliente guardado, con id
+     */
+    public void add(Cliente cliente) {
+        Long id = cliente.getId();
+        lock.writeLock().lock();
+        try {
+            if (id == null || id < 0 || id > Integer.MAX_VALUE) {
+                // Las listas guardan ids int: con un id mayor el índice ya no puede acotar nada
+                complete = false;
+                return;
+            }
+            int key = id.intValue();
+            for (Field field : Field.values()) {
+                String value = field.value.apply(cliente);
+                if (value != null) {
+                    Map<Long, Postings> index = postings.get(field);
+                    for (long gram : grams(field.normalize(value))) {
+                        index.computeIfAbsent(gram, g -> new Postings()).add(key);
+                    }
+                }
+            }
+            indexed.set(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids candidatos para los criterios de contenido del filtro
+     * 
+     * @param filter        Filtro de la consulta
+     * @param maxCandidates Máximo de candidatos útiles
+     * @return Superconjunto de los ids que cumplen los criterios de nombre,
+     *         email y teléfono, o null si el índice no puede acotarlos (ningún
+     *         fragmento literal de al menos tres caracteres, o más candidatos
+     *         que el máximo)
+     */
+    public Set<Long> candidates(ClienteFilter filter, int maxCandidates) {
+        List<Long> criterionGrams = new ArrayList<>();
+        List<Postings> lists = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (!complete) {
+                return null;
+            }
+            for (Field field : Field.values()) {
+                String criterion = field.criterion.apply(filter);
+                if (criterion == null || criterion.isBlank()) {
+                    continue;
+                }
+                criterionGrams.clear();
+                // Como en LIKE, % y _ separan fragmentos literales
+                for (String literal : field.normalize(criterion).split("[%_]")) {
+                    criterionGrams.addAll(grams(literal));
+                }
+                for (long gram : new HashSet<>(criterionGrams)) {
+                    Postings list = postings.get(field).get(gram);
+                    if (list == null) {
+                        return Set.of();
+                    }
+                    lists.add(list);
+                }
+            }
+            if (lists.isEmpty()) {
+                return null;
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+            int[] result = Arrays.copyOf(lists.get(0).ids, lists.get(0).size);
+            int size = result.length;
+            for (int i = 1; i < lists.size() && size > 0; i++) {
+                size = intersect(result, size, lists.get(i));
+            }
+            if (size > maxCandidates) {
+                return null;
+            }
+            Set<Long> ids = new HashSet<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                ids.add((long) result[i]);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Número de clientes indexados
+     */
+    public int rows() {
+        lock.readLock().lock();
+        try {
+            return indexed.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimación de la memoria ocupada por el índice, en bytes (cabeceras de
+     * objeto de 16 bytes y referencias comprimidas)
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = indexed.size() / 8;
+            for (Map<Long, Postings> index : postings.values()) {
+                // Tabla del HashMap, nodo, clave Long, objeto Postings y cabecera del array
+                bytes += 4L * index.size() * 2 + (32L + 16 + 24 + 16) * index.size();
+                for (Postings list : index.values()) {
+                    bytes += 4L * list.ids.length;
+                }
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Vacía el índice
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(Map::clear);
+            indexed.clear();
+            complete = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Trigramas de un texto, cada uno empaquetado en un long (tres chars de 16
+     * bits)
+     */
+    private static List<Long> grams(String text) {
+        if (text.length() < N) {
+            return List.of();
+        }
+        List<Long> grams = new ArrayList<>(text.length() - N + 1);
+        for (int i = 0; i + N <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * Deja en {@code result} los ids presentes también en {@code list}, usando
+     * búsqueda binaria sobre la lista (la más larga)
+     * 
+     * @return Nuevo tamaño de {@code result}
+     */
+    private static int intersect(int[] result, int size, Postings list) {
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < size && from < list.size; i++) {
+            int position = Arrays.binarySearch(list.ids, from, list.size, result[i]);
+            if (position >= 0) {
+                result[kept++] = result[i];
+                from = position + 1;
+            } else {
+                from = -position - 1;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Lista de ids ordenada y sin repetidos
+     */
+    private static final class Postings {
+
+        private int[] ids = new int[2];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int position = Arrays.binarySearch(ids, 0, size, id);
+                if (position >= 0) {
+                    return;
+                }
+                insert(-position - 1, id);
+                return;
+            }
+            insert(size, id);
+        }
+
+        private void insert(int position, int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.alianza.clientes.infrastructure.search;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteField;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.MatchMode;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+import com.alianza.clientes.infrastructure.cache.ClienteCacheInvalidator;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decorador de ClientePersistencePort que resuelve los filtros por contenido
+ * de nombre, email y teléfono con un {@link NgramIndex} en proceso: el filtro
+ * se envía al adaptador restringido a los ids candidatos del índice, de modo
+ * que la base de datos lee por clave primaria en lugar de recorrer la tabla
+ * con {@code LIKE '%...%'}, y sigue aplicando el filtro completo a esos
+ * candidatos, así que el resultado y la paginación no cambian.
+ * <p>
+ * El índice puede ir por detrás de la base de datos: otra instancia u otro
+ * escritor pueden haber guardado clientes que todavía no ha leído. Por eso la
+ * restricción admite, además de los candidatos, cualquier cliente con
+ * changeSeq posterior a la última posición del feed de cambios indexada
+ * ({@link ClienteFilter#getChangedAfter()}); entre dos actualizaciones son
+ * pocos y se leen por índice.
+ * <p>
+ * El índice se carga recorriendo el feed de cambios del adaptador y se
+ * actualiza con cada {@link #saveCliente(Cliente)} y, periódicamente, con los
+ * cambios hechos fuera de esta instancia, o en cuanto los anuncia el bus de
+ * invalidación ({@link ClienteCacheInvalidator}). Mientras no termina la carga
+ * inicial, o si el índice no puede acotar un filtro (fragmentos de menos de
+ * tres caracteres o demasiados candidatos), la consulta va directa al
+ * adaptador.
+ */
+@Slf4j
+public class NgramSearchClientePersistencePort
+        implements ClientePersistencePort, ClienteCacheInvalidator, MeterBinder {
+
+    private static final int SCAN_BATCH = 5000;
+
+    private final ClientePersistencePort delegate;
+    private final NgramIndex index = new NgramIndex();
+    private final int maxCandidates;
+    private final long refreshIntervalMs;
+
+    private volatile ScheduledExecutorService refresher;
+    private volatile boolean ready;
+    private volatile long lastChangeSeq;
+    private long lastId;
+
+    /**
+     * @param delegate          Puerto de persistencia decorado
+     * @param maxCandidates     Máximo de ids candidatos que se envían al adaptador
+     * @param refreshIntervalMs Intervalo de actualización con los cambios externos tras {@link #start()}
+     */
+    public NgramSearchClientePersistencePort(ClientePersistencePort delegate, int maxCandidates,
+            long refreshIntervalMs) {
+        this.delegate = delegate;
+        this.maxCandidates = maxCandidates;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    /**
+     * Carga el índice en segundo plano y lo mantiene al día con los cambios
+     * del adaptador cada {@code refreshIntervalMs}
+     */
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "clientes-ngram-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher = executor;
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                catchUp();
+            } catch (RuntimeException e) {
+                log.warn("Error al actualizar el índice de trigramas", e);
+            }
+        }, 0, refreshIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Detiene la actualización periódica del índice; el índice sigue
+     * respondiendo con lo ya cargado
+     */
+    public void stop() {
+        ScheduledExecutorService running = refresher;
+        if (running != null) {
+            running.shutdownNow();
+            refresher = null;
+        }
+    }
+
+    /**
+     * Indexa los clientes modificados desde la última posición leída del feed
+     * de cambios; la primera vez recorre todos los clientes
+     */
+    public synchronized void catchUp() {
+        long start = System.nanoTime();
+        int read = 0;
+        List<Cliente> batch;
+        do {
+            batch = delegate.findChangesSince(lastChangeSeq, lastId, SCAN_BATCH);
+            for (Cliente cliente : batch) {
+                index.add(cliente);
+            }
+            if (!batch.isEmpty()) {
+                Cliente last = batch.get(batch.size() - 1);
+                lastChangeSeq = last.getChangeSeq();
+                lastId = last.getId();
+            }
+            read += batch.size();
+        } while (batch.size() == SCAN_BATCH);
+        if (!ready) {
+            ready = true;
+            log.info("Índice de trigramas cargado: {} clientes, ~{} MB en {} ms", read,
+                    index.estimatedBytes() / (1024 * 1024),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Lee el feed de cambios sin esperar a la siguiente actualización periódica
+     */
+    @Override
+    public void invalidate(Collection<String> created, Collection<String> modified) {
+        catchUp();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateAll() {
+        catchUp();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cliente saveCliente(Cliente cliente) {
+        Cliente saved = delegate.saveCliente(cliente);
+        index.add(saved);
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> saveClientes(List<Cliente> clientes) {
+        List<Cliente> saved = delegate.saveClientes(clientes);
+        saved.forEach(index::add);
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Cliente> findBySharedKey(String sharedKey) {
+        return delegate.findBySharedKey(sharedKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findBySharedKeys(Collection<String> sharedKeys) {
+        return delegate.findBySharedKeys(sharedKeys);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsBySharedKey(String sharedKey) {
+        return delegate.existsBySharedKey(sharedKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir) {
+        return delegate.findAllClientes(page, size, sortBy, sortDir);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findAllClientes(int page, int size, String sortBy, String sortDir,
+            Set<ClienteField> fields) {
+        return delegate.findAllClientes(page, size, sortBy, sortDir, fields);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir) {
+        return delegate.findClientesByFilter(narrow(filter), page, size, sortBy, sortDir);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<Cliente> findClientesByFilter(ClienteFilter filter, int page, int size, String sortBy,
+            String sortDir, Set<ClienteField> fields) {
+        return delegate.findClientesByFilter(narrow(filter), page, size, sortBy, sortDir, fields);
+    }
+
+    /**
+     * Añade al filtro los ids candidatos del índice, junto con la posición del
+     * feed hasta la que están indexados los cambios, o lo devuelve tal cual si
+     * el índice no está listo, no acota la búsqueda o el filtro ya trae ids.
+     * Los candidatos de un texto también valen con igualdad o prefijo, pero
+     * esas comparaciones ya tienen índice en la base de datos: solo se acota
+     * cuando algún texto se busca por contenido.
+     */
+    private ClienteFilter narrow(ClienteFilter filter) {
+        if (!ready || filter.getIds() != null || !searchesContent(filter)) {
+            return filter;
+        }
+        // La posición se lee antes que los candidatos: lo que catchUp indexe entre
+        // medias queda cubierto por changedAfter aunque no llegue a los candidatos
+        long indexedChangeSeq = lastChangeSeq;
+        Set<Long> candidates = index.candidates(filter, maxCandidates);
+        return candidates == null ? filter
+                : filter.toBuilder().ids(candidates).changedAfter(indexedChangeSeq).build();
+    }
+
+    private static boolean searchesContent(ClienteFilter filter) {
+        return searchesContent(filter.getNombre(), filter.getNombreMatch())
+                || searchesContent(filter.getTelefono(), filter.getTelefonoMatch())
+                || searchesContent(filter.getEmail(), filter.getEmailMatch());
+    }
+
+    private static boolean searchesContent(String text, MatchMode mode) {
+        return text != null && !text.isBlank() && MatchMode.orDefault(mode) == MatchMode.CONTAINS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findAllClientes() {
+        return delegate.findAllClientes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Cliente> findTopByOrderByIdDesc() {
+        return delegate.findTopByOrderByIdDesc();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findChangesSince(long changeSeq, Long id, int limit) {
+        return delegate.findChangesSince(changeSeq, id, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Cliente> findClientesAfterId(Long id, int limit) {
+        return delegate.findClientesAfterId(id, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countClientes() {
+        return delegate.countClientes();
+    }
+
+    /**
+     * Publica el tamaño del índice: {@code clientes.search.ngram.bytes} y
+     * {@code clientes.search.ngram.rows}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("clientes.search.ngram.bytes", index, NgramIndex::estimatedBytes)
+                .description("Memoria estimada del índice de trigramas")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("clientes.search.ngram.rows", index, NgramIndex::rows)
+                .description("Clientes indexados en el índice de trigramas")
+                .register(registry);
+    }
+
+    /**
+     * Índice usado por el decorador
+     */
+    public NgramIndex getIndex() {
+        return index;
+    }
+}
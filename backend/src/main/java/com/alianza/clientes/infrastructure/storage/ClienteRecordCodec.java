@@ -0,0 +1,156 @@
+package com.alianza.clientes.infrastructure.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import com.alianza.clientes.domain.model.Cliente;
+
+/**
+ * Formato binario de un cliente en los logs de registros: un byte de versión,
+ * el id, los textos en UTF-8 modificado (con marca de nulo), las fechas en días
+ * desde la época y updatedAt en microsegundos desde la época (UTC), la misma
+ * precisión de la columna updated_at. Los números nulos se escriben como
+ * {@code Long.MIN_VALUE}.
+ */
+public final class ClienteRecordCodec {
+
+    private static final byte VERSION = 1;
+    private static final long NULL = Long.MIN_VALUE;
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+    private ClienteRecordCodec() {
+    }
+
+    /**
+     * Codifica un cliente como registro independiente
+     */
+    public static byte[] encode(Cliente cliente) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            write(out, cliente);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodifica un registro escrito con {@link #encode(Cliente)}
+     */
+    public static Cliente decode(ByteBuffer payload) {
+        try (DataInputStream in = input(payload)) {
+            return read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Registro de cliente ilegible", e);
+        }
+    }
+
+    /**
+     * Escribe un cliente dentro de un registro más amplio
+     */
+    public static void write(DataOutput out, Cliente cliente) throws IOException {
+        out.writeByte(VERSION);
+        out.writeLong(cliente.getId() != null ? cliente.getId() : NULL);
+        writeString(out, cliente.getSharedKey());
+        writeString(out, cliente.getNombre());
+        writeString(out, cliente.getTelefono());
+        writeString(out, cliente.getEmail());
+        writeDate(out, cliente.getFechaInicio());
+        writeDate(out, cliente.getFechaFin());
+        writeDate(out, cliente.getFechaCreacion());
+        out.writeLong(cliente.getUpdatedAt() != null ? ChronoUnit.MICROS.between(EPOCH, cliente.getUpdatedAt())
+                : NULL);
+    }
+
+    /**
+     * Lee un cliente escrito con {@link #write(DataOutput, Cliente)}
+     */
+    public static Cliente read(DataInput in) throws IOException {
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IllegalStateException("Versión de registro de cliente desconocida: " + version);
+        }
+        long id = in.readLong();
+        Cliente cliente = Cliente.builder()
+                .id(id != NULL ? id : null)
+                .sharedKey(readString(in))
+                .nombre(readString(in))
+                .telefono(readString(in))
+                .email(readString(in))
+                .fechaInicio(readDate(in))
+                .fechaFin(readDate(in))
+                .fechaCreacion(readDate(in))
+                .build();
+        long updatedAt = in.readLong();
+        cliente.setUpdatedAt(updatedAt != NULL ? EPOCH.plus(updatedAt, ChronoUnit.MICROS) : null);
+        return cliente;
+    }
+
+    /**
+     * Flujo de lectura sobre los datos de un registro, sin copiarlos
+     */
+    public static DataInputStream input(ByteBuffer payload) {
+        return new DataInputStream(new ByteBufferInputStream(payload.duplicate()));
+    }
+
+    /**
+     * Escribe un texto que puede ser nulo
+     */
+    public static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    /**
+     * Lee un texto escrito con {@link #writeString(DataOutput, String)}
+     */
+    public static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeDate(DataOutput out, LocalDate value) throws IOException {
+        out.writeLong(value != null ? value.toEpochDay() : NULL);
+    }
+
+    private static LocalDate readDate(DataInput in) throws IOException {
+        long epochDay = in.readLong();
+        return epochDay != NULL ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(target, offset, count);
+            return count;
+        }
+    }
+}
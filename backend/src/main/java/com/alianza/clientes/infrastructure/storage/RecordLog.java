@@ -0,0 +1,416 @@
+package com.alianza.clientes.infrastructure.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Log de registros de solo escritura al final, en segmentos de tamaño fijo
+ * mapeados en memoria.
+ * <p>
+ * Cada registro es {@code [longitud:int][crc32c:int][datos]}; una longitud 0
+ * marca el final de un segmento. Al abrir se recorren los segmentos en orden y
+ * la lectura de cada uno se detiene en el primer registro incompleto o con CRC
+ * inválido (escritura interrumpida por una caída), que se descarta.
+ * <p>
+ * Durabilidad por grupos: {@link #append(byte[])} solo copia el registro en el
+ * segmento mapeado y retorna su posición (LSN); un hilo de sincronización hace
+ * {@code force()} de todo lo escrito cada vez que hay datos pendientes, como
+ * mucho cada {@code syncInterval}, y {@link #awaitDurable(long)} espera a que
+ * la posición quede en disco. Los escritores concurrentes comparten así un
+ * único fsync. Crear o eliminar un segmento sincroniza también el directorio.
+ * <p>
+ * El LSN codifica el segmento en los 32 bits altos y el final del registro
+ * dentro del segmento en los bajos, de modo que crece con cada escritura.
+ */
+@Slf4j
+public final class RecordLog implements Closeable {
+
+    private static final int HEADER_BYTES = 8;
+    private static final String SUFFIX = ".log";
+
+    /**
+     * Recibe los registros válidos al abrir el log
+     */
+    @FunctionalInterface
+    public interface RecordConsumer {
+        void accept(long segmentId, ByteBuffer payload);
+    }
+
+    private final Path directory;
+    private final String prefix;
+    private final int segmentSize;
+    private final long syncIntervalNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition syncRequested = lock.newCondition();
+    private final Condition synced = lock.newCondition();
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private final List<MappedByteBuffer> pendingForce = new ArrayList<>();
+    private final Thread syncThread;
+
+    private long currentId;
+    private MappedByteBuffer current;
+    private long appendedLsn;
+    private long durableLsn;
+    private IOException syncFailure;
+    private boolean closed;
+
+    private RecordLog(Path directory, String prefix, int segmentSize, Duration syncInterval) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.segmentSize = segmentSize;
+        this.syncIntervalNanos = syncInterval.toNanos();
+        this.syncThread = new Thread(this::syncLoop, "record-log-sync-" + prefix);
+        this.syncThread.setDaemon(true);
+    }
+
+    /**
+     * Abre (o crea) el log y entrega sus registros válidos, en orden
+     * 
+     * @param directory    Directorio de los segmentos
+     * @param prefix       Prefijo de los ficheros de segmento
+     * @param segmentSize  Tamaño de cada segmento en bytes
+     * @param syncInterval Intervalo máximo entre fsync con datos pendientes
+     * @param consumer     Receptor de los registros existentes
+     * @return Log abierto, listo para escribir tras el último registro válido
+     */
+    public static RecordLog open(Path directory, String prefix, int segmentSize, Duration syncInterval,
+            RecordConsumer consumer) throws IOException {
+        if (segmentSize <= HEADER_BYTES * 2) {
+            throw new IllegalArgumentException("Tamaño de segmento demasiado pequeño: " + segmentSize);
+        }
+        Files.createDirectories(directory);
+        RecordLog recordLog = new RecordLog(directory, prefix, segmentSize, syncInterval);
+        recordLog.recover(consumer);
+        recordLog.syncThread.start();
+        return recordLog;
+    }
+
+    /**
+     * Escribe un registro al final del log, sin esperar a que llegue a disco
+     * 
+     * @param payload Datos del registro
+     * @return LSN del registro, para {@link #awaitDurable(long)}
+     */
+    public long append(byte[] payload) {
+        if (payload.length > segmentSize - 2 * HEADER_BYTES) {
+            throw new IllegalArgumentException("Registro demasiado grande: " + payload.length + " bytes");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        lock.lock();
+        try {
+            ensureOpen();
+            if (current.remaining() < HEADER_BYTES + payload.length + 4) {
+                roll();
+            }
+            current.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+            appendedLsn = lsn(currentId, current.position());
+            syncRequested.signal();
+            return appendedLsn;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear un segmento nuevo del log", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Espera a que el registro con el LSN indicado esté en disco
+     * 
+     * @param lsn LSN retornado por {@link #append(byte[])}
+     */
+    public void awaitDurable(long lsn) throws IOException {
+        lock.lock();
+        try {
+            while (durableLsn < lsn) {
+                if (syncFailure != null) {
+                    throw new IOException("Falló la sincronización del log", syncFailure);
+                }
+                ensureOpen();
+                syncRequested.signal();
+                synced.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrumpido esperando la sincronización del log");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Segmento de un LSN
+     */
+    public static long segmentOf(long lsn) {
+        return lsn >>> 32;
+    }
+
+    /**
+     * Segmento en el que se está escribiendo
+     */
+    public long currentSegment() {
+        lock.lock();
+        try {
+            return currentId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Segmentos completos, que ya no reciben escrituras
+     */
+    public List<Long> sealedSegments() {
+        lock.lock();
+        try {
+            return new ArrayList<>(segments.headMap(currentId, false).keySet());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Elimina un segmento completo cuyos registros ya no son necesarios (por
+     * ejemplo, tras copiarlos al final del log en una compactación)
+     * 
+     * @param segmentId Segmento a eliminar
+     */
+    public void deleteSegment(long segmentId) throws IOException {
+        Path file;
+        lock.lock();
+        try {
+            if (segmentId >= currentId) {
+                throw new IllegalArgumentException("Solo se pueden eliminar segmentos completos: " + segmentId);
+            }
+            file = segments.remove(segmentId);
+        } finally {
+            lock.unlock();
+        }
+        if (file != null && Files.deleteIfExists(file)) {
+            forceDirectory();
+        }
+    }
+
+    /**
+     * Sincroniza lo pendiente y detiene el hilo de sincronización
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            syncRequested.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            syncThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (syncFailure != null) {
+            throw syncFailure;
+        }
+    }
+
+    private void syncLoop() {
+        while (true) {
+            List<MappedByteBuffer> toForce;
+            MappedByteBuffer segment;
+            long target;
+            boolean stop;
+            lock.lock();
+            try {
+                long waitNanos = syncIntervalNanos;
+                while (appendedLsn == durableLsn && !closed) {
+                    waitNanos = syncRequested.awaitNanos(waitNanos);
+                    if (waitNanos <= 0) {
+                        waitNanos = syncIntervalNanos;
+                    }
+                }
+                stop = closed;
+                target = appendedLsn;
+                segment = current;
+                toForce = new ArrayList<>(pendingForce);
+                pendingForce.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                for (MappedByteBuffer buffer : toForce) {
+                    buffer.force();
+                }
+                segment.force();
+                markDurable(target, null);
+            } catch (RuntimeException e) {
+                markDurable(target, new IOException("Error en fsync del log", e));
+                return;
+            }
+            if (stop) {
+                return;
+            }
+            // Agrupa las escrituras que lleguen durante el intervalo en el siguiente fsync
+            long pauseUntil = System.nanoTime() + syncIntervalNanos;
+            while (System.nanoTime() < pauseUntil && !isClosed()) {
+                LockSupport.parkNanos(pauseUntil - System.nanoTime());
+            }
+        }
+    }
+
+    private boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void markDurable(long lsn, IOException failure) {
+        lock.lock();
+        try {
+            if (failure != null) {
+                syncFailure = failure;
+            } else {
+                durableLsn = Math.max(durableLsn, lsn);
+            }
+            synced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recover(RecordConsumer consumer) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(prefix + "-") && name.endsWith(SUFFIX);
+            }).forEach(file -> {
+                String name = file.getFileName().toString();
+                segments.put(Long.parseLong(name.substring(prefix.length() + 1, name.length() - SUFFIX.length())),
+                        file);
+            });
+        }
+        if (segments.isEmpty()) {
+            currentId = 1;
+            current = map(createSegment(currentId));
+            segments.put(currentId, segmentPath(currentId));
+            return;
+        }
+        for (var entry : segments.entrySet()) {
+            MappedByteBuffer buffer = map(entry.getValue());
+            int end = scan(entry.getKey(), buffer, consumer);
+            currentId = entry.getKey();
+            current = buffer;
+            current.position(end);
+        }
+        if (current.remaining() >= HEADER_BYTES && current.getInt(current.position()) != 0) {
+            // Restos de un registro interrumpido: se limpian para no confundirlos con datos
+            for (int i = current.position(); i < current.limit(); i++) {
+                current.put(i, (byte) 0);
+            }
+            current.force();
+        }
+        appendedLsn = lsn(currentId, current.position());
+        durableLsn = appendedLsn;
+    }
+
+    private int scan(long segmentId, ByteBuffer buffer, RecordConsumer consumer) {
+        int position = 0;
+        CRC32C crc = new CRC32C();
+        while (position + HEADER_BYTES <= buffer.limit()) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || position + HEADER_BYTES + length > buffer.limit()) {
+                log.warn("Registro con longitud inválida en el segmento {} posición {}", segmentId, position);
+                break;
+            }
+            ByteBuffer payload = buffer.slice(position + HEADER_BYTES, length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                log.warn("Registro con CRC inválido en el segmento {} posición {}", segmentId, position);
+                break;
+            }
+            consumer.accept(segmentId, payload.asReadOnlyBuffer());
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private void roll() throws IOException {
+        pendingForce.add(current);
+        currentId++;
+        Path file = createSegment(currentId);
+        segments.put(currentId, file);
+        current = map(file);
+    }
+
+    private Path createSegment(long id) throws IOException {
+        Path file = segmentPath(id);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+        }
+        forceDirectory();
+        return file;
+    }
+
+    /**
+     * Lleva a disco la entrada del directorio: sin esto, tras una caída un
+     * segmento recién creado (con registros ya confirmados) podría no existir,
+     * o uno eliminado reaparecer
+     */
+    private void forceDirectory() throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%s-%012d%s", prefix, id, SUFFIX));
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("El log está cerrado");
+        }
+    }
+
+    private static long lsn(long segmentId, int position) {
+        return (segmentId << 32) | position;
+    }
+}
@@ -0,0 +1,29 @@
+-- Origen de cada registro del outbox: el parámetro de sesión clientes.node_id, con el que
+-- cada instancia marca las conexiones de su pool (InvalidationOrigin). El listener descarta
+-- los registros de su propia instancia, cuyo decorador ya aplicó la escritura; sin ellos,
+-- cada modificación propia volvía a vaciar la caché de filtros. Las escrituras de otros
+-- clientes (psql, cargas masivas) no fijan el parámetro y llegan a todas las instancias.
+ALTER TABLE cliente_invalidations ADD COLUMN origin VARCHAR(64);
+
+-- Carga del aviso: id:operación:origen:shared_key (origen vacío si no se conoce)
+CREATE OR REPLACE FUNCTION clientes_publish_invalidation() RETURNS TRIGGER AS $$
+DECLARE
+    outbox_id BIGINT;
+    origin_id TEXT := NULLIF(current_setting('clientes.node_id', true), '');
+BEGIN
+    INSERT INTO cliente_invalidations (shared_key, operation, origin)
+        VALUES (NEW.shared_key, TG_OP, origin_id)
+        RETURNING id INTO outbox_id;
+    PERFORM pg_notify('clientes_invalidation',
+        outbox_id || ':' || TG_OP || ':' || COALESCE(origin_id, '') || ':' || NEW.shared_key);
+    -- Con un cambio de shared key, la clave anterior también deja de ser válida
+    IF TG_OP = 'UPDATE' AND OLD.shared_key <> NEW.shared_key THEN
+        INSERT INTO cliente_invalidations (shared_key, operation, origin)
+            VALUES (OLD.shared_key, TG_OP, origin_id)
+            RETURNING id INTO outbox_id;
+        PERFORM pg_notify('clientes_invalidation',
+            outbox_id || ':' || TG_OP || ':' || COALESCE(origin_id, '') || ':' || OLD.shared_key);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
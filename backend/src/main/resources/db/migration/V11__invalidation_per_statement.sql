@@ -0,0 +1,71 @@
+-- Bus de invalidación por sentencia en lugar de por fila. El trigger FOR EACH ROW de V7
+-- hacía un pg_notify por cliente: una carga con COPY de decenas de millones de filas
+-- (ClienteDatasetLoader) encolaba otros tantos avisos y podía llenar la cola de NOTIFY
+-- (max_notify_queue_pages), tras lo cual cualquier transacción que notifica falla al
+-- confirmar. Ahora cada sentencia escribe el outbox de una vez a partir de sus tablas de
+-- transición y envía un único aviso con el rango de ids escrito (primer_id:último_id:origen);
+-- el listener lee ese rango del outbox.
+--
+-- Se prefiere a que el cargador desactive el trigger porque cubre cualquier escritor masivo
+-- (psql, scripts de migración de datos) sin depender de que se acuerde de avisar. Una
+-- sentencia que afecta a más de 1000 clientes, o un TRUNCATE, deja un solo registro ALL:
+-- enumerar millones de claves no sirve a las réplicas, que de todos modos vaciarían la caché,
+-- y mantiene el outbox pequeño. El coste para la carga es materializar las tablas de
+-- transición, que PostgreSQL vuelca a disco si no caben en work_mem.
+DROP TRIGGER trg_clientes_invalidation ON clientes;
+
+CREATE OR REPLACE FUNCTION clientes_publish_invalidation() RETURNS TRIGGER AS $$
+DECLARE
+    origin_id TEXT := NULLIF(current_setting('clientes.node_id', true), '');
+    first_id BIGINT;
+    last_id BIGINT;
+BEGIN
+    IF TG_OP = 'TRUNCATE' THEN
+        INSERT INTO cliente_invalidations (shared_key, operation, origin)
+            VALUES ('', 'ALL', origin_id)
+            RETURNING id, id INTO first_id, last_id;
+    ELSIF (SELECT count(*) FROM (SELECT 1 FROM new_rows LIMIT 1001) AS sample) > 1000 THEN
+        INSERT INTO cliente_invalidations (shared_key, operation, origin)
+            VALUES ('', 'ALL', origin_id)
+            RETURNING id, id INTO first_id, last_id;
+    ELSIF TG_OP = 'INSERT' THEN
+        WITH published AS (
+            INSERT INTO cliente_invalidations (shared_key, operation, origin)
+                SELECT shared_key, TG_OP, origin_id FROM new_rows
+                RETURNING id)
+        SELECT min(id), max(id) INTO first_id, last_id FROM published;
+    ELSE
+        -- Con un cambio de shared key, la clave anterior también deja de ser válida;
+        -- UNION descarta las claves repetidas dentro de la sentencia
+        WITH published AS (
+            INSERT INTO cliente_invalidations (shared_key, operation, origin)
+                SELECT shared_key, TG_OP, origin_id FROM new_rows
+                UNION
+                SELECT o.shared_key, TG_OP, origin_id
+                    FROM old_rows o JOIN new_rows n ON n.id = o.id
+                    WHERE o.shared_key <> n.shared_key
+                RETURNING id)
+        SELECT min(id), max(id) INTO first_id, last_id FROM published;
+    END IF;
+    -- Una sentencia que no afectó a ninguna fila no publica nada
+    IF first_id IS NOT NULL THEN
+        PERFORM pg_notify('clientes_invalidation', first_id || ':' || last_id || ':' || COALESCE(origin_id, ''));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Las tablas de transición exigen un trigger por evento
+CREATE TRIGGER trg_clientes_invalidation_insert
+    AFTER INSERT ON clientes
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION clientes_publish_invalidation();
+
+CREATE TRIGGER trg_clientes_invalidation_update
+    AFTER UPDATE ON clientes
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION clientes_publish_invalidation();
+
+CREATE TRIGGER trg_clientes_invalidation_truncate
+    AFTER TRUNCATE ON clientes
+    FOR EACH STATEMENT EXECUTE FUNCTION clientes_publish_invalidation();
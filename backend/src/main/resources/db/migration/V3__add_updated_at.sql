@@ -0,0 +1,18 @@
+-- Columna de última modificación para el feed de cambios (GET /clientes/changes)
+ALTER TABLE clientes ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT clock_timestamp();
+
+-- La base de datos es la fuente de verdad del instante de modificación, de modo que
+-- las réplicas de la aplicación no dependan de relojes distintos
+CREATE OR REPLACE FUNCTION clientes_touch_updated_at() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at := clock_timestamp();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_clientes_updated_at
+    BEFORE INSERT OR UPDATE ON clientes
+    FOR EACH ROW EXECUTE FUNCTION clientes_touch_updated_at();
+
+-- Índice para la paginación por keyset (updated_at, id) del feed de cambios
+CREATE INDEX idx_clientes_updated_at_id ON clientes(updated_at, id);
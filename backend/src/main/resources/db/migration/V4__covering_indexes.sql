@@ -0,0 +1,20 @@
+-- Conjunto de índices de clientes revisado según las consultas que se ejecutan de verdad
+
+-- idx_clientes_shared_key duplicaba el índice de la restricción UNIQUE: cada escritura
+-- mantenía dos árboles idénticos
+DROP INDEX IF EXISTS idx_clientes_shared_key;
+
+-- Ninguna consulta compara email por igualdad ni por prefijo: el filtro usa
+-- lower(email) LIKE '%...%', que no puede usar este índice
+DROP INDEX IF EXISTS idx_clientes_email;
+
+-- La restricción UNIQUE sobre shared_key incluye id, de modo que la comprobación
+-- de duplicados de cada alta (SELECT id ... WHERE shared_key = ?) se resuelve con
+-- un index-only scan. Sigue siendo un único índice sobre shared_key
+ALTER TABLE clientes
+    DROP CONSTRAINT clientes_shared_key_key,
+    ADD CONSTRAINT clientes_shared_key_key UNIQUE (shared_key) INCLUDE (id);
+
+-- Listado por defecto (ORDER BY id) con la proyección habitual fields=sharedKey,nombre:
+-- index-only scan sin visitar la tabla
+CREATE INDEX idx_clientes_id_listado ON clientes(id) INCLUDE (shared_key, nombre);
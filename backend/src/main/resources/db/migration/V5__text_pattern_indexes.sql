@@ -0,0 +1,10 @@
+-- Índices para los filtros de texto por igualdad y por prefijo (MatchMode EXACT y PREFIX).
+-- Las clases de operadores *_pattern_ops comparan carácter a carácter, de modo que
+-- LIKE 'texto%' se resuelve como un rango del índice con cualquier collation; también
+-- admiten la igualdad. La búsqueda por contenido (LIKE '%texto%') no puede usarlos.
+
+-- Nombre y email se comparan sin distinguir mayúsculas: lower(campo)
+CREATE INDEX idx_clientes_nombre_pattern ON clientes (lower(nombre) text_pattern_ops);
+CREATE INDEX idx_clientes_email_pattern ON clientes (lower(email) text_pattern_ops);
+
+CREATE INDEX idx_clientes_telefono_pattern ON clientes (telefono varchar_pattern_ops);
@@ -0,0 +1,15 @@
+-- Vigencia del contrato como rango de fechas, para los filtros "vigente durante
+-- [desde, hasta]" (solapamiento, &&) y "vigente en la fecha" (solapamiento con
+-- [fecha, fecha]). Ambos extremos son inclusivos: '[]'.
+-- La columna es generada y no se mapea en la entidad; la consulta la usa a través
+-- de la función vigencia_solapa (VigenciaFunctionContributor).
+-- Las altas no comprueban que fecha_fin >= fecha_inicio y daterange falla con un
+-- rango invertido: esos contratos quedan con vigencia NULL y no solapan con nada.
+-- Añadir una columna STORED reescribe la tabla con bloqueo exclusivo.
+ALTER TABLE clientes ADD COLUMN vigencia daterange
+    GENERATED ALWAYS AS (
+        CASE WHEN fecha_fin >= fecha_inicio THEN daterange(fecha_inicio, fecha_fin, '[]') END
+    ) STORED;
+
+-- GiST resuelve && y @> sobre rangos como un recorrido del índice
+CREATE INDEX idx_clientes_vigencia ON clientes USING gist (vigencia);
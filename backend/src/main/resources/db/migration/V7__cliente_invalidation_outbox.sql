@@ -0,0 +1,39 @@
+-- Bus de invalidación entre réplicas: cada alta o modificación de un cliente deja en
+-- cliente_invalidations (outbox) su shared key y la operación, en la misma transacción
+-- que la escritura, y lo anuncia con NOTIFY en el canal clientes_invalidation. NOTIFY
+-- solo se entrega al confirmar la transacción, así que ningún nodo se entera de una
+-- escritura que luego se deshace. Las réplicas escuchan el canal y, al reconectar,
+-- releen el outbox desde la última posición vista (PgNotifyInvalidationListener).
+CREATE TABLE cliente_invalidations (
+    id BIGSERIAL PRIMARY KEY,
+    shared_key VARCHAR(50) NOT NULL,
+    operation VARCHAR(6) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT clock_timestamp()
+);
+
+-- Purga periódica de los registros más antiguos que la retención
+CREATE INDEX idx_cliente_invalidations_created_at ON cliente_invalidations(created_at);
+
+-- Carga del aviso: id:operación:shared_key
+CREATE OR REPLACE FUNCTION clientes_publish_invalidation() RETURNS TRIGGER AS $$
+DECLARE
+    outbox_id BIGINT;
+BEGIN
+    INSERT INTO cliente_invalidations (shared_key, operation)
+        VALUES (NEW.shared_key, TG_OP)
+        RETURNING id INTO outbox_id;
+    PERFORM pg_notify('clientes_invalidation', outbox_id || ':' || TG_OP || ':' || NEW.shared_key);
+    -- Con un cambio de shared key, la clave anterior también deja de ser válida
+    IF TG_OP = 'UPDATE' AND OLD.shared_key <> NEW.shared_key THEN
+        INSERT INTO cliente_invalidations (shared_key, operation)
+            VALUES (OLD.shared_key, TG_OP)
+            RETURNING id INTO outbox_id;
+        PERFORM pg_notify('clientes_invalidation', outbox_id || ':' || TG_OP || ':' || OLD.shared_key);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_clientes_invalidation
+    AFTER INSERT OR UPDATE ON clientes
+    FOR EACH ROW EXECUTE FUNCTION clientes_publish_invalidation();
@@ -0,0 +1,27 @@
+-- Feed de cambios (GET /clientes/changes) ordenado por transacción en lugar de por instante.
+-- updated_at se asigna al escribir la fila, no al confirmar: una transacción que escribió
+-- antes y confirmó después quedaba detrás de una posición ya entregada y el feed la perdía.
+-- change_seq guarda el id de la transacción que escribió la fila, y el feed solo entrega
+-- filas de transacciones anteriores a la más antigua todavía en curso
+-- (txid_snapshot_xmin): todas están ya confirmadas o deshechas, y cualquier escritura
+-- posterior tendrá un change_seq mayor. Una transacción larga retiene el feed hasta
+-- que termina, pero no se pierde nada.
+
+-- Las filas existentes quedan en la posición 0, por orden de id. El valor por defecto
+-- se fija sin reescribir la tabla ni disparar los triggers, y se quita a continuación:
+-- a partir de aquí lo asigna siempre el trigger
+ALTER TABLE clientes ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE clientes ALTER COLUMN change_seq DROP DEFAULT;
+
+CREATE OR REPLACE FUNCTION clientes_touch_updated_at() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at := clock_timestamp();
+    NEW.change_seq := txid_current();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Índice para la paginación por keyset (change_seq, id) del feed de cambios; sustituye al
+-- de (updated_at, id), que solo servía al feed
+DROP INDEX idx_clientes_updated_at_id;
+CREATE INDEX idx_clientes_change_seq_id ON clientes(change_seq, id);
@@ -0,0 +1,9 @@
+-- idx_clientes_id_listado (V4) era un segundo árbol sobre id junto al de la clave primaria:
+-- cada alta mantenía ambos. La clave primaria pasa a incluir shared_key y nombre, de modo
+-- que el listado por defecto (ORDER BY id) con fields=sharedKey,nombre sigue resolviéndose
+-- con un index-only scan sobre un único índice de id
+ALTER TABLE clientes
+    DROP CONSTRAINT clientes_pkey,
+    ADD CONSTRAINT clientes_pkey PRIMARY KEY (id) INCLUDE (shared_key, nombre);
+
+DROP INDEX idx_clientes_id_listado;
@@ -0,0 +1,99 @@
+package com.alianza.clientes.application.service;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ExportState;
+import com.alianza.clientes.domain.model.ExportStatus;
+import com.alianza.clientes.infrastructure.adapter.export.FileSystemClienteExportStorage;
+import com.alianza.clientes.infrastructure.adapter.memory.InMemoryClientePersistenceAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para ClienteExportService
+ */
+class ClienteExportServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private InMemoryClientePersistenceAdapter persistence;
+    private ClienteExportService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        persistence = new InMemoryClientePersistenceAdapter();
+        IntStream.rangeClosed(1, 25).forEach(i -> persistence.saveCliente(cliente(String.format("CLI%03d", i))));
+        Files.writeString(dir.resolve("anterior.csv.part"), "restos");
+        service = new ClienteExportService(persistence, new FileSystemClienteExportStorage(dir), "sharedKey\n", cliente -> cliente.getSharedKey() + "\n",
+                10, Duration.ofHours(1));
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void testStartExport_WritesAllClientesInIdOrder() throws Exception {
+        ExportStatus started = service.startExport();
+        assertTrue(service.findExportFile(started.getExportId()).isEmpty()
+                || started.getState() == ExportState.COMPLETED);
+
+        ExportStatus status = awaitCompletion(started.getExportId());
+        assertEquals(ExportState.COMPLETED, status.getState());
+        assertEquals(25, status.getTotal());
+        assertEquals(25, status.getExported());
+
+        Path file = service.findExportFile(started.getExportId()).orElseThrow();
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(26, lines.size());
+        assertEquals("sharedKey", lines.get(0));
+        assertEquals("CLI001", lines.get(1));
+        assertEquals("CLI025", lines.get(25));
+        assertEquals(Files.size(file), status.getBytes());
+        assertFalse(Files.exists(dir.resolve("anterior.csv.part")));
+    }
+
+    @Test
+    void testFindExport_Unknown() {
+        assertTrue(service.findExport("no-existe").isEmpty());
+        assertTrue(service.findExportFile("no-existe").isEmpty());
+    }
+
+    private ExportStatus awaitCompletion(String exportId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            ExportStatus status = service.findExport(exportId).orElseThrow();
+            if (status.getState() != ExportState.RUNNING) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        fail("La exportación " + exportId + " no terminó a tiempo");
+        return null;
+    }
+
+    private static Cliente cliente(String sharedKey) {
+        return Cliente.builder()
+                .sharedKey(sharedKey)
+                .nombre("Cliente " + sharedKey)
+                .telefono("3000000000")
+                .email(sharedKey.toLowerCase() + "@email.com")
+                .fechaInicio(LocalDate.of(2024, 1, 1))
+                .fechaFin(LocalDate.of(2024, 12, 31))
+                .fechaCreacion(LocalDate.of(2024, 1, 1))
+                .build();
+    }
+}
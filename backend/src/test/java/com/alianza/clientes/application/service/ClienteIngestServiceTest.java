@@ -0,0 +1,170 @@
+package com.alianza.clientes.application.service;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteEvent;
+import com.alianza.clientes.domain.model.ClienteIngest;
+import com.alianza.clientes.domain.model.IngestState;
+import com.alianza.clientes.domain.model.IngestStatus;
+import com.alianza.clientes.infrastructure.adapter.ingest.RecordLogClienteIngestJournal;
+import com.alianza.clientes.infrastructure.adapter.memory.InMemoryClientePersistenceAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para ClienteIngestService
+ */
+class ClienteIngestServiceTest {
+
+    private static final int SEGMENT_SIZE = 1 << 20;
+
+    @TempDir
+    Path dir;
+
+    private InMemoryClientePersistenceAdapter persistence;
+    private List<ClienteEvent> events;
+    private RecordLogClienteIngestJournal journal;
+    private ClienteIngestService service;
+
+    @BeforeEach
+    void setUp() {
+        persistence = new InMemoryClientePersistenceAdapter();
+        persistence.saveCliente(cliente("CLI001"));
+        events = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (service != null) {
+            service.stop();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void testSubmit_PersistsInBackground() throws Exception {
+        start();
+
+        IngestStatus accepted = service.submit(IntStream.range(0, 1200)
+                .mapToObj(i -> cliente("ING" + i))
+                .toList());
+        assertEquals(IngestState.ACCEPTED, accepted.getState());
+        assertEquals(1200, accepted.getTotal());
+
+        IngestStatus status = awaitCompletion(accepted.getTrackingId());
+        assertEquals(IngestState.COMPLETED, status.getState());
+        assertEquals(1200, status.getPersisted());
+        assertEquals(1201, persistence.size());
+        assertEquals(1200, events.size());
+    }
+
+    @Test
+    void testSubmit_RejectsDuplicatedSharedKeys() throws Exception {
+        start();
+
+        assertThrows(IllegalArgumentException.class, () -> service.submit(List.of(cliente("CLI001"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(List.of(cliente("NUEVO"), cliente("NUEVO"))));
+        assertThrows(IllegalArgumentException.class, () -> service.submit(List.of(cliente(" "))));
+        assertThrows(IllegalArgumentException.class, () -> service.submit(List.of()));
+
+        // Las claves de los lotes rechazados quedan libres
+        IngestStatus accepted = service.submit(List.of(cliente("NUEVO")));
+        assertEquals(IngestState.COMPLETED, awaitCompletion(accepted.getTrackingId()).getState());
+        assertTrue(persistence.existsBySharedKey("NUEVO"));
+    }
+
+    @Test
+    void testSubmit_FailedClienteReleasesSharedKey() throws Exception {
+        persistence = spy(persistence);
+        doThrow(new IllegalStateException("Base de datos no disponible"))
+                .doCallRealMethod().when(persistence).saveClientes(anyList());
+        doThrow(new IllegalStateException("Base de datos no disponible"))
+                .doCallRealMethod().when(persistence).saveCliente(any(Cliente.class));
+        start();
+
+        IngestStatus failed = awaitCompletion(service.submit(List.of(cliente("FALLA"))).getTrackingId());
+        assertEquals(1, failed.getFailed());
+        assertFalse(persistence.existsBySharedKey("FALLA"));
+
+        // La clave no quedó reservada: se puede volver a enviar
+        IngestStatus accepted = service.submit(List.of(cliente("FALLA")));
+        assertEquals(IngestState.COMPLETED, awaitCompletion(accepted.getTrackingId()).getState());
+        assertTrue(persistence.existsBySharedKey("FALLA"));
+    }
+
+    @Test
+    void testStart_ReplaysPendingBatches() throws Exception {
+        // Lote aceptado antes de un reinicio, con un cliente ya guardado
+        journal = new RecordLogClienteIngestJournal(dir, SEGMENT_SIZE, Duration.ofMillis(5));
+        journal.append(ClienteIngest.builder()
+                .trackingId("pendiente")
+                .clientes(List.of(cliente("CLI001"), cliente("REC1"), cliente("REC2")))
+                .acceptedAt(LocalDateTime.now())
+                .build());
+        journal.close();
+
+        start();
+
+        IngestStatus status = awaitCompletion("pendiente");
+        assertEquals(IngestState.COMPLETED, status.getState());
+        assertEquals(3, status.getPersisted());
+        assertTrue(persistence.existsBySharedKey("REC1"));
+        assertTrue(persistence.existsBySharedKey("REC2"));
+        assertEquals(3, persistence.size());
+
+        // Una vez completado, el lote no se vuelve a reprocesar
+        service.stop();
+        journal.close();
+        journal = new RecordLogClienteIngestJournal(dir, SEGMENT_SIZE, Duration.ofMillis(5));
+        assertTrue(journal.pending().isEmpty());
+        service = null;
+    }
+
+    private void start() {
+        journal = new RecordLogClienteIngestJournal(dir, SEGMENT_SIZE, Duration.ofMillis(5));
+        service = new ClienteIngestService(persistence, journal, events::add, 500, Duration.ofMillis(20),
+                5000, Duration.ofHours(1), Duration.ofSeconds(5));
+        service.start();
+    }
+
+    private IngestStatus awaitCompletion(String trackingId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            IngestStatus status = service.findStatus(trackingId).orElseThrow();
+            if (status.getState() != IngestState.ACCEPTED) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        fail("El lote " + trackingId + " no terminó a tiempo");
+        return null;
+    }
+
+    private static Cliente cliente(String sharedKey) {
+        return Cliente.builder()
+                .sharedKey(sharedKey)
+                .nombre("Cliente " + sharedKey)
+                .telefono("3000000000")
+                .email(sharedKey.toLowerCase() + "@email.com")
+                .fechaInicio(LocalDate.of(2024, 1, 1))
+                .fechaFin(LocalDate.of(2024, 12, 31))
+                .fechaCreacion(LocalDate.of(2024, 1, 1))
+                .build();
+    }
+}
@@ -1,8 +1,13 @@
 package com.alianza.clientes.application.service;
 
+import com.alianza.clientes.domain.model.ChangeFeedResponse;
+import com.alianza.clientes.domain.model.ChangeToken;
 import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteEvent;
+import com.alianza.clientes.domain.model.ClienteEventType;
 import com.alianza.clientes.domain.model.ClienteFilter;
 import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.domain.port.spi.ClienteEventPublisherPort;
 import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,10 +16,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,6 +37,9 @@ class ClienteServiceTest {
     @Mock
     private ClientePersistencePort clientePersistencePort;
 
+    @Mock
+    private ClienteEventPublisherPort clienteEventPublisherPort;
+
     @InjectMocks
     private ClienteService clienteService;
 
@@ -225,4 +236,122 @@ class ClienteServiceTest {
         verify(clientePersistencePort).saveCliente(argThat(cliente -> cliente.getFechaCreacion() != null &&
                 cliente.getFechaCreacion().equals(LocalDate.now())));
     }
+
+    @Test
+    void testFindChangesSince_FromStart() {
+        // Given
+        Cliente primero = Cliente.builder().id(1L).sharedKey("CLI001").changeSeq(740L).build();
+        Cliente segundo = Cliente.builder().id(2L).sharedKey("CLI002").changeSeq(745L).build();
+        Cliente tercero = Cliente.builder().id(3L).sharedKey("CLI003").changeSeq(745L).build();
+        when(clientePersistencePort.findChangesSince(ChangeToken.INITIAL.getChangeSeq(), 0L, 3))
+                .thenReturn(Arrays.asList(primero, segundo, tercero));
+
+        // When
+        ChangeFeedResponse<Cliente> resultado = clienteService.findChangesSince(null, 2);
+
+        // Then
+        assertEquals(2, resultado.getContent().size());
+        assertTrue(resultado.isHasMore());
+        ChangeToken siguiente = ChangeToken.decode(resultado.getNextToken());
+        assertEquals(745L, siguiente.getChangeSeq());
+        assertEquals(2L, siguiente.getId());
+    }
+
+    @Test
+    void testFindChangesSince_NoChangesKeepsToken() {
+        // Given
+        ChangeToken token = new ChangeToken(91_234L, 20L);
+        when(clientePersistencePort.findChangesSince(91_234L, 20L, 101)).thenReturn(List.of());
+
+        // When
+        ChangeFeedResponse<Cliente> resultado = clienteService.findChangesSince(token.encode(), 100);
+
+        // Then
+        assertTrue(resultado.getContent().isEmpty());
+        assertFalse(resultado.isHasMore());
+        assertEquals(token.encode(), resultado.getNextToken());
+    }
+
+    @Test
+    void testFindChangesSince_LegacyTokenRestartsFeed() {
+        // Token de la primera versión: instante y id, sin byte de versión
+        String legacy = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(ByteBuffer.allocate(16).putLong(1_709_281_800_000_000L).putLong(20L).array());
+        when(clientePersistencePort.findChangesSince(0L, 0L, 11)).thenReturn(List.of());
+
+        clienteService.findChangesSince(legacy, 10);
+
+        verify(clientePersistencePort).findChangesSince(0L, 0L, 11);
+    }
+
+    @Test
+    void testFindChangesSince_InvalidToken() {
+        assertThrows(IllegalArgumentException.class, () -> clienteService.findChangesSince("no-es-un-token", 10));
+        assertThrows(IllegalArgumentException.class, () -> clienteService.findChangesSince(null, 0));
+        verifyNoInteractions(clientePersistencePort);
+    }
+
+    @Test
+    void testFindBySharedKeys_OneQueryInRequestOrder() {
+        // Given
+        Cliente otro = Cliente.builder().id(2L).sharedKey("CLI002").nombre("María García").build();
+        when(clientePersistencePort.findBySharedKeys(anyCollection())).thenReturn(List.of(clienteTest, otro));
+
+        // When
+        List<Cliente> result = clienteService.findBySharedKeys(List.of("CLI002", "CLI999", "CLI001", "CLI002"));
+
+        // Then
+        assertEquals(List.of("CLI002", "CLI001"), result.stream().map(Cliente::getSharedKey).toList());
+        verify(clientePersistencePort).findBySharedKeys(argThat(keys -> keys.size() == 3));
+        verify(clientePersistencePort, never()).findBySharedKey(anyString());
+    }
+
+    @Test
+    void testFindBySharedKeys_InvalidSize() {
+        List<String> tooMany = IntStream.rangeClosed(0, ClienteService.MAX_LOOKUP_KEYS)
+                .mapToObj(i -> "CLI" + i)
+                .toList();
+
+        assertThrows(IllegalArgumentException.class, () -> clienteService.findBySharedKeys(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> clienteService.findBySharedKeys(tooMany));
+        verify(clientePersistencePort, never()).findBySharedKeys(anyCollection());
+    }
+
+    @Test
+    void testSaveCliente_PublishesCreatedEvent() {
+        // Given
+        Cliente nuevo = Cliente.builder()
+                .sharedKey("CLI030")
+                .nombre("Laura Gómez")
+                .telefono("3001234567")
+                .email("laura.gomez@email.com")
+                .fechaInicio(LocalDate.of(2024, 2, 1))
+                .fechaFin(LocalDate.of(2024, 12, 31))
+                .build();
+        Cliente guardado = Cliente.builder().id(30L).sharedKey("CLI030").build();
+        when(clientePersistencePort.existsBySharedKey("CLI030")).thenReturn(false);
+        when(clientePersistencePort.saveCliente(any(Cliente.class))).thenReturn(guardado);
+
+        // When
+        clienteService.saveCliente(nuevo);
+
+        // Then
+        verify(clienteEventPublisherPort).publish(
+                ClienteEvent.builder().type(ClienteEventType.CREATED).cliente(guardado).build());
+    }
+
+    @Test
+    void testSaveCliente_PublishFailureDoesNotFailSave() {
+        // Given
+        when(clientePersistencePort.saveCliente(any(Cliente.class))).thenReturn(clienteTest);
+        doThrow(new IllegalStateException("sin suscriptores")).when(clienteEventPublisherPort).publish(any());
+
+        // When
+        Cliente resultado = clienteService.saveCliente(clienteTest);
+
+        // Then
+        assertEquals(clienteTest, resultado);
+        verify(clienteEventPublisherPort).publish(
+                ClienteEvent.builder().type(ClienteEventType.UPDATED).cliente(clienteTest).build());
+    }
 }
\ No newline at end of file
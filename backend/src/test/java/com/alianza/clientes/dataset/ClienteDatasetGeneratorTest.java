@@ -0,0 +1,76 @@
+package com.alianza.clientes.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.alianza.clientes.domain.model.Cliente;
+
+/**
+ * Pruebas del generador de datos sintéticos y de la carga por lotes
+ */
+class ClienteDatasetGeneratorTest {
+
+    @Test
+    void testGenerate_DeterministicBySeedAndRow() {
+        ClienteDatasetGenerator generator = new ClienteDatasetGenerator(42);
+
+        assertEquals(generator.generate(1234), new ClienteDatasetGenerator(42).generate(1234));
+        assertNotEquals(generator.generate(1234), new ClienteDatasetGenerator(7).generate(1234));
+        assertEquals("GEN000001234", generator.generate(1234).getSharedKey());
+    }
+
+    @Test
+    void testGenerate_ValidForApi() {
+        ClienteDatasetGenerator generator = new ClienteDatasetGenerator(42);
+        Set<String> domains = new HashSet<>();
+
+        LongStream.rangeClosed(1, 10_000).mapToObj(generator::generate).forEach(cliente -> {
+            assertTrue(cliente.getTelefono().matches("^(3\\d{2}|60\\d)\\d{7}$"), cliente.getTelefono());
+            assertTrue(cliente.getEmail().matches("^[a-z.]+\\d+@[a-z.]+$"), cliente.getEmail());
+            assertTrue(cliente.getNombre().length() <= 100);
+            assertFalse(cliente.getFechaFin().isBefore(cliente.getFechaInicio()));
+            assertFalse(cliente.getFechaInicio().isBefore(cliente.getFechaCreacion()));
+            assertTrue(cliente.getFechaCreacion().isBefore(LocalDate.of(2025, 1, 2)));
+            domains.add(cliente.getEmail().substring(cliente.getEmail().indexOf('@') + 1));
+        });
+        assertTrue(domains.size() > 5);
+    }
+
+    @Test
+    void testLoad_BatchedJdbc() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:dataset;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE clientes (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+                + " shared_key VARCHAR(50) NOT NULL UNIQUE, nombre VARCHAR(100) NOT NULL,"
+                + " telefono VARCHAR(20) NOT NULL, email VARCHAR(100) NOT NULL, fecha_inicio DATE NOT NULL,"
+                + " fecha_fin DATE NOT NULL, fecha_creacion DATE NOT NULL, updated_at TIMESTAMP NOT NULL)");
+        ClienteDatasetGenerator generator = new ClienteDatasetGenerator(42);
+        ClienteDatasetLoader loader = new ClienteDatasetLoader(dataSource, 1000);
+
+        assertEquals(2500, loader.load(generator, 1, 2500));
+
+        assertEquals(2500, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM clientes", Long.class));
+        Cliente expected = generator.generate(1777);
+        assertEquals(expected.getNombre(), jdbcTemplate.queryForObject(
+                "SELECT nombre FROM clientes WHERE shared_key = ?", String.class, expected.getSharedKey()));
+    }
+
+    @Test
+    void testParseRows() {
+        assertEquals(50_000_000L, ClienteDatasetCli.parseRows("50M"));
+        assertEquals(250_000L, ClienteDatasetCli.parseRows("250k"));
+        assertEquals(1234L, ClienteDatasetCli.parseRows("1234"));
+    }
+}
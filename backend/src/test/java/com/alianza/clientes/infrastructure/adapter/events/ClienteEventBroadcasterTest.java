@@ -0,0 +1,135 @@
+package com.alianza.clientes.infrastructure.adapter.events;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteEvent;
+import com.alianza.clientes.domain.model.ClienteEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para ClienteEventBroadcaster
+ */
+class ClienteEventBroadcasterTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE);
+    private static final long NO_HEARTBEAT = 3_600_000;
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private ClienteEventBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.release.countDown());
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void testPublish_AllSubscribersSeeSameEventId() throws Exception {
+        broadcaster = new ClienteEventBroadcaster(16, 10, NO_HEARTBEAT, 2, () -> record(new RecordingEmitter(0)));
+        for (int i = 0; i < 3; i++) {
+            broadcaster.subscribe().orElseThrow();
+        }
+
+        broadcaster.publish(event("CLI001"));
+        broadcaster.publish(event("CLI002"));
+
+        for (RecordingEmitter emitter : emitters) {
+            assertTrue(emitter.received.await(5, TimeUnit.SECONDS));
+        }
+        List<Long> expected = emitters.get(0).ids;
+        assertEquals(2, expected.size());
+        assertNotEquals(expected.get(0), expected.get(1));
+        for (RecordingEmitter emitter : emitters) {
+            assertEquals(expected, emitter.ids);
+        }
+        assertEquals(0, broadcaster.getEvictionCount());
+    }
+
+    @Test
+    void testPublish_FullBufferEvictsSubscriber() throws Exception {
+        broadcaster = new ClienteEventBroadcaster(1, 10, NO_HEARTBEAT, 1, () -> record(new RecordingEmitter(1)));
+        RecordingEmitter slow = (RecordingEmitter) broadcaster.subscribe().orElseThrow();
+
+        // El primer evento queda bloqueado en el envío y el segundo ocupa el buffer
+        broadcaster.publish(event("CLI001"));
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+        broadcaster.publish(event("CLI002"));
+        assertEquals(0, broadcaster.getEvictionCount());
+
+        broadcaster.publish(event("CLI003"));
+
+        assertEquals(1, broadcaster.getEvictionCount());
+        assertEquals(0, broadcaster.getSubscriberCount());
+        assertTrue(slow.completed);
+    }
+
+    private RecordingEmitter record(RecordingEmitter emitter) {
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    private static ClienteEvent event(String sharedKey) {
+        return ClienteEvent.builder()
+                .type(ClienteEventType.CREATED)
+                .cliente(Cliente.builder().sharedKey(sharedKey).nombre("Cliente " + sharedKey).build())
+                .build();
+    }
+
+    /**
+     * Emisor sin conexión que guarda los ids enviados; con {@code blockedSends}
+     * mayor que cero, esos primeros envíos esperan a {@link #release}
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<Long> ids = new CopyOnWriteArrayList<>();
+        private final CountDownLatch received = new CountDownLatch(2);
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private int blockedSends;
+        private volatile boolean completed;
+
+        RecordingEmitter(int blockedSends) {
+            this.blockedSends = blockedSends;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String data) {
+                    text.append(data);
+                }
+            }
+            Matcher matcher = EVENT_ID.matcher(text);
+            if (matcher.find()) {
+                ids.add(Long.parseLong(matcher.group(1)));
+                received.countDown();
+            }
+            if (blockedSends > 0) {
+                blockedSends--;
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.alianza.clientes.infrastructure.adapter.export;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteEvent;
+import com.alianza.clientes.domain.model.ClienteEventType;
+import com.alianza.clientes.infrastructure.adapter.memory.InMemoryClientePersistenceAdapter;
+import com.alianza.clientes.infrastructure.adapter.rest.converters.ClienteConverter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para ClienteCsvSnapshot
+ */
+class ClienteCsvSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    private InMemoryClientePersistenceAdapter persistence;
+    private ClienteCsvSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        persistence = new InMemoryClientePersistenceAdapter();
+        IntStream.rangeClosed(1, 12).forEach(i -> persistence.saveCliente(cliente(String.format("CLI%03d", i))));
+        // Reconstrucciones solo a mano
+        snapshot = new ClienteCsvSnapshot(persistence, dir.toString(), 5, 3_600_000, 3_600_000);
+        snapshot.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        snapshot.stop();
+    }
+
+    @Test
+    void testRebuild_MatchesLegacyExport() throws Exception {
+        assertEquals(ClienteConverter.generateCsvContent(persistence.findAllClientes()), servedContent());
+    }
+
+    @Test
+    void testPublish_AppendsCreatedAndDefersUpdates() throws Exception {
+        Cliente nuevo = persistence.saveCliente(cliente("CLI013"));
+        snapshot.publish(ClienteEvent.builder().type(ClienteEventType.CREATED).cliente(nuevo).build());
+
+        List<String> lines = lines();
+        assertEquals(14, lines.size());
+        assertTrue(lines.get(13).startsWith("CLI013,"));
+
+        Cliente modificado = persistence.findBySharedKey("CLI001").orElseThrow();
+        modificado.setNombre("Nombre Nuevo");
+        persistence.saveCliente(modificado);
+        snapshot.publish(ClienteEvent.builder().type(ClienteEventType.UPDATED).cliente(modificado).build());
+        assertFalse(servedContent().contains("Nombre Nuevo"));
+
+        long generation = snapshot.current().orElseThrow().generation();
+        snapshot.rebuild();
+        assertEquals(generation + 1, snapshot.current().orElseThrow().generation());
+        assertEquals(ClienteConverter.generateCsvContent(persistence.findAllClientes()), servedContent());
+    }
+
+    @Test
+    void testRebuild_KeepsPreviousVersionOnly() throws Exception {
+        Path first = snapshot.current().orElseThrow().file();
+        snapshot.rebuild();
+        Path second = snapshot.current().orElseThrow().file();
+        assertTrue(Files.exists(first));
+
+        snapshot.rebuild();
+        assertFalse(Files.exists(first));
+        assertTrue(Files.exists(second));
+    }
+
+    /**
+     * Contenido servible: los primeros length bytes del fichero vigente
+     */
+    private String servedContent() throws IOException {
+        ClienteCsvSnapshot.Snapshot current = snapshot.current().orElseThrow();
+        byte[] bytes = Files.readAllBytes(current.file());
+        return new String(Arrays.copyOf(bytes, (int) current.length()), StandardCharsets.UTF_8);
+    }
+
+    private List<String> lines() throws IOException {
+        return servedContent().lines().toList();
+    }
+
+    private static Cliente cliente(String sharedKey) {
+        return Cliente.builder()
+                .sharedKey(sharedKey)
+                .nombre("Cliente " + sharedKey)
+                .telefono("3000000000")
+                .email(sharedKey.toLowerCase() + "@email.com")
+                .fechaInicio(LocalDate.of(2024, 1, 1))
+                .fechaFin(LocalDate.of(2024, 12, 31))
+                .fechaCreacion(LocalDate.of(2024, 1, 1))
+                .build();
+    }
+}
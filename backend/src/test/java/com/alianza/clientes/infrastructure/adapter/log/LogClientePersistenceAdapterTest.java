@@ -0,0 +1,142 @@
+package com.alianza.clientes.infrastructure.adapter.log;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para LogClientePersistenceAdapter
+ */
+class LogClientePersistenceAdapterTest {
+
+    @TempDir
+    Path dir;
+
+    private LogClientePersistenceAdapter adapter;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        adapter.close();
+    }
+
+    @Test
+    void testReopen_RestoresLatestVersionAndIndexes() throws IOException {
+        adapter = open(DataSize.ofMegabytes(1));
+        adapter.saveCliente(cliente("CLI001", "Juan Pérez"));
+        adapter.saveCliente(cliente("CLI002", "María García"));
+        Cliente juan = adapter.findBySharedKey("CLI001").get();
+        juan.setNombre("Zoe Pérez");
+        Cliente updated = adapter.saveCliente(juan);
+
+        adapter = reopen(DataSize.ofMegabytes(1));
+
+        assertEquals(2, adapter.size());
+        assertEquals(updated, adapter.findBySharedKey("CLI001").get());
+        assertEquals(List.of("CLI001"), adapter.findClientesByFilter(ClienteFilter.builder().nombre("zoe").build(),
+                0, 10, "id", "asc").getContent().stream().map(Cliente::getSharedKey).toList());
+        assertEquals(List.of("CLI002", "CLI001"), adapter.findChangesSince(0L, 0L, 10)
+                .stream().map(Cliente::getSharedKey).toList());
+        // Los ids e instantes siguen creciendo tras reabrir
+        Cliente next = adapter.saveCliente(cliente("CLI003", "Carlos López"));
+        assertEquals(3L, next.getId());
+        assertTrue(next.getUpdatedAt().isAfter(updated.getUpdatedAt()));
+    }
+
+    @Test
+    void testReopen_DiscardsTornRecord() throws IOException {
+        adapter = open(DataSize.ofMegabytes(1));
+        adapter.saveCliente(cliente("CLI001", "Juan Pérez"));
+        adapter.saveCliente(cliente("CLI002", "María García"));
+        adapter.close();
+
+        // Se corrompe el último byte del último registro, como una escritura interrumpida
+        Path segment = segments().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            long end = 0;
+            while (true) {
+                file.seek(end);
+                int length = file.readInt();
+                if (length == 0) {
+                    break;
+                }
+                end += 8 + length;
+            }
+            file.seek(end - 1);
+            int last = file.read();
+            file.seek(end - 1);
+            file.write(last ^ 0xFF);
+        }
+
+        adapter = open(DataSize.ofMegabytes(1));
+        assertEquals(1, adapter.size());
+        assertFalse(adapter.existsBySharedKey("CLI002"));
+
+        adapter.saveCliente(cliente("CLI002", "María García"));
+        adapter = reopen(DataSize.ofMegabytes(1));
+        assertEquals(2, adapter.size());
+        assertEquals("María García", adapter.findBySharedKey("CLI002").get().getNombre());
+    }
+
+    @Test
+    void testCompact_CopiesLiveRecordsAndDeletesSegments() throws IOException {
+        adapter = open(DataSize.ofKilobytes(4));
+        for (int i = 0; i < 20; i++) {
+            adapter.saveCliente(cliente("CLI" + i, "Cliente " + i));
+        }
+        // Muchas versiones de un mismo cliente dejan segmentos casi sin registros vigentes
+        for (int i = 0; i < 300; i++) {
+            Cliente cliente = adapter.findBySharedKey("CLI0").get();
+            cliente.setNombre("Versión " + i);
+            adapter.saveCliente(cliente);
+        }
+        int before = segments().size();
+
+        assertTrue(adapter.compact() > 0);
+        assertTrue(segments().size() < before);
+
+        adapter = reopen(DataSize.ofKilobytes(4));
+        assertEquals(20, adapter.size());
+        assertEquals("Versión 299", adapter.findBySharedKey("CLI0").get().getNombre());
+        assertEquals("Cliente 19", adapter.findBySharedKey("CLI19").get().getNombre());
+    }
+
+    private LogClientePersistenceAdapter reopen(DataSize segmentSize) throws IOException {
+        adapter.close();
+        return open(segmentSize);
+    }
+
+    private LogClientePersistenceAdapter open(DataSize segmentSize) {
+        return new LogClientePersistenceAdapter(dir.toString(), segmentSize, "group", 1, 3_600_000, 0.5);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static Cliente cliente(String sharedKey, String nombre) {
+        return Cliente.builder()
+                .sharedKey(sharedKey)
+                .nombre(nombre)
+                .telefono("3001234567")
+                .email(sharedKey.toLowerCase() + "@email.com")
+                .fechaInicio(LocalDate.of(2024, 1, 15))
+                .fechaFin(LocalDate.of(2024, 12, 31))
+                .fechaCreacion(LocalDate.of(2024, 1, 10))
+                .build();
+    }
+}
@@ -0,0 +1,211 @@
+package com.alianza.clientes.infrastructure.adapter.memory;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.MatchMode;
+import com.alianza.clientes.domain.model.PageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para InMemoryClientePersistenceAdapter
+ */
+class InMemoryClientePersistenceAdapterTest {
+
+    private InMemoryClientePersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InMemoryClientePersistenceAdapter();
+        adapter.saveCliente(cliente("CLI001", "Juan Pérez", "3001234567", "juan.perez@email.com",
+                LocalDate.of(2024, 1, 15), LocalDate.of(2024, 12, 31)));
+        adapter.saveCliente(cliente("CLI002", "María García", "3109876543", "MARIA.garcia@email.com",
+                LocalDate.of(2024, 2, 1), LocalDate.of(2024, 6, 30)));
+        adapter.saveCliente(cliente("CLI003", "Carlos López", "3205551234", "carlos_lopez@email.com",
+                LocalDate.of(2023, 12, 1), LocalDate.of(2024, 12, 31)));
+    }
+
+    @Test
+    void testSaveCliente_AssignsIdAndUpdatedAt() {
+        Cliente saved = adapter.saveCliente(cliente("CLI004", "Ana Gómez", "3001112233", "ana@email.com",
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 9, 30)));
+
+        assertEquals(4L, saved.getId());
+        assertNotNull(saved.getUpdatedAt());
+        assertEquals(4L, adapter.findTopByOrderByIdDesc().get().getId());
+    }
+
+    @Test
+    void testSaveCliente_UpdateReplacesIndexes() {
+        Cliente juan = adapter.findBySharedKey("CLI001").get();
+        juan.setNombre("Zoe Pérez");
+        adapter.saveCliente(juan);
+
+        assertEquals(3, adapter.size());
+        PageResponse<Cliente> page = adapter.findAllClientes(0, 10, "nombre", "desc");
+        assertEquals(List.of("Zoe Pérez", "María García", "Carlos López"),
+                page.getContent().stream().map(Cliente::getNombre).toList());
+    }
+
+    @Test
+    void testSaveCliente_DuplicateSharedKey() {
+        Cliente duplicate = cliente("CLI001", "Otro", "3000000000", "otro@email.com",
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        assertThrows(DataIntegrityViolationException.class, () -> adapter.saveCliente(duplicate));
+        assertEquals(3, adapter.size());
+    }
+
+    @Test
+    void testFindBySharedKey_ReturnsCopy() {
+        adapter.findBySharedKey("CLI001").get().setNombre("Modificado");
+
+        assertEquals("Juan Pérez", adapter.findBySharedKey("CLI001").get().getNombre());
+        assertTrue(adapter.existsBySharedKey("CLI002"));
+        assertFalse(adapter.existsBySharedKey("CLI999"));
+    }
+
+    @Test
+    void testFindAllClientes_PageMetadata() {
+        PageResponse<Cliente> page = adapter.findAllClientes(1, 2, "id", "asc");
+
+        assertEquals(1, page.getContent().size());
+        assertEquals("CLI003", page.getContent().get(0).getSharedKey());
+        assertEquals(1, page.getPageNumber());
+        assertEquals(2, page.getPageSize());
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+        assertFalse(page.isFirst());
+        assertTrue(page.isLast());
+        assertFalse(page.isEmpty());
+
+        PageResponse<Cliente> beyond = adapter.findAllClientes(5, 2, "id", "asc");
+        assertTrue(beyond.isEmpty());
+        assertEquals(3, beyond.getTotalElements());
+        assertThrows(IllegalArgumentException.class, () -> adapter.findAllClientes(0, 0, "id", "asc"));
+        assertThrows(IllegalArgumentException.class, () -> adapter.findAllClientes(0, 10, "noExiste", "asc"));
+    }
+
+    @Test
+    void testFindClientesByFilter_SameSemanticsAsSpecification() {
+        // nombre y email: contenido sin distinguir mayúsculas
+        assertEquals(List.of("CLI002"), sharedKeys(ClienteFilter.builder().nombre("garcía").build()));
+        assertEquals(List.of("CLI002"), sharedKeys(ClienteFilter.builder().email("maria.G").build()));
+        // teléfono: contenido
+        assertEquals(List.of("CLI001", "CLI003"), sharedKeys(ClienteFilter.builder().telefono("123").build()));
+        // sharedKey: exacto
+        assertEquals(List.of(), sharedKeys(ClienteFilter.builder().sharedKey("CLI00").build()));
+        // fechas: cotas inclusivas sobre fechaInicio y fechaFin
+        assertEquals(List.of("CLI001", "CLI002"), sharedKeys(ClienteFilter.builder()
+                .fechaInicio(LocalDate.of(2024, 1, 15)).fechaFin(LocalDate.of(2024, 12, 31)).build()));
+        // _ es comodín, como en LIKE
+        assertEquals(List.of("CLI001", "CLI002", "CLI003"),
+                sharedKeys(ClienteFilter.builder().email("_@").build()));
+        // textos vacíos no filtran
+        assertEquals(3, sharedKeys(ClienteFilter.builder().nombre(" ").build()).size());
+    }
+
+    @Test
+    void testFindChangesSince_KeysetOrder() {
+        List<Cliente> all = adapter.findChangesSince(0L, 0L, 10);
+        assertEquals(List.of("CLI001", "CLI002", "CLI003"), all.stream().map(Cliente::getSharedKey).toList());
+
+        Cliente first = all.get(0);
+        List<Cliente> rest = adapter.findChangesSince(first.getChangeSeq(), first.getId(), 1);
+        assertEquals(List.of("CLI002"), rest.stream().map(Cliente::getSharedKey).toList());
+    }
+
+    @Test
+    void testSaveCliente_Concurrent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Cliente>> saves = IntStream.range(0, 2000)
+                    .mapToObj(i -> executor.submit(() -> adapter.saveCliente(cliente("C" + i, "Cliente " + i,
+                            "3000000000", "c" + i + "@email.com", LocalDate.of(2024, 1, 1),
+                            LocalDate.of(2024, 12, 31)))))
+                    .toList();
+            for (Future<Cliente> save : saves) {
+                save.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(2003, adapter.size());
+        assertEquals(2003, adapter.findAllClientes(0, 10, "nombre", "asc").getTotalElements());
+        assertEquals(2003, adapter.findChangesSince(0L, 0L, 5000).size());
+    }
+
+    @Test
+    void testFindClientesByFilter_MatchModes() {
+        // prefijo: nombre y email sin distinguir mayúsculas, teléfono tal cual
+        assertEquals(List.of("CLI002"), sharedKeys(ClienteFilter.builder().nombre("maría")
+                .nombreMatch(MatchMode.PREFIX).build()));
+        assertEquals(List.of(), sharedKeys(ClienteFilter.builder().nombre("garcía")
+                .nombreMatch(MatchMode.PREFIX).build()));
+        assertEquals(List.of("CLI002", "CLI003"), sharedKeys(ClienteFilter.builder().email("_A")
+                .emailMatch(MatchMode.PREFIX).build()));
+        assertEquals(List.of("CLI003"), sharedKeys(ClienteFilter.builder().telefono("320")
+                .telefonoMatch(MatchMode.PREFIX).build()));
+        // exacto: el valor completo, y % o _ son caracteres normales
+        assertEquals(List.of("CLI002"), sharedKeys(ClienteFilter.builder().email("maria.garcia@EMAIL.com")
+                .emailMatch(MatchMode.EXACT).build()));
+        assertEquals(List.of(), sharedKeys(ClienteFilter.builder().email("maria.garcia")
+                .emailMatch(MatchMode.EXACT).build()));
+        assertEquals(List.of(), sharedKeys(ClienteFilter.builder().telefono("300123456_")
+                .telefonoMatch(MatchMode.EXACT).build()));
+        // contenido, el modo por defecto
+        assertEquals(List.of("CLI002"), sharedKeys(ClienteFilter.builder().nombre("garcía")
+                .nombreMatch(MatchMode.CONTAINS).build()));
+    }
+
+    @Test
+    void testFindClientesByFilter_Vigencia() {
+        // ventana [desde, hasta] con extremos inclusivos
+        assertEquals(List.of("CLI001", "CLI002", "CLI003"), sharedKeys(ClienteFilter.builder()
+                .vigenteDesde(LocalDate.of(2024, 6, 30)).vigenteHasta(LocalDate.of(2024, 7, 15)).build()));
+        assertEquals(List.of("CLI001", "CLI003"), sharedKeys(ClienteFilter.builder()
+                .vigenteDesde(LocalDate.of(2024, 7, 1)).vigenteHasta(LocalDate.of(2024, 7, 15)).build()));
+        // vigente en una fecha y ventanas abiertas
+        assertEquals(List.of("CLI003"), sharedKeys(ClienteFilter.builder()
+                .vigenteDesde(LocalDate.of(2023, 12, 1)).vigenteHasta(LocalDate.of(2023, 12, 1)).build()));
+        assertEquals(List.of("CLI003"), sharedKeys(ClienteFilter.builder()
+                .vigenteHasta(LocalDate.of(2024, 1, 14)).build()));
+        assertEquals(List.of(), sharedKeys(ClienteFilter.builder()
+                .vigenteDesde(LocalDate.of(2025, 1, 1)).build()));
+        // un contrato con las fechas invertidas no está vigente nunca
+        adapter.saveCliente(cliente("CLI004", "Ana Gómez", "3001112233", "ana@email.com",
+                LocalDate.of(2024, 9, 30), LocalDate.of(2024, 3, 1)));
+        assertEquals(List.of("CLI001", "CLI003"), sharedKeys(ClienteFilter.builder()
+                .vigenteDesde(LocalDate.of(2024, 7, 1)).vigenteHasta(LocalDate.of(2024, 7, 1)).build()));
+    }
+
+    private List<String> sharedKeys(ClienteFilter filter) {
+        return adapter.findClientesByFilter(filter, 0, 100, "sharedKey", "asc").getContent().stream()
+                .map(Cliente::getSharedKey)
+                .toList();
+    }
+
+    private static Cliente cliente(String sharedKey, String nombre, String telefono, String email,
+            LocalDate fechaInicio, LocalDate fechaFin) {
+        return Cliente.builder()
+                .sharedKey(sharedKey)
+                .nombre(nombre)
+                .telefono(telefono)
+                .email(email)
+                .fechaInicio(fechaInicio)
+                .fechaFin(fechaFin)
+                .fechaCreacion(LocalDate.of(2024, 1, 1))
+                .build();
+    }
+}
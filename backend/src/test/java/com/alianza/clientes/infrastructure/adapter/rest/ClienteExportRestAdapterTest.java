@@ -0,0 +1,85 @@
+package com.alianza.clientes.infrastructure.adapter.rest;
+
+import com.alianza.clientes.domain.model.ExportState;
+import com.alianza.clientes.domain.model.ExportStatus;
+import com.alianza.clientes.domain.port.api.ClienteExportServicePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Pruebas unitarias para ClienteExportRestAdapter
+ */
+@WebMvcTest(ClienteExportRestAdapter.class)
+class ClienteExportRestAdapterTest {
+
+        private static final String CSV = "Shared Key,Nombre\nCLI001,Juan\nCLI002,María\n";
+
+        @TempDir
+        static Path dir;
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @MockBean
+        private ClienteExportServicePort clienteExportServicePort;
+
+        @BeforeEach
+        void setUp() throws Exception {
+                Path file = Files.writeString(dir.resolve("exp1.csv"), CSV);
+                when(clienteExportServicePort.findExport("exp1")).thenReturn(Optional.of(ExportStatus.builder()
+                                .exportId("exp1").state(ExportState.COMPLETED).build()));
+                when(clienteExportServicePort.findExportFile("exp1")).thenReturn(Optional.of(file));
+                when(clienteExportServicePort.findExport("exp2")).thenReturn(Optional.of(ExportStatus.builder()
+                                .exportId("exp2").state(ExportState.RUNNING).build()));
+                when(clienteExportServicePort.findExportFile("exp2")).thenReturn(Optional.empty());
+        }
+
+        @Test
+        void testDownloadExport_FullFile() throws Exception {
+                byte[] body = CSV.getBytes("UTF-8");
+                mockMvc.perform(get("/clientes/export/exp1/download"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Accept-Ranges", "bytes"))
+                                .andExpect(header().longValue("Content-Length", body.length))
+                                .andExpect(content().bytes(body));
+        }
+
+        @Test
+        void testDownloadExport_Range() throws Exception {
+                mockMvc.perform(get("/clientes/export/exp1/download").header("Range", "bytes=18-31"))
+                                .andExpect(status().isPartialContent())
+                                .andExpect(header().string("Content-Range", "bytes 18-31/" + CSV.getBytes("UTF-8").length))
+                                .andExpect(content().string("CLI001,Juan\nCL"));
+
+                mockMvc.perform(get("/clientes/export/exp1/download").header("Range", "bytes=500-"))
+                                .andExpect(status().isRequestedRangeNotSatisfiable());
+
+                // Un If-Range de otra versión del fichero ignora el rango
+                mockMvc.perform(get("/clientes/export/exp1/download").header("Range", "bytes=18-31")
+                                .header("If-Range", "\"otra\""))
+                                .andExpect(status().isOk());
+        }
+
+        @Test
+        void testDownloadExport_NotReady() throws Exception {
+                mockMvc.perform(get("/clientes/export/exp2/download")).andExpect(status().isConflict());
+                mockMvc.perform(get("/clientes/export/exp3/download")).andExpect(status().isNotFound());
+                mockMvc.perform(get("/clientes/export/exp2"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.state").value("RUNNING"))
+                                .andExpect(jsonPath("$.downloadUrl").doesNotExist());
+        }
+}
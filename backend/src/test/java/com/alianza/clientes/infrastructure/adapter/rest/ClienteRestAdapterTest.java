@@ -7,12 +7,15 @@ import com.alianza.clientes.domain.port.api.ClienteServicePort;
 import com.alianza.clientes.infrastructure.adapter.rest.dto.ClienteDTO;
 import com.alianza.clientes.infrastructure.adapter.rest.dto.ClienteFilterDTO;
 import com.alianza.clientes.infrastructure.adapter.rest.dto.PageResponseDTO;
+import com.alianza.clientes.infrastructure.config.AsyncConfig;
+import com.alianza.clientes.support.AsyncMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -28,9 +31,11 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
- * Pruebas unitarias para ClienteRestAdapter
+ * Pruebas unitarias para ClienteRestAdapter. Las lecturas pasan por el puerto
+ * asíncrono real de AsyncConfig sobre el ClienteServicePort simulado.
  */
 @WebMvcTest(ClienteRestAdapter.class)
+@Import(AsyncConfig.class)
 class ClienteRestAdapterTest {
 
         @Autowired
@@ -122,7 +127,7 @@ class ClienteRestAdapterTest {
                 when(clienteServicePort.findBySharedKey("CLI001")).thenReturn(clienteTest);
 
                 // When & Then
-                mockMvc.perform(get("/clientes/CLI001"))
+                AsyncMvc.perform(mockMvc, get("/clientes/CLI001"))
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.sharedKey").value("CLI001"))
                                 .andExpect(jsonPath("$.nombre").value("Juan Pérez"))
@@ -138,7 +143,7 @@ class ClienteRestAdapterTest {
                 when(clienteServicePort.findBySharedKey("CLI999")).thenReturn(null);
 
                 // When & Then
-                mockMvc.perform(get("/clientes/CLI999"))
+                AsyncMvc.perform(mockMvc, get("/clientes/CLI999"))
                                 .andExpect(status().isNotFound());
 
                 verify(clienteServicePort).findBySharedKey("CLI999");
@@ -150,7 +155,7 @@ class ClienteRestAdapterTest {
                 when(clienteServicePort.findAllClientes(0, 10, null, null)).thenReturn(pageResponse);
 
                 // When & Then
-                mockMvc.perform(get("/clientes")
+                AsyncMvc.perform(mockMvc, get("/clientes")
                                 .param("page", "0")
                                 .param("size", "10"))
                                 .andExpect(status().isOk())
@@ -172,7 +177,7 @@ class ClienteRestAdapterTest {
                                 .thenReturn(pageResponse);
 
                 // When & Then
-                mockMvc.perform(get("/clientes/filter")
+                AsyncMvc.perform(mockMvc, get("/clientes/filter")
                                 .param("nombre", "Juan")
                                 .param("email", "juan")
                                 .param("page", "0")
@@ -195,7 +200,7 @@ class ClienteRestAdapterTest {
                 when(clienteServicePort.exportClientesToCsv()).thenReturn(clientes);
 
                 // When & Then
-                mockMvc.perform(get("/clientes/export/csv"))
+                AsyncMvc.perform(mockMvc, get("/clientes/export/csv"))
                                 .andExpect(status().isOk())
                                 .andExpect(content().contentType("text/csv"))
                                 .andExpect(header().string("Content-Disposition", "attachment; filename=clientes.csv"))
@@ -228,7 +233,7 @@ class ClienteRestAdapterTest {
                 when(clienteServicePort.findAllClientes(0, 20, null, null)).thenReturn(pageResponse);
 
                 // When & Then
-                mockMvc.perform(get("/clientes"))
+                AsyncMvc.perform(mockMvc, get("/clientes"))
                                 .andExpect(status().isOk());
 
                 verify(clienteServicePort).findAllClientes(0, 20, null, null);
@@ -241,7 +246,7 @@ class ClienteRestAdapterTest {
                                 .thenReturn(pageResponse);
 
                 // When & Then
-                mockMvc.perform(get("/clientes/filter")
+                AsyncMvc.perform(mockMvc, get("/clientes/filter")
                                 .param("fechaInicio", "2024-01-01")
                                 .param("fechaFin", "2024-12-31")
                                 .param("page", "0")
@@ -258,7 +263,7 @@ class ClienteRestAdapterTest {
                                 .thenReturn(pageResponse);
 
                 // When & Then
-                mockMvc.perform(get("/clientes/filter")
+                AsyncMvc.perform(mockMvc, get("/clientes/filter")
                                 .param("page", "0")
                                 .param("size", "10"))
                                 .andExpect(status().isOk());
@@ -0,0 +1,77 @@
+package com.alianza.clientes.infrastructure.async;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.port.api.ClienteServicePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para ExecutorClienteAsyncServicePort: las exportaciones
+ * bloqueadas solo agotan su propio pool
+ */
+class ExecutorClienteAsyncServicePortTest {
+
+    private final ClienteServicePort delegate = mock(ClienteServicePort.class);
+    private final CountDownLatch exportReleased = new CountDownLatch(1);
+    private ExecutorClienteAsyncServicePort service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExecutorClienteAsyncServicePort(delegate, pool(2, 10), pool(2, 10), pool(1, 1),
+                task -> task);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        exportReleased.countDown();
+        service.stop();
+    }
+
+    @Test
+    void testExportPoolFullDoesNotDelayLookups() throws Exception {
+        when(delegate.exportClientesToCsv()).thenAnswer(invocation -> {
+            exportReleased.await();
+            return List.of();
+        });
+        when(delegate.findBySharedKey("CLI001")).thenReturn(Cliente.builder().sharedKey("CLI001").build());
+
+        CompletableFuture<List<Cliente>> running = service.exportClientesToCsv();
+        CompletableFuture<List<Cliente>> queued = service.exportClientesToCsv();
+        CompletableFuture<List<Cliente>> rejected = service.exportClientesToCsv();
+
+        assertEquals("CLI001", service.findBySharedKey("CLI001").get(5, TimeUnit.SECONDS).getSharedKey());
+        ExecutionException error = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+
+        exportReleased.countDown();
+        assertEquals(List.of(), running.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(), queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testDelegateExceptionFailsFuture() {
+        when(delegate.findBySharedKey("CLI999")).thenThrow(new IllegalArgumentException("No existe"));
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> service.findBySharedKey("CLI999").get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, error.getCause());
+    }
+
+    private static ThreadPoolExecutor pool(int threads, int queueCapacity) {
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity));
+    }
+}
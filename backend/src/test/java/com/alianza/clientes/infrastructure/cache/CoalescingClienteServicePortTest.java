@@ -0,0 +1,143 @@
+package com.alianza.clientes.infrastructure.cache;
+
+import com.alianza.clientes.application.service.ClienteService;
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.infrastructure.adapter.memory.InMemoryClientePersistenceAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para CoalescingClienteServicePort: una avalancha de
+ * lecturas idénticas llega mientras la primera consulta está bloqueada en el
+ * adaptador, que solo debe recibir esa consulta
+ */
+class CoalescingClienteServicePortTest {
+
+    private static final int THREADS = 32;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    private InMemoryClientePersistenceAdapter store;
+    private CoalescingClienteServicePort service;
+
+    @BeforeEach
+    void setUp() {
+        store = spy(new InMemoryClientePersistenceAdapter());
+        store.saveCliente(Cliente.builder()
+                .sharedKey("CLI001")
+                .nombre("Juan Pérez")
+                .telefono("3001234567")
+                .email("juan.perez@email.com")
+                .fechaInicio(LocalDate.of(2024, 1, 1))
+                .fechaFin(LocalDate.of(2024, 12, 31))
+                .fechaCreacion(LocalDate.of(2024, 1, 1))
+                .build());
+        service = new CoalescingClienteServicePort(new ClienteService(store, event -> {
+        }));
+        service.bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testFindBySharedKey_ThunderingHerdRunsOneQuery() throws Exception {
+        CountDownLatch release = blockUntilOthersJoin("findBySharedKey");
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(store).findBySharedKey("CLI001");
+
+        List<Cliente> results = herd(() -> service.findBySharedKey("CLI001"));
+
+        verify(store, times(1)).findBySharedKey("CLI001");
+        assertEquals(THREADS - 1, shared("findBySharedKey"));
+        assertTrue(results.stream().allMatch(cliente -> "Juan Pérez".equals(cliente.getNombre())));
+    }
+
+    @Test
+    void testFindAllClientes_ThunderingHerdRunsOneQuery() throws Exception {
+        CountDownLatch release = blockUntilOthersJoin("findAllClientes");
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(store).findAllClientes(0, 10, "id", "asc");
+
+        List<PageResponse<Cliente>> results = herd(() -> service.findAllClientes(0, 10, "id", "asc"));
+
+        verify(store, times(1)).findAllClientes(0, 10, "id", "asc");
+        assertEquals(THREADS - 1, shared("findAllClientes"));
+        assertTrue(results.stream().allMatch(page -> page.getTotalElements() == 1));
+        assertEquals(0, registry.get("clientes.coalescing.inflight").gauge().value());
+    }
+
+    @Test
+    void testFindBySharedKey_SharesExceptionAndDoesNotCache() {
+        assertThrows(IllegalArgumentException.class, () -> service.findBySharedKey("CLI999"));
+        assertThrows(IllegalArgumentException.class, () -> service.findBySharedKey("CLI999"));
+
+        // sin concurrencia no hay nada que unir: cada llamada consulta
+        verify(store, times(2)).findBySharedKey("CLI999");
+        assertEquals(0, shared("findBySharedKey"));
+    }
+
+    /**
+     * Latch que se abre cuando las demás peticiones de la avalancha se han unido
+     * a la primera
+     */
+    private CountDownLatch blockUntilOthersJoin(String method) {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            while (shared(method) < THREADS - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+        });
+        return release;
+    }
+
+    private <T> List<T> herd(Callable<T> call) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = IntStream.range(0, THREADS)
+                    .mapToObj(i -> callers.submit(() -> {
+                        start.await();
+                        return call.call();
+                    }))
+                    .toList();
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private double shared(String method) {
+        return registry.get("clientes.coalescing.shared").tag("method", method).counter().count();
+    }
+}
@@ -0,0 +1,137 @@
+package com.alianza.clientes.infrastructure.cache;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.infrastructure.adapter.memory.InMemoryClientePersistenceAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para FilterCacheClientePersistencePort
+ */
+class FilterCacheClientePersistencePortTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private InMemoryClientePersistenceAdapter store;
+    private FilterCacheClientePersistencePort cache;
+
+    @BeforeEach
+    void setUp() {
+        store = spy(new InMemoryClientePersistenceAdapter());
+        store.saveCliente(cliente("CLI001", "Juan Pérez", "juan.perez@email.com"));
+        store.saveCliente(cliente("CLI002", "María García", "maria.garcia@email.com"));
+        store.saveCliente(cliente("CLI003", "Carlos López", "carlos.lopez@email.com"));
+        cache = new FilterCacheClientePersistencePort(store, 1_000_000, 30_000, now::get);
+    }
+
+    @Test
+    void testFindClientesByFilter_NormalizedKeyHitsCache() {
+        PageResponse<Cliente> first = cache.findClientesByFilter(ClienteFilter.builder().nombre("garcía")
+                .email(" ").build(), 0, 10, "nombre", "asc");
+        PageResponse<Cliente> second = cache.findClientesByFilter(ClienteFilter.builder().nombre("GARCÍA")
+                .build(), 0, 10, "nombre", "ASC");
+
+        assertEquals(first, second);
+        assertEquals(1, second.getTotalElements());
+        verify(store, times(1)).findClientesByFilter(any(), anyInt(), anyInt(), any(), any());
+
+        // otra página, otro tamaño o un shared key con otras mayúsculas son otras claves
+        cache.findClientesByFilter(ClienteFilter.builder().nombre("garcía").build(), 1, 10, "nombre", "asc");
+        cache.findClientesByFilter(ClienteFilter.builder().sharedKey("cli002").build(), 0, 10, "nombre", "asc");
+        verify(store, times(3)).findClientesByFilter(any(), anyInt(), anyInt(), any(), any());
+    }
+
+    @Test
+    void testSaveCliente_InvalidatesOnlyMatchingFilters() {
+        ClienteFilter perez = ClienteFilter.builder().nombre("pérez").build();
+        ClienteFilter lopez = ClienteFilter.builder().nombre("lópez").build();
+        cache.findClientesByFilter(perez, 0, 10, "id", "asc");
+        cache.findClientesByFilter(lopez, 0, 10, "id", "asc");
+
+        cache.saveCliente(cliente("CLI004", "Ana Pérez", "ana@email.com"));
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.findClientesByFilter(perez, 0, 10, "id", "asc").getTotalElements());
+        cache.findClientesByFilter(lopez, 0, 10, "id", "asc");
+        verify(store, times(3)).findClientesByFilter(any(), anyInt(), anyInt(), any(), any());
+    }
+
+    @Test
+    void testSaveCliente_UpdateInvalidatesFilterOfPreviousVersion() {
+        ClienteFilter lopez = ClienteFilter.builder().nombre("lópez").build();
+        assertEquals(1, cache.findClientesByFilter(lopez, 0, 10, "id", "asc").getTotalElements());
+
+        Cliente carlos = store.findBySharedKey("CLI003").get();
+        carlos.setNombre("Carlos Ruiz");
+        cache.saveCliente(carlos);
+
+        assertEquals(0, cache.findClientesByFilter(lopez, 0, 10, "id", "asc").getTotalElements());
+    }
+
+    @Test
+    void testInvalidate_WritesFromOtherInstances() {
+        ClienteFilter perez = ClienteFilter.builder().nombre("pérez").build();
+        ClienteFilter lopez = ClienteFilter.builder().nombre("lópez").build();
+        cache.findClientesByFilter(perez, 0, 10, "id", "asc");
+        cache.findClientesByFilter(lopez, 0, 10, "id", "asc");
+
+        // alta hecha por otra instancia: solo cae el filtro que la acepta
+        store.saveCliente(cliente("CLI004", "Ana Pérez", "ana@email.com"));
+        cache.invalidate(List.of("CLI004"), List.of());
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.findClientesByFilter(perez, 0, 10, "id", "asc").getTotalElements());
+
+        // de una modificación no se conoce la versión anterior: se vacía la caché
+        cache.invalidate(List.of(), List.of("CLI003"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testFindClientesByFilter_ExpiresAndRespectsBudget() {
+        ClienteFilter filter = ClienteFilter.builder().email("email.com").build();
+        cache.findClientesByFilter(filter, 0, 10, "id", "asc");
+        now.addAndGet(31_000_000_000L);
+        cache.findClientesByFilter(filter, 0, 10, "id", "asc");
+        verify(store, times(2)).findClientesByFilter(any(), anyInt(), anyInt(), any(), any());
+
+        FilterCacheClientePersistencePort small = new FilterCacheClientePersistencePort(store, 2000, 30_000,
+                now::get);
+        for (int page = 0; page < 10; page++) {
+            small.findClientesByFilter(ClienteFilter.builder().nombre("a").build(), 0, page + 1, "id", "asc");
+        }
+        assertTrue(small.estimatedBytes() <= 2000);
+        assertTrue(small.size() < 10);
+    }
+
+    @Test
+    void testFindClientesByFilter_ReturnsCopies() {
+        ClienteFilter filter = ClienteFilter.builder().nombre("juan").build();
+        cache.findClientesByFilter(filter, 0, 10, "id", "asc").getContent().get(0).setNombre("Modificado");
+
+        assertEquals("Juan Pérez", cache.findClientesByFilter(filter, 0, 10, "id", "asc").getContent().get(0)
+                .getNombre());
+        assertEquals(List.of("CLI001"), cache.findClientesByFilter(filter, 0, 10, "id", "asc").getContent()
+                .stream().map(Cliente::getSharedKey).toList());
+    }
+
+    private static Cliente cliente(String sharedKey, String nombre, String email) {
+        return Cliente.builder()
+                .sharedKey(sharedKey)
+                .nombre(nombre)
+                .telefono("3001234567")
+                .email(email)
+                .fechaInicio(LocalDate.of(2024, 1, 1))
+                .fechaFin(LocalDate.of(2024, 12, 31))
+                .fechaCreacion(LocalDate.of(2024, 1, 1))
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.alianza.clientes.infrastructure.idempotency;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.port.api.ClienteAsyncServicePort;
+import com.alianza.clientes.domain.port.api.ClienteServicePort;
+import com.alianza.clientes.infrastructure.adapter.rest.ClienteRestAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Pruebas de IdempotencyFilter sobre el alta de clientes
+ */
+@WebMvcTest(ClienteRestAdapter.class)
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"sharedKey\":\"CLI001\",\"nombre\":\"Juan Pérez\","
+            + "\"telefono\":\"3001234567\",\"email\":\"juan.perez@email.com\","
+            + "\"fechaInicio\":\"2024-01-15\",\"fechaFin\":\"2024-12-31\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ClienteServicePort clienteServicePort;
+
+    @MockBean
+    private ClienteAsyncServicePort clienteAsyncServicePort;
+
+    @Test
+    void testRetryIsAnsweredFromStoredResponse() throws Exception {
+        when(clienteServicePort.saveCliente(any(Cliente.class))).thenAnswer(invocation -> {
+            Cliente cliente = invocation.getArgument(0);
+            cliente.setId(7L);
+            cliente.setFechaCreacion(LocalDate.of(2024, 1, 10));
+            return cliente;
+        });
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/clientes")
+                    .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "retry-1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(BODY))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value(7))
+                    .andExpect(jsonPath("$.sharedKey").value("CLI001"));
+        }
+        mockMvc.perform(post("/clientes")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BODY))
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+
+        verify(clienteServicePort, times(1)).saveCliente(any(Cliente.class));
+    }
+
+    @Test
+    void testKeyReusedWithDifferentBody() throws Exception {
+        when(clienteServicePort.saveCliente(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc.perform(post("/clientes")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "retry-2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BODY))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/clientes")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "retry-2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BODY.replace("CLI001", "CLI002")))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(clienteServicePort, times(1)).saveCliente(any(Cliente.class));
+    }
+
+    @Test
+    void testServerErrorsAreNotStored() throws Exception {
+        when(clienteServicePort.saveCliente(any(Cliente.class)))
+                .thenThrow(new IllegalStateException("Base de datos no disponible"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc.perform(post("/clientes")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "retry-3")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BODY))
+                .andExpect(status().isInternalServerError());
+        mockMvc.perform(post("/clientes")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "retry-3")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BODY))
+                .andExpect(status().isCreated());
+    }
+}
@@ -0,0 +1,77 @@
+package com.alianza.clientes.infrastructure.idempotency;
+
+import com.alianza.clientes.infrastructure.idempotency.IdempotencyStore.Outcome;
+import com.alianza.clientes.infrastructure.idempotency.IdempotencyStore.StoredResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para IdempotencyStore
+ */
+class IdempotencyStoreTest {
+
+    private static final byte[] BODY = {1};
+    private static final StoredResponse CREATED = new StoredResponse(201, "application/json", null, new byte[] {42});
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void testReserve_ReplaysCompletedResponse() {
+        IdempotencyStore store = new IdempotencyStore(10, Duration.ofSeconds(60), now::get);
+
+        assertEquals(Outcome.RESERVED, store.reserve("k", BODY).outcome());
+        assertEquals(Outcome.IN_PROGRESS, store.reserve("k", BODY).outcome());
+        store.complete("k", CREATED);
+
+        assertEquals(Outcome.REPLAY, store.reserve("k", BODY).outcome());
+        assertSame(CREATED, store.reserve("k", BODY).response());
+        assertEquals(Outcome.MISMATCH, store.reserve("k", new byte[] {2}).outcome());
+    }
+
+    @Test
+    void testRelease_AllowsRetry() {
+        IdempotencyStore store = new IdempotencyStore(10, Duration.ofSeconds(60), now::get);
+
+        store.reserve("k", BODY);
+        store.release("k");
+
+        assertEquals(Outcome.RESERVED, store.reserve("k", BODY).outcome());
+    }
+
+    @Test
+    void testReserve_ExpiresAndEvictsOldestEntries() {
+        IdempotencyStore store = new IdempotencyStore(2, Duration.ofSeconds(60), now::get);
+
+        store.reserve("a", BODY);
+        store.complete("a", CREATED);
+        store.reserve("b", BODY);
+        store.reserve("c", BODY);
+        assertEquals(2, store.size());
+        store.complete("b", CREATED);
+        assertEquals(Outcome.RESERVED, store.reserve("a", BODY).outcome());
+
+        now.addAndGet(Duration.ofSeconds(61).toNanos());
+        assertEquals(Outcome.RESERVED, store.reserve("d", BODY).outcome());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void testReserve_NeverEvictsInProgressEntries() {
+        IdempotencyStore store = new IdempotencyStore(2, Duration.ofSeconds(60), now::get);
+
+        store.reserve("a", BODY);
+        store.reserve("b", BODY);
+
+        assertEquals(Outcome.FULL, store.reserve("c", BODY).outcome());
+        assertEquals(Outcome.IN_PROGRESS, store.reserve("a", BODY).outcome());
+        assertEquals(Outcome.IN_PROGRESS, store.reserve("b", BODY).outcome());
+
+        store.complete("a", CREATED);
+        assertEquals(Outcome.RESERVED, store.reserve("c", BODY).outcome());
+        assertEquals(Outcome.IN_PROGRESS, store.reserve("b", BODY).outcome());
+    }
+}
@@ -0,0 +1,120 @@
+package com.alianza.clientes.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para SamplingRule
+ */
+class SamplingRuleTest {
+
+    private static final String LOGGER = "com.alianza.clientes.infrastructure.adapter.rest";
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @Test
+    void testAccept_KeepsOneEveryN() {
+        SamplingRule rule = rule(3, 0);
+        long sampled = LogDropCounters.getSampled();
+        long rateLimited = LogDropCounters.getRateLimited();
+
+        int accepted = 0;
+        for (int i = 0; i < 9; i++) {
+            if (rule.accept(now.get())) {
+                accepted++;
+            }
+        }
+
+        assertEquals(3, accepted);
+        assertEquals(6, LogDropCounters.getSampled() - sampled);
+        assertEquals(0, LogDropCounters.getRateLimited() - rateLimited);
+    }
+
+    @Test
+    void testAccept_CapsEventsPerSecondAndResetsOnNextWindow() {
+        SamplingRule rule = rule(1, 2);
+        long sampled = LogDropCounters.getSampled();
+        long rateLimited = LogDropCounters.getRateLimited();
+
+        assertTrue(rule.accept(now.get()));
+        assertTrue(rule.accept(now.addAndGet(500)));
+        assertFalse(rule.accept(now.addAndGet(499)));
+        assertEquals(1, LogDropCounters.getRateLimited() - rateLimited);
+
+        // Primer milisegundo del segundo siguiente: la cuota vuelve a empezar
+        now.addAndGet(1);
+        assertTrue(rule.accept(now.get()));
+        assertTrue(rule.accept(now.get()));
+        assertFalse(rule.accept(now.get()));
+
+        assertEquals(2, LogDropCounters.getRateLimited() - rateLimited);
+        assertEquals(0, LogDropCounters.getSampled() - sampled);
+    }
+
+    @Test
+    void testAccept_SamplesBeforeApplyingCap() {
+        SamplingRule rule = rule(2, 1);
+        long sampled = LogDropCounters.getSampled();
+        long rateLimited = LogDropCounters.getRateLimited();
+
+        assertTrue(rule.accept(now.get()));
+        assertFalse(rule.accept(now.get()));
+        assertFalse(rule.accept(now.get()));
+
+        assertEquals(1, LogDropCounters.getSampled() - sampled);
+        assertEquals(1, LogDropCounters.getRateLimited() - rateLimited);
+    }
+
+    @Test
+    void testDecide_NeverFiltersWarnAndError() {
+        SamplingTurboFilter filter = new SamplingTurboFilter(now::get);
+        filter.addRule(rule(1_000, 1));
+        filter.start();
+        Logger logger = new LoggerContext().getLogger(LOGGER + ".ClienteRestAdapter");
+        logger.setLevel(Level.DEBUG);
+        long dropped = LogDropCounters.getSampled() + LogDropCounters.getRateLimited();
+
+        assertEquals(FilterReply.NEUTRAL, decide(filter, logger, Level.INFO));
+        assertEquals(FilterReply.DENY, decide(filter, logger, Level.INFO));
+        assertEquals(FilterReply.DENY, decide(filter, logger, Level.DEBUG));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(filter, logger, Level.WARN));
+            assertEquals(FilterReply.NEUTRAL, decide(filter, logger, Level.ERROR));
+        }
+
+        assertEquals(2, LogDropCounters.getSampled() + LogDropCounters.getRateLimited() - dropped);
+    }
+
+    @Test
+    void testDecide_IgnoresOtherLoggers() {
+        SamplingTurboFilter filter = new SamplingTurboFilter(now::get);
+        filter.addRule(rule(1_000, 1));
+        filter.start();
+        Logger logger = new LoggerContext().getLogger("com.alianza.clientes.application.service.ClienteService");
+        logger.setLevel(Level.INFO);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(filter, logger, Level.INFO));
+        }
+    }
+
+    private SamplingRule rule(int sampleEvery, int maxPerSecond) {
+        SamplingRule rule = new SamplingRule();
+        rule.setLogger(LOGGER);
+        rule.setLevel("INFO");
+        rule.setSampleEvery(sampleEvery);
+        rule.setMaxPerSecond(maxPerSecond);
+        return rule;
+    }
+
+    private static FilterReply decide(SamplingTurboFilter filter, Logger logger, Level level) {
+        return filter.decide(null, logger, level, "evento", null, null);
+    }
+}
@@ -0,0 +1,70 @@
+package com.alianza.clientes.infrastructure.metrics;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.port.spi.ClientePersistencePort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para InstrumentedClientePersistencePort
+ */
+@ExtendWith(MockitoExtension.class)
+class InstrumentedClientePersistencePortTest {
+
+    @Mock
+    private ClientePersistencePort delegate;
+
+    private SimpleMeterRegistry registry;
+    private InstrumentedClientePersistencePort instrumented;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        instrumented = new InstrumentedClientePersistencePort(delegate, registry);
+    }
+
+    @Test
+    void testRecordsLatencyPerMethod() {
+        // Given
+        Cliente cliente = Cliente.builder().id(1L).sharedKey("CLI001").build();
+        when(delegate.findBySharedKey("CLI001")).thenReturn(Optional.of(cliente));
+
+        // When
+        Optional<Cliente> resultado = instrumented.findBySharedKey("CLI001");
+        instrumented.findBySharedKey("CLI001");
+
+        // Then
+        assertEquals(Optional.of(cliente), resultado);
+        Timer timer = registry.get(PortMetrics.CALLS)
+                .tags("port", "ClientePersistencePort", "method", "findBySharedKey").timer();
+        assertEquals(2, timer.count());
+        assertEquals(0, registry.get(PortMetrics.CALLS).tag("method", "saveCliente").timer().count());
+    }
+
+    @Test
+    void testCountsErrorsAndReleasesInFlight() {
+        // Given
+        when(delegate.existsBySharedKey("CLI001")).thenThrow(new IllegalStateException("sin conexión"));
+
+        // When
+        assertThrows(IllegalStateException.class, () -> instrumented.existsBySharedKey("CLI001"));
+
+        // Then
+        assertEquals(1.0, registry.get(PortMetrics.ERRORS)
+                .tags("method", "existsBySharedKey", "exception", "IllegalStateException").counter().count());
+        assertEquals(1, registry.get(PortMetrics.CALLS).tag("method", "existsBySharedKey").timer().count());
+        Gauge inFlight = registry.get(PortMetrics.IN_FLIGHT).tag("method", "existsBySharedKey").gauge();
+        assertEquals(0.0, inFlight.value());
+    }
+}
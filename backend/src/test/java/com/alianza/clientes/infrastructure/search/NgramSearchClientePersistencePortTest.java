@@ -0,0 +1,120 @@
+package com.alianza.clientes.infrastructure.search;
+
+import com.alianza.clientes.dataset.ClienteDatasetGenerator;
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.domain.model.ClienteFilter;
+import com.alianza.clientes.domain.model.PageResponse;
+import com.alianza.clientes.infrastructure.adapter.memory.InMemoryClientePersistenceAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias para NgramSearchClientePersistencePort
+ */
+class NgramSearchClientePersistencePortTest {
+
+    private InMemoryClientePersistenceAdapter store;
+    private NgramSearchClientePersistencePort search;
+
+    @BeforeEach
+    void setUp() {
+        store = spy(new InMemoryClientePersistenceAdapter());
+        ClienteDatasetGenerator generator = new ClienteDatasetGenerator(7);
+        for (long n = 1; n <= 2000; n++) {
+            store.saveCliente(generator.generate(n));
+        }
+        search = new NgramSearchClientePersistencePort(store, 5000, 5000);
+        search.catchUp();
+    }
+
+    @Test
+    void testFindClientesByFilter_SameResultsAsAdapter() {
+        List<ClienteFilter> filters = List.of(
+                ClienteFilter.builder().nombre("garcía").build(),
+                ClienteFilter.builder().nombre("MARÍA").email("gmail").build(),
+                ClienteFilter.builder().email("hotmail.com").build(),
+                ClienteFilter.builder().telefono("456").build(),
+                ClienteFilter.builder().nombre("gar%ez").build(),
+                ClienteFilter.builder().nombre("ma_ía").build(),
+                ClienteFilter.builder().nombre("zzzz").build(),
+                ClienteFilter.builder().nombre("pé").build());
+        for (ClienteFilter filter : filters) {
+            PageResponse<Cliente> expected = store.findClientesByFilter(filter, 1, 20, "nombre", "asc");
+            PageResponse<Cliente> actual = search.findClientesByFilter(filter, 1, 20, "nombre", "asc");
+            assertEquals(expected, actual, filter.toString());
+        }
+        assertTrue(store.findClientesByFilter(filters.get(0), 0, 1, "id", "asc").getTotalElements() > 20);
+        assertTrue(store.findClientesByFilter(filters.get(3), 0, 1, "id", "asc").getTotalElements() > 0);
+    }
+
+    @Test
+    void testFindClientesByFilter_SendsCandidateIds() {
+        search.findClientesByFilter(ClienteFilter.builder().nombre("garcía").build(), 0, 10, "id", "asc");
+
+        ArgumentCaptor<ClienteFilter> sent = ArgumentCaptor.forClass(ClienteFilter.class);
+        verify(store, atLeastOnce()).findClientesByFilter(sent.capture(), eq(0), eq(10), eq("id"), eq("asc"));
+        ClienteFilter filter = sent.getValue();
+        assertNotNull(filter.getIds());
+        assertTrue(filter.getIds().size() < store.size());
+        assertEquals("garcía", filter.getNombre());
+    }
+
+    @Test
+    void testFindClientesByFilter_FindsRowsWrittenBehindIndex() {
+        // Escrito directamente en el adaptador, sin pasar por el decorador ni actualizar el índice
+        Cliente external = new ClienteDatasetGenerator(7).generate(2001);
+        external.setNombre("Xiomara Quintero");
+        store.saveCliente(external);
+
+        ClienteFilter filter = ClienteFilter.builder().nombre("xiomara").build();
+        assertEquals(Set.of(), search.getIndex().candidates(filter, 5000));
+        assertEquals(List.of(external.getSharedKey()), search.findClientesByFilter(filter, 0, 10, "id", "asc")
+                .getContent().stream().map(Cliente::getSharedKey).toList());
+    }
+
+    @Test
+    void testCandidates_CannotNarrow() {
+        NgramIndex index = search.getIndex();
+        // Fragmentos de menos de tres caracteres
+        assertNull(index.candidates(ClienteFilter.builder().nombre("pé").build(), 5000));
+        assertNull(index.candidates(ClienteFilter.builder().email("a%b").build(), 5000));
+        // Sin criterios de contenido
+        assertNull(index.candidates(ClienteFilter.builder().sharedKey("GEN000000001").build(), 5000));
+        // Más candidatos que el máximo
+        assertNull(index.candidates(ClienteFilter.builder().email(".com").build(), 10));
+        // Trigrama inexistente: ningún candidato
+        assertEquals(Set.of(), index.candidates(ClienteFilter.builder().nombre("qqq").build(), 5000));
+    }
+
+    @Test
+    void testSaveCliente_IndexesNewValues() {
+        Cliente cliente = store.findBySharedKey(ClienteDatasetGenerator.sharedKey(1)).get();
+        cliente.setNombre("Xiomara Quintero");
+        search.saveCliente(cliente);
+
+        ClienteFilter filter = ClienteFilter.builder().nombre("xiomara q").build();
+        assertEquals(Set.of(cliente.getId()), search.getIndex().candidates(filter, 5000));
+        assertEquals(List.of(cliente.getSharedKey()), search.findClientesByFilter(filter, 0, 10, "id", "asc")
+                .getContent().stream().map(Cliente::getSharedKey).toList());
+        assertEquals(2000, search.getIndex().rows());
+    }
+
+    @Test
+    void testCatchUp_IndexesExternalChanges() {
+        Cliente external = store.saveCliente(new ClienteDatasetGenerator(7).generate(2001));
+        external.setEmail("externo@dominio-unico.co");
+        store.saveCliente(external);
+        search.catchUp();
+
+        assertEquals(Set.of(external.getId()),
+                search.getIndex().candidates(ClienteFilter.builder().email("dominio-unico").build(), 5000));
+    }
+}
@@ -0,0 +1,99 @@
+package com.alianza.clientes.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.alianza.clientes.domain.model.Cliente;
+import com.alianza.clientes.infrastructure.adapter.persistence.ClientePersistenceAdapter;
+
+/**
+ * Feed de cambios sobre PostgreSQL con transacciones concurrentes: una
+ * transacción que escribe antes y confirma después que otra no puede quedar
+ * por detrás de una posición ya entregada. Necesita Docker; sin él las
+ * pruebas se omiten.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ClientePersistenceAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class ClienteChangeFeedIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ClientePersistenceAdapter adapter;
+
+    @Test
+    void overlappingTransactionsAreDeliveredInOrder() throws SQLException {
+        try (Connection first = connection(); Connection second = connection()) {
+            first.setAutoCommit(false);
+            second.setAutoCommit(false);
+            // La primera transacción escribe antes, pero confirma después que la segunda
+            insert(first, "FEED001");
+            insert(second, "FEED002");
+            second.commit();
+
+            // Con la primera en curso, el feed no entrega nada posterior a ella
+            assertEquals(List.of(), feedKeys());
+
+            first.commit();
+        }
+        assertEquals(List.of("FEED001", "FEED002"), feedKeys());
+    }
+
+    @Test
+    void saveClienteReturnsValuesAssignedByDatabase() {
+        Cliente saved = adapter.saveCliente(Cliente.builder()
+                .sharedKey("FEED003")
+                .nombre("Luis Gómez")
+                .telefono("3001234567")
+                .email("luis@email.com")
+                .fechaInicio(LocalDate.of(2024, 1, 1))
+                .fechaFin(LocalDate.of(2024, 12, 31))
+                .build());
+
+        Cliente stored = adapter.findBySharedKey("FEED003").orElseThrow();
+        assertEquals(stored.getUpdatedAt(), saved.getUpdatedAt());
+        assertEquals(stored.getChangeSeq(), saved.getChangeSeq());
+    }
+
+    private List<String> feedKeys() {
+        return adapter.findChangesSince(0L, 0L, 1000).stream()
+                .map(Cliente::getSharedKey)
+                .filter(sharedKey -> sharedKey.startsWith("FEED00") && !sharedKey.equals("FEED003"))
+                .toList();
+    }
+
+    private static void insert(Connection connection, String sharedKey) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO clientes (shared_key, nombre, telefono, email, fecha_inicio, fecha_fin, "
+                    + "fecha_creacion) VALUES ('" + sharedKey + "', 'Ana Pérez', '3001234567', 'ana@email.com', "
+                    + "DATE '2024-01-01', DATE '2024-12-31', DATE '2024-01-01')");
+        }
+    }
+
+    private static Connection connection() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,167 @@
+package com.alianza.clientes.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Planes de PostgreSQL de las consultas más frecuentes con los índices de las
+ * migraciones. Las consultas son las que genera Hibernate, con los parámetros
+ * ya sustituidos. Necesita Docker; sin él las pruebas se omiten.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ClienteIndexPlanIntegrationTest {
+
+    private static final int CLIENTES = 50_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        try (Connection connection = connection(); Statement statement = connection.createStatement()) {
+            // Contratos de 30 días repartidos a lo largo de unos 25 años
+            statement.execute("INSERT INTO clientes (shared_key, nombre, telefono, email, fecha_inicio, fecha_fin, "
+                    + "fecha_creacion) SELECT 'GEN' || i, 'Cliente ' || i, '300' || i, 'cliente' || i "
+                    + "|| '@email.com', DATE '2000-01-01' + i % 9000, DATE '2000-01-01' + i % 9000 + 30, "
+                    + "DATE '2024-01-01' FROM generate_series(1, " + CLIENTES + ") AS i");
+            // El mapa de visibilidad debe estar al día para que el planificador elija index-only scans
+            statement.execute("VACUUM ANALYZE clientes");
+        }
+    }
+
+    @Test
+    void sharedKeyHasSingleIndex() throws SQLException {
+        List<String> indexes = new ArrayList<>();
+        try (Connection connection = connection(); Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT indexdef FROM pg_indexes "
+                        + "WHERE tablename = 'clientes' AND indexdef LIKE '%(shared_key)%'")) {
+            while (resultSet.next()) {
+                indexes.add(resultSet.getString(1));
+            }
+        }
+        assertEquals(1, indexes.size(), indexes.toString());
+        assertTrue(indexes.get(0).startsWith("CREATE UNIQUE INDEX clientes_shared_key_key"), indexes.get(0));
+    }
+
+    @Test
+    void idHasSingleIndex() throws SQLException {
+        List<String> indexes = new ArrayList<>();
+        try (Connection connection = connection(); Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT indexdef FROM pg_indexes "
+                        + "WHERE tablename = 'clientes' AND indexdef LIKE '%USING btree (id)%'")) {
+            while (resultSet.next()) {
+                indexes.add(resultSet.getString(1));
+            }
+        }
+        assertEquals(1, indexes.size(), indexes.toString());
+        assertTrue(indexes.get(0).startsWith("CREATE UNIQUE INDEX clientes_pkey"), indexes.get(0));
+    }
+
+    @Test
+    void existsBySharedKeyUsesIndexOnlyScan() throws Exception {
+        assertIndexOnlyScan("clientes_shared_key_key",
+                "select ce1_0.id from clientes ce1_0 where ce1_0.shared_key='GEN4242' fetch first 1 rows only");
+    }
+
+    @Test
+    void projectedDefaultListUsesIndexOnlyScan() throws Exception {
+        assertIndexOnlyScan("clientes_pkey", "select ce1_0.shared_key,ce1_0.nombre from clientes ce1_0 "
+                + "order by ce1_0.id offset 100 rows fetch first 10 rows only");
+    }
+
+    @Test
+    void prefixFiltersUsePatternIndexes() throws Exception {
+        assertUsesIndex("idx_clientes_nombre_pattern", "select ce1_0.id from clientes ce1_0 "
+                + "where lower(ce1_0.nombre) like 'cliente 4242%' escape '' order by ce1_0.id");
+        assertUsesIndex("idx_clientes_telefono_pattern", "select ce1_0.id from clientes ce1_0 "
+                + "where ce1_0.telefono like '3004242%' escape '' order by ce1_0.id");
+    }
+
+    @Test
+    void exactEmailFilterUsesPatternIndex() throws Exception {
+        assertUsesIndex("idx_clientes_email_pattern", "select ce1_0.id from clientes ce1_0 "
+                + "where lower(ce1_0.email)='cliente4242@email.com' order by ce1_0.id");
+    }
+
+    @Test
+    void vigenciaFiltersUseGistIndex() throws Exception {
+        assertUsesIndex("idx_clientes_vigencia", "select ce1_0.id from clientes ce1_0 "
+                + "where (ce1_0.vigencia && daterange(cast('2012-03-01' as date),cast('2012-03-31' as date),'[]')) "
+                + "order by ce1_0.id");
+        assertUsesIndex("idx_clientes_vigencia", "select ce1_0.id from clientes ce1_0 "
+                + "where (ce1_0.vigencia && daterange(cast('2012-03-15' as date),cast('2012-03-15' as date),'[]')) "
+                + "order by ce1_0.id");
+    }
+
+    private static void assertUsesIndex(String index, String sql) throws Exception {
+        JsonNode plan = explain(sql);
+        assertTrue(indexes(plan).contains(index), plan.toPrettyString());
+        assertTrue(nodes(plan, "Seq Scan").isEmpty(), plan.toPrettyString());
+    }
+
+    private static List<String> indexes(JsonNode plan) {
+        List<String> found = new ArrayList<>();
+        if (plan.has("Index Name")) {
+            found.add(plan.get("Index Name").asText());
+        }
+        for (JsonNode child : plan.path("Plans")) {
+            found.addAll(indexes(child));
+        }
+        return found;
+    }
+
+    private static void assertIndexOnlyScan(String index, String sql) throws Exception {
+        JsonNode plan = explain(sql);
+        List<JsonNode> scans = nodes(plan, "Index Only Scan");
+        assertTrue(scans.stream().anyMatch(node -> index.equals(node.path("Index Name").asText())),
+                plan.toPrettyString());
+        assertTrue(nodes(plan, "Seq Scan").isEmpty(), plan.toPrettyString());
+    }
+
+    private static JsonNode explain(String sql) throws Exception {
+        try (Connection connection = connection(); Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("EXPLAIN (FORMAT JSON) " + sql)) {
+            resultSet.next();
+            return MAPPER.readTree(resultSet.getString(1)).get(0).get("Plan");
+        }
+    }
+
+    private static List<JsonNode> nodes(JsonNode plan, String nodeType) {
+        List<JsonNode> found = new ArrayList<>();
+        if (nodeType.equals(plan.path("Node Type").asText())) {
+            found.add(plan);
+        }
+        for (JsonNode child : plan.path("Plans")) {
+            found.addAll(nodes(child, nodeType));
+        }
+        return found;
+    }
+
+    private static Connection connection() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -3,6 +3,7 @@ package com.alianza.clientes.integration;
 import com.alianza.clientes.infrastructure.adapter.persistence.entity.ClienteEntity;
 import com.alianza.clientes.infrastructure.adapter.persistence.repository.ClienteJpaRepository;
 import com.alianza.clientes.infrastructure.adapter.rest.dto.ClienteDTO;
+import com.alianza.clientes.support.AsyncMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -82,13 +83,13 @@ class ClienteIntegrationTest {
                 .andExpect(jsonPath("$.fechaCreacion").exists());
 
         // 2. Buscar cliente por shared key
-        mockMvc.perform(get("/clientes/CLI001"))
+        AsyncMvc.perform(mockMvc, get("/clientes/CLI001"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.sharedKey").value("CLI001"))
                 .andExpect(jsonPath("$.nombre").value("Juan Pérez"));
 
         // 3. Listar todos los clientes
-        mockMvc.perform(get("/clientes")
+        AsyncMvc.perform(mockMvc, get("/clientes")
                 .param("page", "0")
                 .param("size", "10"))
                 .andExpect(status().isOk())
@@ -97,7 +98,7 @@ class ClienteIntegrationTest {
                 .andExpect(jsonPath("$.content[0].sharedKey").value("CLI001"));
 
         // 4. Filtrar clientes
-        mockMvc.perform(get("/clientes/filter")
+        AsyncMvc.perform(mockMvc, get("/clientes/filter")
                 .param("nombre", "Juan")
                 .param("page", "0")
                 .param("size", "10"))
@@ -107,7 +108,7 @@ class ClienteIntegrationTest {
                 .andExpect(jsonPath("$.content[0].nombre").value("Juan Pérez"));
 
         // 5. Exportar a CSV
-        mockMvc.perform(get("/clientes/export/csv"))
+        AsyncMvc.perform(mockMvc, get("/clientes/export/csv"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType("text/csv"))
                 .andExpect(content().string(containsString("CLI001")))
@@ -176,7 +177,7 @@ class ClienteIntegrationTest {
                 .andExpect(status().isCreated());
 
         // Filtrar por nombre
-        mockMvc.perform(get("/clientes/filter")
+        AsyncMvc.perform(mockMvc, get("/clientes/filter")
                 .param("nombre", "María")
                 .param("page", "0")
                 .param("size", "10"))
@@ -185,7 +186,7 @@ class ClienteIntegrationTest {
                 .andExpect(jsonPath("$.content[0].nombre").value("María García"));
 
         // Filtrar por email
-        mockMvc.perform(get("/clientes/filter")
+        AsyncMvc.perform(mockMvc, get("/clientes/filter")
                 .param("email", "carlos")
                 .param("page", "0")
                 .param("size", "10"))
@@ -194,7 +195,7 @@ class ClienteIntegrationTest {
                 .andExpect(jsonPath("$.content[0].email").value("carlos.lopez@email.com"));
 
         // Filtrar por rango de fechas
-        mockMvc.perform(get("/clientes/filter")
+        AsyncMvc.perform(mockMvc, get("/clientes/filter")
                 .param("fechaInicio", "2024-01-01")
                 .param("fechaFin", "2024-06-30")
                 .param("page", "0")
@@ -219,7 +220,7 @@ class ClienteIntegrationTest {
         }
 
         // Probar primera página
-        mockMvc.perform(get("/clientes")
+        AsyncMvc.perform(mockMvc, get("/clientes")
                 .param("page", "0")
                 .param("size", "10"))
                 .andExpect(status().isOk())
@@ -231,7 +232,7 @@ class ClienteIntegrationTest {
                 .andExpect(jsonPath("$.last").value(false));
 
         // Probar última página
-        mockMvc.perform(get("/clientes")
+        AsyncMvc.perform(mockMvc, get("/clientes")
                 .param("page", "2")
                 .param("size", "10"))
                 .andExpect(status().isOk())
@@ -242,7 +243,7 @@ class ClienteIntegrationTest {
 
     @Test
     void testClienteNotFound() throws Exception {
-        mockMvc.perform(get("/clientes/CLI999"))
+        AsyncMvc.perform(mockMvc, get("/clientes/CLI999"))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value(containsString("Cliente no encontrado")));
     }
@@ -258,7 +259,7 @@ class ClienteIntegrationTest {
                 .andExpect(status().isCreated());
 
         // Exportar CSV
-        mockMvc.perform(get("/clientes/export/csv"))
+        AsyncMvc.perform(mockMvc, get("/clientes/export/csv"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType("text/csv"))
                 .andExpect(header().string("Content-Disposition", "attachment; filename=clientes.csv"))
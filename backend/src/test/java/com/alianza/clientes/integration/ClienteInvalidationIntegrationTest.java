@@ -0,0 +1,173 @@
+package com.alianza.clientes.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.alianza.clientes.infrastructure.cache.ClienteCacheInvalidator;
+import com.alianza.clientes.infrastructure.cache.PgNotifyInvalidationListener;
+
+/**
+ * Bus de invalidación entre réplicas: los triggers de V11 publican cada
+ * escritura confirmada y PgNotifyInvalidationListener la entrega, también las ocurridas
+ * mientras estaba desconectado. Necesita Docker; sin él las pruebas se omiten.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ClienteInvalidationIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String NODE_ID = "nodo-pruebas";
+
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    private PgNotifyInvalidationListener listener;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    void startListener() throws InterruptedException {
+        listener = new PgNotifyInvalidationListener(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword(), 86_400_000, 100, NODE_ID);
+        listener.subscribe(new ClienteCacheInvalidator() {
+            @Override
+            public void invalidate(Collection<String> created, Collection<String> modified) {
+                created.forEach(sharedKey -> received.add("INSERT:" + sharedKey));
+                modified.forEach(sharedKey -> received.add("UPDATE:" + sharedKey));
+            }
+
+            @Override
+            public void invalidateAll() {
+                received.add("ALL");
+            }
+        });
+        listener.start();
+        awaitConnected();
+    }
+
+    @AfterEach
+    void stopListener() throws InterruptedException {
+        listener.stop();
+    }
+
+    @Test
+    void committedWritesAreDelivered() throws Exception {
+        execute("INSERT INTO clientes (shared_key, nombre, telefono, email, fecha_inicio, fecha_fin, fecha_creacion) "
+                + "VALUES ('INV001', 'Ana Pérez', '3001234567', 'ana@email.com', DATE '2024-01-01', "
+                + "DATE '2024-12-31', DATE '2024-01-01')");
+        assertEquals("INSERT:INV001", received.poll(10, TimeUnit.SECONDS));
+
+        execute("UPDATE clientes SET shared_key = 'INV002' WHERE shared_key = 'INV001'");
+        List<String> updates = List.of(received.poll(10, TimeUnit.SECONDS), received.poll(10, TimeUnit.SECONDS));
+        assertTrue(updates.containsAll(List.of("UPDATE:INV001", "UPDATE:INV002")), updates.toString());
+    }
+
+    @Test
+    void bulkStatementsAreDeliveredAsSingleInvalidateAll() throws Exception {
+        execute("INSERT INTO clientes (shared_key, nombre, telefono, email, fecha_inicio, fecha_fin, fecha_creacion) "
+                + "SELECT 'BULK' || i, 'Cliente ' || i, '3001234567', 'bulk' || i || '@email.com', "
+                + "DATE '2024-01-01', DATE '2024-12-31', DATE '2024-01-01' FROM generate_series(1, 5000) AS i");
+
+        assertEquals("ALL", received.poll(10, TimeUnit.SECONDS));
+        assertNull(received.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rolledBackWritesAreNotDelivered() throws Exception {
+        try (Connection connection = connection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("INSERT INTO clientes (shared_key, nombre, telefono, email, fecha_inicio, "
+                        + "fecha_fin, fecha_creacion) VALUES ('INV003', 'Luis Gómez', '3001234567', "
+                        + "'luis@email.com', DATE '2024-01-01', DATE '2024-12-31', DATE '2024-01-01')");
+            }
+            connection.rollback();
+        }
+        assertNull(received.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void ownWritesAreNotDelivered() throws Exception {
+        // Conexión marcada como las del pool de esta instancia
+        Properties properties = new Properties();
+        properties.setProperty("user", POSTGRES.getUsername());
+        properties.setProperty("password", POSTGRES.getPassword());
+        properties.setProperty("options", "-c clientes.node_id=" + NODE_ID);
+        try (Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), properties);
+                Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO clientes (shared_key, nombre, telefono, email, fecha_inicio, "
+                    + "fecha_fin, fecha_creacion) VALUES ('INV005', 'Marta Ruiz', '3001234567', "
+                    + "'marta@email.com', DATE '2024-01-01', DATE '2024-12-31', DATE '2024-01-01')");
+            statement.execute("UPDATE clientes SET nombre = 'Marta Ruiz Gil' WHERE shared_key = 'INV005'");
+        }
+        execute("INSERT INTO clientes (shared_key, nombre, telefono, email, fecha_inicio, fecha_fin, fecha_creacion) "
+                + "VALUES ('INV006', 'Raúl Díaz', '3001234567', 'raul@email.com', DATE '2024-01-01', "
+                + "DATE '2024-12-31', DATE '2024-01-01')");
+
+        // Los avisos llegan en orden de confirmación: el primero entregado es el de la otra instancia
+        assertEquals("INSERT:INV006", received.poll(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void writesDuringDisconnectionAreCaughtUpFromOutbox() throws Exception {
+        // Se corta la conexión de escucha y se escribe antes de que reconecte
+        try (Connection connection = connection(); Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_terminate_backend(pid) FROM pg_stat_activity "
+                    + "WHERE datname = current_database() AND pid <> pg_backend_pid()");
+            statement.execute("INSERT INTO clientes (shared_key, nombre, telefono, email, fecha_inicio, "
+                    + "fecha_fin, fecha_creacion) VALUES ('INV004', 'Eva Torres', '3001234567', "
+                    + "'eva@email.com', DATE '2024-01-01', DATE '2024-12-31', DATE '2024-01-01')");
+        }
+
+        String delivered;
+        do {
+            delivered = received.poll(10, TimeUnit.SECONDS);
+        } while (delivered != null && !delivered.equals("INSERT:INV004"));
+        assertEquals("INSERT:INV004", delivered);
+        awaitConnected();
+    }
+
+    private void awaitConnected() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!listener.isConnected() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(listener.isConnected());
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = connection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static Connection connection() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
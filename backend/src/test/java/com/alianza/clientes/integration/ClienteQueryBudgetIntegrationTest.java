@@ -0,0 +1,239 @@
+package com.alianza.clientes.integration;
+
+import static com.alianza.clientes.support.SqlQueryBudget.rows;
+import static com.alianza.clientes.support.SqlQueryBudget.statements;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.alianza.clientes.infrastructure.adapter.persistence.entity.ClienteEntity;
+import com.alianza.clientes.infrastructure.adapter.persistence.repository.ClienteJpaRepository;
+import com.alianza.clientes.infrastructure.adapter.rest.dto.ClienteDTO;
+import com.alianza.clientes.support.AsyncMvc;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Presupuesto de consultas SQL por endpoint. Un cambio en estos números indica
+ * un viaje extra a la base de datos (N+1, comprobaciones redundantes) y debe
+ * revisarse antes de actualizar el presupuesto.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:budgetdb",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "clientes.diagnostics.sql.enabled=true"
+})
+class ClienteQueryBudgetIntegrationTest {
+
+    private static final int CLIENTES = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClienteJpaRepository clienteJpaRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        clienteJpaRepository.deleteAll();
+        clienteJpaRepository.saveAll(IntStream.rangeClosed(1, CLIENTES).mapToObj(i -> {
+            ClienteEntity cliente = new ClienteEntity();
+            cliente.setSharedKey(String.format("CLI%03d", i));
+            cliente.setNombre("Cliente " + i);
+            cliente.setTelefono(String.format("300%07d", i));
+            cliente.setEmail("cliente" + i + "@email.com");
+            cliente.setFechaInicio(LocalDate.of(2024, 1, 1));
+            cliente.setFechaFin(LocalDate.of(2024, 12, 31));
+            cliente.setFechaCreacion(LocalDate.now());
+            return cliente;
+        }).toList());
+    }
+
+    @Test
+    void createClienteWithSharedKey() throws Exception {
+        ClienteDTO clienteDTO = clienteDTO();
+        clienteDTO.setSharedKey("NUEVO01");
+
+        // existsBySharedKey + insert + relectura de updated_at y change_seq, que asigna el trigger
+        mockMvc.perform(post("/clientes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(clienteDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(statements(3));
+    }
+
+    @Test
+    void createClienteGeneratingSharedKey() throws Exception {
+        // findTopByOrderByIdDesc + existsBySharedKey + insert + relectura de updated_at y change_seq
+        mockMvc.perform(post("/clientes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(clienteDTO())))
+                .andExpect(status().isCreated())
+                .andExpect(statements(4));
+    }
+
+    @Test
+    void getClienteBySharedKey() throws Exception {
+        AsyncMvc.perform(mockMvc, get("/clientes/CLI001"))
+                .andExpect(status().isOk())
+                .andExpect(statements(1))
+                .andExpect(rows(1));
+    }
+
+    @Test
+    void lookupClientesBySharedKeys() throws Exception {
+        // una sola consulta con shared_key = ANY(?) para todas las claves
+        AsyncMvc.perform(mockMvc, post("/clientes/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"sharedKeys\":[\"CLI003\",\"CLI001\",\"CLI999\",\"CLI001\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clientes[*].sharedKey").value(contains("CLI003", "CLI001")))
+                .andExpect(jsonPath("$.missing").value(contains("CLI999")))
+                .andExpect(statements(1))
+                .andExpect(rows(2));
+    }
+
+    @Test
+    void getAllClientesPaged() throws Exception {
+        // página + count
+        AsyncMvc.perform(mockMvc, get("/clientes").param("page", "0").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(statements(2))
+                .andExpect(rows(11));
+    }
+
+    @Test
+    void getAllClientesProjected() throws Exception {
+        // misma página + count, seleccionando solo shared_key y nombre
+        AsyncMvc.perform(mockMvc, get("/clientes").param("page", "0").param("size", "10").param("fields", "sharedKey,nombre"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].sharedKey").value("CLI001"))
+                .andExpect(jsonPath("$.content[0].nombre").value("Cliente 1"))
+                .andExpect(jsonPath("$.content[0].email").doesNotExist())
+                .andExpect(jsonPath("$.content[0].id").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").value(CLIENTES))
+                .andExpect(statements(2))
+                .andExpect(rows(11));
+    }
+
+    @Test
+    void getAllClientesWithUnknownField() throws Exception {
+        AsyncMvc.perform(mockMvc, get("/clientes").param("fields", "sharedKey,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(statements(0));
+    }
+
+    @Test
+    void filterClientesProjected() throws Exception {
+        AsyncMvc.perform(mockMvc, post("/clientes/filter").param("fields", "sharedKey")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nombre\":\"Cliente 1\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].sharedKey").value("CLI001"))
+                .andExpect(jsonPath("$.content[0].nombre").doesNotExist())
+                .andExpect(statements(1));
+    }
+
+    @Test
+    void filterClientes() throws Exception {
+        AsyncMvc.perform(mockMvc, post("/clientes/filter")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nombre\":\"Cliente 1\"}"))
+                .andExpect(status().isOk())
+                .andExpect(statements(1));
+    }
+
+    @Test
+    void filterClientesByPrefix() throws Exception {
+        // lower(nombre) like 'cliente 2%': Cliente 2 y Cliente 20 a 25
+        AsyncMvc.perform(mockMvc, post("/clientes/filter")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nombre\":\"cliente 2\",\"nombreMatch\":\"prefix\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(7))
+                .andExpect(statements(1));
+    }
+
+    @Test
+    void filterClientesWithUnknownMatchMode() throws Exception {
+        AsyncMvc.perform(mockMvc, post("/clientes/filter")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nombre\":\"Cliente\",\"nombreMatch\":\"regex\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(statements(0));
+    }
+
+    @Test
+    void filterClientesByVigencia() throws Exception {
+        // Todos los contratos cubren 2024: el último día solapa, el día siguiente no
+        AsyncMvc.perform(mockMvc, post("/clientes/filter")
+                .param("size", "50")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"vigenteDesde\":\"2024-12-31\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(CLIENTES))
+                .andExpect(statements(1));
+        AsyncMvc.perform(mockMvc, post("/clientes/filter")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"vigenteEn\":\"2025-01-01\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0))
+                .andExpect(statements(1));
+    }
+
+    @Test
+    void filterClientesWithInvertedVigencia() throws Exception {
+        AsyncMvc.perform(mockMvc, post("/clientes/filter")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"vigenteDesde\":\"2024-06-01\",\"vigenteHasta\":\"2024-05-01\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(statements(0));
+    }
+
+    @Test
+    void exportClientesToCsv() throws Exception {
+        AsyncMvc.perform(mockMvc, get("/clientes/export/csv"))
+                .andExpect(status().isOk())
+                .andExpect(statements(1))
+                .andExpect(rows(CLIENTES));
+    }
+
+    @Test
+    void getClienteChanges() throws Exception {
+        AsyncMvc.perform(mockMvc, get("/clientes/changes").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(statements(1))
+                .andExpect(rows(11));
+    }
+
+    private static ClienteDTO clienteDTO() {
+        ClienteDTO clienteDTO = new ClienteDTO();
+        clienteDTO.setNombre("Juan Pérez");
+        clienteDTO.setTelefono("3001234567");
+        clienteDTO.setEmail("juan.perez@email.com");
+        clienteDTO.setFechaInicio(LocalDate.of(2024, 1, 15));
+        clienteDTO.setFechaFin(LocalDate.of(2024, 12, 31));
+        return clienteDTO;
+    }
+}
@@ -0,0 +1,51 @@
+package com.alianza.clientes.support;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.ResultHandler;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * Ejecuta una petición con MockMvc y, si el controlador la resolvió de forma
+ * asíncrona (DeferredResult), espera su resultado y hace el despacho que
+ * escribe la respuesta. Las aserciones se aplican a la respuesta final.
+ *
+ * <pre>
+ * AsyncMvc.perform(mockMvc, get("/clientes/CLI001"))
+ *         .andExpect(status().isOk());
+ * </pre>
+ */
+public final class AsyncMvc {
+
+    private AsyncMvc() {
+    }
+
+    public static ResultActions perform(MockMvc mockMvc, RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            return mockMvc.perform(asyncDispatch(result));
+        }
+        return new ResultActions() {
+            @Override
+            public ResultActions andExpect(ResultMatcher matcher) throws Exception {
+                matcher.match(result);
+                return this;
+            }
+
+            @Override
+            public ResultActions andDo(ResultHandler handler) throws Exception {
+                handler.handle(result);
+                return this;
+            }
+
+            @Override
+            public MvcResult andReturn() {
+                return result;
+            }
+        };
+    }
+}
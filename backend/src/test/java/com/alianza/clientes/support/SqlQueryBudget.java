@@ -0,0 +1,69 @@
+package com.alianza.clientes.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import com.alianza.clientes.infrastructure.diagnostics.SqlStatistics;
+
+/**
+ * Aserciones sobre las cabeceras del modo de diagnóstico SQL para fijar el
+ * presupuesto de consultas de cada endpoint en las pruebas de integración.
+ * Requiere {@code clientes.diagnostics.sql.enabled=true}.
+ *
+ * <pre>
+ * mockMvc.perform(get("/clientes/CLI001"))
+ *         .andExpect(SqlQueryBudget.statements(1))
+ *         .andExpect(SqlQueryBudget.rows(1));
+ * </pre>
+ */
+public final class SqlQueryBudget {
+
+    private SqlQueryBudget() {
+    }
+
+    /**
+     * Exige exactamente el número de sentencias indicado
+     */
+    public static ResultMatcher statements(long expected) {
+        return result -> assertEquals(expected, header(result, SqlStatistics.STATEMENTS_HEADER),
+                "Sentencias SQL ejecutadas por la petición");
+    }
+
+    /**
+     * Exige como máximo el número de sentencias indicado
+     */
+    public static ResultMatcher statementsAtMost(long max) {
+        return result -> {
+            long actual = header(result, SqlStatistics.STATEMENTS_HEADER);
+            assertTrue(actual <= max, "Sentencias SQL ejecutadas por la petición: " + actual + " > " + max);
+        };
+    }
+
+    /**
+     * Exige exactamente el número de filas leídas indicado
+     */
+    public static ResultMatcher rows(long expected) {
+        return result -> assertEquals(expected, header(result, SqlStatistics.ROWS_HEADER),
+                "Filas SQL leídas por la petición");
+    }
+
+    /**
+     * Exige como máximo el número de filas leídas indicado
+     */
+    public static ResultMatcher rowsAtMost(long max) {
+        return result -> {
+            long actual = header(result, SqlStatistics.ROWS_HEADER);
+            assertTrue(actual <= max, "Filas SQL leídas por la petición: " + actual + " > " + max);
+        };
+    }
+
+    private static long header(MvcResult result, String name) {
+        String value = result.getResponse().getHeader(name);
+        assertNotNull(value, "Falta la cabecera " + name + "; ¿está activo clientes.diagnostics.sql.enabled?");
+        return Long.parseLong(value);
+    }
+}
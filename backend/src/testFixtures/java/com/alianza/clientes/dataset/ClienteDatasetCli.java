@@ -0,0 +1,62 @@
+package com.alianza.clientes.dataset;
+
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Carga un conjunto sintético de clientes en una base de datos existente (con
+ * las migraciones de Flyway ya aplicadas). Se ejecuta con
+ * {@code ./gradlew generateDataset -Pdataset.rows=10M} (ver README).
+ * <p>
+ * Propiedades de sistema ({@code dataset.*}):
+ * <ul>
+ * <li>{@code rows}: número de clientes; admite sufijos K y M (por defecto 1M)</li>
+ * <li>{@code from}: primer número de fila, para continuar una carga (por
+ * defecto 1)</li>
+ * <li>{@code seed}: semilla (por defecto 42)</li>
+ * <li>{@code url}, {@code user}, {@code password}: conexión JDBC (por defecto la
+ * base de datos local de application.properties)</li>
+ * <li>{@code truncate}: vacía la tabla antes de cargar (por defecto false)</li>
+ * <li>{@code batch-size}: tamaño de lote fuera de PostgreSQL (por defecto
+ * 5000)</li>
+ * </ul>
+ */
+public final class ClienteDatasetCli {
+
+    private ClienteDatasetCli() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        long rows = parseRows(property("rows", "1M"));
+        long from = Long.parseLong(property("from", "1"));
+        long seed = Long.parseLong(property("seed", "42"));
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                property("url", "jdbc:postgresql://localhost:5433/alianza_clientes"),
+                property("user", "postgres"),
+                property("password", "admin"));
+        ClienteDatasetLoader loader = new ClienteDatasetLoader(dataSource,
+                Integer.parseInt(property("batch-size", "5000")));
+        if (Boolean.parseBoolean(property("truncate", "false"))) {
+            loader.truncate();
+        }
+        loader.load(new ClienteDatasetGenerator(seed), from, from + rows - 1);
+    }
+
+    /**
+     * Interpreta un número de filas con sufijo opcional K o M, por ejemplo
+     * {@code 50M}
+     */
+    public static long parseRows(String value) {
+        String text = value.trim().toUpperCase();
+        if (text.endsWith("M")) {
+            return Long.parseLong(text.substring(0, text.length() - 1)) * 1_000_000L;
+        }
+        if (text.endsWith("K")) {
+            return Long.parseLong(text.substring(0, text.length() - 1)) * 1_000L;
+        }
+        return Long.parseLong(text);
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("dataset." + name, defaultValue);
+    }
+}
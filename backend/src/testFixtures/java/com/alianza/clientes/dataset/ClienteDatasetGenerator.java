@@ -0,0 +1,169 @@
+package com.alianza.clientes.dataset;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import com.alianza.clientes.domain.model.Cliente;
+
+/**
+ * Generador determinista de clientes sintéticos para pruebas de escala.
+ * <p>
+ * Cada cliente depende solo de la semilla y de su número de fila, de modo que
+ * {@code generate(n)} produce siempre el mismo cliente y el conjunto se puede
+ * generar en paralelo o por tramos. Los datos imitan la distribución real:
+ * <ul>
+ * <li>Nombres y apellidos en español con tildes, con frecuencias sesgadas
+ * (los primeros de cada lista son los más comunes).</li>
+ * <li>Teléfonos colombianos de 10 dígitos: celulares 3XX (90 %) y fijos 60X con
+ * indicativo de ciudad (10 %).</li>
+ * <li>Dominios de correo sesgados hacia los proveedores gratuitos.</li>
+ * <li>Fechas de creación en los últimos cinco años, con más altas recientes, y
+ * vigencias de 6 meses a 5 años.</li>
+ * </ul>
+ * Los shared keys son {@code GEN000000001}, {@code GEN000000002}, ... para no
+ * chocar con los {@code CLIxxx} que genera la aplicación.
+ */
+public final class ClienteDatasetGenerator {
+
+    public static final List<String> NOMBRES = List.of("María", "José", "Juan", "Luis", "Ana", "Carlos",
+            "Andrés", "Sofía", "Valentina", "Jorge", "Camila", "Sebastián", "Daniela", "Julián", "Lucía",
+            "Nicolás", "Mónica", "Óscar", "Ángela", "Martín", "Paula", "Ramón", "Inés", "Germán", "Tomás",
+            "Verónica", "Héctor", "Raúl", "Natalia", "Joaquín", "Adrián", "Belén", "Iván", "Patricia", "Simón",
+            "Ximena", "Efraín", "Dalia", "Rubén", "Zoe");
+
+    public static final List<String> APELLIDOS = List.of("Rodríguez", "Gómez", "González", "Martínez",
+            "García", "López", "Hernández", "Sánchez", "Ramírez", "Pérez", "Díaz", "Muñoz", "Rojas", "Moreno",
+            "Jiménez", "Vargas", "Castro", "Gutiérrez", "Álvarez", "Ruiz", "Suárez", "Ortiz", "Peña", "Quiñónez",
+            "Montaño", "Cárdenas", "Ríos", "Mejía", "Osorio", "Cañón", "Beltrán", "Zúñiga", "Córdoba", "Ibáñez",
+            "Nuñez", "Valencia", "Salazar", "Patiño", "Acuña", "Londoño");
+
+    private static final String[] NOMBRES_ASCII = NOMBRES.stream().map(ClienteDatasetGenerator::ascii)
+            .toArray(String[]::new);
+    private static final String[] APELLIDOS_ASCII = APELLIDOS.stream().map(ClienteDatasetGenerator::ascii)
+            .toArray(String[]::new);
+
+    private static final String[] PREFIJOS_CELULAR = { "300", "301", "302", "304", "305", "310", "311", "312",
+            "313", "314", "315", "316", "317", "318", "319", "320", "321", "322", "323", "324", "350", "351" };
+    private static final String[] INDICATIVOS_FIJO = { "601", "604", "602", "605", "607", "606", "608" };
+
+    private static final String[] DOMINIOS = { "gmail.com", "hotmail.com", "outlook.com", "yahoo.com",
+            "yahoo.es", "une.net.co", "etb.net.co", "alianza.com.co", "empresa.com.co", "unal.edu.co" };
+    private static final int[] PESOS_DOMINIOS = { 45, 22, 10, 5, 3, 4, 3, 3, 3, 2 };
+
+    private static final int[] VIGENCIAS_MESES = { 6, 12, 24, 60 };
+    private static final int[] PESOS_VIGENCIAS = { 30, 50, 15, 5 };
+
+    private static final int DIAS_HISTORIA = 5 * 365;
+
+    private final long seed;
+    private final LocalDate today;
+
+    /**
+     * @param seed  Semilla del conjunto
+     * @param today Fecha de referencia para las fechas relativas; fijarla hace
+     *              el conjunto reproducible entre días
+     */
+    public ClienteDatasetGenerator(long seed, LocalDate today) {
+        this.seed = seed;
+        this.today = today;
+    }
+
+    public ClienteDatasetGenerator(long seed) {
+        this(seed, LocalDate.of(2025, 1, 1));
+    }
+
+    /**
+     * Shared key del cliente número {@code n} (desde 1)
+     */
+    public static String sharedKey(long n) {
+        return "GEN" + zeroPadded(n, 9);
+    }
+
+    /**
+     * Genera el cliente número {@code n} (desde 1), sin id
+     * 
+     * @param n Número de fila
+     * @return Cliente sintético
+     */
+    public Cliente generate(long n) {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + n);
+        int nombre = skewed(random, NOMBRES.size());
+        int apellido1 = skewed(random, APELLIDOS.size());
+        int apellido2 = skewed(random, APELLIDOS.size());
+        String nombreCompleto = random.nextInt(5) == 0
+                ? NOMBRES.get(nombre) + " " + NOMBRES.get(skewed(random, NOMBRES.size())) + " "
+                        + APELLIDOS.get(apellido1) + " " + APELLIDOS.get(apellido2)
+                : NOMBRES.get(nombre) + " " + APELLIDOS.get(apellido1) + " " + APELLIDOS.get(apellido2);
+
+        LocalDate creacion = today.minusDays((long) (DIAS_HISTORIA * Math.pow(random.nextDouble(), 1.5)));
+        LocalDate inicio = creacion.plusDays(random.nextInt(31));
+        LocalDate fin = inicio.plusMonths(VIGENCIAS_MESES[weighted(random, PESOS_VIGENCIAS)]).minusDays(1);
+
+        return Cliente.builder()
+                .sharedKey(sharedKey(n))
+                .nombre(nombreCompleto)
+                .telefono(telefono(random))
+                .email(email(random, nombre, apellido1, n))
+                .fechaInicio(inicio)
+                .fechaFin(fin)
+                .fechaCreacion(creacion)
+                .updatedAt(LocalDateTime.of(creacion, LocalTime.ofSecondOfDay(random.nextInt(86_400))))
+                .build();
+    }
+
+    private static String telefono(SplittableRandom random) {
+        if (random.nextInt(10) == 0) {
+            return INDICATIVOS_FIJO[random.nextInt(INDICATIVOS_FIJO.length)]
+                    + zeroPadded(random.nextInt(10_000_000), 7);
+        }
+        return PREFIJOS_CELULAR[random.nextInt(PREFIJOS_CELULAR.length)]
+                + zeroPadded(random.nextInt(10_000_000), 7);
+    }
+
+    private static String email(SplittableRandom random, int nombre, int apellido, long n) {
+        String local = switch (random.nextInt(3)) {
+            case 0 -> NOMBRES_ASCII[nombre] + "." + APELLIDOS_ASCII[apellido];
+            case 1 -> NOMBRES_ASCII[nombre].charAt(0) + APELLIDOS_ASCII[apellido];
+            default -> NOMBRES_ASCII[nombre] + APELLIDOS_ASCII[apellido];
+        };
+        return local + (n % 10_000) + "@" + DOMINIOS[weighted(random, PESOS_DOMINIOS)];
+    }
+
+    private static String ascii(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Elige una posición con probabilidad decreciente (las primeras son las más
+     * comunes)
+     */
+    private static int skewed(SplittableRandom random, int size) {
+        double u = random.nextDouble();
+        return (int) (size * u * u);
+    }
+
+    private static String zeroPadded(long value, int width) {
+        String digits = Long.toString(value);
+        return digits.length() >= width ? digits : "0".repeat(width - digits.length()) + digits;
+    }
+
+    private static int weighted(SplittableRandom random, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int value = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            value -= weights[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
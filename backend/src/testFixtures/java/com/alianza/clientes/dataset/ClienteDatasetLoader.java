@@ -0,0 +1,163 @@
+package com.alianza.clientes.dataset;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import com.alianza.clientes.domain.model.Cliente;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Carga masiva de clientes sintéticos en la tabla {@code clientes}. En
+ * PostgreSQL usa {@code COPY ... FROM STDIN}, enviando las filas por bloques
+ * sin pasar por sentencias individuales; en cualquier otra base de datos usa
+ * INSERT por lotes con un commit por lote.
+ */
+@Slf4j
+public class ClienteDatasetLoader {
+
+    private static final String COLUMNS = "shared_key, nombre, telefono, email, fecha_inicio, fecha_fin,"
+            + " fecha_creacion, updated_at";
+    private static final int COPY_CHUNK_BYTES = 1 << 20;
+    private static final long PROGRESS_EVERY = 1_000_000;
+
+    private final DataSource dataSource;
+    private final int batchSize;
+
+    public ClienteDatasetLoader(DataSource dataSource, int batchSize) {
+        this.dataSource = dataSource;
+        this.batchSize = batchSize;
+    }
+
+    public ClienteDatasetLoader(DataSource dataSource) {
+        this(dataSource, 5_000);
+    }
+
+    /**
+     * Inserta los clientes {@code from..to} (ambos incluidos) del generador
+     * 
+     * @param generator Generador de clientes
+     * @param from      Primer número de fila
+     * @param to        Último número de fila
+     * @return Filas insertadas
+     */
+    public long load(ClienteDatasetGenerator generator, long from, long to) throws SQLException {
+        long start = System.nanoTime();
+        long rows;
+        try (Connection connection = dataSource.getConnection()) {
+            rows = connection.isWrapperFor(PGConnection.class)
+                    ? copy(connection.unwrap(PGConnection.class), generator, from, to)
+                    : insertBatches(connection, generator, from, to);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("Cargados {} clientes en {} s ({} filas/s)", rows, String.format("%.1f", seconds),
+                Math.round(rows / Math.max(seconds, 1e-9)));
+        return rows;
+    }
+
+    /**
+     * Elimina todos los clientes y reinicia la secuencia de ids
+     */
+    public void truncate() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                statement.execute("TRUNCATE TABLE clientes RESTART IDENTITY");
+            } else {
+                statement.execute("DELETE FROM clientes");
+            }
+        }
+    }
+
+    private static long copy(PGConnection connection, ClienteDatasetGenerator generator, long from, long to)
+            throws SQLException {
+        CopyIn copyIn = connection.getCopyAPI().copyIn("COPY clientes (" + COLUMNS + ") FROM STDIN");
+        try {
+            StringBuilder chunk = new StringBuilder(COPY_CHUNK_BYTES + 1024);
+            for (long n = from; n <= to; n++) {
+                appendCopyRow(chunk, generator.generate(n));
+                if (chunk.length() >= COPY_CHUNK_BYTES) {
+                    writeChunk(copyIn, chunk);
+                }
+                logProgress(n - from + 1);
+            }
+            writeChunk(copyIn, chunk);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void writeChunk(CopyIn copyIn, StringBuilder chunk) throws SQLException {
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+
+    /**
+     * Fila en el formato de texto de COPY: columnas separadas por tabulador.
+     * Los valores generados no contienen tabuladores, saltos de línea ni
+     * barras invertidas, por lo que no necesitan escape.
+     */
+    private static void appendCopyRow(StringBuilder chunk, Cliente cliente) {
+        chunk.append(cliente.getSharedKey()).append('\t')
+                .append(cliente.getNombre()).append('\t')
+                .append(cliente.getTelefono()).append('\t')
+                .append(cliente.getEmail()).append('\t')
+                .append(cliente.getFechaInicio()).append('\t')
+                .append(cliente.getFechaFin()).append('\t')
+                .append(cliente.getFechaCreacion()).append('\t')
+                .append(cliente.getUpdatedAt()).append('\n');
+    }
+
+    private long insertBatches(Connection connection, ClienteDatasetGenerator generator, long from, long to)
+            throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO clientes (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            int pending = 0;
+            for (long n = from; n <= to; n++) {
+                Cliente cliente = generator.generate(n);
+                insert.setString(1, cliente.getSharedKey());
+                insert.setString(2, cliente.getNombre());
+                insert.setString(3, cliente.getTelefono());
+                insert.setString(4, cliente.getEmail());
+                insert.setDate(5, Date.valueOf(cliente.getFechaInicio()));
+                insert.setDate(6, Date.valueOf(cliente.getFechaFin()));
+                insert.setDate(7, Date.valueOf(cliente.getFechaCreacion()));
+                insert.setTimestamp(8, Timestamp.valueOf(cliente.getUpdatedAt()));
+                insert.addBatch();
+                if (++pending == batchSize || n == to) {
+                    insert.executeBatch();
+                    connection.commit();
+                    pending = 0;
+                }
+                logProgress(n - from + 1);
+            }
+            return Math.max(0, to - from + 1);
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static void logProgress(long loaded) {
+        if (loaded % PROGRESS_EVERY == 0) {
+            log.info("{} clientes cargados", loaded);
+        }
+    }
+}
@@ -1,11 +1,13 @@
-import { Component, OnInit, ViewChild } from "@angular/core";
+import { Component, OnDestroy, OnInit, ViewChild } from "@angular/core";
 import { MatTable } from "@angular/material/table";
 import { MatPaginator, PageEvent } from "@angular/material/paginator";
 import { MatSort } from "@angular/material/sort";
 import { MatSnackBar } from "@angular/material/snack-bar";
+import { Subscription } from "rxjs";
 
 import {
   Cliente,
+  ClienteEvent,
   ClienteFilter,
   PageResponse,
 } from "../../models/cliente.model";
@@ -18,7 +20,7 @@ import { ClienteFormComponent } from "../cliente-form/cliente-form.component";
   templateUrl: "./cliente-list.component.html",
   styleUrls: ["./cliente-list.component.scss"],
 })
-export class ClienteListComponent implements OnInit {
+export class ClienteListComponent implements OnInit, OnDestroy {
   clientes: Cliente[] = [];
   displayedColumns: string[] = [
     "sharedKey",
@@ -37,6 +39,10 @@ export class ClienteListComponent implements OnInit {
   filtro: ClienteFilter = {};
   sharedKeySearch: string = "";
   isSearchAdvance: boolean = false;
+  // Indica si la tabla muestra un resultado filtrado en lugar del listado paginado
+  isFilteredView: boolean = false;
+
+  private eventsSubscription?: Subscription;
 
   @ViewChild(MatPaginator) paginator!: MatPaginator;
   @ViewChild(MatSort) sort!: MatSort;
@@ -50,11 +56,45 @@ export class ClienteListComponent implements OnInit {
 
   ngOnInit(): void {
     this.loadClientes();
+    this.eventsSubscription = this.clienteService
+      .streamClienteEvents()
+      .subscribe((event) => this.onClienteEvent(event));
+  }
+
+  ngOnDestroy(): void {
+    this.eventsSubscription?.unsubscribe();
+  }
+
+  /**
+   * Aplica un evento recibido del servidor sobre la página visible, sin volver a consultarla.
+   * Las modificaciones reemplazan la fila si está visible; las altas se agregan
+   * si caben en la última página del listado (ordenado por id ascendente).
+   */
+  onClienteEvent(event: ClienteEvent): void {
+    const index = this.clientes.findIndex(
+      (c) => c.sharedKey === event.cliente.sharedKey
+    );
+    if (index >= 0) {
+      this.clientes = this.clientes.map((c, i) =>
+        i === index ? event.cliente : c
+      );
+      return;
+    }
+    if (event.type !== "created" || this.isFilteredView) {
+      return;
+    }
+    this.totalElements++;
+    const isLastPage =
+      (this.pageIndex + 1) * this.pageSize >= this.totalElements;
+    if (isLastPage && this.clientes.length < this.pageSize) {
+      this.clientes = [...this.clientes, event.cliente];
+    }
   }
 
   loadClientes(): void {
     console.info("Inicio Carga Clientes");
     this.isLoading = true;
+    this.isFilteredView = false;
     this.clienteService.getClientes(this.pageIndex, this.pageSize).subscribe({
       next: (response: PageResponse<Cliente>) => {
         console.log(response);
@@ -85,6 +125,7 @@ export class ClienteListComponent implements OnInit {
     }
 
     this.isLoading = true;
+    this.isFilteredView = true;
     this.clienteService.getClienteBySharedKey(this.sharedKeySearch).subscribe({
       next: (cliente) => {
         this.clientes = cliente ? [cliente] : [];
@@ -118,6 +159,7 @@ export class ClienteListComponent implements OnInit {
   aplicarFiltros(): void {
     console.info("Aplicar filtros");
     this.isLoading = true;
+    this.isFilteredView = true;
     this.clienteService
       .searchClientes(this.filtro, this.pageIndex, this.pageSize)
       .subscribe({
@@ -7,6 +7,12 @@ export interface Cliente {
   fechaInicio: string;
   fechaFin: string;
   fechaCreacion?: string;
+  updatedAt?: string;
+}
+
+export interface ClienteEvent {
+  type: 'created' | 'updated';
+  cliente: Cliente;
 }
 
 export interface ClienteFilter {
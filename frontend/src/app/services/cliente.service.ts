@@ -1,7 +1,7 @@
-import { Injectable } from '@angular/core';
+import { Injectable, NgZone } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Cliente, ClienteFilter, PageResponse } from '../models/cliente.model';
+import { Cliente, ClienteEvent, ClienteFilter, PageResponse } from '../models/cliente.model';
 import { environment } from '../../environments/environment';
 
 @Injectable({
@@ -10,7 +10,7 @@ import { environment } from '../../environments/environment';
 export class ClienteService {
   private apiUrl = `${environment.apiUrl}/clientes`;
 
-  constructor(private http: HttpClient) { }
+  constructor(private http: HttpClient, private zone: NgZone) { }
 
   /**
    * Crea un nuevo cliente
@@ -74,4 +74,20 @@ export class ClienteService {
   exportClientesToCsv(): Observable<Blob> {
     return this.http.get(`${this.apiUrl}/export/csv`, { responseType: 'blob' });
   }
-}
\ No newline at end of file
+
+  /**
+   * Se suscribe a los eventos de creación y modificación de clientes (Server-Sent Events).
+   * El navegador reconecta automáticamente si la conexión se cierra.
+   * @returns Observable con los eventos; al cancelar la suscripción se cierra la conexión
+   */
+  streamClienteEvents(): Observable<ClienteEvent> {
+    return new Observable<ClienteEvent>(subscriber => {
+      const source = new EventSource(`${this.apiUrl}/stream`);
+      const listener = (type: ClienteEvent['type']) => (event: MessageEvent) =>
+        this.zone.run(() => subscriber.next({ type, cliente: JSON.parse(event.data) as Cliente }));
+      source.addEventListener('created', listener('created'));
+      source.addEventListener('updated', listener('updated'));
+      return () => source.close();
+    });
+  }
+}